@@ -0,0 +1,66 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.health;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Holder for the bounded pool used to invoke health contributors concurrently (see
+ * {@link HealthEndpointConfiguration} for why the pool itself is not a bean).
+ * Contributors are queued up to a fixed capacity, beyond which the pool rejects them
+ * rather than letting pending requests accumulate behind a contributor that does not
+ * respond.
+ *
+ * @author Spring Contributor
+ */
+class HealthContributorExecutor implements DisposableBean {
+
+	private final ThreadPoolExecutor executor;
+
+	HealthContributorExecutor(int maxThreads, int queueCapacity) {
+		Assert.isTrue(maxThreads > 0, "MaxThreads must be greater than 0");
+		Assert.isTrue(queueCapacity >= 0, "QueueCapacity must not be negative");
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("health-");
+		threadFactory.setDaemon(true);
+		this.executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS,
+				createQueue(queueCapacity), threadFactory);
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	private static BlockingQueue<Runnable> createQueue(int queueCapacity) {
+		return (queueCapacity > 0) ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+	}
+
+	ExecutorService getExecutor() {
+		return this.executor;
+	}
+
+	@Override
+	public void destroy() {
+		this.executor.shutdownNow();
+	}
+
+}
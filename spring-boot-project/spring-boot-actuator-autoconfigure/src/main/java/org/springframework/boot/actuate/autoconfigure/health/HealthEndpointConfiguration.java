@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,26 +21,36 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.actuate.availability.AvailabilityStateHealthIndicator;
 import org.springframework.boot.actuate.health.CompositeHealthContributor;
 import org.springframework.boot.actuate.health.CompositeReactiveHealthContributor;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthContributor;
 import org.springframework.boot.actuate.health.HealthContributorRegistry;
+import org.springframework.boot.actuate.health.HealthContributorTimeouts;
 import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.boot.actuate.health.HealthEndpointGroups;
 import org.springframework.boot.actuate.health.HealthEndpointGroupsPostProcessor;
 import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.HealthSnapshots;
 import org.springframework.boot.actuate.health.HttpCodeStatusMapper;
 import org.springframework.boot.actuate.health.NamedContributor;
+import org.springframework.boot.actuate.health.PingHealthIndicator;
 import org.springframework.boot.actuate.health.ReactiveHealthContributor;
 import org.springframework.boot.actuate.health.ReactiveHealthIndicator;
 import org.springframework.boot.actuate.health.SimpleHttpCodeStatusMapper;
 import org.springframework.boot.actuate.health.SimpleStatusAggregator;
+import org.springframework.boot.actuate.health.Status;
 import org.springframework.boot.actuate.health.StatusAggregator;
+import org.springframework.boot.actuate.metrics.health.HealthSnapshotMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -82,19 +92,41 @@ class HealthEndpointConfiguration {
 	@Bean
 	@ConditionalOnMissingBean
 	HealthContributorRegistry healthContributorRegistry(ApplicationContext applicationContext,
-			HealthEndpointGroups groups) {
-		Map<String, HealthContributor> healthContributors = new LinkedHashMap<>(
-				applicationContext.getBeansOfType(HealthContributor.class));
-		if (ClassUtils.isPresent("reactor.core.publisher.Flux", applicationContext.getClassLoader())) {
-			healthContributors.putAll(new AdaptedReactiveHealthContributors(applicationContext).get());
-		}
+			HealthEndpointGroups groups, ObjectProvider<HealthSnapshots> snapshots) {
+		HealthSnapshots healthSnapshots = snapshots.getIfAvailable();
+		Map<String, HealthContributor> healthContributors = (healthSnapshots != null)
+				? healthSnapshots.getContributors() : getHealthContributors(applicationContext);
 		return new AutoConfiguredHealthContributorRegistry(healthContributors, groups.getNames());
 	}
 
 	//实例化HealthEndpoint，用于 暴露用户注册的健康信息
 	@Bean
 	@ConditionalOnMissingBean
-	HealthEndpoint healthEndpoint(HealthContributorRegistry registry, HealthEndpointGroups groups) {
+	HealthContributorTimeouts healthContributorTimeouts(HealthEndpointProperties properties) {
+		HealthEndpointProperties.Timeout timeout = properties.getTimeout();
+		return new HealthContributorTimeouts(timeout.getDuration(), timeout.getContributors(),
+				new Status(timeout.getStatus()));
+	}
+
+	// The contributor pool and the snapshot scheduler are wrapped in holder beans rather
+	// than registered as Executor or TaskScheduler beans. Either of those would make the
+	// task execution and task scheduling auto-configurations back off, leaving the
+	// application without its own executor or scheduler.
+	@Bean
+	@ConditionalOnProperty(prefix = "management.endpoint.health.concurrency", name = "enabled")
+	HealthContributorExecutor healthContributorExecutor(HealthEndpointProperties properties) {
+		HealthEndpointProperties.Concurrency concurrency = properties.getConcurrency();
+		return new HealthContributorExecutor(concurrency.getMaxThreads(), concurrency.getQueueCapacity());
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	HealthEndpoint healthEndpoint(HealthContributorRegistry registry, HealthEndpointGroups groups,
+			ObjectProvider<HealthContributorExecutor> executor, HealthContributorTimeouts timeouts) {
+		HealthContributorExecutor contributorExecutor = executor.getIfAvailable();
+		if (contributorExecutor != null) {
+			return new HealthEndpoint(registry, groups, contributorExecutor.getExecutor(), timeouts);
+		}
 		return new HealthEndpoint(registry, groups);
 	}
 
@@ -104,6 +136,49 @@ class HealthEndpointConfiguration {
 		return new HealthEndpointGroupsBeanPostProcessor(healthEndpointGroupsPostProcessors);
 	}
 
+	private static Map<String, HealthContributor> getHealthContributors(ApplicationContext applicationContext) {
+		Map<String, HealthContributor> healthContributors = new LinkedHashMap<>(
+				applicationContext.getBeansOfType(HealthContributor.class));
+		if (ClassUtils.isPresent("reactor.core.publisher.Flux", applicationContext.getClassLoader())) {
+			healthContributors.putAll(new AdaptedReactiveHealthContributors(applicationContext).get());
+		}
+		return healthContributors;
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(prefix = "management.endpoint.health.snapshot", name = "enabled")
+	static class HealthSnapshotConfiguration {
+
+		@Bean
+		HealthSnapshots healthSnapshots(ApplicationContext applicationContext, HealthEndpointProperties properties) {
+			HealthEndpointProperties.Snapshot snapshot = properties.getSnapshot();
+			return new HealthSnapshots(getHealthContributors(applicationContext), snapshot.getInterval(),
+					snapshot.getContributors(), HealthSnapshotConfiguration::isInMemory);
+		}
+
+		private static boolean isInMemory(HealthIndicator indicator) {
+			return indicator instanceof PingHealthIndicator || indicator instanceof AvailabilityStateHealthIndicator;
+		}
+
+		@Bean
+		HealthSnapshotsLifecycle healthSnapshotsLifecycle(HealthSnapshots healthSnapshots,
+				HealthEndpointProperties properties) {
+			return new HealthSnapshotsLifecycle(healthSnapshots, properties.getSnapshot().getPoolSize());
+		}
+
+		@Configuration(proxyBeanMethods = false)
+		@ConditionalOnClass(MeterBinder.class)
+		static class HealthSnapshotMetricsConfiguration {
+
+			@Bean
+			HealthSnapshotMetrics healthSnapshotMetrics(HealthSnapshots healthSnapshots) {
+				return new HealthSnapshotMetrics(healthSnapshots);
+			}
+
+		}
+
+	}
+
 	/**
 	 * {@link BeanPostProcessor} to invoke {@link HealthEndpointGroupsPostProcessor}
 	 * beans.
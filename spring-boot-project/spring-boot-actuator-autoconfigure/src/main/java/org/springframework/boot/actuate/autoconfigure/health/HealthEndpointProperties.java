@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.boot.actuate.autoconfigure.health;
 
+import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
@@ -45,6 +46,12 @@ public class HealthEndpointProperties extends HealthProperties {
 	//分组  key:组名  value：每个组的展示属性
 	private Map<String, Group> group = new LinkedHashMap<>();
 
+	private final Concurrency concurrency = new Concurrency();
+
+	private final Timeout timeout = new Timeout();
+
+	private final Snapshot snapshot = new Snapshot();
+
 	@Override
 	public Show getShowDetails() {
 		return this.showDetails;
@@ -58,6 +65,18 @@ public class HealthEndpointProperties extends HealthProperties {
 		return this.group;
 	}
 
+	public Concurrency getConcurrency() {
+		return this.concurrency;
+	}
+
+	public Timeout getTimeout() {
+		return this.timeout;
+	}
+
+	public Snapshot getSnapshot() {
+		return this.snapshot;
+	}
+
 	/**
 	 * A health endpoint group.
 	 */
@@ -110,4 +129,166 @@ public class HealthEndpointProperties extends HealthProperties {
 
 	}
 
+	/**
+	 * Concurrent invocation of health contributors.
+	 */
+	public static class Concurrency {
+
+		/**
+		 * Whether to invoke health contributors concurrently rather than one after the
+		 * other on the request thread. Only applies to servlet and non-web health
+		 * endpoints as reactive contributors are always subscribed to concurrently.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Maximum number of threads used to invoke health contributors.
+		 */
+		private int maxThreads = 4;
+
+		/**
+		 * Maximum number of health contributors waiting for a thread. Contributors that
+		 * do not fit in the queue are not invoked and report the timeout status.
+		 */
+		private int queueCapacity = 100;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getMaxThreads() {
+			return this.maxThreads;
+		}
+
+		public void setMaxThreads(int maxThreads) {
+			this.maxThreads = maxThreads;
+		}
+
+		public int getQueueCapacity() {
+			return this.queueCapacity;
+		}
+
+		public void setQueueCapacity(int queueCapacity) {
+			this.queueCapacity = queueCapacity;
+		}
+
+	}
+
+	/**
+	 * Timeouts applied to individual health contributors.
+	 */
+	public static class Timeout {
+
+		/**
+		 * Default time that a health contributor has to respond. When not set,
+		 * contributors do not time out unless a specific timeout is configured. Timeouts
+		 * of blocking contributors are only enforced when concurrency is enabled.
+		 */
+		private Duration duration;
+
+		/**
+		 * Time that specific health contributors have to respond, keyed by contributor
+		 * path (for example 'db'). Paths of nested contributors must be enclosed in
+		 * brackets so that the '/' separator is retained (for example '[db/primary]').
+		 */
+		private Map<String, Duration> contributors = new LinkedHashMap<>();
+
+		/**
+		 * Status reported by a health contributor that did not respond in time.
+		 */
+		private String status = "DOWN";
+
+		public Duration getDuration() {
+			return this.duration;
+		}
+
+		public void setDuration(Duration duration) {
+			this.duration = duration;
+		}
+
+		public Map<String, Duration> getContributors() {
+			return this.contributors;
+		}
+
+		public void setContributors(Map<String, Duration> contributors) {
+			this.contributors = contributors;
+		}
+
+		public String getStatus() {
+			return this.status;
+		}
+
+		public void setStatus(String status) {
+			this.status = status;
+		}
+
+	}
+
+	/**
+	 * Background refreshed health snapshots.
+	 */
+	public static class Snapshot {
+
+		/**
+		 * Whether to refresh health indicators in the background and serve the last
+		 * snapshot instead of invoking them when the endpoint is called.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Default time between two refreshes of a health indicator.
+		 */
+		private Duration interval = Duration.ofSeconds(10);
+
+		/**
+		 * Time between two refreshes of specific health contributors, keyed by
+		 * contributor path (for example 'db'). Paths of nested contributors must be
+		 * enclosed in brackets so that the '/' separator is retained (for example
+		 * '[db/primary]').
+		 */
+		private Map<String, Duration> contributors = new LinkedHashMap<>();
+
+		/**
+		 * Number of threads used to refresh health indicators.
+		 */
+		private int poolSize = 2;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getInterval() {
+			return this.interval;
+		}
+
+		public void setInterval(Duration interval) {
+			this.interval = interval;
+		}
+
+		public Map<String, Duration> getContributors() {
+			return this.contributors;
+		}
+
+		public void setContributors(Map<String, Duration> contributors) {
+			this.contributors = contributors;
+		}
+
+		public int getPoolSize() {
+			return this.poolSize;
+		}
+
+		public void setPoolSize(int poolSize) {
+			this.poolSize = poolSize;
+		}
+
+	}
+
 }
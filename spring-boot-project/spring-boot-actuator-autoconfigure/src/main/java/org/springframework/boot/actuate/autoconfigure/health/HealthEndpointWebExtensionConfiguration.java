@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,9 @@
 
 package org.springframework.boot.actuate.autoconfigure.health;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.health.HealthContributorRegistry;
+import org.springframework.boot.actuate.health.HealthContributorTimeouts;
 import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.boot.actuate.health.HealthEndpointGroups;
 import org.springframework.boot.actuate.health.HealthEndpointWebExtension;
@@ -42,7 +44,13 @@ class HealthEndpointWebExtensionConfiguration {
 	@ConditionalOnBean(HealthEndpoint.class)
 	@ConditionalOnMissingBean
 	HealthEndpointWebExtension healthEndpointWebExtension(HealthContributorRegistry healthContributorRegistry,
-			HealthEndpointGroups groups) {
+			HealthEndpointGroups groups, ObjectProvider<HealthContributorExecutor> executor,
+			HealthContributorTimeouts timeouts) {
+		HealthContributorExecutor contributorExecutor = executor.getIfAvailable();
+		if (contributorExecutor != null) {
+			return new HealthEndpointWebExtension(healthContributorRegistry, groups, contributorExecutor.getExecutor(),
+					timeouts);
+		}
 		return new HealthEndpointWebExtension(healthContributorRegistry, groups);
 	}
 
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.autoconfigure.health;
+
+import org.springframework.boot.actuate.health.HealthSnapshots;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * {@link SmartLifecycle} that refreshes {@link HealthSnapshots} on a dedicated
+ * scheduler, which is not a bean for the reason given in
+ * {@link HealthEndpointConfiguration}.
+ *
+ * @author Spring Contributor
+ */
+class HealthSnapshotsLifecycle implements SmartLifecycle {
+
+	private final HealthSnapshots snapshots;
+
+	private final int poolSize;
+
+	private ThreadPoolTaskScheduler scheduler;
+
+	HealthSnapshotsLifecycle(HealthSnapshots snapshots, int poolSize) {
+		this.snapshots = snapshots;
+		this.poolSize = poolSize;
+	}
+
+	@Override
+	public void start() {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(this.poolSize);
+		scheduler.setThreadNamePrefix("health-snapshot-");
+		scheduler.setDaemon(true);
+		scheduler.initialize();
+		this.scheduler = scheduler;
+		this.snapshots.start(scheduler);
+	}
+
+	@Override
+	public void stop() {
+		this.snapshots.stop();
+		if (this.scheduler != null) {
+			this.scheduler.shutdown();
+			this.scheduler = null;
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.snapshots.isRunning();
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,9 +21,11 @@ import java.util.Map;
 
 import reactor.core.publisher.Flux;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.health.HealthContributor;
 import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.boot.actuate.health.HealthEndpointGroups;
+import org.springframework.boot.actuate.health.HealthSnapshots;
 import org.springframework.boot.actuate.health.ReactiveHealthContributor;
 import org.springframework.boot.actuate.health.ReactiveHealthContributorRegistry;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
@@ -47,7 +49,15 @@ class ReactiveHealthEndpointConfiguration {
 	@ConditionalOnMissingBean
 	ReactiveHealthContributorRegistry reactiveHealthContributorRegistry(
 			Map<String, HealthContributor> healthContributors,
-			Map<String, ReactiveHealthContributor> reactiveHealthContributors, HealthEndpointGroups groups) {
+			Map<String, ReactiveHealthContributor> reactiveHealthContributors, HealthEndpointGroups groups,
+			ObjectProvider<HealthSnapshots> snapshots) {
+		HealthSnapshots healthSnapshots = snapshots.getIfAvailable();
+		if (healthSnapshots != null) {
+			Map<String, ReactiveHealthContributor> snapshotContributors = new LinkedHashMap<>();
+			healthSnapshots.getContributors().forEach((name, contributor) -> snapshotContributors.put(name,
+					ReactiveHealthContributor.adapt(contributor)));
+			return new AutoConfiguredReactiveHealthContributorRegistry(snapshotContributors, groups.getNames());
+		}
 		Map<String, ReactiveHealthContributor> allContributors = new LinkedHashMap<>(reactiveHealthContributors);
 		healthContributors.forEach((name, contributor) -> allContributors.computeIfAbsent(name,
 				(key) -> ReactiveHealthContributor.adapt(contributor)));
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -38,6 +38,7 @@ import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.Simp
 import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusPushGatewayManager;
 import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusPushGatewayManager.ShutdownOperation;
 import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusStreamingScrapeEndpoint;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -92,11 +93,20 @@ public class PrometheusMetricsExportAutoConfiguration {
 	public static class PrometheusScrapeEndpointConfiguration {
 
 		@Bean
-		@ConditionalOnMissingBean
+		@ConditionalOnMissingBean({ PrometheusScrapeEndpoint.class, PrometheusStreamingScrapeEndpoint.class })
+		@ConditionalOnProperty(prefix = "management.metrics.export.prometheus", name = "streaming",
+				havingValue = "false", matchIfMissing = true)
 		public PrometheusScrapeEndpoint prometheusEndpoint(CollectorRegistry collectorRegistry) {
 			return new PrometheusScrapeEndpoint(collectorRegistry);
 		}
 
+		@Bean
+		@ConditionalOnMissingBean({ PrometheusScrapeEndpoint.class, PrometheusStreamingScrapeEndpoint.class })
+		@ConditionalOnProperty(prefix = "management.metrics.export.prometheus", name = "streaming")
+		public PrometheusStreamingScrapeEndpoint prometheusStreamingEndpoint(CollectorRegistry collectorRegistry) {
+			return new PrometheusStreamingScrapeEndpoint(collectorRegistry);
+		}
+
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -42,6 +42,13 @@ public class PrometheusProperties {
 	 */
 	private boolean descriptions = true;
 
+	/**
+	 * Whether the scrape endpoint should stream the payload to Prometheus one metric
+	 * family at a time rather than rendering it in memory first. Turn this on to reduce
+	 * the memory that is allocated on each scrape of a large number of time series.
+	 */
+	private boolean streaming = false;
+
 	/**
 	 * Configuration options for using Prometheus Pushgateway, allowing metrics to be
 	 * pushed when they cannot be scraped.
@@ -66,6 +73,14 @@ public class PrometheusProperties {
 		this.descriptions = descriptions;
 	}
 
+	public boolean isStreaming() {
+		return this.streaming;
+	}
+
+	public void setStreaming(boolean streaming) {
+		this.streaming = streaming;
+	}
+
 	public HistogramFlavor getHistogramFlavor() {
 		return this.histogramFlavor;
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,16 @@
 
 package org.springframework.boot.actuate.autoconfigure.health;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import org.springframework.boot.actuate.autoconfigure.availability.AvailabilityHealthContributorAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.availability.AvailabilityProbesAutoConfiguration;
 import org.springframework.boot.actuate.endpoint.SecurityContext;
 import org.springframework.boot.actuate.endpoint.http.ApiVersion;
 import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
@@ -30,19 +34,26 @@ import org.springframework.boot.actuate.health.DefaultReactiveHealthContributorR
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthComponent;
 import org.springframework.boot.actuate.health.HealthContributorRegistry;
+import org.springframework.boot.actuate.health.HealthContributorTimeouts;
 import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.boot.actuate.health.HealthEndpointGroups;
 import org.springframework.boot.actuate.health.HealthEndpointGroupsPostProcessor;
 import org.springframework.boot.actuate.health.HealthEndpointWebExtension;
 import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.HealthSnapshots;
 import org.springframework.boot.actuate.health.HttpCodeStatusMapper;
 import org.springframework.boot.actuate.health.NamedContributor;
 import org.springframework.boot.actuate.health.ReactiveHealthContributorRegistry;
 import org.springframework.boot.actuate.health.ReactiveHealthEndpointWebExtension;
 import org.springframework.boot.actuate.health.ReactiveHealthIndicator;
 import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.actuate.health.SnapshotHealthIndicator;
 import org.springframework.boot.actuate.health.StatusAggregator;
+import org.springframework.boot.actuate.metrics.health.HealthSnapshotMetrics;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.availability.ApplicationAvailabilityAutoConfiguration;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
 import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
 import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
@@ -176,6 +187,117 @@ class HealthEndpointAutoConfigurationTests {
 		});
 	}
 
+	@Test
+	void runCreatesHealthContributorTimeoutsFromProperties() {
+		this.contextRunner.withPropertyValues("management.endpoint.health.timeout.duration=2s",
+				"management.endpoint.health.timeout.contributors.db=5s",
+				"management.endpoint.health.timeout.status=OUT_OF_SERVICE").run((context) -> {
+					HealthContributorTimeouts timeouts = context.getBean(HealthContributorTimeouts.class);
+					assertThat(timeouts.getTimeout("db/primary")).isEqualTo(Duration.ofSeconds(5));
+					assertThat(timeouts.getTimeout("simple")).isEqualTo(Duration.ofSeconds(2));
+					assertThat(timeouts.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+				});
+	}
+
+	@Test
+	void runWhenTimeoutContributorKeyIsBracketedRetainsNestedPath() {
+		this.contextRunner.withPropertyValues("management.endpoint.health.timeout.contributors.db=5s",
+				"management.endpoint.health.timeout.contributors.[db/primary]=1s").run((context) -> {
+					HealthContributorTimeouts timeouts = context.getBean(HealthContributorTimeouts.class);
+					assertThat(timeouts.getTimeout("db/primary")).isEqualTo(Duration.ofSeconds(1));
+					assertThat(timeouts.getTimeout("db/secondary")).isEqualTo(Duration.ofSeconds(5));
+				});
+	}
+
+	@Test
+	void runWhenConcurrencyIsNotEnabledDoesNotCreateHealthContributorExecutor() {
+		this.contextRunner.run((context) -> assertThat(context).doesNotHaveBean(HealthContributorExecutor.class));
+	}
+
+	@Test
+	void runWhenConcurrencyIsEnabledCreatesConcurrentHealthEndpoint() {
+		this.contextRunner.withPropertyValues("management.endpoint.health.concurrency.enabled=true",
+				"management.endpoint.health.show-details=always").run((context) -> {
+					assertThat(context).hasSingleBean(HealthContributorExecutor.class);
+					ThreadPoolExecutor executor = (ThreadPoolExecutor) context.getBean(HealthContributorExecutor.class)
+							.getExecutor();
+					assertThat(executor.getQueue().remainingCapacity()).isEqualTo(100);
+					HealthEndpoint endpoint = context.getBean(HealthEndpoint.class);
+					Health health = (Health) endpoint.healthForPath("simple");
+					assertThat(health.getDetails()).containsEntry("counter", 42);
+					HealthEndpointWebExtension webExtension = context.getBean(HealthEndpointWebExtension.class);
+					assertThat(webExtension.health(ApiVersion.V3, SecurityContext.NONE).getStatus()).isEqualTo(200);
+				});
+	}
+
+	@Test
+	void runWhenSnapshotIsNotEnabledDoesNotCreateHealthSnapshots() {
+		this.contextRunner.run((context) -> assertThat(context).doesNotHaveBean(HealthSnapshots.class)
+				.doesNotHaveBean(HealthSnapshotMetrics.class));
+	}
+
+	@Test
+	void runWhenSnapshotIsEnabledServesSnapshots() {
+		this.contextRunner.withPropertyValues("management.endpoint.health.snapshot.enabled=true",
+				"management.endpoint.health.snapshot.contributors.simple=1h",
+				"management.endpoint.health.show-details=always").run((context) -> {
+					HealthSnapshots snapshots = context.getBean(HealthSnapshots.class);
+					assertThat(snapshots.isRunning()).isTrue();
+					assertThat(snapshots.getInterval("simple")).isEqualTo(Duration.ofHours(1));
+					assertThat(context).hasSingleBean(HealthSnapshotMetrics.class);
+					HealthContributorRegistry registry = context.getBean(HealthContributorRegistry.class);
+					assertThat(registry.getContributor("simple")).isInstanceOf(SnapshotHealthIndicator.class);
+					SnapshotHealthIndicator simple = snapshots.getIndicators().get("simple");
+					simple.refresh();
+					Health health = (Health) context.getBean(HealthEndpoint.class).healthForPath("simple");
+					assertThat(health.getDetails()).containsEntry("counter", 42);
+				});
+	}
+
+	@Test
+	void runWhenSnapshotContributorKeyIsBracketedRetainsNestedPath() {
+		this.contextRunner.withPropertyValues("management.endpoint.health.snapshot.enabled=true",
+				"management.endpoint.health.snapshot.contributors.db=30s",
+				"management.endpoint.health.snapshot.contributors.[db/primary]=5s").run((context) -> {
+					HealthSnapshots snapshots = context.getBean(HealthSnapshots.class);
+					assertThat(snapshots.getInterval("db/primary")).isEqualTo(Duration.ofSeconds(5));
+					assertThat(snapshots.getInterval("db/secondary")).isEqualTo(Duration.ofSeconds(30));
+				});
+	}
+
+	@Test
+	void runWhenSnapshotIsEnabledInvokesAvailabilityIndicatorsInline() {
+		this.contextRunner
+				.withConfiguration(AutoConfigurations.of(ApplicationAvailabilityAutoConfiguration.class,
+						AvailabilityHealthContributorAutoConfiguration.class,
+						AvailabilityProbesAutoConfiguration.class))
+				.withPropertyValues("management.endpoint.health.snapshot.enabled=true",
+						"management.endpoint.health.probes.enabled=true")
+				.run((context) -> {
+					HealthSnapshots snapshots = context.getBean(HealthSnapshots.class);
+					assertThat(snapshots.getIndicators()).containsOnlyKeys("simple", "additional", "reactive");
+					HealthEndpoint endpoint = context.getBean(HealthEndpoint.class);
+					AvailabilityChangeEvent.publish(context, ReadinessState.ACCEPTING_TRAFFIC);
+					assertThat(endpoint.healthForPath("readinessState").getStatus()).isEqualTo(Status.UP);
+					AvailabilityChangeEvent.publish(context, ReadinessState.REFUSING_TRAFFIC);
+					assertThat(endpoint.healthForPath("readinessState").getStatus())
+							.isEqualTo(Status.OUT_OF_SERVICE);
+				});
+	}
+
+	@Test
+	void runWhenSnapshotIsEnabledInReactiveApplicationServesSnapshots() {
+		this.reactiveContextRunner.withPropertyValues("management.endpoint.health.snapshot.enabled=true")
+				.run((context) -> {
+					HealthSnapshots snapshots = context.getBean(HealthSnapshots.class);
+					assertThat(snapshots.getIndicators()).containsKeys("simple", "reactive");
+					ReactiveHealthContributorRegistry registry = context
+							.getBean(ReactiveHealthContributorRegistry.class);
+					Object[] names = registry.stream().map(NamedContributor::getName).toArray();
+					assertThat(names).containsExactlyInAnyOrder("simple", "additional", "reactive", "ping");
+				});
+	}
+
 	@Test
 	void runWhenHasHealthEndpointBeanDoesNotCreateAdditionalHealthEndpoint() {
 		this.contextRunner.withUserConfiguration(HealthEndpointConfiguration.class).run((context) -> {
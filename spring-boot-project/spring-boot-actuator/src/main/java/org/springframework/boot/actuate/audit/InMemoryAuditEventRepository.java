@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,13 +17,25 @@
 package org.springframework.boot.actuate.audit;
 
 import java.time.Instant;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.springframework.util.Assert;
 
 /**
  * In-memory {@link AuditEventRepository} implementation.
+ * <p>
+ * Events are appended to a lock-free ring buffer so that {@link #add(AuditEvent)
+ * adding} an event never blocks behind a {@link #find(String, Instant, String) find}.
+ * Events are also indexed by principal and by type so that finding them only visits the
+ * events that match, newest first, stopping as soon as no older event can be after the
+ * requested instant.
  *
  * @author Dave Syer
  * @author Phillip Webb
@@ -34,21 +46,14 @@ public class InMemoryAuditEventRepository implements AuditEventRepository {
 
 	private static final int DEFAULT_CAPACITY = 1000;
 
-	private final Object monitor = new Object();
-
-	/**
-	 * Circular buffer of the event with tail pointing to the last element.
-	 */
-	private AuditEvent[] events;
-
-	private volatile int tail = -1;
+	private volatile Buffer buffer;
 
 	public InMemoryAuditEventRepository() {
 		this(DEFAULT_CAPACITY);
 	}
 
 	public InMemoryAuditEventRepository(int capacity) {
-		this.events = new AuditEvent[capacity];
+		this.buffer = new Buffer(capacity);
 	}
 
 	/**
@@ -56,45 +61,240 @@ public class InMemoryAuditEventRepository implements AuditEventRepository {
 	 * @param capacity the capacity
 	 */
 	public void setCapacity(int capacity) {
-		synchronized (this.monitor) {
-			this.events = new AuditEvent[capacity];
-		}
+		this.buffer = new Buffer(capacity);
 	}
 
 	@Override
 	public void add(AuditEvent event) {
 		Assert.notNull(event, "AuditEvent must not be null");
-		synchronized (this.monitor) {
-			this.tail = (this.tail + 1) % this.events.length;
-			this.events[this.tail] = event;
-		}
+		this.buffer.add(event);
 	}
 
 	@Override
 	public List<AuditEvent> find(String principal, Instant after, String type) {
-		LinkedList<AuditEvent> events = new LinkedList<>();
-		synchronized (this.monitor) {
-			for (int i = 0; i < this.events.length; i++) {
-				AuditEvent event = resolveTailEvent(i);
-				if (event != null && isMatch(principal, after, type, event)) {
-					events.addFirst(event);
+		return this.buffer.find(principal, after, type);
+	}
+
+	/**
+	 * A fixed size ring of {@link Slot slots}, together with the heads of the chains
+	 * that link the slots of each principal and of each type, newest first.
+	 */
+	private static final class Buffer {
+
+		private static final long NONE = -1;
+
+		private final int capacity;
+
+		private final AtomicLong sequence = new AtomicLong();
+
+		private final AtomicReference<Instant> latestTimestamp = new AtomicReference<>(Instant.MIN);
+
+		private final AtomicReferenceArray<Slot> slots;
+
+		private final Map<String, Long> principalHeads = new ConcurrentHashMap<>();
+
+		private final Map<String, Long> typeHeads = new ConcurrentHashMap<>();
+
+		Buffer(int capacity) {
+			this.capacity = capacity;
+			this.slots = new AtomicReferenceArray<>(capacity);
+		}
+
+		void add(AuditEvent event) {
+			this.latestTimestamp.accumulateAndGet(event.getTimestamp(), Buffer::latest);
+			long sequence = this.sequence.getAndIncrement();
+			// Read after the sequence is claimed so that the timestamps of all events
+			// with an earlier sequence are included
+			Slot slot = new Slot(sequence, event, this.latestTimestamp.get());
+			this.slots.set(index(sequence), slot);
+			link(Chain.PRINCIPAL, slot);
+			link(Chain.TYPE, slot);
+		}
+
+		private void link(Chain chain, Slot slot) {
+			Map<String, Long> heads = getHeads(chain);
+			heads.compute(chain.getKey(slot.event), (key, head) -> {
+				if (head == null || head < slot.sequence) {
+					chain.setPrevious(slot, (head != null) ? head : NONE);
+					return slot.sequence;
+				}
+				// An event with a later sequence was linked first
+				insert(chain, slot, head);
+				return head;
+			});
+			if (heads.size() > this.capacity * 2) {
+				long start = getStart();
+				heads.keySet().forEach((key) -> heads.computeIfPresent(key, (k, head) -> (head < start) ? null : head));
+			}
+		}
+
+		private void insert(Chain chain, Slot slot, long head) {
+			Slot current = get(head);
+			while (current != null) {
+				long previous = chain.getPrevious(current);
+				if (previous < slot.sequence) {
+					chain.setPrevious(slot, previous);
+					chain.setPrevious(current, slot.sequence);
+					return;
+				}
+				current = get(previous);
+			}
+		}
+
+		List<AuditEvent> find(String principal, Instant after, String type) {
+			List<AuditEvent> events = new ArrayList<>();
+			long start = getStart();
+			Chain chain = (principal != null) ? Chain.PRINCIPAL : (type != null) ? Chain.TYPE : null;
+			if (chain != null) {
+				Long head = getHeads(chain).get((principal != null) ? principal : type);
+				long sequence = (head != null) ? head : NONE;
+				while (sequence >= start) {
+					Slot slot = get(sequence);
+					if (slot == null || !slot.hasEventsAfter(after)) {
+						break;
+					}
+					if (slot.isMatch(principal, after, type)) {
+						events.add(slot.event);
+					}
+					sequence = chain.getPrevious(slot);
 				}
 			}
+			else {
+				for (long sequence = this.sequence.get() - 1; sequence >= start; sequence--) {
+					Slot slot = this.slots.get(index(sequence));
+					if (slot == null || slot.sequence < sequence) {
+						// Still being added
+						continue;
+					}
+					if (slot.sequence > sequence || !slot.hasEventsAfter(after)) {
+						break;
+					}
+					if (slot.isMatch(null, after, null)) {
+						events.add(slot.event);
+					}
+				}
+			}
+			Collections.reverse(events);
+			return events;
+		}
+
+		private Map<String, Long> getHeads(Chain chain) {
+			return (chain != Chain.PRINCIPAL) ? this.typeHeads : this.principalHeads;
+		}
+
+		private Slot get(long sequence) {
+			if (sequence < 0) {
+				return null;
+			}
+			Slot slot = this.slots.get(index(sequence));
+			return (slot != null && slot.sequence == sequence) ? slot : null;
+		}
+
+		private long getStart() {
+			return Math.max(0, this.sequence.get() - this.capacity);
+		}
+
+		private int index(long sequence) {
+			return (int) (sequence % this.capacity);
+		}
+
+		private static Instant latest(Instant first, Instant second) {
+			return first.isAfter(second) ? first : second;
 		}
-		return events;
+
 	}
 
-	private boolean isMatch(String principal, Instant after, String type, AuditEvent event) {
-		boolean match = true;
-		match = match && (principal == null || event.getPrincipal().equals(principal));
-		match = match && (after == null || event.getTimestamp().isAfter(after));
-		match = match && (type == null || event.getType().equals(type));
-		return match;
+	/**
+	 * An event added at a specific sequence, together with links to the previous events
+	 * with the same principal and type.
+	 */
+	private static final class Slot {
+
+		private final long sequence;
+
+		private final AuditEvent event;
+
+		private final Instant latestTimestamp;
+
+		private volatile long previousByPrincipal = Buffer.NONE;
+
+		private volatile long previousByType = Buffer.NONE;
+
+		Slot(long sequence, AuditEvent event, Instant latestTimestamp) {
+			this.sequence = sequence;
+			this.event = event;
+			this.latestTimestamp = latestTimestamp;
+		}
+
+		/**
+		 * Return whether this event, or any event that was added before it, is after the
+		 * given instant.
+		 * @param after the instant or {@code null}
+		 * @return if this or an earlier event may be after the instant
+		 */
+		boolean hasEventsAfter(Instant after) {
+			return after == null || this.latestTimestamp.isAfter(after);
+		}
+
+		boolean isMatch(String principal, Instant after, String type) {
+			boolean match = true;
+			match = match && (principal == null || this.event.getPrincipal().equals(principal));
+			match = match && (after == null || this.event.getTimestamp().isAfter(after));
+			match = match && (type == null || this.event.getType().equals(type));
+			return match;
+		}
+
 	}
 
-	private AuditEvent resolveTailEvent(int offset) {
-		int index = ((this.tail + this.events.length - offset) % this.events.length);
-		return this.events[index];
+	/**
+	 * The chains that link events with the same key.
+	 */
+	private enum Chain {
+
+		PRINCIPAL {
+
+			@Override
+			String getKey(AuditEvent event) {
+				return event.getPrincipal();
+			}
+
+			@Override
+			long getPrevious(Slot slot) {
+				return slot.previousByPrincipal;
+			}
+
+			@Override
+			void setPrevious(Slot slot, long previous) {
+				slot.previousByPrincipal = previous;
+			}
+
+		},
+
+		TYPE {
+
+			@Override
+			String getKey(AuditEvent event) {
+				return event.getType();
+			}
+
+			@Override
+			long getPrevious(Slot slot) {
+				return slot.previousByType;
+			}
+
+			@Override
+			void setPrevious(Slot slot, long previous) {
+				slot.previousByType = previous;
+			}
+
+		};
+
+		abstract String getKey(AuditEvent event);
+
+		abstract long getPrevious(Slot slot);
+
+		abstract void setPrevious(Slot slot, long previous);
+
 	}
 
 }
@@ -16,8 +16,10 @@
 
 package org.springframework.boot.actuate.endpoint;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -29,6 +31,12 @@ import org.springframework.util.StringUtils;
 /**
  * Strategy that should be used by endpoint implementations to sanitize potentially
  * sensitive keys.
+ * <p>
+ * Keys to sanitize are compiled into a single matcher. Simple keys are held in a trie of
+ * their reversed, lower-cased characters so that the suffixes of all of them are checked
+ * in one pass over a key. Regular expressions of the form {@code .*value.*} are checked
+ * without {@link Pattern}. Other regular expressions are only evaluated when no key that
+ * precedes them has already matched.
  *
  * @author Christian Dupuis
  * @author Toshiaki Maki
@@ -52,7 +60,9 @@ public class Sanitizer {
 
 	private static final Pattern URI_USERINFO_PATTERN = Pattern.compile("\\[?[A-Za-z]+://.+:(.*)@.+$");
 
-	private Pattern[] keysToSanitize;
+	private String[] keysToSanitize;
+
+	private KeyMatcher keyMatcher;
 
 	static {
 		DEFAULT_KEYS_TO_SANITIZE.addAll(URI_USERINFO_KEYS);
@@ -73,10 +83,7 @@ public class Sanitizer {
 	 */
 	public void setKeysToSanitize(String... keysToSanitize) {
 		Assert.notNull(keysToSanitize, "KeysToSanitize must not be null");
-		this.keysToSanitize = new Pattern[keysToSanitize.length];
-		for (int i = 0; i < keysToSanitize.length; i++) {
-			this.keysToSanitize[i] = getPattern(keysToSanitize[i]);
-		}
+		setKeys(keysToSanitize.clone());
 	}
 
 	/**
@@ -88,26 +95,15 @@ public class Sanitizer {
 	public void keysToSanitize(String... keysToSanitize) {
 		Assert.notNull(keysToSanitize, "KeysToSanitize must not be null");
 		int existingKeys = this.keysToSanitize.length;
-		this.keysToSanitize = Arrays.copyOf(this.keysToSanitize, this.keysToSanitize.length + keysToSanitize.length);
-		for (int i = 0; i < keysToSanitize.length; i++) {
-			this.keysToSanitize[i + existingKeys] = getPattern(keysToSanitize[i]);
-		}
+		String[] keys = Arrays.copyOf(this.keysToSanitize, existingKeys + keysToSanitize.length);
+		System.arraycopy(keysToSanitize, 0, keys, existingKeys, keysToSanitize.length);
+		setKeys(keys);
 	}
 
-	private Pattern getPattern(String value) {
-		if (isRegex(value)) {
-			return Pattern.compile(value, Pattern.CASE_INSENSITIVE);
-		}
-		return Pattern.compile(".*" + value + "$", Pattern.CASE_INSENSITIVE);
-	}
-
-	private boolean isRegex(String value) {
-		for (String part : REGEX_PARTS) {
-			if (value.contains(part)) {
-				return true;
-			}
-		}
-		return false;
+	private void setKeys(String[] keys) {
+		KeyMatcher keyMatcher = new KeyMatcher(keys, true);
+		this.keysToSanitize = keys;
+		this.keyMatcher = keyMatcher;
 	}
 
 	/**
@@ -120,24 +116,14 @@ public class Sanitizer {
 		if (value == null) {
 			return null;
 		}
-		for (Pattern pattern : this.keysToSanitize) {
-			if (pattern.matcher(key).matches()) {
-				if (keyIsUriWithUserInfo(pattern)) {
-					return sanitizeUris(value.toString());
-				}
-				return "******";
-			}
+		int index = this.keyMatcher.find(key);
+		if (index == -1) {
+			return value;
 		}
-		return value;
-	}
-
-	private boolean keyIsUriWithUserInfo(Pattern pattern) {
-		for (String uriKey : URI_USERINFO_KEYS) {
-			if (pattern.matcher(uriKey).matches()) {
-				return true;
-			}
+		if (this.keyMatcher.isUriWithUserInfo(index)) {
+			return sanitizeUris(value.toString());
 		}
-		return false;
+		return "******";
 	}
 
 	private Object sanitizeUris(String value) {
@@ -153,4 +139,295 @@ public class Sanitizer {
 		return value;
 	}
 
+	/**
+	 * Matcher for a set of keys to sanitize that finds the first of them that matches a
+	 * given key. Keys are matched in the same way as the case-insensitive
+	 * {@link Pattern} that they describe.
+	 */
+	private static final class KeyMatcher {
+
+		private static final int NONE = Integer.MAX_VALUE;
+
+		private static final String WILDCARD = ".*";
+
+		private static final String METACHARACTERS = "\\[](){}?|*$^+";
+
+		private final SuffixNode suffixes = new SuffixNode();
+
+		private final List<ContainsKey> containsKeys = new ArrayList<>();
+
+		private final List<RegexKey> regexKeys = new ArrayList<>();
+
+		private final boolean[] uriWithUserInfo;
+
+		KeyMatcher(String[] keys, boolean checkUriWithUserInfo) {
+			for (int i = 0; i < keys.length; i++) {
+				add(i, keys[i]);
+			}
+			this.uriWithUserInfo = new boolean[keys.length];
+			if (checkUriWithUserInfo) {
+				for (int i = 0; i < keys.length; i++) {
+					this.uriWithUserInfo[i] = isUriWithUserInfo(keys[i]);
+				}
+			}
+		}
+
+		private void add(int index, String key) {
+			if (!isRegex(key)) {
+				if (isLiteral(key)) {
+					this.suffixes.add(key, index);
+				}
+				else {
+					this.regexKeys.add(new RegexKey(index, Pattern.compile(".*" + key + "$", Pattern.CASE_INSENSITIVE)));
+				}
+				return;
+			}
+			if (key.length() > 4 && key.startsWith(WILDCARD) && key.endsWith(WILDCARD)) {
+				String value = key.substring(2, key.length() - 2);
+				if (isLiteral(value)) {
+					this.containsKeys.add(new ContainsKey(index, value));
+					return;
+				}
+			}
+			this.regexKeys.add(new RegexKey(index, Pattern.compile(key, Pattern.CASE_INSENSITIVE)));
+		}
+
+		private boolean isRegex(String value) {
+			for (String part : REGEX_PARTS) {
+				if (value.contains(part)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private boolean isLiteral(String value) {
+			for (int i = 0; i < value.length(); i++) {
+				char ch = value.charAt(i);
+				if (METACHARACTERS.indexOf(ch) != -1 || Character.isSurrogate(ch)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private static boolean isUriWithUserInfo(String key) {
+			KeyMatcher keyMatcher = new KeyMatcher(new String[] { key }, false);
+			for (String uriKey : URI_USERINFO_KEYS) {
+				if (keyMatcher.find(uriKey) != -1) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Return the index of the first key that matches the given key.
+		 * @param key the key to match
+		 * @return the index of the first matching key or {@code -1}
+		 */
+		int find(String key) {
+			int firstLineTerminator = indexOfLineTerminator(key);
+			int found = this.suffixes.find(key, key.length(), firstLineTerminator, NONE);
+			if (firstLineTerminator == -1) {
+				for (ContainsKey containsKey : this.containsKeys) {
+					if (containsKey.index < found && containsKey.matches(key)) {
+						found = containsKey.index;
+					}
+				}
+			}
+			for (RegexKey regexKey : this.regexKeys) {
+				if (regexKey.index >= found) {
+					break;
+				}
+				if (regexKey.pattern.matcher(key).matches()) {
+					found = regexKey.index;
+				}
+			}
+			return (found != NONE) ? found : -1;
+		}
+
+		boolean isUriWithUserInfo(int index) {
+			return this.uriWithUserInfo[index];
+		}
+
+		private static int indexOfLineTerminator(String key) {
+			for (int i = 0; i < key.length(); i++) {
+				if (isLineTerminator(key.charAt(i))) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		private static boolean isLineTerminator(char ch) {
+			return ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029';
+		}
+
+		/**
+		 * Return the lower case form of the given character in the same way as a
+		 * case-insensitive {@link Pattern}, which only considers US-ASCII characters.
+		 * @param ch the character
+		 * @return the lower case character
+		 */
+		private static char toLowerCase(char ch) {
+			return (ch >= 'A' && ch <= 'Z') ? (char) (ch + ('a' - 'A')) : ch;
+		}
+
+		/**
+		 * Return the number of characters of the code point that ends before the given
+		 * position.
+		 * @param key the key
+		 * @param end the end position
+		 * @return the number of characters of the code point
+		 */
+		private static int codePointLengthBefore(String key, int end) {
+			return (end > 1 && Character.isLowSurrogate(key.charAt(end - 1))
+					&& Character.isHighSurrogate(key.charAt(end - 2))) ? 2 : 1;
+		}
+
+		/**
+		 * A node in a trie of reversed keys. Keys are matched when they are a suffix of a
+		 * key that has no line terminator before the suffix, which is how the
+		 * {@code .*key$} pattern that they describe matches.
+		 */
+		private static final class SuffixNode {
+
+			private char[] characters = new char[0];
+
+			private SuffixNode[] children = new SuffixNode[0];
+
+			private SuffixNode anyCharacter;
+
+			private int index = NONE;
+
+			private int minIndex = NONE;
+
+			void add(String key, int index) {
+				SuffixNode node = this;
+				node.minIndex = Math.min(node.minIndex, index);
+				for (int i = key.length() - 1; i >= 0; i--) {
+					node = node.getOrCreateChild(toLowerCase(key.charAt(i)));
+					node.minIndex = Math.min(node.minIndex, index);
+				}
+				node.index = Math.min(node.index, index);
+			}
+
+			private SuffixNode getOrCreateChild(char ch) {
+				if (ch == '.') {
+					if (this.anyCharacter == null) {
+						this.anyCharacter = new SuffixNode();
+					}
+					return this.anyCharacter;
+				}
+				SuffixNode child = getChild(ch);
+				if (child == null) {
+					child = new SuffixNode();
+					int length = this.characters.length;
+					this.characters = Arrays.copyOf(this.characters, length + 1);
+					this.children = Arrays.copyOf(this.children, length + 1);
+					this.characters[length] = ch;
+					this.children[length] = child;
+				}
+				return child;
+			}
+
+			private SuffixNode getChild(char ch) {
+				for (int i = 0; i < this.characters.length; i++) {
+					if (this.characters[i] == ch) {
+						return this.children[i];
+					}
+				}
+				return null;
+			}
+
+			int find(String key, int end, int firstLineTerminator, int found) {
+				if (this.minIndex >= found) {
+					return found;
+				}
+				if (this.index < found && (firstLineTerminator == -1 || firstLineTerminator >= end)) {
+					found = this.index;
+				}
+				if (end == 0) {
+					return found;
+				}
+				char ch = key.charAt(end - 1);
+				SuffixNode child = getChild(toLowerCase(ch));
+				if (child != null) {
+					found = child.find(key, end - 1, firstLineTerminator, found);
+				}
+				if (this.anyCharacter != null && !isLineTerminator(ch)) {
+					found = this.anyCharacter.find(key, end - codePointLengthBefore(key, end), firstLineTerminator,
+							found);
+				}
+				return found;
+			}
+
+		}
+
+		/**
+		 * A key that is matched when it is contained in a key without line terminators,
+		 * which is how the {@code .*key.*} pattern that it describes matches.
+		 */
+		private static final class ContainsKey {
+
+			private final int index;
+
+			private final char[] characters;
+
+			ContainsKey(int index, String value) {
+				this.index = index;
+				this.characters = new char[value.length()];
+				for (int i = 0; i < value.length(); i++) {
+					this.characters[i] = toLowerCase(value.charAt(i));
+				}
+			}
+
+			boolean matches(String key) {
+				int start = 0;
+				while (!matchesAt(key, start)) {
+					if (start >= key.length()) {
+						return false;
+					}
+					start += Character.charCount(key.codePointAt(start));
+				}
+				return true;
+			}
+
+			private boolean matchesAt(String key, int start) {
+				int position = start;
+				for (char ch : this.characters) {
+					if (position >= key.length()) {
+						return false;
+					}
+					if (ch == '.') {
+						position += Character.charCount(key.codePointAt(position));
+					}
+					else if (toLowerCase(key.charAt(position++)) != ch) {
+						return false;
+					}
+				}
+				return true;
+			}
+
+		}
+
+		/**
+		 * A key that is matched using a {@link Pattern}.
+		 */
+		private static final class RegexKey {
+
+			private final int index;
+
+			private final Pattern pattern;
+
+			RegexKey(int index, Pattern pattern) {
+				this.index = index;
+				this.pattern = pattern;
+			}
+
+		}
+
+	}
+
 }
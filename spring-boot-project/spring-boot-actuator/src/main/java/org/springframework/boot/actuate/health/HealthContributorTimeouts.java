@@ -0,0 +1,121 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.health;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.util.Assert;
+
+/**
+ * Timeouts that apply when a health endpoint invokes individual contributors.
+ * Contributors are identified by their path, using {@code /} to separate the names of
+ * nested contributors (for example {@code db/primary}). The timeout of the most specific
+ * configured path applies, falling back to the default timeout.
+ *
+ * @author Spring Contributor
+ * @since 2.5.0
+ */
+public final class HealthContributorTimeouts {
+
+	/**
+	 * {@link HealthContributorTimeouts} that never times out a contributor.
+	 */
+	public static final HealthContributorTimeouts NONE = new HealthContributorTimeouts(null, Collections.emptyMap(),
+			Status.DOWN);
+
+	private final Duration defaultTimeout;
+
+	private final Map<String, Duration> timeouts;
+
+	private final Status status;
+
+	/**
+	 * Create a new {@link HealthContributorTimeouts} instance.
+	 * @param defaultTimeout the timeout to use when no specific timeout is configured for
+	 * a contributor or {@code null} if such contributors should not time out
+	 * @param timeouts the timeouts keyed by contributor path
+	 * @param status the status reported by a contributor that timed out
+	 */
+	public HealthContributorTimeouts(Duration defaultTimeout, Map<String, Duration> timeouts, Status status) {
+		Assert.notNull(timeouts, "Timeouts must not be null");
+		Assert.notNull(status, "Status must not be null");
+		this.defaultTimeout = defaultTimeout;
+		this.timeouts = Collections.unmodifiableMap(new LinkedHashMap<>(timeouts));
+		this.status = status;
+	}
+
+	/**
+	 * Return the timeout for the contributor with the given path.
+	 * @param path the contributor path
+	 * @return the timeout or {@code null} if the contributor should not time out
+	 */
+	public Duration getTimeout(String path) {
+		String candidate = path;
+		while (candidate != null) {
+			Duration timeout = this.timeouts.get(candidate);
+			if (timeout != null) {
+				return timeout;
+			}
+			int lastSlash = candidate.lastIndexOf('/');
+			candidate = (lastSlash != -1) ? candidate.substring(0, lastSlash) : null;
+		}
+		return this.defaultTimeout;
+	}
+
+	/**
+	 * Return the status reported by a contributor that timed out.
+	 * @return the timeout status
+	 */
+	public Status getStatus() {
+		return this.status;
+	}
+
+	/**
+	 * Return the {@link Health} to report for a contributor that did not respond within
+	 * the given timeout.
+	 * @param timeout the timeout that elapsed
+	 * @param includeDetails if details should be included
+	 * @return the timeout health
+	 */
+	public Health getTimeoutHealth(Duration timeout, boolean includeDetails) {
+		Health.Builder builder = Health.status(this.status);
+		if (includeDetails) {
+			builder.withException(new TimeoutException("Did not respond within " + timeout.toMillis() + "ms"));
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Return the {@link Health} to report for a contributor that could not be invoked
+	 * because no thread was available to invoke it.
+	 * @param includeDetails if details should be included
+	 * @return the rejected health
+	 */
+	public Health getRejectedHealth(boolean includeDetails) {
+		Health.Builder builder = Health.status(this.status);
+		if (includeDetails) {
+			builder.withException(new RejectedExecutionException("Too many pending health contributors"));
+		}
+		return builder.build();
+	}
+
+}
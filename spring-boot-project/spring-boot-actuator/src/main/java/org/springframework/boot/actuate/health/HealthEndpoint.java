@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.springframework.boot.actuate.health;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.springframework.boot.actuate.endpoint.SecurityContext;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
@@ -50,6 +51,20 @@ public class HealthEndpoint extends HealthEndpointSupport<HealthContributor, Hea
 		super(registry, groups);
 	}
 
+	/**
+	 * Create a new {@link HealthEndpoint} instance that invokes contributors concurrently.
+	 * @param registry the health contributor registry
+	 * @param groups the health endpoint groups
+	 * @param executor the executor used to invoke contributors, contributors that it
+	 * rejects report the timeout status
+	 * @param timeouts the contributor timeouts
+	 * @since 2.5.0
+	 */
+	public HealthEndpoint(HealthContributorRegistry registry, HealthEndpointGroups groups, Executor executor,
+			HealthContributorTimeouts timeouts) {
+		super(registry, groups, executor, timeouts);
+	}
+
 	//注意：基于web访问的时候 是不会走到这边的，因为基于web的实现放在了HealthEndpointWebExtension中
 	@ReadOperation
 	public HealthComponent health() {
@@ -72,6 +87,11 @@ public class HealthEndpoint extends HealthEndpointSupport<HealthContributor, Hea
 		return ((HealthIndicator) contributor).getHealth(includeDetails);
 	}
 
+	@Override
+	protected HealthComponent getTimeoutContribution(Health timeoutHealth) {
+		return timeoutHealth;
+	}
+
 	@Override
 	protected HealthComponent aggregateContributions(ApiVersion apiVersion, Map<String, HealthComponent> contributions,
 			StatusAggregator statusAggregator, boolean showComponents, Set<String> groupNames) {
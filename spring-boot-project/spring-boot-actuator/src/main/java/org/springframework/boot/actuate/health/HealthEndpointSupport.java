@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,14 +16,23 @@
 
 package org.springframework.boot.actuate.health;
 
+import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.springframework.boot.actuate.endpoint.SecurityContext;
 import org.springframework.boot.actuate.endpoint.http.ApiVersion;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
  * Base class for health endpoints and health endpoint extensions.
@@ -41,16 +50,37 @@ abstract class HealthEndpointSupport<C, T> {
 
 	private final HealthEndpointGroups groups;
 
+	private final Executor executor;
+
+	private final HealthContributorTimeouts timeouts;
+
 	/**
 	 * Create a new {@link HealthEndpointSupport} instance.
 	 * @param registry the health contributor registry
 	 * @param groups the health endpoint groups
 	 */
 	HealthEndpointSupport(ContributorRegistry<C> registry, HealthEndpointGroups groups) {
+		this(registry, groups, null, HealthContributorTimeouts.NONE);
+	}
+
+	/**
+	 * Create a new {@link HealthEndpointSupport} instance.
+	 * @param registry the health contributor registry
+	 * @param groups the health endpoint groups
+	 * @param executor the executor used to invoke contributors concurrently or
+	 * {@code null} to invoke them sequentially on the calling thread
+	 * @param timeouts the contributor timeouts, only enforced by the calling thread when
+	 * an executor is used
+	 */
+	HealthEndpointSupport(ContributorRegistry<C> registry, HealthEndpointGroups groups, Executor executor,
+			HealthContributorTimeouts timeouts) {
 		Assert.notNull(registry, "Registry must not be null");
 		Assert.notNull(groups, "Groups must not be null");
+		Assert.notNull(timeouts, "Timeouts must not be null");
 		this.registry = registry;
 		this.groups = groups;
+		this.executor = executor;
+		this.timeouts = timeouts;
 	}
 
 	HealthResult<T> getHealth(ApiVersion apiVersion, SecurityContext securityContext, boolean showAll, String... path) {
@@ -71,8 +101,13 @@ abstract class HealthEndpointSupport<C, T> {
 			return null;
 		}
 		Object contributor = getContributor(path, pathOffset);
-		T health = getContribution(apiVersion, group, contributor, showComponents, showDetails,
-				isSystemHealth ? this.groups.getNames() : null, false);
+		String contributorPath = getContributorPath(path, pathOffset);
+		Set<String> groupNames = isSystemHealth ? this.groups.getNames() : null;
+		T health = (this.executor != null)
+				? submitContribution(apiVersion, group, contributorPath, contributor, showComponents, showDetails,
+						groupNames, false).get()
+				: getContribution(apiVersion, group, contributorPath, contributor, showComponents, showDetails,
+						groupNames, false);
 		return (health != null) ? new HealthResult<>(health, group) : null;
 	}
 
@@ -89,17 +124,29 @@ abstract class HealthEndpointSupport<C, T> {
 		return contributor;
 	}
 
+	private String getContributorPath(String[] path, int pathOffset) {
+		StringBuilder contributorPath = new StringBuilder();
+		for (int i = pathOffset; i < path.length; i++) {
+			contributorPath.append((contributorPath.length() > 0) ? "/" : "").append(path[i]);
+		}
+		return contributorPath.toString();
+	}
+
+	private String getMemberPath(String path, String name) {
+		return StringUtils.hasLength(path) ? path + "/" + name : name;
+	}
+
 	@SuppressWarnings("unchecked")
-	private T getContribution(ApiVersion apiVersion, HealthEndpointGroup group, Object contributor,
+	private T getContribution(ApiVersion apiVersion, HealthEndpointGroup group, String path, Object contributor,
 			boolean showComponents, boolean showDetails, Set<String> groupNames, boolean isNested) {
 		if (contributor instanceof NamedContributors) {
-			return getAggregateHealth(apiVersion, group, (NamedContributors<C>) contributor, showComponents,
+			return getAggregateHealth(apiVersion, group, path, (NamedContributors<C>) contributor, showComponents,
 					showDetails, groupNames, isNested);
 		}
-		return (contributor != null) ? getHealth((C) contributor, showDetails) : null;
+		return (contributor != null) ? getHealth(path, (C) contributor, showDetails) : null;
 	}
 
-	private T getAggregateHealth(ApiVersion apiVersion, HealthEndpointGroup group,
+	private T getAggregateHealth(ApiVersion apiVersion, HealthEndpointGroup group, String path,
 			NamedContributors<C> namedContributors, boolean showComponents, boolean showDetails, Set<String> groupNames,
 			boolean isNested) {
 		Map<String, T> contributions = new LinkedHashMap<>();
@@ -107,13 +154,88 @@ abstract class HealthEndpointSupport<C, T> {
 			String name = namedContributor.getName();
 			C contributor = namedContributor.getContributor();
 			if (group.isMember(name) || isNested) {
-				T contribution = getContribution(apiVersion, group, contributor, showComponents, showDetails, null,
-						true);
+				T contribution = getContribution(apiVersion, group, getMemberPath(path, name), contributor,
+						showComponents, showDetails, null, true);
 				if (contribution != null) {
 					contributions.put(name, contribution);
 				}
 			}
 		}
+		return aggregate(apiVersion, group, contributions, showComponents, groupNames);
+	}
+
+	/**
+	 * Submit every contributor in the tree to the executor before waiting on any of
+	 * them so that the time taken is bounded by the slowest contributor rather than
+	 * their sum. A contributor that the executor rejects, typically because its queue is
+	 * full, is not invoked and reports the timeout status.
+	 */
+	@SuppressWarnings("unchecked")
+	private Supplier<T> submitContribution(ApiVersion apiVersion, HealthEndpointGroup group, String path,
+			Object contributor, boolean showComponents, boolean showDetails, Set<String> groupNames,
+			boolean isNested) {
+		if (contributor instanceof NamedContributors) {
+			Map<String, Supplier<T>> members = new LinkedHashMap<>();
+			for (NamedContributor<C> namedContributor : (NamedContributors<C>) contributor) {
+				String name = namedContributor.getName();
+				if (group.isMember(name) || isNested) {
+					members.put(name, submitContribution(apiVersion, group, getMemberPath(path, name),
+							namedContributor.getContributor(), showComponents, showDetails, null, true));
+				}
+			}
+			return () -> {
+				Map<String, T> contributions = new LinkedHashMap<>();
+				members.forEach((name, member) -> {
+					T contribution = member.get();
+					if (contribution != null) {
+						contributions.put(name, contribution);
+					}
+				});
+				return aggregate(apiVersion, group, contributions, showComponents, groupNames);
+			};
+		}
+		if (contributor == null) {
+			return () -> null;
+		}
+		long startTime = System.nanoTime();
+		FutureTask<T> task = new FutureTask<>(() -> getHealth(path, (C) contributor, showDetails));
+		try {
+			this.executor.execute(task);
+		}
+		catch (RejectedExecutionException ex) {
+			T rejected = getTimeoutContribution(this.timeouts.getRejectedHealth(showDetails));
+			return () -> rejected;
+		}
+		return () -> await(task, this.timeouts.getTimeout(path), startTime, showDetails);
+	}
+
+	private T await(FutureTask<T> task, Duration timeout, long startTime, boolean showDetails) {
+		try {
+			if (timeout == null) {
+				return task.get();
+			}
+			long remaining = timeout.toNanos() - (System.nanoTime() - startTime);
+			return task.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+		}
+		catch (TimeoutException ex) {
+			task.cancel(true);
+			return getTimeoutContribution(this.timeouts.getTimeoutHealth(timeout, showDetails));
+		}
+		catch (InterruptedException ex) {
+			task.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for health contribution", ex);
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+			throw new IllegalStateException(ex.getCause());
+		}
+	}
+
+	private T aggregate(ApiVersion apiVersion, HealthEndpointGroup group, Map<String, T> contributions,
+			boolean showComponents, Set<String> groupNames) {
 		if (contributions.isEmpty()) {
 			return null;
 		}
@@ -121,8 +243,26 @@ abstract class HealthEndpointSupport<C, T> {
 				groupNames);
 	}
 
+	/**
+	 * Return the contributed health of the contributor with the given path.
+	 * @param path the path of the contributor, using {@code /} to separate the names of
+	 * nested contributors
+	 * @param contributor the contributor
+	 * @param includeDetails if details should be included
+	 * @return the contributed health
+	 */
+	protected T getHealth(String path, C contributor, boolean includeDetails) {
+		return getHealth(contributor, includeDetails);
+	}
+
+	protected final HealthContributorTimeouts getTimeouts() {
+		return this.timeouts;
+	}
+
 	protected abstract T getHealth(C contributor, boolean includeDetails);
 
+	protected abstract T getTimeoutContribution(Health timeoutHealth);
+
 	protected abstract T aggregateContributions(ApiVersion apiVersion, Map<String, T> contributions,
 			StatusAggregator statusAggregator, boolean showComponents, Set<String> groupNames);
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ package org.springframework.boot.actuate.health;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.springframework.boot.actuate.endpoint.SecurityContext;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
@@ -55,6 +56,20 @@ public class HealthEndpointWebExtension extends HealthEndpointSupport<HealthCont
 		super(registry, groups);
 	}
 
+	/**
+	 * Create a new {@link HealthEndpointWebExtension} instance that invokes contributors concurrently.
+	 * @param registry the health contributor registry
+	 * @param groups the health endpoint groups
+	 * @param executor the executor used to invoke contributors, contributors that it
+	 * rejects report the timeout status
+	 * @param timeouts the contributor timeouts
+	 * @since 2.5.0
+	 */
+	public HealthEndpointWebExtension(HealthContributorRegistry registry, HealthEndpointGroups groups, Executor executor,
+			HealthContributorTimeouts timeouts) {
+		super(registry, groups, executor, timeouts);
+	}
+
 	@ReadOperation
 	public WebEndpointResponse<HealthComponent> health(ApiVersion apiVersion, SecurityContext securityContext) {
 		return health(apiVersion, securityContext, false, NO_PATH);
@@ -86,6 +101,11 @@ public class HealthEndpointWebExtension extends HealthEndpointSupport<HealthCont
 		return ((HealthIndicator) contributor).getHealth(includeDetails);
 	}
 
+	@Override
+	protected HealthComponent getTimeoutContribution(Health timeoutHealth) {
+		return timeoutHealth;
+	}
+
 	@Override
 	protected HealthComponent aggregateContributions(ApiVersion apiVersion, Map<String, HealthComponent> contributions,
 			StatusAggregator statusAggregator, boolean showComponents, Set<String> groupNames) {
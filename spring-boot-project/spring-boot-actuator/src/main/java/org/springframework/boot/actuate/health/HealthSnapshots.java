@@ -0,0 +1,185 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.health;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Predicate;
+
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.util.Assert;
+
+/**
+ * Replaces every {@link HealthIndicator} in a tree of contributors with a
+ * {@link SnapshotHealthIndicator} that is refreshed in the background. Contributor names
+ * are derived using the {@link HealthContributorNameFactory}. Each indicator is
+ * refreshed at the interval of the most specific configured contributor path, using
+ * {@code /} to separate the names of nested contributors (for example
+ * {@code db/primary}), falling back to the default interval. Indicators that only report
+ * in-memory state, such as the {@link PingHealthIndicator}, can be excluded so that they
+ * are still invoked inline and any change to that state is visible immediately.
+ *
+ * @author Spring Contributor
+ * @since 2.5.0
+ */
+public class HealthSnapshots {
+
+	private static final Predicate<HealthIndicator> PING = PingHealthIndicator.class::isInstance;
+
+	private final Map<String, HealthContributor> contributors;
+
+	private final Map<String, SnapshotHealthIndicator> indicators = new LinkedHashMap<>();
+
+	private final Predicate<HealthIndicator> excluded;
+
+	private final Duration defaultInterval;
+
+	private final Map<String, Duration> intervals;
+
+	private final List<ScheduledFuture<?>> scheduled = new ArrayList<>();
+
+	private boolean running;
+
+	/**
+	 * Create a new {@link HealthSnapshots} instance that takes snapshots of every
+	 * indicator other than the {@link PingHealthIndicator}.
+	 * @param contributors the contributors to take snapshots of
+	 * @param defaultInterval the interval used when no specific interval is configured
+	 * for a contributor
+	 * @param intervals the refresh intervals keyed by contributor path
+	 */
+	public HealthSnapshots(Map<String, HealthContributor> contributors, Duration defaultInterval,
+			Map<String, Duration> intervals) {
+		this(contributors, defaultInterval, intervals, PING);
+	}
+
+	/**
+	 * Create a new {@link HealthSnapshots} instance.
+	 * @param contributors the contributors to take snapshots of
+	 * @param defaultInterval the interval used when no specific interval is configured
+	 * for a contributor
+	 * @param intervals the refresh intervals keyed by contributor path
+	 * @param excluded predicate that matches the indicators that should be invoked
+	 * inline rather than snapshotted, typically because they are cheap and only report
+	 * in-memory state
+	 */
+	public HealthSnapshots(Map<String, HealthContributor> contributors, Duration defaultInterval,
+			Map<String, Duration> intervals, Predicate<HealthIndicator> excluded) {
+		Assert.notNull(contributors, "Contributors must not be null");
+		Assert.notNull(defaultInterval, "DefaultInterval must not be null");
+		Assert.notNull(intervals, "Intervals must not be null");
+		Assert.notNull(excluded, "Excluded must not be null");
+		this.excluded = excluded;
+		this.defaultInterval = defaultInterval;
+		this.intervals = new LinkedHashMap<>(intervals);
+		Map<String, HealthContributor> snapshotContributors = new LinkedHashMap<>();
+		contributors.forEach((beanName, contributor) -> {
+			String name = HealthContributorNameFactory.INSTANCE.apply(beanName);
+			snapshotContributors.put(name, adapt(name, contributor));
+		});
+		this.contributors = Collections.unmodifiableMap(snapshotContributors);
+	}
+
+	private HealthContributor adapt(String path, HealthContributor contributor) {
+		if (contributor instanceof HealthIndicator) {
+			if (this.excluded.test((HealthIndicator) contributor)) {
+				return contributor;
+			}
+			SnapshotHealthIndicator indicator = new SnapshotHealthIndicator((HealthIndicator) contributor);
+			this.indicators.put(path, indicator);
+			return indicator;
+		}
+		if (contributor instanceof CompositeHealthContributor) {
+			Map<String, HealthContributor> members = new LinkedHashMap<>();
+			for (NamedContributor<HealthContributor> member : (CompositeHealthContributor) contributor) {
+				members.put(member.getName(), adapt(path + "/" + member.getName(), member.getContributor()));
+			}
+			return CompositeHealthContributor.fromMap(members);
+		}
+		throw new IllegalStateException("Unsupported HealthContributor type " + contributor.getClass());
+	}
+
+	/**
+	 * Return the contributors that serve snapshots, keyed by name.
+	 * @return the snapshot contributors
+	 */
+	public Map<String, HealthContributor> getContributors() {
+		return this.contributors;
+	}
+
+	/**
+	 * Return the snapshot indicators, keyed by contributor path.
+	 * @return the snapshot indicators
+	 */
+	public Map<String, SnapshotHealthIndicator> getIndicators() {
+		return Collections.unmodifiableMap(this.indicators);
+	}
+
+	/**
+	 * Return the refresh interval for the contributor with the given path.
+	 * @param path the contributor path
+	 * @return the refresh interval
+	 */
+	public Duration getInterval(String path) {
+		String candidate = path;
+		while (candidate != null) {
+			Duration interval = this.intervals.get(candidate);
+			if (interval != null) {
+				return interval;
+			}
+			int lastSlash = candidate.lastIndexOf('/');
+			candidate = (lastSlash != -1) ? candidate.substring(0, lastSlash) : null;
+		}
+		return this.defaultInterval;
+	}
+
+	/**
+	 * Start refreshing every snapshot using the given scheduler. The first refresh of
+	 * each snapshot is scheduled immediately.
+	 * @param scheduler the scheduler to use
+	 */
+	public synchronized void start(TaskScheduler scheduler) {
+		Assert.notNull(scheduler, "Scheduler must not be null");
+		Assert.state(!this.running, "Snapshots have already been started");
+		this.indicators.forEach((path, indicator) -> this.scheduled
+				.add(scheduler.scheduleWithFixedDelay(indicator::refresh, getInterval(path))));
+		this.running = true;
+	}
+
+	/**
+	 * Stop refreshing the snapshots. The last published snapshots remain available.
+	 */
+	public synchronized void stop() {
+		this.scheduled.forEach((future) -> future.cancel(false));
+		this.scheduled.clear();
+		this.running = false;
+	}
+
+	/**
+	 * Return if the snapshots are being refreshed.
+	 * @return if the snapshots have been started
+	 */
+	public synchronized boolean isRunning() {
+		return this.running;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.boot.actuate.health;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
@@ -55,6 +56,19 @@ public class ReactiveHealthEndpointWebExtension
 		super(registry, groups);
 	}
 
+	/**
+	 * Create a new {@link ReactiveHealthEndpointWebExtension} instance that applies
+	 * timeouts to individual contributors.
+	 * @param registry the health contributor registry
+	 * @param groups the health endpoint groups
+	 * @param timeouts the contributor timeouts
+	 * @since 2.5.0
+	 */
+	public ReactiveHealthEndpointWebExtension(ReactiveHealthContributorRegistry registry, HealthEndpointGroups groups,
+			HealthContributorTimeouts timeouts) {
+		super(registry, groups, null, timeouts);
+	}
+
 	@ReadOperation
 	public Mono<WebEndpointResponse<? extends HealthComponent>> health(ApiVersion apiVersion,
 			SecurityContext securityContext) {
@@ -82,11 +96,28 @@ public class ReactiveHealthEndpointWebExtension
 		});
 	}
 
+	@Override
+	protected Mono<? extends HealthComponent> getHealth(String path, ReactiveHealthContributor contributor,
+			boolean includeDetails) {
+		Mono<? extends HealthComponent> health = getHealth(contributor, includeDetails);
+		Duration timeout = getTimeouts().getTimeout(path);
+		if (timeout == null) {
+			return health;
+		}
+		return Mono.<HealthComponent>from(health).timeout(timeout,
+				Mono.fromSupplier(() -> getTimeouts().getTimeoutHealth(timeout, includeDetails)));
+	}
+
 	@Override
 	protected Mono<? extends HealthComponent> getHealth(ReactiveHealthContributor contributor, boolean includeDetails) {
 		return ((ReactiveHealthIndicator) contributor).getHealth(includeDetails);
 	}
 
+	@Override
+	protected Mono<? extends HealthComponent> getTimeoutContribution(Health timeoutHealth) {
+		return Mono.just(timeoutHealth);
+	}
+
 	@Override
 	protected Mono<? extends HealthComponent> aggregateContributions(ApiVersion apiVersion,
 			Map<String, Mono<? extends HealthComponent>> contributions, StatusAggregator statusAggregator,
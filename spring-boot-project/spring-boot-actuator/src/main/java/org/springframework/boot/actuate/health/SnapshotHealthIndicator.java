@@ -0,0 +1,101 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.health;
+
+import java.time.Instant;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link HealthIndicator} that returns the last published snapshot of another
+ * indicator. The delegate is only invoked when the snapshot is {@link #refresh()
+ * refreshed}, typically by a scheduler, so that callers of {@link #health()} never
+ * invoke it inline. Until the first refresh completes, the health is
+ * {@link Status#UNKNOWN}.
+ *
+ * @author Spring Contributor
+ * @since 2.5.0
+ * @see HealthSnapshots
+ */
+public class SnapshotHealthIndicator implements HealthIndicator {
+
+	private static final Log logger = LogFactory.getLog(SnapshotHealthIndicator.class);
+
+	private static final Snapshot UNCHECKED = new Snapshot(Health.unknown().build(), null);
+
+	private final HealthIndicator delegate;
+
+	private volatile Snapshot snapshot = UNCHECKED;
+
+	/**
+	 * Create a new {@link SnapshotHealthIndicator} instance.
+	 * @param delegate the indicator to take snapshots of
+	 */
+	public SnapshotHealthIndicator(HealthIndicator delegate) {
+		Assert.notNull(delegate, "Delegate must not be null");
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Invoke the delegate indicator and publish its health as the new snapshot.
+	 */
+	public void refresh() {
+		Health health;
+		try {
+			health = this.delegate.getHealth(true);
+		}
+		catch (Exception ex) {
+			logger.warn("Health check failed", ex);
+			health = Health.down(ex).build();
+		}
+		this.snapshot = new Snapshot(health, Instant.now());
+	}
+
+	@Override
+	public Health health() {
+		return this.snapshot.health;
+	}
+
+	/**
+	 * Return when the delegate indicator was last checked.
+	 * @return the time of the last check or {@code null} if it has not been checked yet
+	 */
+	public Instant getLastChecked() {
+		return this.snapshot.checked;
+	}
+
+	/**
+	 * An immutable snapshot so that the health and the time it was checked are always
+	 * published together.
+	 */
+	private static final class Snapshot {
+
+		private final Health health;
+
+		private final Instant checked;
+
+		Snapshot(Health health, Instant checked) {
+			this.health = health;
+			this.checked = checked;
+		}
+
+	}
+
+}
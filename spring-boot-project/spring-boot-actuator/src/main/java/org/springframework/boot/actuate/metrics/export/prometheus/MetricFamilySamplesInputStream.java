@@ -0,0 +1,139 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.export.prometheus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+
+import io.prometheus.client.Collector.MetricFamilySamples;
+
+/**
+ * {@link InputStream} that renders {@link MetricFamilySamples} in a
+ * {@link TextOutputFormat} one family at a time as it is read, rather than rendering
+ * the complete scrape in memory up front.
+ *
+ * @author Spring Contributor
+ */
+class MetricFamilySamplesInputStream extends InputStream {
+
+	private final TextOutputFormat format;
+
+	private final Enumeration<MetricFamilySamples> samples;
+
+	private final String terminator;
+
+	private final Buffer buffer = new Buffer();
+
+	private final Writer writer = new OutputStreamWriter(this.buffer, StandardCharsets.UTF_8);
+
+	private int position;
+
+	private boolean finished;
+
+	MetricFamilySamplesInputStream(TextOutputFormat format, Enumeration<MetricFamilySamples> samples)
+			throws IOException {
+		this.format = format;
+		this.samples = samples;
+		this.terminator = getTerminator(format);
+	}
+
+	private static String getTerminator(TextOutputFormat format) throws IOException {
+		StringWriter writer = new StringWriter();
+		format.write(writer, Collections.emptyEnumeration());
+		return writer.toString();
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!fill()) {
+			return -1;
+		}
+		return this.buffer.get(this.position++) & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) throws IOException {
+		if (length == 0) {
+			return 0;
+		}
+		if (!fill()) {
+			return -1;
+		}
+		int read = Math.min(length, this.buffer.size() - this.position);
+		this.buffer.copy(this.position, bytes, offset, read);
+		this.position += read;
+		return read;
+	}
+
+	@Override
+	public int available() {
+		return this.buffer.size() - this.position;
+	}
+
+	private boolean fill() throws IOException {
+		while (this.position >= this.buffer.size()) {
+			if (this.finished) {
+				return false;
+			}
+			this.buffer.reset();
+			this.position = 0;
+			if (this.samples.hasMoreElements()) {
+				this.format.write(this.writer, Collections.enumeration(
+						Collections.singletonList(this.samples.nextElement())));
+				this.writer.flush();
+				this.buffer.truncate(this.terminator.length());
+			}
+			else {
+				this.writer.write(this.terminator);
+				this.writer.flush();
+				this.finished = true;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * {@link ByteArrayOutputStream} that allows its content to be read in place.
+	 */
+	private static class Buffer extends ByteArrayOutputStream {
+
+		Buffer() {
+			super(8192);
+		}
+
+		byte get(int index) {
+			return this.buf[index];
+		}
+
+		void copy(int index, byte[] bytes, int offset, int length) {
+			System.arraycopy(this.buf, index, bytes, offset, length);
+		}
+
+		void truncate(int length) {
+			this.count -= length;
+		}
+
+	}
+
+}
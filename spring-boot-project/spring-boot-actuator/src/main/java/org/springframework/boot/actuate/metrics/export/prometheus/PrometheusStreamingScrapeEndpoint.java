@@ -0,0 +1,67 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.export.prometheus;
+
+import java.io.IOException;
+import java.util.Enumeration;
+import java.util.Set;
+
+import io.prometheus.client.Collector.MetricFamilySamples;
+import io.prometheus.client.CollectorRegistry;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link Endpoint @Endpoint} that streams metrics in a format that can be scraped by the
+ * Prometheus server. An alternative to the {@link PrometheusScrapeEndpoint} that renders
+ * the response one metric family at a time as it is written rather than rendering it in
+ * memory first.
+ *
+ * @author Spring Contributor
+ * @since 2.5.0
+ */
+@WebEndpoint(id = "prometheus")
+public class PrometheusStreamingScrapeEndpoint {
+
+	private final CollectorRegistry collectorRegistry;
+
+	public PrometheusStreamingScrapeEndpoint(CollectorRegistry collectorRegistry) {
+		this.collectorRegistry = collectorRegistry;
+	}
+
+	@ReadOperation(producesFrom = TextOutputFormat.class)
+	public WebEndpointResponse<Resource> scrape(TextOutputFormat format, @Nullable Set<String> includedNames) {
+		Enumeration<MetricFamilySamples> samples = (includedNames != null)
+				? this.collectorRegistry.filteredMetricFamilySamples(includedNames)
+				: this.collectorRegistry.metricFamilySamples();
+		try {
+			return new WebEndpointResponse<>(
+					new InputStreamResource(new MetricFamilySamplesInputStream(format, samples)), format);
+		}
+		catch (IOException ex) {
+			// This actually never happens since the terminator is only written to memory
+			throw new IllegalStateException("Writing metrics failed", ex);
+		}
+	}
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.health;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.boot.actuate.health.HealthSnapshots;
+import org.springframework.boot.actuate.health.SnapshotHealthIndicator;
+import org.springframework.util.Assert;
+
+/**
+ * {@link MeterBinder} that exposes when each health snapshot was last checked, as the
+ * number of milliseconds since the epoch.
+ *
+ * @author Spring Contributor
+ * @since 2.5.0
+ */
+public class HealthSnapshotMetrics implements MeterBinder {
+
+	private static final String METRIC_NAME = "health.snapshot.last.checked";
+
+	private final HealthSnapshots snapshots;
+
+	/**
+	 * Create a new {@link HealthSnapshotMetrics} instance.
+	 * @param snapshots the health snapshots
+	 */
+	public HealthSnapshotMetrics(HealthSnapshots snapshots) {
+		Assert.notNull(snapshots, "Snapshots must not be null");
+		this.snapshots = snapshots;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		this.snapshots.getIndicators().forEach((path, indicator) -> TimeGauge
+				.builder(METRIC_NAME, indicator, TimeUnit.MILLISECONDS, HealthSnapshotMetrics::getLastChecked)
+				.tag("contributor", path).description("Time at which the health contributor was last checked")
+				.register(registry));
+	}
+
+	private static double getLastChecked(SnapshotHealthIndicator indicator) {
+		Instant lastChecked = indicator.getLastChecked();
+		return (lastChecked != null) ? lastChecked.toEpochMilli() : Double.NaN;
+	}
+
+}
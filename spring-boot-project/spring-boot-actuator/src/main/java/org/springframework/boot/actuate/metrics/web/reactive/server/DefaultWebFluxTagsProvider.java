@@ -79,4 +79,8 @@ public class DefaultWebFluxTagsProvider implements WebFluxTagsProvider {
 		return tags;
 	}
 
+	boolean hasContributors() {
+		return !this.contributors.isEmpty();
+	}
+
 }
@@ -16,10 +16,13 @@
 
 package org.springframework.boot.actuate.metrics.web.reactive.server;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
@@ -28,12 +31,22 @@ import org.springframework.boot.web.reactive.error.ErrorAttributes;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.ObjectUtils;
+import org.springframework.web.reactive.HandlerMapping;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
 
 /**
  * Intercepts incoming HTTP requests handled by Spring WebFlux handlers.
+ * <p>
+ * When the {@link DefaultWebFluxTagsProvider} is used without any contributors, the tags
+ * of a request depend only on its matching pattern, method, status and exception type.
+ * The timers are then cached for each pattern so that an exchange that has been seen
+ * before does not need to create tags or look up its timer in the registry. The number
+ * of cached patterns and the number of timers cached for each pattern are bounded.
+ * Exchanges beyond those bounds are recorded without the cache.
  *
  * @author Jon Schneider
  * @author Brian Clozel
@@ -42,6 +55,10 @@ import org.springframework.web.server.WebFilterChain;
 @Order(Ordered.HIGHEST_PRECEDENCE + 1)
 public class MetricsWebFilter implements WebFilter {
 
+	private static final int MAX_CACHED_PATTERNS = 1024;
+
+	private static final int MAX_CACHED_TIMERS_PER_PATTERN = 64;
+
 	private final MeterRegistry registry;
 
 	private final WebFluxTagsProvider tagsProvider;
@@ -50,6 +67,8 @@ public class MetricsWebFilter implements WebFilter {
 
 	private final AutoTimer autoTimer;
 
+	private final Map<PathPattern, Map<TimerKey, Timer>> patternTimers;
+
 	/**
 	 * Create a new {@code MetricsWebFilter}.
 	 * @param registry the registry to which metrics are recorded
@@ -64,6 +83,12 @@ public class MetricsWebFilter implements WebFilter {
 		this.tagsProvider = tagsProvider;
 		this.metricName = metricName;
 		this.autoTimer = (autoTimer != null) ? autoTimer : AutoTimer.DISABLED;
+		this.patternTimers = isCacheable(tagsProvider) ? new ConcurrentHashMap<>() : null;
+	}
+
+	private static boolean isCacheable(WebFluxTagsProvider tagsProvider) {
+		return tagsProvider != null && tagsProvider.getClass() == DefaultWebFluxTagsProvider.class
+				&& !((DefaultWebFluxTagsProvider) tagsProvider).hasContributors();
 	}
 
 	@Override
@@ -97,9 +122,88 @@ public class MetricsWebFilter implements WebFilter {
 		if (cause == null) {
 			cause = exchange.getAttribute(ErrorAttributes.ERROR_ATTRIBUTE);
 		}
+		Timer timer = getCachedTimer(exchange, cause);
+		if (timer == null) {
+			timer = getTimer(exchange, cause);
+		}
+		timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+	}
+
+	private Timer getCachedTimer(ServerWebExchange exchange, Throwable cause) {
+		if (this.patternTimers == null) {
+			return null;
+		}
+		PathPattern pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		if (pattern == null) {
+			return null;
+		}
+		Map<TimerKey, Timer> timers = this.patternTimers.get(pattern);
+		if (timers == null) {
+			if (this.patternTimers.size() >= MAX_CACHED_PATTERNS) {
+				return null;
+			}
+			timers = this.patternTimers.computeIfAbsent(pattern, (key) -> new ConcurrentHashMap<>());
+		}
+		TimerKey key = new TimerKey(exchange.getRequest().getMethodValue(),
+				exchange.getResponse().getRawStatusCode(), (cause != null) ? cause.getClass() : null);
+		Timer timer = timers.get(key);
+		if (timer == null) {
+			if (timers.size() >= MAX_CACHED_TIMERS_PER_PATTERN) {
+				return null;
+			}
+			timer = getTimer(exchange, cause);
+			timers.putIfAbsent(key, timer);
+		}
+		return timer;
+	}
+
+	private Timer getTimer(ServerWebExchange exchange, Throwable cause) {
 		Iterable<Tag> tags = this.tagsProvider.httpRequestTags(exchange, cause);
-		this.autoTimer.builder(this.metricName).tags(tags).register(this.registry).record(System.nanoTime() - start,
-				TimeUnit.NANOSECONDS);
+		return this.autoTimer.builder(this.metricName).tags(tags).register(this.registry);
+	}
+
+	/**
+	 * Key for the timers of a pattern made up of the exchange details that the default
+	 * tags are derived from.
+	 */
+	private static final class TimerKey {
+
+		private final String method;
+
+		private final Integer status;
+
+		private final Class<?> exceptionType;
+
+		private final int hashCode;
+
+		TimerKey(String method, Integer status, Class<?> exceptionType) {
+			this.method = method;
+			this.status = status;
+			this.exceptionType = exceptionType;
+			int hashCode = ObjectUtils.nullSafeHashCode(method);
+			hashCode = 31 * hashCode + ObjectUtils.nullSafeHashCode(status);
+			hashCode = 31 * hashCode + ObjectUtils.nullSafeHashCode(exceptionType);
+			this.hashCode = hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			TimerKey other = (TimerKey) obj;
+			return this.exceptionType == other.exceptionType && ObjectUtils.nullSafeEquals(this.method, other.method)
+					&& ObjectUtils.nullSafeEquals(this.status, other.status);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
 	}
 
 }
@@ -88,4 +88,8 @@ public class DefaultWebMvcTagsProvider implements WebMvcTagsProvider {
 		return tags;
 	}
 
+	boolean hasContributors() {
+		return !this.contributors.isEmpty();
+	}
+
 }
@@ -18,8 +18,11 @@ package org.springframework.boot.actuate.metrics.web.servlet;
 
 import java.io.IOException;
 import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -37,6 +40,7 @@ import org.springframework.boot.web.servlet.error.ErrorAttributes;
 import org.springframework.core.annotation.MergedAnnotationCollectors;
 import org.springframework.core.annotation.MergedAnnotations;
 import org.springframework.http.HttpStatus;
+import org.springframework.util.ObjectUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.DispatcherServlet;
@@ -46,6 +50,15 @@ import org.springframework.web.util.NestedServletException;
 /**
  * Intercepts incoming HTTP requests and records metrics about Spring MVC execution time
  * and results.
+ * <p>
+ * When the {@link DefaultWebMvcTagsProvider} is used without any contributors, the tags
+ * of a request depend only on its handler, matching pattern, method, status and
+ * exception type. The timers are then cached for each handler so that a request that has
+ * been seen before does not need to create tags or look up its timers in the registry.
+ * Handler methods are cached by their bean type and method rather than by instance so
+ * that handlers of scoped beans, which are resolved for each request, share the same
+ * timers. The number of cached handlers and the number of timers cached for each handler
+ * are bounded. Requests beyond those bounds are recorded without the cache.
  *
  * @author Jon Schneider
  * @author Phillip Webb
@@ -54,6 +67,12 @@ import org.springframework.web.util.NestedServletException;
  */
 public class WebMvcMetricsFilter extends OncePerRequestFilter {
 
+	private static final int MAX_CACHED_HANDLERS = 1024;
+
+	private static final int MAX_CACHED_TIMERS_PER_HANDLER = 64;
+
+	private static final Timer[] NO_TIMERS = {};
+
 	private final MeterRegistry registry;
 
 	private final WebMvcTagsProvider tagsProvider;
@@ -62,6 +81,8 @@ public class WebMvcMetricsFilter extends OncePerRequestFilter {
 
 	private final AutoTimer autoTimer;
 
+	private final Map<Object, HandlerTimers> handlerTimers;
+
 	/**
 	 * Create a new {@link WebMvcMetricsFilter} instance.
 	 * @param registry the meter registry
@@ -76,6 +97,12 @@ public class WebMvcMetricsFilter extends OncePerRequestFilter {
 		this.tagsProvider = tagsProvider;
 		this.metricName = metricName;
 		this.autoTimer = autoTimer;
+		this.handlerTimers = isCacheable(tagsProvider) ? new ConcurrentHashMap<>() : null;
+	}
+
+	private static boolean isCacheable(WebMvcTagsProvider tagsProvider) {
+		return tagsProvider != null && tagsProvider.getClass() == DefaultWebMvcTagsProvider.class
+				&& !((DefaultWebMvcTagsProvider) tagsProvider).hasContributors();
 	}
 
 	@Override
@@ -130,20 +157,71 @@ public class WebMvcMetricsFilter extends OncePerRequestFilter {
 	private void record(TimingContext timingContext, HttpServletRequest request, HttpServletResponse response,
 			Throwable exception) {
 		Object handler = getHandler(request);
-		Set<Timed> annotations = getTimedAnnotations(handler);
+		Timer[] timers = getCachedTimers(handler, request, response, exception);
+		if (timers == null) {
+			timers = getTimers(handler, getTimedAnnotations(handler), request, response, exception);
+		}
 		Timer.Sample timerSample = timingContext.getTimerSample();
-		if (annotations.isEmpty()) {
-			if (this.autoTimer.isEnabled()) {
-				Builder builder = this.autoTimer.builder(this.metricName);
-				timerSample.stop(getTimer(builder, handler, request, response, exception));
+		for (Timer timer : timers) {
+			timerSample.stop(timer);
+		}
+	}
+
+	private Timer[] getCachedTimers(Object handler, HttpServletRequest request, HttpServletResponse response,
+			Throwable exception) {
+		if (this.handlerTimers == null || handler == null) {
+			return null;
+		}
+		String pattern = WebMvcTags.getMatchingPattern(request);
+		if (pattern == null) {
+			return null;
+		}
+		Object handlerKey = getHandlerKey(handler);
+		HandlerTimers timers = this.handlerTimers.get(handlerKey);
+		if (timers == null) {
+			if (this.handlerTimers.size() >= MAX_CACHED_HANDLERS) {
+				return null;
 			}
+			timers = this.handlerTimers.computeIfAbsent(handlerKey,
+					(key) -> new HandlerTimers(getTimedAnnotations(handler)));
 		}
-		else {
-			for (Timed annotation : annotations) {
-				Builder builder = Timer.builder(annotation, this.metricName);
-				timerSample.stop(getTimer(builder, handler, request, response, exception));
+		TimerKey key = new TimerKey(request.getMethod(), pattern, response.getStatus(),
+				(exception != null) ? exception.getClass() : null);
+		Timer[] cached = timers.get(key);
+		if (cached == null) {
+			if (timers.size() >= MAX_CACHED_TIMERS_PER_HANDLER) {
+				return null;
 			}
+			cached = getTimers(handler, timers.getAnnotations(), request, response, exception);
+			timers.put(key, cached);
 		}
+		return cached;
+	}
+
+	private Object getHandlerKey(Object handler) {
+		if (handler instanceof HandlerMethod) {
+			HandlerMethod handlerMethod = (HandlerMethod) handler;
+			return new HandlerMethodKey(handlerMethod.getBeanType(), handlerMethod.getMethod());
+		}
+		return handler;
+	}
+
+	private Timer[] getTimers(Object handler, Set<Timed> annotations, HttpServletRequest request,
+			HttpServletResponse response, Throwable exception) {
+		if (annotations.isEmpty()) {
+			if (!this.autoTimer.isEnabled()) {
+				return NO_TIMERS;
+			}
+			Builder builder = this.autoTimer.builder(this.metricName);
+			return new Timer[] { getTimer(builder, handler, request, response, exception) };
+		}
+		Timer[] timers = new Timer[annotations.size()];
+		int i = 0;
+		for (Timed annotation : annotations) {
+			Builder builder = Timer.builder(annotation, this.metricName);
+			timers[i++] = getTimer(builder, handler, request, response, exception);
+		}
+		return timers;
 	}
 
 	private Object getHandler(HttpServletRequest request) {
@@ -206,4 +284,118 @@ public class WebMvcMetricsFilter extends OncePerRequestFilter {
 
 	}
 
+	/**
+	 * The timers that have been registered for a handler along with its {@link Timed}
+	 * annotations.
+	 */
+	private static class HandlerTimers {
+
+		private final Set<Timed> annotations;
+
+		private final Map<TimerKey, Timer[]> timers = new ConcurrentHashMap<>();
+
+		HandlerTimers(Set<Timed> annotations) {
+			this.annotations = annotations;
+		}
+
+		Set<Timed> getAnnotations() {
+			return this.annotations;
+		}
+
+		Timer[] get(TimerKey key) {
+			return this.timers.get(key);
+		}
+
+		void put(TimerKey key, Timer[] timers) {
+			this.timers.putIfAbsent(key, timers);
+		}
+
+		int size() {
+			return this.timers.size();
+		}
+
+	}
+
+	/**
+	 * Key for a {@link HandlerMethod} made up of the details that its {@link Timed}
+	 * annotations are found from.
+	 */
+	private static final class HandlerMethodKey {
+
+		private final Class<?> beanType;
+
+		private final Method method;
+
+		HandlerMethodKey(Class<?> beanType, Method method) {
+			this.beanType = beanType;
+			this.method = method;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			HandlerMethodKey other = (HandlerMethodKey) obj;
+			return this.beanType == other.beanType && this.method.equals(other.method);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * this.beanType.hashCode() + this.method.hashCode();
+		}
+
+	}
+
+	/**
+	 * Key for the timers of a handler made up of the request details that the default
+	 * tags are derived from.
+	 */
+	private static final class TimerKey {
+
+		private final String method;
+
+		private final String pattern;
+
+		private final int status;
+
+		private final Class<?> exceptionType;
+
+		private final int hashCode;
+
+		TimerKey(String method, String pattern, int status, Class<?> exceptionType) {
+			this.method = method;
+			this.pattern = pattern;
+			this.status = status;
+			this.exceptionType = exceptionType;
+			int hashCode = ObjectUtils.nullSafeHashCode(method);
+			hashCode = 31 * hashCode + pattern.hashCode();
+			hashCode = 31 * hashCode + status;
+			hashCode = 31 * hashCode + ObjectUtils.nullSafeHashCode(exceptionType);
+			this.hashCode = hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			TimerKey other = (TimerKey) obj;
+			return this.status == other.status && this.exceptionType == other.exceptionType
+					&& ObjectUtils.nullSafeEquals(this.method, other.method) && this.pattern.equals(other.pattern);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+	}
+
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.trace.http;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.util.Assert;
+
+/**
+ * In-memory {@link HttpTraceRepository} backed by a bounded lock-free ring buffer. Unlike
+ * {@link InMemoryHttpTraceRepository}, {@link #add(HttpTrace) adding} a trace never
+ * blocks: each trace claims a sequence number and is published into the slot for that
+ * sequence, overwriting the oldest trace once the buffer is full. A slot only ever moves
+ * forward to a newer sequence. {@link #findAll()} returns a snapshot containing only the
+ * traces whose slot still holds the expected sequence number.
+ *
+ * @author Spring Contributor
+ * @since 2.5.0
+ */
+public class RingBufferHttpTraceRepository implements HttpTraceRepository {
+
+	private volatile boolean reverse = true;
+
+	private volatile Buffer buffer = new Buffer(100);
+
+	/**
+	 * Flag to say that the repository lists traces in reverse order.
+	 * @param reverse flag value (default true)
+	 */
+	public void setReverse(boolean reverse) {
+		this.reverse = reverse;
+	}
+
+	/**
+	 * Set the capacity of the in-memory repository. The most recent traces that fit in
+	 * the new capacity are retained. Traces that are added concurrently with a capacity
+	 * change may be lost.
+	 * @param capacity the capacity
+	 */
+	public void setCapacity(int capacity) {
+		Assert.isTrue(capacity > 0, "Capacity must be greater than 0");
+		Buffer previous = this.buffer;
+		Buffer buffer = new Buffer(capacity);
+		for (HttpTrace trace : previous.snapshot()) {
+			buffer.add(trace);
+		}
+		this.buffer = buffer;
+	}
+
+	@Override
+	public List<HttpTrace> findAll() {
+		List<HttpTrace> traces = this.buffer.snapshot();
+		if (this.reverse) {
+			Collections.reverse(traces);
+		}
+		return Collections.unmodifiableList(traces);
+	}
+
+	@Override
+	public void add(HttpTrace trace) {
+		this.buffer.add(trace);
+	}
+
+	/**
+	 * A fixed size ring of {@link Slot slots}.
+	 */
+	private static final class Buffer {
+
+		private final int capacity;
+
+		private final AtomicLong sequence = new AtomicLong();
+
+		private final AtomicReferenceArray<Slot> slots;
+
+		Buffer(int capacity) {
+			this.capacity = capacity;
+			this.slots = new AtomicReferenceArray<>(capacity);
+		}
+
+		/**
+		 * Claim the next sequence and publish the trace into its slot. A writer that
+		 * stalls between claiming its sequence and publishing may find that a newer lap
+		 * of the ring has already used the slot, in which case the slot is left alone so
+		 * that a newer trace is never replaced by an older one.
+		 * @param trace the trace to add
+		 */
+		void add(HttpTrace trace) {
+			long sequence = this.sequence.getAndIncrement();
+			this.slots.accumulateAndGet(index(sequence), new Slot(sequence, trace), Slot::newest);
+		}
+
+		/**
+		 * Return the published traces, oldest first. A slot is only included when it
+		 * holds the sequence that is expected at its position so that traces that are
+		 * still being written, or that have already been overwritten by a newer lap of
+		 * the ring, are never mixed into the result.
+		 * @return a mutable snapshot of the traces
+		 */
+		List<HttpTrace> snapshot() {
+			long end = this.sequence.get();
+			long start = Math.max(0, end - this.capacity);
+			List<HttpTrace> traces = new ArrayList<>((int) (end - start));
+			for (long sequence = start; sequence < end; sequence++) {
+				Slot slot = this.slots.get(index(sequence));
+				if (slot != null && slot.sequence == sequence) {
+					traces.add(slot.trace);
+				}
+			}
+			return traces;
+		}
+
+		private int index(long sequence) {
+			return (int) (sequence % this.capacity);
+		}
+
+	}
+
+	/**
+	 * A trace published at a specific sequence.
+	 */
+	private static final class Slot {
+
+		private final long sequence;
+
+		private final HttpTrace trace;
+
+		Slot(long sequence, HttpTrace trace) {
+			this.sequence = sequence;
+			this.trace = trace;
+		}
+
+		static Slot newest(Slot current, Slot candidate) {
+			return (current == null || current.sequence < candidate.sequence) ? candidate : current;
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,9 +18,14 @@ package org.springframework.boot.actuate.audit;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
@@ -111,4 +116,100 @@ class InMemoryAuditEventRepositoryTests {
 		assertThat(events.get(0).getType()).isEqualTo("c");
 	}
 
+	@Test
+	void findByType() {
+		InMemoryAuditEventRepository repository = new InMemoryAuditEventRepository();
+		repository.add(new AuditEvent("dave", "a"));
+		repository.add(new AuditEvent("phil", "b"));
+		repository.add(new AuditEvent("phil", "a"));
+		List<AuditEvent> events = repository.find(null, null, "a");
+		assertThat(events).extracting(AuditEvent::getPrincipal).containsExactly("dave", "phil");
+	}
+
+	@Test
+	void findByPrincipalWhenOlderEventsHaveBeenOverwritten() {
+		InMemoryAuditEventRepository repository = new InMemoryAuditEventRepository(3);
+		repository.add(new AuditEvent("dave", "a"));
+		repository.add(new AuditEvent("phil", "b"));
+		repository.add(new AuditEvent("dave", "c"));
+		repository.add(new AuditEvent("phil", "d"));
+		repository.add(new AuditEvent("dave", "e"));
+		assertThat(repository.find("dave", null, null)).extracting(AuditEvent::getType).containsExactly("c", "e");
+		assertThat(repository.find("phil", null, null)).extracting(AuditEvent::getType).containsExactly("d");
+	}
+
+	@Test
+	void findByDateWhenEventsAreNotInTimestampOrder() {
+		Instant instant = Instant.now();
+		Map<String, Object> data = new HashMap<>();
+		InMemoryAuditEventRepository repository = new InMemoryAuditEventRepository();
+		repository.add(new AuditEvent(instant.plus(3, ChronoUnit.DAYS), "dave", "a", data));
+		repository.add(new AuditEvent(instant, "dave", "b", data));
+		repository.add(new AuditEvent(instant.plus(1, ChronoUnit.DAYS), "dave", "c", data));
+		List<AuditEvent> events = repository.find("dave", instant.plus(2, ChronoUnit.DAYS), null);
+		assertThat(events).extracting(AuditEvent::getType).containsExactly("a");
+	}
+
+	@Test
+	void setCapacityDiscardsEvents() {
+		InMemoryAuditEventRepository repository = new InMemoryAuditEventRepository();
+		repository.add(new AuditEvent("dave", "a"));
+		repository.setCapacity(10);
+		assertThat(repository.find(null, null, null)).isEmpty();
+		repository.add(new AuditEvent("dave", "b"));
+		assertThat(repository.find("dave", null, null)).extracting(AuditEvent::getType).containsExactly("b");
+	}
+
+	@Test
+	void findWithManyPrincipals() {
+		InMemoryAuditEventRepository repository = new InMemoryAuditEventRepository(10);
+		for (int i = 0; i < 100; i++) {
+			repository.add(new AuditEvent("user" + i, "a"));
+		}
+		assertThat(repository.find("user50", null, null)).isEmpty();
+		assertThat(repository.find("user95", null, null)).hasSize(1);
+		assertThat(repository.find(null, null, "a")).hasSize(10);
+	}
+
+	@Test
+	void concurrentAddsAreFoundInOrder() throws Exception {
+		InMemoryAuditEventRepository repository = new InMemoryAuditEventRepository(100000);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int thread = 0; thread < 8; thread++) {
+				String principal = "user" + (thread % 2);
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 1000; i++) {
+						repository.add(new AuditEvent(principal, "type" + (i % 3)));
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		List<AuditEvent> all = repository.find(null, null, null);
+		assertThat(all).hasSize(8000);
+		List<AuditEvent> user0 = repository.find("user0", null, null);
+		assertThat(user0).hasSize(4000);
+		assertThat(user0).isEqualTo(filter(all, "user0", null));
+		assertThat(repository.find(null, null, "type1")).isEqualTo(filter(all, null, "type1"));
+		assertThat(repository.find("user1", null, "type2")).isEqualTo(filter(all, "user1", "type2"));
+	}
+
+	private List<AuditEvent> filter(List<AuditEvent> events, String principal, String type) {
+		List<AuditEvent> filtered = new ArrayList<>();
+		for (AuditEvent event : events) {
+			if ((principal == null || principal.equals(event.getPrincipal()))
+					&& (type == null || type.equals(event.getType()))) {
+				filtered.add(event);
+			}
+		}
+		return filtered;
+	}
+
 }
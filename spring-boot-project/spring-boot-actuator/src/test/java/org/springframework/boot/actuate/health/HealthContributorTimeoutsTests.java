@@ -0,0 +1,80 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.health;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link HealthContributorTimeouts}.
+ *
+ * @author Spring Contributor
+ */
+class HealthContributorTimeoutsTests {
+
+	@Test
+	void getTimeoutUsesMostSpecificPath() {
+		Map<String, Duration> timeouts = new LinkedHashMap<>();
+		timeouts.put("db", Duration.ofSeconds(2));
+		timeouts.put("db/primary", Duration.ofSeconds(1));
+		HealthContributorTimeouts contributorTimeouts = new HealthContributorTimeouts(Duration.ofSeconds(3), timeouts,
+				Status.DOWN);
+		assertThat(contributorTimeouts.getTimeout("db/primary")).isEqualTo(Duration.ofSeconds(1));
+		assertThat(contributorTimeouts.getTimeout("db/secondary")).isEqualTo(Duration.ofSeconds(2));
+		assertThat(contributorTimeouts.getTimeout("db")).isEqualTo(Duration.ofSeconds(2));
+		assertThat(contributorTimeouts.getTimeout("redis")).isEqualTo(Duration.ofSeconds(3));
+	}
+
+	@Test
+	void getTimeoutWhenNoneReturnsNull() {
+		assertThat(HealthContributorTimeouts.NONE.getTimeout("db")).isNull();
+	}
+
+	@Test
+	void getTimeoutHealthWhenIncludeDetailsHasError() {
+		HealthContributorTimeouts timeouts = HealthContributorTimeouts.NONE;
+		Health health = timeouts.getTimeoutHealth(Duration.ofMillis(100), true);
+		assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(health.getDetails()).containsEntry("error",
+				"java.util.concurrent.TimeoutException: Did not respond within 100ms");
+	}
+
+	@Test
+	void getTimeoutHealthWhenNotIncludeDetailsHasNoDetails() {
+		HealthContributorTimeouts timeouts = new HealthContributorTimeouts(null, new LinkedHashMap<>(),
+				Status.OUT_OF_SERVICE);
+		Health health = timeouts.getTimeoutHealth(Duration.ofMillis(100), false);
+		assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+		assertThat(health.getDetails()).isEmpty();
+	}
+
+	@Test
+	void getRejectedHealthWhenIncludeDetailsHasError() {
+		HealthContributorTimeouts timeouts = new HealthContributorTimeouts(null, new LinkedHashMap<>(),
+				Status.OUT_OF_SERVICE);
+		Health health = timeouts.getRejectedHealth(true);
+		assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+		assertThat(health.getDetails()).containsEntry("error",
+				"java.util.concurrent.RejectedExecutionException: Too many pending health contributors");
+	}
+
+}
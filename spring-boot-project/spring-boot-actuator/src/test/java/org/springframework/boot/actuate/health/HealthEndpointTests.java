@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,11 +16,21 @@
 
 package org.springframework.boot.actuate.health;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.boot.actuate.endpoint.SecurityContext;
+import org.springframework.boot.actuate.endpoint.http.ApiVersion;
 import org.springframework.boot.actuate.health.HealthEndpointSupport.HealthResult;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -66,6 +76,99 @@ class HealthEndpointTests
 		assertThat(health).isEqualTo(this.up);
 	}
 
+	@Test
+	void healthWhenConcurrentInvokesContributorsInParallel() throws Exception {
+		CountDownLatch latch = new CountDownLatch(2);
+		HealthIndicator waiting = () -> {
+			latch.countDown();
+			try {
+				return latch.await(5, TimeUnit.SECONDS) ? this.up : this.down;
+			}
+			catch (InterruptedException ex) {
+				return this.down;
+			}
+		};
+		this.registry.registerContributor("a", waiting);
+		this.registry.registerContributor("b", waiting);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			HealthComponent health = new HealthEndpoint(this.registry, this.groups, executor,
+					HealthContributorTimeouts.NONE).health();
+			assertThat(health.getStatus()).isEqualTo(Status.UP);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void healthWhenConcurrentAndContributorTimesOutUsesTimeoutStatus() {
+		HealthIndicator slow = () -> {
+			try {
+				Thread.sleep(5000);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return this.up;
+		};
+		Map<String, HealthContributor> contributors = new LinkedHashMap<>();
+		contributors.put("fast", createContributor(this.up));
+		contributors.put("slow", slow);
+		this.registry.registerContributor("test", createCompositeContributor(contributors));
+		HealthContributorTimeouts timeouts = new HealthContributorTimeouts(null,
+				Collections.singletonMap("test/slow", Duration.ofMillis(50)), Status.OUT_OF_SERVICE);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			HealthResult<HealthComponent> result = new HealthEndpoint(this.registry, this.groups, executor, timeouts)
+					.getHealth(ApiVersion.V3, SecurityContext.NONE, true, "test");
+			CompositeHealth health = (CompositeHealth) result.getHealth();
+			assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+			assertThat(health.getComponents().get("fast")).isEqualTo(this.up);
+			Health timedOut = (Health) health.getComponents().get("slow");
+			assertThat(timedOut.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+			assertThat(timedOut.getDetails()).containsEntry("error",
+					"java.util.concurrent.TimeoutException: Did not respond within 50ms");
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void healthWhenConcurrentAndExecutorRejectsContributorUsesTimeoutStatus() {
+		CountDownLatch release = new CountDownLatch(1);
+		HealthIndicator blocked = () -> {
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return this.up;
+		};
+		Map<String, HealthContributor> contributors = new LinkedHashMap<>();
+		contributors.put("blocked", blocked);
+		contributors.put("rejected", createContributor(this.up));
+		this.registry.registerContributor("test", createCompositeContributor(contributors));
+		HealthContributorTimeouts timeouts = new HealthContributorTimeouts(Duration.ofMillis(50),
+				Collections.emptyMap(), Status.OUT_OF_SERVICE);
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new SynchronousQueue<>());
+		try {
+			HealthResult<HealthComponent> result = new HealthEndpoint(this.registry, this.groups, executor, timeouts)
+					.getHealth(ApiVersion.V3, SecurityContext.NONE, true, "test");
+			CompositeHealth health = (CompositeHealth) result.getHealth();
+			Health rejected = (Health) health.getComponents().get("rejected");
+			assertThat(rejected.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+			assertThat(rejected.getDetails()).containsEntry("error",
+					"java.util.concurrent.RejectedExecutionException: Too many pending health contributors");
+		}
+		finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
 	@Override
 	protected HealthEndpoint create(HealthContributorRegistry registry, HealthEndpointGroups groups) {
 		return new HealthEndpoint(registry, groups);
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.actuate.health;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.scheduling.TaskScheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link HealthSnapshots}.
+ *
+ * @author Spring Contributor
+ */
+class HealthSnapshotsTests {
+
+	@Test
+	void createAdaptsIndicatorsAndComposites() {
+		Map<String, HealthContributor> db = new LinkedHashMap<>();
+		db.put("primary", (HealthIndicator) () -> Health.up().build());
+		db.put("secondary", (HealthIndicator) () -> Health.down().build());
+		Map<String, HealthContributor> contributors = new LinkedHashMap<>();
+		contributors.put("disk", (HealthIndicator) () -> Health.up().build());
+		contributors.put("db", CompositeHealthContributor.fromMap(db));
+		HealthSnapshots snapshots = new HealthSnapshots(contributors, Duration.ofSeconds(10),
+				Collections.emptyMap());
+		assertThat(snapshots.getIndicators()).containsOnlyKeys("disk", "db/primary", "db/secondary");
+		assertThat(snapshots.getContributors().get("disk")).isInstanceOf(SnapshotHealthIndicator.class);
+		CompositeHealthContributor composite = (CompositeHealthContributor) snapshots.getContributors().get("db");
+		assertThat(composite.getContributor("primary")).isSameAs(snapshots.getIndicators().get("db/primary"));
+	}
+
+	@Test
+	void createDoesNotAdaptPingIndicator() {
+		PingHealthIndicator ping = new PingHealthIndicator();
+		HealthSnapshots snapshots = new HealthSnapshots(Collections.singletonMap("ping", ping),
+				Duration.ofSeconds(10), Collections.emptyMap());
+		assertThat(snapshots.getIndicators()).isEmpty();
+		assertThat(snapshots.getContributors().get("ping")).isSameAs(ping);
+	}
+
+	@Test
+	void createWhenIndicatorIsExcludedInvokesItInline() {
+		AtomicReference<Status> status = new AtomicReference<>(Status.UP);
+		HealthIndicator readiness = () -> Health.status(status.get()).build();
+		Map<String, HealthContributor> contributors = new LinkedHashMap<>();
+		contributors.put("readiness", readiness);
+		contributors.put("db", (HealthIndicator) () -> Health.up().build());
+		HealthSnapshots snapshots = new HealthSnapshots(contributors, Duration.ofSeconds(10),
+				Collections.emptyMap(), (indicator) -> indicator == readiness);
+		assertThat(snapshots.getIndicators()).containsOnlyKeys("db");
+		HealthEndpoint endpoint = new HealthEndpoint(
+				new DefaultHealthContributorRegistry(snapshots.getContributors()),
+				HealthEndpointGroups.of(new TestHealthEndpointGroup(), Collections.emptyMap()));
+		assertThat(endpoint.healthForPath("readiness").getStatus()).isEqualTo(Status.UP);
+		status.set(Status.OUT_OF_SERVICE);
+		assertThat(endpoint.healthForPath("readiness").getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+	}
+
+	@Test
+	void getIntervalUsesMostSpecificPath() {
+		Map<String, Duration> intervals = new LinkedHashMap<>();
+		intervals.put("db", Duration.ofSeconds(30));
+		intervals.put("db/primary", Duration.ofSeconds(5));
+		HealthSnapshots snapshots = new HealthSnapshots(Collections.emptyMap(), Duration.ofSeconds(10), intervals);
+		assertThat(snapshots.getInterval("db/primary")).isEqualTo(Duration.ofSeconds(5));
+		assertThat(snapshots.getInterval("db/secondary")).isEqualTo(Duration.ofSeconds(30));
+		assertThat(snapshots.getInterval("ping")).isEqualTo(Duration.ofSeconds(10));
+	}
+
+	@Test
+	void startSchedulesEachIndicatorAtItsInterval() {
+		Map<String, HealthContributor> contributors = new LinkedHashMap<>();
+		contributors.put("disk", (HealthIndicator) () -> Health.up().build());
+		contributors.put("db", (HealthIndicator) () -> Health.up().build());
+		HealthSnapshots snapshots = new HealthSnapshots(contributors, Duration.ofSeconds(10),
+				Collections.singletonMap("db", Duration.ofSeconds(30)));
+		TaskScheduler scheduler = mock(TaskScheduler.class);
+		ScheduledFuture<?> future = mock(ScheduledFuture.class);
+		willReturn(future).given(scheduler).scheduleWithFixedDelay(any(Runnable.class), any(Duration.class));
+		snapshots.start(scheduler);
+		assertThat(snapshots.isRunning()).isTrue();
+		verify(scheduler).scheduleWithFixedDelay(any(Runnable.class), eq(Duration.ofSeconds(10)));
+		verify(scheduler).scheduleWithFixedDelay(any(Runnable.class), eq(Duration.ofSeconds(30)));
+		assertThatIllegalStateException().isThrownBy(() -> snapshots.start(scheduler));
+		snapshots.stop();
+		assertThat(snapshots.isRunning()).isFalse();
+		verify(future, times(2)).cancel(false);
+	}
+
+	@Test
+	void endpointServesSnapshots() {
+		Map<String, HealthContributor> contributors = new LinkedHashMap<>();
+		contributors.put("test", (HealthIndicator) () -> Health.down().build());
+		HealthSnapshots snapshots = new HealthSnapshots(contributors, Duration.ofSeconds(10),
+				Collections.emptyMap());
+		HealthEndpoint endpoint = new HealthEndpoint(
+				new DefaultHealthContributorRegistry(snapshots.getContributors()),
+				HealthEndpointGroups.of(new TestHealthEndpointGroup(), Collections.emptyMap()));
+		assertThat(endpoint.health().getStatus()).isEqualTo(Status.UNKNOWN);
+		snapshots.getIndicators().values().forEach(SnapshotHealthIndicator::refresh);
+		assertThat(endpoint.health().getStatus()).isEqualTo(Status.DOWN);
+	}
+
+}
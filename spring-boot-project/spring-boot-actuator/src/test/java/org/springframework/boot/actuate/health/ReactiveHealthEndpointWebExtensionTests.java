@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.boot.actuate.health;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
 
@@ -80,6 +81,22 @@ class ReactiveHealthEndpointWebExtensionTests extends
 		assertThat(response.getStatus()).isEqualTo(200);
 	}
 
+	@Test
+	void healthWhenContributorTimesOutUsesTimeoutStatus() {
+		this.registry.registerContributor("fast", createContributor(this.up));
+		this.registry.registerContributor("slow",
+				(ReactiveHealthIndicator) () -> Mono.just(this.up).delayElement(Duration.ofSeconds(5)));
+		HealthContributorTimeouts timeouts = new HealthContributorTimeouts(Duration.ofMillis(50),
+				Collections.emptyMap(), Status.DOWN);
+		WebEndpointResponse<? extends HealthComponent> response = new ReactiveHealthEndpointWebExtension(this.registry,
+				this.groups, timeouts).health(ApiVersion.LATEST, SecurityContext.NONE, true).block();
+		CompositeHealth health = (CompositeHealth) response.getBody();
+		assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(health.getComponents().get("fast")).isEqualTo(this.up);
+		assertThat(health.getComponents().get("slow").getStatus()).isEqualTo(Status.DOWN);
+		assertThat(response.getStatus()).isEqualTo(503);
+	}
+
 	@Override
 	protected ReactiveHealthEndpointWebExtension create(ReactiveHealthContributorRegistry registry,
 			HealthEndpointGroups groups) {
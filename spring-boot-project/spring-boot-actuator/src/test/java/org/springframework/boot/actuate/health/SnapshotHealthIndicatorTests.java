@@ -0,0 +1,69 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.actuate.health;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SnapshotHealthIndicator}.
+ *
+ * @author Spring Contributor
+ */
+class SnapshotHealthIndicatorTests {
+
+	@Test
+	void healthWhenNotRefreshedReturnsUnknown() {
+		AtomicInteger invocations = new AtomicInteger();
+		SnapshotHealthIndicator indicator = new SnapshotHealthIndicator(() -> {
+			invocations.incrementAndGet();
+			return Health.up().build();
+		});
+		assertThat(indicator.health().getStatus()).isEqualTo(Status.UNKNOWN);
+		assertThat(indicator.getLastChecked()).isNull();
+		assertThat(invocations).hasValue(0);
+	}
+
+	@Test
+	void healthWhenRefreshedReturnsSnapshotWithoutInvokingDelegate() {
+		AtomicInteger invocations = new AtomicInteger();
+		SnapshotHealthIndicator indicator = new SnapshotHealthIndicator(() -> {
+			invocations.incrementAndGet();
+			return Health.up().withDetail("spring", "boot").build();
+		});
+		indicator.refresh();
+		assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+		assertThat(indicator.getHealth(true).getDetails()).containsEntry("spring", "boot");
+		assertThat(indicator.getHealth(false).getDetails()).isEmpty();
+		assertThat(indicator.getLastChecked()).isNotNull();
+		assertThat(invocations).hasValue(1);
+	}
+
+	@Test
+	void refreshWhenDelegateThrowsPublishesDown() {
+		SnapshotHealthIndicator indicator = new SnapshotHealthIndicator(() -> {
+			throw new IllegalStateException("broken");
+		});
+		indicator.refresh();
+		Health health = indicator.health();
+		assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(health.getDetails()).containsEntry("error", "java.lang.IllegalStateException: broken");
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.export.prometheus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.CollectorRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.util.StreamUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MetricFamilySamplesInputStream}.
+ *
+ * @author Spring Contributor
+ */
+class MetricFamilySamplesInputStreamTests {
+
+	private final CollectorRegistry collectorRegistry = new CollectorRegistry(true);
+
+	@BeforeEach
+	void registerMeters() {
+		PrometheusMeterRegistry meterRegistry = new PrometheusMeterRegistry((key) -> null, this.collectorRegistry,
+				Clock.SYSTEM);
+		for (int i = 0; i < 100; i++) {
+			Counter.builder("counter" + i).tag("index", String.valueOf(i)).register(meterRegistry).increment(i);
+		}
+		Timer.builder("timer").publishPercentileHistogram().register(meterRegistry);
+	}
+
+	@Test
+	void readWhenText004ProducesSameOutputAsWrite() throws IOException {
+		assertThat(streamed(TextOutputFormat.CONTENT_TYPE_004)).isEqualTo(written(TextOutputFormat.CONTENT_TYPE_004));
+	}
+
+	@Test
+	void readWhenOpenMetrics100ProducesSameOutputAsWrite() throws IOException {
+		String streamed = streamed(TextOutputFormat.CONTENT_TYPE_OPENMETRICS_100);
+		assertThat(streamed).isEqualTo(written(TextOutputFormat.CONTENT_TYPE_OPENMETRICS_100));
+		assertThat(streamed).endsWith("# EOF\n").containsOnlyOnce("# EOF");
+	}
+
+	@Test
+	void readSingleBytesProducesSameOutputAsWrite() throws IOException {
+		InputStream inputStream = new MetricFamilySamplesInputStream(TextOutputFormat.CONTENT_TYPE_004,
+				this.collectorRegistry.metricFamilySamples());
+		StringBuilder streamed = new StringBuilder();
+		int read;
+		while ((read = inputStream.read()) != -1) {
+			streamed.append((char) read);
+		}
+		assertThat(streamed.toString()).isEqualTo(written(TextOutputFormat.CONTENT_TYPE_004));
+	}
+
+	@Test
+	void readWhenNoSamplesProducesTerminatorOnly() throws IOException {
+		CollectorRegistry empty = new CollectorRegistry(true);
+		InputStream inputStream = new MetricFamilySamplesInputStream(TextOutputFormat.CONTENT_TYPE_OPENMETRICS_100,
+				empty.metricFamilySamples());
+		assertThat(StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8)).isEqualTo("# EOF\n");
+	}
+
+	private String streamed(TextOutputFormat format) throws IOException {
+		InputStream inputStream = new MetricFamilySamplesInputStream(format,
+				this.collectorRegistry.metricFamilySamples());
+		return StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
+	}
+
+	private String written(TextOutputFormat format) throws IOException {
+		StringWriter writer = new StringWriter();
+		format.write(writer, this.collectorRegistry.metricFamilySamples());
+		return writer.toString();
+	}
+
+}
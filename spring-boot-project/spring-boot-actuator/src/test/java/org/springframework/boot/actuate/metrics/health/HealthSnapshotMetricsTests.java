@@ -0,0 +1,54 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.actuate.metrics.health;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.HealthSnapshots;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link HealthSnapshotMetrics}.
+ *
+ * @author Spring Contributor
+ */
+class HealthSnapshotMetricsTests {
+
+	@Test
+	void bindToRegistersLastCheckedGaugePerContributor() {
+		HealthIndicator db = () -> Health.up().build();
+		HealthSnapshots snapshots = new HealthSnapshots(Collections.<String, HealthContributor>singletonMap("db", db),
+				Duration.ofSeconds(10), Collections.emptyMap());
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		new HealthSnapshotMetrics(snapshots).bindTo(registry);
+		TimeGauge gauge = registry.get("health.snapshot.last.checked").tag("contributor", "db").timeGauge();
+		assertThat(gauge.value(TimeUnit.MILLISECONDS)).isNaN();
+		snapshots.getIndicators().get("db").refresh();
+		assertThat(gauge.value(TimeUnit.MILLISECONDS))
+				.isEqualTo(snapshots.getIndicators().get("db").getLastChecked().toEpochMilli());
+	}
+
+}
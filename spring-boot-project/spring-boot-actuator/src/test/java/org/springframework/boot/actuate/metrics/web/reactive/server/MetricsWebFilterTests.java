@@ -18,8 +18,10 @@ package org.springframework.boot.actuate.metrics.web.reactive.server;
 
 import java.io.EOFException;
 import java.time.Duration;
+import java.util.Collections;
 
 import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.simple.SimpleConfig;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
@@ -157,6 +159,37 @@ class MetricsWebFilterTests {
 		assertMetricsContainsTag("outcome", "UNKNOWN");
 	}
 
+	@Test
+	void repeatedExchangesWithTheSamePatternAreRecordedForEachStatus() {
+		for (int status : new int[] { 200, 200, 500 }) {
+			MockServerWebExchange exchange = createExchange("/projects/spring-boot", "/projects/{project}");
+			this.webFilter.filter(exchange, (serverWebExchange) -> {
+				exchange.getResponse().setRawStatusCode(status);
+				return exchange.getResponse().setComplete();
+			}).block(Duration.ofSeconds(30));
+		}
+		assertThat(this.registry.get(REQUEST_METRICS_NAME).tags("uri", "/projects/{project}", "status", "200").timer()
+				.count()).isEqualTo(2);
+		assertThat(this.registry.get(REQUEST_METRICS_NAME).tags("uri", "/projects/{project}", "status", "500").timer()
+				.count()).isEqualTo(1);
+	}
+
+	@Test
+	void repeatedExchangesWithTagsContributorAreRecordedWithContributedTags() {
+		WebFluxTagsContributor contributor = (exchange, ex) -> Tags.of("project",
+				exchange.getRequest().getPath().value().substring("/projects/".length()));
+		this.webFilter = new MetricsWebFilter(this.registry,
+				new DefaultWebFluxTagsProvider(true, Collections.singletonList(contributor)), REQUEST_METRICS_NAME,
+				AutoTimer.ENABLED);
+		for (String project : new String[] { "spring-boot", "spring-framework" }) {
+			MockServerWebExchange exchange = createExchange("/projects/" + project, "/projects/{project}");
+			this.webFilter.filter(exchange, (serverWebExchange) -> exchange.getResponse().setComplete())
+					.block(Duration.ofSeconds(30));
+		}
+		assertMetricsContainsTag("project", "spring-boot");
+		assertMetricsContainsTag("project", "spring-framework");
+	}
+
 	private MockServerWebExchange createExchange(String path, String pathPattern) {
 		PathPatternParser parser = new PathPatternParser();
 		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path).build());
@@ -21,8 +21,10 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.lang.reflect.Method;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
@@ -63,8 +65,12 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Primary;
 import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -76,6 +82,8 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
@@ -299,6 +307,37 @@ class WebMvcMetricsFilterTests {
 				.count()).isEqualTo(2);
 	}
 
+	@Test
+	void repeatedRequestsToTheSameHandlerAreRecordedForEachStatusAndException() throws Exception {
+		this.mvc.perform(get("/api/c1/cached/10")).andExpect(status().isOk());
+		this.mvc.perform(get("/api/c1/cached/20")).andExpect(status().isOk());
+		this.mvc.perform(get("/api/c1/cached/-1")).andExpect(status().is4xxClientError());
+		assertThat(this.registry.get("http.server.requests")
+				.tags("uri", "/api/c1/cached/{id}", "status", "200", "exception", "None").timer().count())
+						.isEqualTo(2);
+		assertThat(this.registry.get("http.server.requests")
+				.tags("uri", "/api/c1/cached/{id}", "status", "422", "exception", "IllegalStateException").timer()
+				.count()).isEqualTo(1);
+	}
+
+	@Test
+	void requestsToHandlerMethodsOfDifferentBeanInstancesShareCachedTimers() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		WebMvcMetricsFilter filter = new WebMvcMetricsFilter(registry, new DefaultWebMvcTagsProvider(),
+				"http.server.requests", AutoTimer.ENABLED);
+		Method method = Controller1.class.getDeclaredMethod("sometimesThrowsException", Long.class);
+		for (int i = 0; i < 2; i++) {
+			MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/c1/cached/" + i);
+			request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+					new HandlerMethod(new Controller1(), method));
+			request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/c1/cached/{id}");
+			filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+		}
+		assertThat(registry.get("http.server.requests").tags("uri", "/api/c1/cached/{id}").timer().count())
+				.isEqualTo(2);
+		assertThat((Map<?, ?>) ReflectionTestUtils.getField(filter, "handlerTimers")).hasSize(1);
+	}
+
 	@Target({ ElementType.METHOD })
 	@Retention(RetentionPolicy.RUNTIME)
 	@Timed(percentiles = 0.95)
@@ -440,6 +479,14 @@ class WebMvcMetricsFilterTests {
 			return id.toString();
 		}
 
+		@GetMapping("/cached/{id}")
+		String sometimesThrowsException(@PathVariable Long id) {
+			if (id < 0) {
+				throw new IllegalStateException("Boom on " + id + "!");
+			}
+			return id.toString();
+		}
+
 		@Timed
 		@GetMapping("/error/{id}")
 		String alwaysThrowsException(@PathVariable Long id) {
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.trace.http;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link RingBufferHttpTraceRepository}.
+ *
+ * @author Spring Contributor
+ */
+class RingBufferHttpTraceRepositoryTests {
+
+	private final RingBufferHttpTraceRepository repository = new RingBufferHttpTraceRepository();
+
+	@Test
+	void capacityLimited() {
+		this.repository.setCapacity(2);
+		this.repository.add(new HttpTrace(createRequest("GET")));
+		this.repository.add(new HttpTrace(createRequest("POST")));
+		this.repository.add(new HttpTrace(createRequest("DELETE")));
+		List<HttpTrace> traces = this.repository.findAll();
+		assertThat(traces).hasSize(2);
+		assertThat(traces.get(0).getRequest().getMethod()).isEqualTo("DELETE");
+		assertThat(traces.get(1).getRequest().getMethod()).isEqualTo("POST");
+	}
+
+	@Test
+	void reverseFalse() {
+		this.repository.setReverse(false);
+		this.repository.setCapacity(2);
+		this.repository.add(new HttpTrace(createRequest("GET")));
+		this.repository.add(new HttpTrace(createRequest("POST")));
+		this.repository.add(new HttpTrace(createRequest("DELETE")));
+		List<HttpTrace> traces = this.repository.findAll();
+		assertThat(traces).hasSize(2);
+		assertThat(traces.get(0).getRequest().getMethod()).isEqualTo("POST");
+		assertThat(traces.get(1).getRequest().getMethod()).isEqualTo("DELETE");
+	}
+
+	@Test
+	void setCapacityRetainsMostRecentTraces() {
+		this.repository.add(new HttpTrace(createRequest("GET")));
+		this.repository.add(new HttpTrace(createRequest("POST")));
+		this.repository.add(new HttpTrace(createRequest("DELETE")));
+		this.repository.setCapacity(2);
+		List<HttpTrace> traces = this.repository.findAll();
+		assertThat(traces).hasSize(2);
+		assertThat(traces.get(0).getRequest().getMethod()).isEqualTo("DELETE");
+		assertThat(traces.get(1).getRequest().getMethod()).isEqualTo("POST");
+	}
+
+	@Test
+	void setCapacityWhenNotPositiveThrowsException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.repository.setCapacity(0))
+				.withMessage("Capacity must be greater than 0");
+	}
+
+	@Test
+	void findAllReturnsUnmodifiableList() {
+		this.repository.add(new HttpTrace(createRequest("GET")));
+		List<HttpTrace> traces = this.repository.findAll();
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(traces::clear);
+	}
+
+	@Test
+	void concurrentAddsAreBoundedByCapacity() throws Exception {
+		this.repository.setCapacity(50);
+		TraceableRequest request = createRequest("GET");
+		List<List<HttpTrace>> added = new ArrayList<>();
+		Map<HttpTrace, Integer> writers = new IdentityHashMap<>();
+		for (int i = 0; i < 8; i++) {
+			List<HttpTrace> traces = new ArrayList<>();
+			for (int j = 0; j < 1000; j++) {
+				HttpTrace trace = new HttpTrace(request);
+				traces.add(trace);
+				writers.put(trace, i);
+			}
+			added.add(traces);
+		}
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<>();
+		for (List<HttpTrace> traces : added) {
+			Thread thread = new Thread(() -> {
+				try {
+					start.await();
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				for (HttpTrace trace : traces) {
+					this.repository.add(trace);
+					this.repository.findAll();
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		List<HttpTrace> survivors = new ArrayList<>(this.repository.findAll());
+		assertThat(survivors).hasSize(50);
+		Collections.reverse(survivors);
+		List<List<HttpTrace>> survivorsByWriter = new ArrayList<>();
+		for (int i = 0; i < added.size(); i++) {
+			survivorsByWriter.add(new ArrayList<>());
+		}
+		for (HttpTrace survivor : survivors) {
+			survivorsByWriter.get(writers.get(survivor)).add(survivor);
+		}
+		for (int i = 0; i < added.size(); i++) {
+			List<HttpTrace> traces = added.get(i);
+			List<HttpTrace> newest = traces.subList(traces.size() - survivorsByWriter.get(i).size(), traces.size());
+			assertThat(survivorsByWriter.get(i)).containsExactlyElementsOf(newest);
+		}
+	}
+
+	private TraceableRequest createRequest(String method) {
+		TraceableRequest request = mock(TraceableRequest.class);
+		given(request.getMethod()).willReturn(method);
+		return request;
+	}
+
+}
@@ -0,0 +1,413 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * A precomputed plan of the auto-configuration classes to import, as generated at build
+ * time by {@link AutoConfigurationImportPlanGenerator}. The plan holds the candidates
+ * and the outcomes of the {@link AutoConfigurationImportFilter filters} that only depend
+ * on the classpath, together with the order of the candidates that match. It is only
+ * used while the {@link #getFingerprint fingerprint} of the classpath is the same as when
+ * it was generated.
+ *
+ * @author Spring Contributor
+ */
+final class AutoConfigurationImportPlan {
+
+	static final String LOCATION = "META-INF/spring-autoconfigure-import-plan.properties";
+
+	private static final Log logger = LogFactory.getLog(AutoConfigurationImportPlan.class);
+
+	private static final String JAR_EXTENSION = ".jar";
+
+	private static final String JAR_SEPARATOR = "!/";
+
+	private static final String JAR_MODE_PREFIX = "spring-boot-jarmode-";
+
+	private static final String DIRECTORY = "<directory>";
+
+	private static final String[] FINGERPRINT_RESOURCES = { "META-INF/spring.factories",
+			"META-INF/spring-autoconfigure-metadata.properties" };
+
+	private static final String FINGERPRINT = "fingerprint";
+
+	private static final String CANDIDATES = "candidates";
+
+	private static final String IMPORTS = "imports";
+
+	private static final String FILTERS = "filters";
+
+	private static final String FILTERED_PREFIX = "filtered.";
+
+	private final String fingerprint;
+
+	private final List<String> candidates;
+
+	private final List<String> imports;
+
+	private final Set<String> filters;
+
+	private final Map<String, FilterOutcome> filtered;
+
+	AutoConfigurationImportPlan(String fingerprint, List<String> candidates, List<String> imports,
+			Set<String> filters, Map<String, FilterOutcome> filtered) {
+		this.fingerprint = fingerprint;
+		this.candidates = Collections.unmodifiableList(candidates);
+		this.imports = Collections.unmodifiableList(imports);
+		this.filters = Collections.unmodifiableSet(filters);
+		this.filtered = Collections.unmodifiableMap(filtered);
+	}
+
+	String getFingerprint() {
+		return this.fingerprint;
+	}
+
+	/**
+	 * Return all auto-configuration candidates, before any filtering.
+	 * @return the candidates
+	 */
+	List<String> getCandidates() {
+		return this.candidates;
+	}
+
+	/**
+	 * Return the candidates that matched every planned filter, in priority order.
+	 * @return the imports
+	 */
+	List<String> getImports() {
+		return this.imports;
+	}
+
+	/**
+	 * Return the planned imports that are also contained in the given configurations, in
+	 * priority order.
+	 * @param configurations the configurations to retain
+	 * @return the retained imports
+	 */
+	List<String> getImports(Collection<String> configurations) {
+		Set<String> retained = new HashSet<>(configurations);
+		List<String> imports = new ArrayList<>(this.imports.size());
+		for (String candidate : this.imports) {
+			if (retained.contains(candidate)) {
+				imports.add(candidate);
+			}
+		}
+		return imports;
+	}
+
+	/**
+	 * Return whether the outcomes of the given filter are part of the plan.
+	 * @param filter the filter
+	 * @return if the filter was planned
+	 */
+	boolean isPlanned(AutoConfigurationImportFilter filter) {
+		return this.filters.contains(filter.getClass().getName());
+	}
+
+	/**
+	 * Return the outcome of the given filter for the given candidate if the candidate was
+	 * filtered by it.
+	 * @param candidate the candidate
+	 * @param filter the filter
+	 * @return the no match outcome or {@code null}
+	 */
+	ConditionOutcome getOutcome(String candidate, AutoConfigurationImportFilter filter) {
+		FilterOutcome outcome = this.filtered.get(candidate);
+		if (outcome == null || !outcome.filter.equals(filter.getClass().getName())) {
+			return null;
+		}
+		return ConditionOutcome.noMatch(outcome.message);
+	}
+
+	void writeTo(File file) throws IOException {
+		File parent = file.getParentFile();
+		if (parent != null && !parent.exists() && !parent.mkdirs()) {
+			throw new IOException("Unable to create directory " + parent);
+		}
+		try (OutputStream outputStream = new FileOutputStream(file)) {
+			writeTo(outputStream);
+		}
+	}
+
+	/**
+	 * Write the plan in a properties format that, unlike {@link Properties#store}, has a
+	 * stable order and no timestamp so that the same classpath produces the same file.
+	 * @param outputStream the output stream
+	 * @throws IOException on write error
+	 */
+	void writeTo(OutputStream outputStream) throws IOException {
+		Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+		writeProperty(writer, FINGERPRINT, this.fingerprint);
+		writeProperty(writer, CANDIDATES, StringUtils.collectionToCommaDelimitedString(this.candidates));
+		writeProperty(writer, IMPORTS, StringUtils.collectionToCommaDelimitedString(this.imports));
+		writeProperty(writer, FILTERS, StringUtils.collectionToCommaDelimitedString(new TreeSet<>(this.filters)));
+		for (Map.Entry<String, FilterOutcome> entry : this.filtered.entrySet()) {
+			FilterOutcome outcome = entry.getValue();
+			writeProperty(writer, FILTERED_PREFIX + entry.getKey(), outcome.filter + "," + outcome.message);
+		}
+		writer.flush();
+	}
+
+	private void writeProperty(Writer writer, String name, String value) throws IOException {
+		writer.write(name);
+		writer.write('=');
+		for (char ch : value.toCharArray()) {
+			switch (ch) {
+			case '\\':
+				writer.write("\\\\");
+				break;
+			case '\n':
+				writer.write("\\n");
+				break;
+			case '\r':
+				writer.write("\\r");
+				break;
+			default:
+				writer.write(ch);
+			}
+		}
+		writer.write('\n');
+	}
+
+	/**
+	 * Load the plan from the given class loader, returning {@code null} if there is no
+	 * plan or if the classpath has changed since it was generated.
+	 * @param classLoader the class loader
+	 * @return the plan or {@code null}
+	 */
+	static AutoConfigurationImportPlan load(ClassLoader classLoader) {
+		URL location = (classLoader != null) ? classLoader.getResource(LOCATION)
+				: ClassLoader.getSystemResource(LOCATION);
+		if (location == null) {
+			return null;
+		}
+		try {
+			AutoConfigurationImportPlan plan = load(location.openStream());
+			String fingerprint = getFingerprint(classLoader, location);
+			if (!fingerprint.equals(plan.getFingerprint())) {
+				logger.debug("Ignoring auto-configuration import plan " + location
+						+ " as the classpath has changed since it was generated");
+				return null;
+			}
+			return plan;
+		}
+		catch (Exception ex) {
+			logger.warn("Unable to load auto-configuration import plan " + location, ex);
+			return null;
+		}
+	}
+
+	static AutoConfigurationImportPlan load(InputStream inputStream) throws IOException {
+		Properties properties = new Properties();
+		try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+			properties.load(reader);
+		}
+		Map<String, FilterOutcome> filtered = new LinkedHashMap<>();
+		for (String name : properties.stringPropertyNames()) {
+			if (name.startsWith(FILTERED_PREFIX)) {
+				String value = properties.getProperty(name);
+				int separator = value.indexOf(',');
+				String filter = (separator != -1) ? value.substring(0, separator) : value;
+				String message = (separator != -1) ? value.substring(separator + 1) : "";
+				filtered.put(name.substring(FILTERED_PREFIX.length()), new FilterOutcome(filter, message));
+			}
+		}
+		return new AutoConfigurationImportPlan(properties.getProperty(FINGERPRINT, ""),
+				getList(properties, CANDIDATES), getList(properties, IMPORTS),
+				new LinkedHashSet<>(getList(properties, FILTERS)), filtered);
+	}
+
+	private static List<String> getList(Properties properties, String name) {
+		return new ArrayList<>(StringUtils.commaDelimitedListToSet(properties.getProperty(name)));
+	}
+
+	/**
+	 * Return a fingerprint of the classpath of the given class loader. The fingerprint is
+	 * made from the names of the jars on the classpath and from the contents of the
+	 * {@code spring.factories} and auto-configuration metadata resources of each jar and
+	 * directory, so that it changes when a jar is added, removed or renamed and when the
+	 * auto-configuration that a jar or directory provides changes. Resources are
+	 * identified by the name of their jar, or as belonging to a directory, so that the
+	 * fingerprint is the same when the jars and directories are packaged in an archive as
+	 * when they are used in place. The archive that contains the plan, and jars that are
+	 * only used by jar modes, are ignored as they are not part of the classpath that the
+	 * plan was generated from.
+	 * @param classLoader the class loader
+	 * @param location the location of the plan or {@code null}
+	 * @return the fingerprint
+	 * @throws IOException if a resource cannot be read
+	 */
+	static String getFingerprint(ClassLoader classLoader, URL location) throws IOException {
+		String planArchive = (location != null) ? getContainingArchiveName(location.toString()) : null;
+		Set<String> names = new TreeSet<>();
+		for (String entry : getClassPath(classLoader)) {
+			String name = getArchiveName(entry);
+			if (isIncluded(name, planArchive)) {
+				names.add(name);
+			}
+		}
+		MessageDigest digest = getMessageDigest();
+		for (String name : names) {
+			update(digest, name);
+		}
+		for (String resourceName : FINGERPRINT_RESOURCES) {
+			update(digest, resourceName);
+			for (String resource : getResourceDigests(classLoader, resourceName, planArchive)) {
+				update(digest, resource);
+			}
+		}
+		return toHexString(digest.digest());
+	}
+
+	private static Set<String> getResourceDigests(ClassLoader classLoader, String resourceName, String planArchive)
+			throws IOException {
+		Enumeration<URL> resources = (classLoader != null) ? classLoader.getResources(resourceName)
+				: ClassLoader.getSystemResources(resourceName);
+		Set<String> digests = new TreeSet<>();
+		while (resources.hasMoreElements()) {
+			URL resource = resources.nextElement();
+			String url = resource.toString();
+			String name = getArchiveName(url.substring(0, url.length() - resourceName.length()));
+			if (name == null || isIncluded(name, planArchive)) {
+				MessageDigest digest = getMessageDigest();
+				try (InputStream inputStream = resource.openStream()) {
+					digest.update(StreamUtils.copyToByteArray(inputStream));
+				}
+				String owner = (name != null) ? name : DIRECTORY;
+				digests.add(owner + "=" + toHexString(digest.digest()));
+			}
+		}
+		return digests;
+	}
+
+	private static boolean isIncluded(String name, String planArchive) {
+		return name != null && !name.equals(planArchive) && !name.startsWith(JAR_MODE_PREFIX);
+	}
+
+	private static MessageDigest getMessageDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) '\n');
+	}
+
+	private static String toHexString(byte[] bytes) {
+		StringBuilder hex = new StringBuilder();
+		for (byte b : bytes) {
+			hex.append(String.format("%02x", b));
+		}
+		return hex.toString();
+	}
+
+	private static Set<String> getClassPath(ClassLoader classLoader) {
+		Set<String> classPath = new LinkedHashSet<>();
+		ClassLoader systemClassLoader = ClassLoader.getSystemClassLoader();
+		ClassLoader platformClassLoader = (systemClassLoader != null) ? systemClassLoader.getParent() : null;
+		ClassLoader candidate = classLoader;
+		while (candidate != null && candidate != platformClassLoader) {
+			if (candidate instanceof URLClassLoader) {
+				for (URL url : ((URLClassLoader) candidate).getURLs()) {
+					classPath.add(url.toString());
+				}
+			}
+			candidate = candidate.getParent();
+		}
+		String javaClassPath = System.getProperty("java.class.path");
+		if (StringUtils.hasLength(javaClassPath)) {
+			Collections.addAll(classPath, StringUtils.delimitedListToStringArray(javaClassPath, File.pathSeparator));
+		}
+		return classPath;
+	}
+
+	private static String getArchiveName(String entry) {
+		String path = StringUtils.replace(entry, "\\", "/");
+		while (path.endsWith("/")) {
+			path = path.substring(0, path.length() - (path.endsWith(JAR_SEPARATOR) ? JAR_SEPARATOR.length() : 1));
+		}
+		int separator = path.lastIndexOf(JAR_SEPARATOR);
+		path = (separator != -1) ? path.substring(separator + JAR_SEPARATOR.length()) : path;
+		return path.endsWith(JAR_EXTENSION) ? StringUtils.getFilename(path) : null;
+	}
+
+	private static String getContainingArchiveName(String location) {
+		String[] segments = StringUtils.delimitedListToStringArray(location, JAR_SEPARATOR);
+		for (int i = segments.length - 2; i >= 0; i--) {
+			if (segments[i].endsWith(JAR_EXTENSION)) {
+				return StringUtils.getFilename(segments[i]);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * The outcome of a filter that did not match a candidate.
+	 */
+	static final class FilterOutcome {
+
+		private final String filter;
+
+		private final String message;
+
+		FilterOutcome(String filter, String message) {
+			this.filter = filter;
+			this.message = (message != null) ? message : "";
+		}
+
+	}
+
+}
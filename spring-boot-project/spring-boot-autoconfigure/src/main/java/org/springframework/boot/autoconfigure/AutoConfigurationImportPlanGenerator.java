@@ -0,0 +1,151 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationImportPlan.FilterOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionEvaluationReport;
+import org.springframework.boot.autoconfigure.condition.ConditionEvaluationReport.ConditionAndOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionEvaluationReport.ConditionAndOutcomes;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.ResourceLoaderAware;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Generates a plan of the auto-configuration classes to import for the classpath that it
+ * is run with. The plan is written to {@code
+ * META-INF/spring-autoconfigure-import-plan.properties} and is used by
+ * {@link EnableAutoConfiguration @EnableAutoConfiguration} to skip loading, filtering
+ * and sorting the candidates on startup for as long as the classpath is unchanged.
+ * <p>
+ * Only {@link AutoConfigurationImportFilter filters} that are not
+ * {@link EnvironmentAware} or {@link ResourceLoaderAware} are planned as their outcomes
+ * cannot depend on anything but the classpath. Other filters are still applied on
+ * startup.
+ * <p>
+ * Typically run by the Spring Boot Maven and Gradle plugins with the runtime classpath
+ * of the application.
+ *
+ * @author Spring Contributor
+ * @since 2.5.0
+ */
+public class AutoConfigurationImportPlanGenerator {
+
+	private final ClassLoader classLoader;
+
+	/**
+	 * Create a new generator for the classpath of the given class loader.
+	 * @param classLoader the class loader
+	 */
+	public AutoConfigurationImportPlanGenerator(ClassLoader classLoader) {
+		this.classLoader = classLoader;
+	}
+
+	/**
+	 * Generate the plan and write it to the given file.
+	 * @param file the file to write
+	 * @throws IOException if the plan cannot be written
+	 */
+	public void generate(File file) throws IOException {
+		generate().writeTo(file);
+	}
+
+	AutoConfigurationImportPlan generate() throws IOException {
+		List<String> candidates = new ArrayList<>(new LinkedHashSet<>(
+				SpringFactoriesLoader.loadFactoryNames(EnableAutoConfiguration.class, this.classLoader)));
+		AutoConfigurationMetadata autoConfigurationMetadata = AutoConfigurationMetadataLoader
+				.loadMetadata(this.classLoader);
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.setBeanClassLoader(this.classLoader);
+		String[] remaining = StringUtils.toStringArray(candidates);
+		Set<String> filters = new LinkedHashSet<>();
+		Map<String, FilterOutcome> filtered = new LinkedHashMap<>();
+		for (AutoConfigurationImportFilter filter : getPlannableFilters(beanFactory)) {
+			filters.add(filter.getClass().getName());
+			boolean[] match = filter.match(remaining, autoConfigurationMetadata);
+			for (int i = 0; i < match.length; i++) {
+				if (!match[i] && remaining[i] != null) {
+					filtered.put(remaining[i], new FilterOutcome(filter.getClass().getName(),
+							getMessage(beanFactory, remaining[i], filter)));
+					remaining[i] = null;
+				}
+			}
+		}
+		List<String> imports = new ArrayList<>(Arrays.asList(remaining));
+		imports.removeIf((candidate) -> candidate == null);
+		imports = new AutoConfigurationSorter(new CachingMetadataReaderFactory(this.classLoader),
+				autoConfigurationMetadata).getInPriorityOrder(imports);
+		Map<String, FilterOutcome> orderedFiltered = new LinkedHashMap<>();
+		candidates.stream().filter(filtered::containsKey)
+				.forEach((candidate) -> orderedFiltered.put(candidate, filtered.get(candidate)));
+		return new AutoConfigurationImportPlan(AutoConfigurationImportPlan.getFingerprint(this.classLoader, null),
+				candidates, imports, filters, orderedFiltered);
+	}
+
+	private List<AutoConfigurationImportFilter> getPlannableFilters(DefaultListableBeanFactory beanFactory) {
+		List<AutoConfigurationImportFilter> filters = new ArrayList<>();
+		for (AutoConfigurationImportFilter filter : SpringFactoriesLoader
+				.loadFactories(AutoConfigurationImportFilter.class, this.classLoader)) {
+			if (!(filter instanceof EnvironmentAware) && !(filter instanceof ResourceLoaderAware)) {
+				if (filter instanceof BeanClassLoaderAware) {
+					((BeanClassLoaderAware) filter).setBeanClassLoader(this.classLoader);
+				}
+				if (filter instanceof BeanFactoryAware) {
+					((BeanFactoryAware) filter).setBeanFactory(beanFactory);
+				}
+				filters.add(filter);
+			}
+		}
+		return filters;
+	}
+
+	private String getMessage(DefaultListableBeanFactory beanFactory, String candidate,
+			AutoConfigurationImportFilter filter) {
+		ConditionAndOutcomes conditionAndOutcomes = ConditionEvaluationReport.get(beanFactory)
+				.getConditionAndOutcomesBySource().get(candidate);
+		if (conditionAndOutcomes != null) {
+			for (ConditionAndOutcome conditionAndOutcome : conditionAndOutcomes) {
+				if (conditionAndOutcome.getCondition() == filter) {
+					return conditionAndOutcome.getOutcome().getMessage();
+				}
+			}
+		}
+		return null;
+	}
+
+	public static void main(String[] args) throws IOException {
+		Assert.state(args.length == 1, "Usage: AutoConfigurationImportPlanGenerator <output file>");
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		new AutoConfigurationImportPlanGenerator(classLoader).generate(new File(args[0]));
+	}
+
+}
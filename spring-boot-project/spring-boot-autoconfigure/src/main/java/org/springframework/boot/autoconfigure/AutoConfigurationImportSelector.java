@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -40,9 +40,12 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionEvaluationReport;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.context.ResourceLoaderAware;
+import org.springframework.context.annotation.Condition;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DeferredImportSelector;
 import org.springframework.core.Ordered;
@@ -62,6 +65,10 @@ import org.springframework.util.StringUtils;
  * {@link DeferredImportSelector} to handle {@link EnableAutoConfiguration
  * auto-configuration}. This class can also be subclassed if a custom variant of
  * {@link EnableAutoConfiguration @EnableAutoConfiguration} is needed.
+ * <p>
+ * If the classpath contains an import plan generated by
+ * {@link AutoConfigurationImportPlanGenerator} for the same classpath, its candidates,
+ * filter outcomes and order are used rather than being determined on startup.
  *
  * @author Phillip Webb
  * @author Andy Wilkinson
@@ -91,6 +98,10 @@ public class AutoConfigurationImportSelector implements DeferredImportSelector,
 
 	private ConfigurationClassFilter configurationClassFilter;
 
+	private AutoConfigurationImportPlan importPlan;
+
+	private boolean importPlanLoaded;
+
 	@Override
 	public String[] selectImports(AnnotationMetadata annotationMetadata) {
 		if (!isEnabled(annotationMetadata)) {
@@ -120,8 +131,10 @@ public class AutoConfigurationImportSelector implements DeferredImportSelector,
 			return EMPTY_ENTRY;
 		}
 		AnnotationAttributes attributes = getAttributes(annotationMetadata);
+		AutoConfigurationImportPlan importPlan = getImportPlan();
 		//搜索指定classLoader下的所有的META-INF/spring.factories文件，并加载其中以 EnableAutoConfiguration.class的全限定类名为 key的条目（如果一个条目有多个value，逗号是分隔符）
-		List<String> configurations = getCandidateConfigurations(annotationMetadata, attributes);
+		List<String> configurations = (importPlan != null) ? new ArrayList<>(importPlan.getCandidates())
+				: getCandidateConfigurations(annotationMetadata, attributes);
 		//由于多个spring.factories文件中的＠EnableAutoConfiguration条目可能存在重复定义的情况，所以去重
 		configurations = removeDuplicates(configurations);
 		//根据的＠EnableAutoConfiguration注解的exclude和excludeName属性以及外部配置中的spring.autoconfigure.exclude属性来构造 排除列表
@@ -132,9 +145,29 @@ public class AutoConfigurationImportSelector implements DeferredImportSelector,
 		//移除exclusions之后的configurations还不是最终的候选名单，还要再次过滤
 		//过滤器也是通过 Spring工厂加载器(SpringFactoriesLoader)通过loadFactoryNames方法从META-INF/spring.factories加载的key为AutoConfigurationImportFilter.class全限定类名 的条目（只要有一个AutoConfigurationImportFilter不满足条件，就过滤）
 		//目前在autoconfigure包配置了三个AutoConfigurationImportFilter，OnBeanCondition、OnClassCondition、OnWebApplicationCondition
-		configurations = getConfigurationClassFilter().filter(configurations);
+		configurations = filter(configurations, importPlan);
 		fireAutoConfigurationImportEvents(configurations, exclusions);
-		return new AutoConfigurationEntry(configurations, exclusions);
+		return new AutoConfigurationEntry(configurations, exclusions, importPlan != null);
+	}
+
+	private List<String> filter(List<String> configurations, AutoConfigurationImportPlan importPlan) {
+		if (importPlan == null) {
+			return getConfigurationClassFilter().filter(configurations);
+		}
+		ConditionEvaluationReport report = ConditionEvaluationReport.find(this.beanFactory);
+		return getConfigurationClassFilter().filter(configurations, importPlan, report);
+	}
+
+	private AutoConfigurationImportPlan getImportPlan() {
+		// Subclasses may provide different candidates to those that were planned
+		if (getClass() != AutoConfigurationImportSelector.class) {
+			return null;
+		}
+		if (!this.importPlanLoaded) {
+			this.importPlan = AutoConfigurationImportPlan.load(this.beanClassLoader);
+			this.importPlanLoaded = true;
+		}
+		return this.importPlan;
 	}
 
 	//Group类
@@ -372,10 +405,41 @@ public class AutoConfigurationImportSelector implements DeferredImportSelector,
 		}
 
 		List<String> filter(List<String> configurations) {
+			return filter(configurations, this.filters);
+		}
+
+		/**
+		 * Filter the given configurations using the outcomes of the given plan for the
+		 * filters that it planned and applying any other filters.
+		 * @param configurations the configurations to filter
+		 * @param importPlan the import plan
+		 * @param report the report used to record the planned outcomes or {@code null}
+		 * @return the filtered configurations in planned order
+		 */
+		List<String> filter(List<String> configurations, AutoConfigurationImportPlan importPlan,
+				ConditionEvaluationReport report) {
+			List<AutoConfigurationImportFilter> unplannedFilters = new ArrayList<>();
+			for (AutoConfigurationImportFilter filter : this.filters) {
+				if (!importPlan.isPlanned(filter)) {
+					unplannedFilters.add(filter);
+				}
+				else if (report != null && filter instanceof Condition) {
+					for (String configuration : configurations) {
+						ConditionOutcome outcome = importPlan.getOutcome(configuration, filter);
+						if (outcome != null) {
+							report.recordConditionEvaluation(configuration, (Condition) filter, outcome);
+						}
+					}
+				}
+			}
+			return filter(importPlan.getImports(configurations), unplannedFilters);
+		}
+
+		private List<String> filter(List<String> configurations, List<AutoConfigurationImportFilter> filters) {
 			long startTime = System.nanoTime();
 			String[] candidates = StringUtils.toStringArray(configurations);
 			boolean skipped = false;
-			for (AutoConfigurationImportFilter filter : this.filters) {
+			for (AutoConfigurationImportFilter filter : filters) {
 				boolean[] match = filter.match(candidates, this.autoConfigurationMetadata);
 				for (int i = 0; i < match.length; i++) {
 					if (!match[i]) {
@@ -467,7 +531,11 @@ public class AutoConfigurationImportSelector implements DeferredImportSelector,
 			processedConfigurations.removeAll(allExclusions);
 
 			//将 搜索到的 auto configuration类重新排序
-			return sortAutoConfigurations(processedConfigurations, getAutoConfigurationMetadata()).stream()
+			// A single planned entry is already in priority order
+			boolean planned = this.autoConfigurationEntries.size() == 1 && this.autoConfigurationEntries.get(0).planned;
+			List<String> sortedConfigurations = planned ? new ArrayList<>(processedConfigurations)
+					: sortAutoConfigurations(processedConfigurations, getAutoConfigurationMetadata());
+			return sortedConfigurations.stream()
 					.map((importClassName) -> new Entry(this.entries.get(importClassName), importClassName))
 					.collect(Collectors.toList());
 		}
@@ -503,9 +571,12 @@ public class AutoConfigurationImportSelector implements DeferredImportSelector,
 
 		private final Set<String> exclusions;
 
+		private final boolean planned;
+
 		private AutoConfigurationEntry() {
 			this.configurations = Collections.emptyList();
 			this.exclusions = Collections.emptySet();
+			this.planned = false;
 		}
 
 		/**
@@ -515,8 +586,14 @@ public class AutoConfigurationImportSelector implements DeferredImportSelector,
 		 * @param exclusions the exclusions that were applied to the original list
 		 */
 		AutoConfigurationEntry(Collection<String> configurations, Collection<String> exclusions) {
+			this(configurations, exclusions, false);
+		}
+
+		private AutoConfigurationEntry(Collection<String> configurations, Collection<String> exclusions,
+				boolean planned) {
 			this.configurations = new ArrayList<>(configurations);
 			this.exclusions = new HashSet<>(exclusions);
+			this.planned = planned;
 		}
 
 		public List<String> getConfigurations() {
@@ -17,12 +17,21 @@
 package org.springframework.boot.autoconfigure;
 
 import java.nio.charset.StandardCharsets;
-import java.util.concurrent.CountDownLatch;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.validation.Configuration;
 import javax.validation.Validation;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
 import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
 import org.springframework.boot.context.event.ApplicationFailedEvent;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
@@ -31,14 +40,28 @@ import org.springframework.boot.context.logging.LoggingApplicationListener;
 import org.springframework.context.ApplicationListener;
 import org.springframework.core.NativeDetector;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.format.support.DefaultFormattingConversionService;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.converter.support.AllEncompassingFormHttpMessageConverter;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 /**
- * {@link ApplicationListener} to trigger early initialization in a background thread of
+ * {@link ApplicationListener} to trigger early initialization in background threads of
  * time consuming tasks.
  * <p>
+ * In addition to its own initialization of the conversion service
+ * ({@code conversionService}), validation ({@code validation}), message converters
+ * ({@code messageConverters}), Jackson ({@code jackson}) and charsets ({@code charset}),
+ * the {@link Preinitializer} tasks that are registered in {@code spring.factories} are
+ * run. Tasks are run on a pool of at most {@link #MAX_THREADS_PROPERTY_NAME} threads,
+ * each one once the tasks that it depends on have completed. The time taken by each task
+ * is recorded as a tag of the {@code spring.boot.application.background-preinitialized}
+ * {@link StartupStep startup step} once the application is ready.
+ * <p>
  * Set the {@link #IGNORE_BACKGROUNDPREINITIALIZER_PROPERTY_NAME} system property to
  * {@code true} to disable this mechanism and let such initialization happen in the
  * foreground.
@@ -61,9 +84,19 @@ public class BackgroundPreinitializer implements ApplicationListener<SpringAppli
 	 */
 	public static final String IGNORE_BACKGROUNDPREINITIALIZER_PROPERTY_NAME = "spring.backgroundpreinitializer.ignore";
 
+	/**
+	 * Property that configures the maximum number of threads used to run pre
+	 * initialization. Defaults to one less than the number of available processors, up
+	 * to 4.
+	 * @since 2.5.0
+	 */
+	public static final String MAX_THREADS_PROPERTY_NAME = "spring.backgroundpreinitializer.max-threads";
+
+	private static final Log logger = LogFactory.getLog(BackgroundPreinitializer.class);
+
 	private static final AtomicBoolean preinitializationStarted = new AtomicBoolean();
 
-	private static final CountDownLatch preinitializationComplete = new CountDownLatch(1);
+	private static volatile PreinitializationTasks preinitializationTasks;
 
 	private static final boolean ENABLED;
 
@@ -72,6 +105,19 @@ public class BackgroundPreinitializer implements ApplicationListener<SpringAppli
 				&& Runtime.getRuntime().availableProcessors() > 1;
 	}
 
+	/**
+	 * Wait for the {@link Preinitializer} tasks with the given names to complete. Returns
+	 * immediately if background preinitialization is disabled or has not been started.
+	 * @param names the names of the tasks
+	 * @since 2.5.0
+	 */
+	public static void await(String... names) {
+		PreinitializationTasks tasks = preinitializationTasks;
+		if (tasks != null) {
+			tasks.await(names);
+		}
+	}
+
 	@Override
 	public void onApplicationEvent(SpringApplicationEvent event) {
 		if (!ENABLED) {
@@ -79,60 +125,67 @@ public class BackgroundPreinitializer implements ApplicationListener<SpringAppli
 		}
 		if (event instanceof ApplicationEnvironmentPreparedEvent
 				&& preinitializationStarted.compareAndSet(false, true)) {
-			performPreinitialization();
+			performPreinitialization((ApplicationEnvironmentPreparedEvent) event);
 		}
 		if ((event instanceof ApplicationReadyEvent || event instanceof ApplicationFailedEvent)
 				&& preinitializationStarted.get()) {
-			try {
-				preinitializationComplete.await();
-			}
-			catch (InterruptedException ex) {
-				Thread.currentThread().interrupt();
+			PreinitializationTasks tasks = preinitializationTasks;
+			if (tasks != null) {
+				tasks.awaitAll();
+				recordTimings(tasks.getTimings(), event.getSpringApplication().getApplicationStartup());
 			}
 		}
 	}
 
-	private void performPreinitialization() {
-		try {
-			Thread thread = new Thread(new Runnable() {
-
-				@Override
-				public void run() {
-					runSafely(new ConversionServiceInitializer());
-					runSafely(new ValidationInitializer());
-					runSafely(new MessageConverterInitializer());
-					runSafely(new JacksonInitializer());
-					runSafely(new CharsetInitializer());
-					preinitializationComplete.countDown();
-				}
-
-				public void runSafely(Runnable runnable) {
-					try {
-						runnable.run();
-					}
-					catch (Throwable ex) {
-						// Ignore
-					}
-				}
-
-			}, "background-preinit");
-			thread.start();
-		}
-		catch (Exception ex) {
-			// This will fail on GAE where creating threads is prohibited. We can safely
-			// continue but startup will be slightly slower as the initialization will now
-			// happen on the main thread.
-			preinitializationComplete.countDown();
-		}
+	private void performPreinitialization(ApplicationEnvironmentPreparedEvent event) {
+		List<Preinitializer> preinitializers = new ArrayList<>();
+		preinitializers.add(new ConversionServiceInitializer());
+		preinitializers.add(new ValidationInitializer());
+		preinitializers.add(new MessageConverterInitializer());
+		preinitializers.add(new JacksonInitializer());
+		preinitializers.add(new CharsetInitializer());
+		preinitializers.addAll(SpringFactoriesLoader.loadFactories(Preinitializer.class,
+				event.getSpringApplication().getClassLoader()));
+		PreinitializationTasks tasks = new PreinitializationTasks(preinitializers);
+		preinitializationTasks = tasks;
+		int threads = getMaxThreads(event.getEnvironment(), tasks.getNames().size());
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(), new CustomizableThreadFactory("background-preinit-"));
+		// If threads cannot be created (as on GAE) the tasks complete without running. We
+		// can safely continue but startup will be slightly slower as the initialization
+		// will now happen on the main thread.
+		tasks.start(executor).whenComplete((result, ex) -> executor.shutdown());
+	}
+
+	private int getMaxThreads(ConfigurableEnvironment environment, int tasks) {
+		int defaultMaxThreads = Math.min(Runtime.getRuntime().availableProcessors() - 1, 4);
+		int maxThreads = environment.getProperty(MAX_THREADS_PROPERTY_NAME, Integer.class, defaultMaxThreads);
+		return Math.max(1, Math.min(maxThreads, tasks));
+	}
+
+	private void recordTimings(Map<String, Duration> timings, ApplicationStartup applicationStartup) {
+		StartupStep step = applicationStartup.start("spring.boot.application.background-preinitialized");
+		timings.forEach((name, duration) -> {
+			step.tag(name, duration.toMillis() + "ms");
+			if (logger.isDebugEnabled()) {
+				logger.debug("Preinitializer '" + name + "' completed in " + duration.toMillis() + "ms");
+			}
+		});
+		step.end();
 	}
 
 	/**
 	 * Early initializer for Spring MessageConverters.
 	 */
-	private static class MessageConverterInitializer implements Runnable {
+	private static class MessageConverterInitializer implements Preinitializer {
 
 		@Override
-		public void run() {
+		public String getName() {
+			return "messageConverters";
+		}
+
+		@Override
+		public void preinitialize() {
 			new AllEncompassingFormHttpMessageConverter();
 		}
 
@@ -141,10 +194,15 @@ public class BackgroundPreinitializer implements ApplicationListener<SpringAppli
 	/**
 	 * Early initializer for javax.validation.
 	 */
-	private static class ValidationInitializer implements Runnable {
+	private static class ValidationInitializer implements Preinitializer {
 
 		@Override
-		public void run() {
+		public String getName() {
+			return "validation";
+		}
+
+		@Override
+		public void preinitialize() {
 			Configuration<?> configuration = Validation.byDefaultProvider().configure();
 			configuration.buildValidatorFactory().getValidator();
 		}
@@ -154,10 +212,15 @@ public class BackgroundPreinitializer implements ApplicationListener<SpringAppli
 	/**
 	 * Early initializer for Jackson.
 	 */
-	private static class JacksonInitializer implements Runnable {
+	private static class JacksonInitializer implements Preinitializer {
+
+		@Override
+		public String getName() {
+			return "jackson";
+		}
 
 		@Override
-		public void run() {
+		public void preinitialize() {
 			Jackson2ObjectMapperBuilder.json().build();
 		}
 
@@ -166,19 +229,32 @@ public class BackgroundPreinitializer implements ApplicationListener<SpringAppli
 	/**
 	 * Early initializer for Spring's ConversionService.
 	 */
-	private static class ConversionServiceInitializer implements Runnable {
+	private static class ConversionServiceInitializer implements Preinitializer {
 
 		@Override
-		public void run() {
+		public String getName() {
+			return "conversionService";
+		}
+
+		@Override
+		public void preinitialize() {
 			new DefaultFormattingConversionService();
 		}
 
 	}
 
-	private static class CharsetInitializer implements Runnable {
+	/**
+	 * Early initializer for charsets.
+	 */
+	private static class CharsetInitializer implements Preinitializer {
+
+		@Override
+		public String getName() {
+			return "charset";
+		}
 
 		@Override
-		public void run() {
+		public void preinitialize() {
 			StandardCharsets.UTF_8.name();
 		}
 
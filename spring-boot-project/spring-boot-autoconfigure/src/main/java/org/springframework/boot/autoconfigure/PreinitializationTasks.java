@@ -0,0 +1,186 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.Assert;
+
+/**
+ * The {@link Preinitializer} tasks run by the {@link BackgroundPreinitializer}, ordered
+ * so that each task follows the tasks that it depends on.
+ *
+ * @author Spring Contributor
+ */
+final class PreinitializationTasks {
+
+	private static final Log logger = LogFactory.getLog(PreinitializationTasks.class);
+
+	private final Map<String, Preinitializer> preinitializers;
+
+	private final Map<String, Long> timings = new ConcurrentHashMap<>();
+
+	private volatile Map<String, CompletableFuture<?>> futures = Collections.emptyMap();
+
+	PreinitializationTasks(Collection<? extends Preinitializer> preinitializers) {
+		Map<String, Preinitializer> byName = new LinkedHashMap<>();
+		for (Preinitializer preinitializer : preinitializers) {
+			String name = preinitializer.getName();
+			Assert.state(byName.putIfAbsent(name, preinitializer) == null,
+					() -> "Duplicate preinitializer name '" + name + "'");
+		}
+		this.preinitializers = sort(byName);
+	}
+
+	private Map<String, Preinitializer> sort(Map<String, Preinitializer> byName) {
+		Map<String, Preinitializer> sorted = new LinkedHashMap<>();
+		Set<String> processing = new LinkedHashSet<>();
+		for (String name : byName.keySet()) {
+			doSort(name, byName, sorted, processing);
+		}
+		return Collections.unmodifiableMap(sorted);
+	}
+
+	private void doSort(String name, Map<String, Preinitializer> byName, Map<String, Preinitializer> sorted,
+			Set<String> processing) {
+		if (sorted.containsKey(name)) {
+			return;
+		}
+		Preinitializer preinitializer = byName.get(name);
+		processing.add(name);
+		for (String dependsOn : preinitializer.getDependsOn()) {
+			if (byName.containsKey(dependsOn)) {
+				Assert.state(!processing.contains(dependsOn),
+						() -> "Preinitializer cycle detected between " + name + " and " + dependsOn);
+				doSort(dependsOn, byName, sorted, processing);
+			}
+		}
+		processing.remove(name);
+		sorted.put(name, preinitializer);
+	}
+
+	/**
+	 * Return the names of the tasks, in the order in which they are started.
+	 * @return the task names
+	 */
+	Set<String> getNames() {
+		return this.preinitializers.keySet();
+	}
+
+	/**
+	 * Start the tasks using the given executor. Each task is submitted as soon as all of
+	 * the tasks that it depends on have completed.
+	 * @param executor the executor
+	 * @return a future that completes once all the tasks have completed
+	 */
+	CompletableFuture<Void> start(Executor executor) {
+		Map<String, CompletableFuture<?>> futures = new LinkedHashMap<>();
+		for (Preinitializer preinitializer : this.preinitializers.values()) {
+			CompletableFuture<?>[] dependencies = preinitializer.getDependsOn().stream().map(futures::get)
+					.filter(Objects::nonNull).toArray(CompletableFuture[]::new);
+			futures.put(preinitializer.getName(), CompletableFuture.allOf(dependencies)
+					.handleAsync((result, ex) -> run(preinitializer), executor));
+		}
+		this.futures = futures;
+		return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]));
+	}
+
+	private Void run(Preinitializer preinitializer) {
+		long startTime = System.nanoTime();
+		try {
+			preinitializer.preinitialize();
+		}
+		catch (Throwable ex) {
+			// Ignore, the resources will be initialized in the foreground on first use
+			if (logger.isTraceEnabled()) {
+				logger.trace("Preinitializer '" + preinitializer.getName() + "' failed", ex);
+			}
+		}
+		finally {
+			this.timings.put(preinitializer.getName(), System.nanoTime() - startTime);
+		}
+		return null;
+	}
+
+	/**
+	 * Wait for the tasks with the given names to complete. Names of tasks that are not
+	 * registered are ignored.
+	 * @param names the names of the tasks
+	 */
+	void await(String... names) {
+		Map<String, CompletableFuture<?>> futures = this.futures;
+		for (String name : names) {
+			await(futures.get(name));
+		}
+	}
+
+	/**
+	 * Wait for all the tasks to complete.
+	 */
+	void awaitAll() {
+		for (CompletableFuture<?> future : this.futures.values()) {
+			await(future);
+		}
+	}
+
+	private void await(Future<?> future) {
+		if (future == null) {
+			return;
+		}
+		try {
+			future.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		catch (ExecutionException ex) {
+			// Ignore, the task could not be run
+		}
+	}
+
+	/**
+	 * Return the time taken by each of the tasks that have completed, in the order in
+	 * which they were started.
+	 * @return the timings of the completed tasks
+	 */
+	Map<String, Duration> getTimings() {
+		Map<String, Duration> timings = new LinkedHashMap<>();
+		for (String name : this.preinitializers.keySet()) {
+			Long nanos = this.timings.get(name);
+			if (nanos != null) {
+				timings.put(name, Duration.ofNanos(nanos));
+			}
+		}
+		return timings;
+	}
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Task that can be registered in {@code spring.factories} to initialize time consuming
+ * resources in the background, before they are first used by the application. Tasks are
+ * run by the {@link BackgroundPreinitializer} on a bounded pool of threads and may
+ * {@link #getDependsOn() depend} on other tasks, in which case they are only started once
+ * those tasks have completed.
+ * <p>
+ * Any failure of a task is ignored as the resources that it initializes will then be
+ * initialized in the foreground when they are first used.
+ *
+ * @author Spring Contributor
+ * @since 2.5.0
+ * @see BackgroundPreinitializer#await(String...)
+ */
+public interface Preinitializer {
+
+	/**
+	 * Return the unique name of the task.
+	 * @return the name of the task
+	 */
+	String getName();
+
+	/**
+	 * Return the names of the tasks that must complete before this task is run. Names of
+	 * tasks that are not registered are ignored.
+	 * @return the names of the tasks this task depends on
+	 */
+	default Set<String> getDependsOn() {
+		return Collections.emptySet();
+	}
+
+	/**
+	 * Perform the initialization.
+	 * @throws Exception on initialization failure
+	 */
+	void preinitialize() throws Exception;
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanClassLoaderAware;
@@ -33,12 +35,32 @@ import org.springframework.util.CollectionUtils;
 /**
  * Abstract base class for a {@link SpringBootCondition} that also implements
  * {@link AutoConfigurationImportFilter}.
+ * <p>
+ * Outcomes that are {@link #resolveOutcomes(String[], OutcomeResolver) resolved} for
+ * many auto-configuration classes are split into chunks, sized to the number of
+ * available processors, that are resolved on the {@link ForkJoinPool#commonPool()
+ * common pool}. Set the {@link #IGNORE_PARALLEL_PROPERTY_NAME} system property to
+ * {@code true} to resolve them on the calling thread instead.
  *
  * @author Phillip Webb
  */
 abstract class FilteringSpringBootCondition extends SpringBootCondition
 		implements AutoConfigurationImportFilter, BeanFactoryAware, BeanClassLoaderAware {
 
+	/**
+	 * System property that instructs Spring Boot not to resolve filtering outcomes in
+	 * parallel.
+	 */
+	static final String IGNORE_PARALLEL_PROPERTY_NAME = "spring.autoconfigure.filter.parallel.ignore";
+
+	/**
+	 * The minimum number of auto-configuration classes in a chunk. Smaller chunks cost
+	 * more to schedule than they save.
+	 */
+	private static final int MIN_CHUNK_SIZE = 16;
+
+	private final boolean parallel = !Boolean.getBoolean(IGNORE_PARALLEL_PROPERTY_NAME);
+
 	private BeanFactory beanFactory;
 
 	private ClassLoader beanClassLoader;
@@ -63,6 +85,65 @@ abstract class FilteringSpringBootCondition extends SpringBootCondition
 	protected abstract ConditionOutcome[] getOutcomes(String[] autoConfigurationClasses,
 			AutoConfigurationMetadata autoConfigurationMetadata);
 
+	/**
+	 * Resolve the outcome of each of the given auto-configuration classes, in parallel
+	 * when there are enough of them and more than one processor is available. The
+	 * outcomes are in the same order as the classes, however they were resolved.
+	 * @param autoConfigurationClasses the auto-configuration classes, some of which may
+	 * be {@code null}
+	 * @param outcomeResolver the resolver used for each non-null class
+	 * @return the outcomes
+	 */
+	protected final ConditionOutcome[] resolveOutcomes(String[] autoConfigurationClasses,
+			OutcomeResolver outcomeResolver) {
+		ConditionOutcome[] outcomes = new ConditionOutcome[autoConfigurationClasses.length];
+		int chunks = getChunks(outcomes.length);
+		if (chunks > 1) {
+			resolveOutcomesInParallel(autoConfigurationClasses, outcomeResolver, outcomes, chunks);
+		}
+		else {
+			resolveOutcomes(autoConfigurationClasses, 0, outcomes.length, outcomeResolver, outcomes);
+		}
+		return outcomes;
+	}
+
+	private int getChunks(int length) {
+		// Without a bean class loader, pool threads would fall back to their own context
+		// class loader rather than the caller's
+		if (!this.parallel || this.beanClassLoader == null) {
+			return 1;
+		}
+		int processors = Runtime.getRuntime().availableProcessors();
+		return Math.max(1, Math.min(processors, length / MIN_CHUNK_SIZE));
+	}
+
+	private void resolveOutcomesInParallel(String[] autoConfigurationClasses, OutcomeResolver outcomeResolver,
+			ConditionOutcome[] outcomes, int chunks) {
+		int chunkSize = (outcomes.length + chunks - 1) / chunks;
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks - 1);
+		for (int start = chunkSize; start < outcomes.length; start += chunkSize) {
+			int chunkStart = start;
+			int chunkEnd = Math.min(start + chunkSize, outcomes.length);
+			tasks.add(ForkJoinPool.commonPool().submit(() -> resolveOutcomes(autoConfigurationClasses, chunkStart,
+					chunkEnd, outcomeResolver, outcomes)));
+		}
+		resolveOutcomes(autoConfigurationClasses, 0, Math.min(chunkSize, outcomes.length), outcomeResolver,
+				outcomes);
+		for (ForkJoinTask<?> task : tasks) {
+			task.join();
+		}
+	}
+
+	private void resolveOutcomes(String[] autoConfigurationClasses, int start, int end,
+			OutcomeResolver outcomeResolver, ConditionOutcome[] outcomes) {
+		for (int i = start; i < end; i++) {
+			String autoConfigurationClass = autoConfigurationClasses[i];
+			if (autoConfigurationClass != null) {
+				outcomes[i] = outcomeResolver.resolveOutcome(autoConfigurationClass);
+			}
+		}
+	}
+
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 		this.beanFactory = beanFactory;
@@ -110,6 +191,21 @@ abstract class FilteringSpringBootCondition extends SpringBootCondition
 		return Class.forName(className);
 	}
 
+	/**
+	 * Strategy used to resolve the outcome for a single auto-configuration class.
+	 */
+	@FunctionalInterface
+	protected interface OutcomeResolver {
+
+		/**
+		 * Resolve the outcome for the given auto-configuration class.
+		 * @param autoConfigurationClass the auto-configuration class
+		 * @return the outcome or {@code null} if it cannot be determined
+		 */
+		ConditionOutcome resolveOutcome(String autoConfigurationClass);
+
+	}
+
 	protected enum ClassNameFilter {
 
 		PRESENT {
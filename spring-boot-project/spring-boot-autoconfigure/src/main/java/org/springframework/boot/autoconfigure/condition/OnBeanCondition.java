@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -84,20 +84,20 @@ class OnBeanCondition extends FilteringSpringBootCondition implements Configurat
 	@Override
 	protected final ConditionOutcome[] getOutcomes(String[] autoConfigurationClasses,
 			AutoConfigurationMetadata autoConfigurationMetadata) {
-		ConditionOutcome[] outcomes = new ConditionOutcome[autoConfigurationClasses.length];
-		for (int i = 0; i < outcomes.length; i++) {
-			String autoConfigurationClass = autoConfigurationClasses[i];
-			if (autoConfigurationClass != null) {
-				Set<String> onBeanTypes = autoConfigurationMetadata.getSet(autoConfigurationClass, "ConditionalOnBean");
-				outcomes[i] = getOutcome(onBeanTypes, ConditionalOnBean.class);
-				if (outcomes[i] == null) {
-					Set<String> onSingleCandidateTypes = autoConfigurationMetadata.getSet(autoConfigurationClass,
-							"ConditionalOnSingleCandidate");
-					outcomes[i] = getOutcome(onSingleCandidateTypes, ConditionalOnSingleCandidate.class);
-				}
-			}
-		}
-		return outcomes;
+		return resolveOutcomes(autoConfigurationClasses,
+				(autoConfigurationClass) -> getOutcome(autoConfigurationClass, autoConfigurationMetadata));
+	}
+
+	private ConditionOutcome getOutcome(String autoConfigurationClass,
+			AutoConfigurationMetadata autoConfigurationMetadata) {
+		Set<String> onBeanTypes = autoConfigurationMetadata.getSet(autoConfigurationClass, "ConditionalOnBean");
+		ConditionOutcome outcome = getOutcome(onBeanTypes, ConditionalOnBean.class);
+		if (outcome == null) {
+			Set<String> onSingleCandidateTypes = autoConfigurationMetadata.getSet(autoConfigurationClass,
+					"ConditionalOnSingleCandidate");
+			outcome = getOutcome(onSingleCandidateTypes, ConditionalOnSingleCandidate.class);
+		}
+		return outcome;
 	}
 
 	private ConditionOutcome getOutcome(Set<String> requiredBeanTypes, Class<? extends Annotation> annotation) {
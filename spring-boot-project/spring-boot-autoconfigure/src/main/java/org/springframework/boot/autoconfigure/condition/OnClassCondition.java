@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,6 @@
 
 package org.springframework.boot.autoconfigure.condition;
 
-import java.security.AccessControlException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -48,44 +47,43 @@ class OnClassCondition extends FilteringSpringBootCondition {
 	@Override
 	protected final ConditionOutcome[] getOutcomes(String[] autoConfigurationClasses,
 			AutoConfigurationMetadata autoConfigurationMetadata) {
-		// Split the work and perform half in a background thread if more than one
-		// processor is available. Using a single additional thread seems to offer the
-		// best performance. More threads make things worse.
-		if (autoConfigurationClasses.length > 1 && Runtime.getRuntime().availableProcessors() > 1) {
-			return resolveOutcomesThreaded(autoConfigurationClasses, autoConfigurationMetadata);
-		}
-		else {
-			OutcomesResolver outcomesResolver = new StandardOutcomesResolver(autoConfigurationClasses, 0,
-					autoConfigurationClasses.length, autoConfigurationMetadata, getBeanClassLoader());
-			return outcomesResolver.resolveOutcomes();
-		}
+		return resolveOutcomes(autoConfigurationClasses,
+				(autoConfigurationClass) -> getOutcome(autoConfigurationClass, autoConfigurationMetadata));
 	}
 
-	private ConditionOutcome[] resolveOutcomesThreaded(String[] autoConfigurationClasses,
+	private ConditionOutcome getOutcome(String autoConfigurationClass,
 			AutoConfigurationMetadata autoConfigurationMetadata) {
-		int split = autoConfigurationClasses.length / 2;
-		OutcomesResolver firstHalfResolver = createOutcomesResolver(autoConfigurationClasses, 0, split,
-				autoConfigurationMetadata);
-		OutcomesResolver secondHalfResolver = new StandardOutcomesResolver(autoConfigurationClasses, split,
-				autoConfigurationClasses.length, autoConfigurationMetadata, getBeanClassLoader());
-		ConditionOutcome[] secondHalf = secondHalfResolver.resolveOutcomes();
-		ConditionOutcome[] firstHalf = firstHalfResolver.resolveOutcomes();
-		ConditionOutcome[] outcomes = new ConditionOutcome[autoConfigurationClasses.length];
-		System.arraycopy(firstHalf, 0, outcomes, 0, firstHalf.length);
-		System.arraycopy(secondHalf, 0, outcomes, split, secondHalf.length);
-		return outcomes;
+		//获取在 META-INF/spring-autoconfigure-metadata.properties文件中的 autoConfiguration类名.ConditionalOnClass 属性
+		String candidates = autoConfigurationMetadata.get(autoConfigurationClass, "ConditionalOnClass");
+		return (candidates != null) ? getOutcome(candidates) : null;
 	}
 
-	private OutcomesResolver createOutcomesResolver(String[] autoConfigurationClasses, int start, int end,
-			AutoConfigurationMetadata autoConfigurationMetadata) {
-		OutcomesResolver outcomesResolver = new StandardOutcomesResolver(autoConfigurationClasses, start, end,
-				autoConfigurationMetadata, getBeanClassLoader());
+	private ConditionOutcome getOutcome(String candidates) {
+		ClassLoader classLoader = getBeanClassLoader();
 		try {
-			return new ThreadedOutcomesResolver(outcomesResolver);
+			if (!candidates.contains(",")) {
+				return getOutcome(candidates, classLoader);
+			}
+			for (String candidate : StringUtils.commaDelimitedListToStringArray(candidates)) {
+				//依次遍历candidate，判断是否符合条件
+				ConditionOutcome outcome = getOutcome(candidate, classLoader);
+				if (outcome != null) {
+					return outcome;
+				}
+			}
 		}
-		catch (AccessControlException ex) {
-			return outcomesResolver;
+		catch (Exception ex) {
+			// We'll get another chance later
 		}
+		return null;
+	}
+
+	private ConditionOutcome getOutcome(String className, ClassLoader classLoader) {
+		if (ClassNameFilter.MISSING.matches(className, classLoader)) {
+			return ConditionOutcome.noMatch(ConditionMessage.forCondition(ConditionalOnClass.class)
+					.didNotFind("required class").items(Style.QUOTE, className));
+		}
+		return null;
 	}
 
 	@Override
@@ -136,106 +134,4 @@ class OnClassCondition extends FilteringSpringBootCondition {
 		}
 	}
 
-	private interface OutcomesResolver {
-
-		ConditionOutcome[] resolveOutcomes();
-
-	}
-
-	private static final class ThreadedOutcomesResolver implements OutcomesResolver {
-
-		private final Thread thread;
-
-		private volatile ConditionOutcome[] outcomes;
-
-		private ThreadedOutcomesResolver(OutcomesResolver outcomesResolver) {
-			this.thread = new Thread(() -> this.outcomes = outcomesResolver.resolveOutcomes());
-			this.thread.start();
-		}
-
-		@Override
-		public ConditionOutcome[] resolveOutcomes() {
-			try {
-				this.thread.join();
-			}
-			catch (InterruptedException ex) {
-				Thread.currentThread().interrupt();
-			}
-			return this.outcomes;
-		}
-
-	}
-
-	private static final class StandardOutcomesResolver implements OutcomesResolver {
-
-		private final String[] autoConfigurationClasses;
-
-		private final int start;
-
-		private final int end;
-
-		private final AutoConfigurationMetadata autoConfigurationMetadata;
-
-		private final ClassLoader beanClassLoader;
-
-		private StandardOutcomesResolver(String[] autoConfigurationClasses, int start, int end,
-				AutoConfigurationMetadata autoConfigurationMetadata, ClassLoader beanClassLoader) {
-			this.autoConfigurationClasses = autoConfigurationClasses;
-			this.start = start;
-			this.end = end;
-			this.autoConfigurationMetadata = autoConfigurationMetadata;
-			this.beanClassLoader = beanClassLoader;
-		}
-
-		@Override
-		public ConditionOutcome[] resolveOutcomes() {
-			return getOutcomes(this.autoConfigurationClasses, this.start, this.end, this.autoConfigurationMetadata);
-		}
-
-		private ConditionOutcome[] getOutcomes(String[] autoConfigurationClasses, int start, int end,
-				AutoConfigurationMetadata autoConfigurationMetadata) {
-			ConditionOutcome[] outcomes = new ConditionOutcome[end - start];
-			for (int i = start; i < end; i++) {
-				//遍历autoConfiguration类
-				String autoConfigurationClass = autoConfigurationClasses[i];
-				if (autoConfigurationClass != null) {
-					//获取在 META-INF/spring-autoconfigure-metadata.properties文件中的 autoConfiguration类名.ConditionalOnClass 属性
-					String candidates = autoConfigurationMetadata.get(autoConfigurationClass, "ConditionalOnClass");
-					if (candidates != null) {
-						outcomes[i - start] = getOutcome(candidates);
-					}
-				}
-			}
-			return outcomes;
-		}
-
-		private ConditionOutcome getOutcome(String candidates) {
-			try {
-				if (!candidates.contains(",")) {
-					return getOutcome(candidates, this.beanClassLoader);
-				}
-				for (String candidate : StringUtils.commaDelimitedListToStringArray(candidates)) {
-					//依次遍历candidate，判断是否符合条件
-					ConditionOutcome outcome = getOutcome(candidate, this.beanClassLoader);
-					if (outcome != null) {
-						return outcome;
-					}
-				}
-			}
-			catch (Exception ex) {
-				// We'll get another chance later
-			}
-			return null;
-		}
-
-		private ConditionOutcome getOutcome(String className, ClassLoader classLoader) {
-			if (ClassNameFilter.MISSING.matches(className, classLoader)) {
-				return ConditionOutcome.noMatch(ConditionMessage.forCondition(ConditionalOnClass.class)
-						.didNotFind("required class").items(Style.QUOTE, className));
-			}
-			return null;
-		}
-
-	}
-
 }
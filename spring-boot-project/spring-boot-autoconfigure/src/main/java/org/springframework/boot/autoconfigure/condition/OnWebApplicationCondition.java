@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -51,15 +51,8 @@ class OnWebApplicationCondition extends FilteringSpringBootCondition {
 	@Override
 	protected ConditionOutcome[] getOutcomes(String[] autoConfigurationClasses,
 			AutoConfigurationMetadata autoConfigurationMetadata) {
-		ConditionOutcome[] outcomes = new ConditionOutcome[autoConfigurationClasses.length];
-		for (int i = 0; i < outcomes.length; i++) {
-			String autoConfigurationClass = autoConfigurationClasses[i];
-			if (autoConfigurationClass != null) {
-				outcomes[i] = getOutcome(
-						autoConfigurationMetadata.get(autoConfigurationClass, "ConditionalOnWebApplication"));
-			}
-		}
-		return outcomes;
+		return resolveOutcomes(autoConfigurationClasses, (autoConfigurationClass) -> getOutcome(
+				autoConfigurationMetadata.get(autoConfigurationClass, "ConditionalOnWebApplication")));
 	}
 
 	private ConditionOutcome getOutcome(String type) {
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.ClassUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AutoConfigurationImportPlanGenerator}.
+ *
+ * @author Spring Contributor
+ */
+class AutoConfigurationImportPlanGeneratorTests {
+
+	private static final String ON_CLASS_CONDITION = "org.springframework.boot.autoconfigure.condition.OnClassCondition";
+
+	@TempDir
+	File temp;
+
+	private URLClassLoader classLoader;
+
+	@BeforeEach
+	void setup() throws IOException {
+		File factories = new File(this.temp, "META-INF/spring.factories");
+		factories.getParentFile().mkdirs();
+		try (Writer writer = new FileWriter(factories)) {
+			writer.write(EnableAutoConfiguration.class.getName() + "=" + FirstAutoConfiguration.class.getName() + ","
+					+ MissingClassAutoConfiguration.class.getName() + "," + SecondAutoConfiguration.class.getName()
+					+ "," + FirstAutoConfiguration.class.getName() + "\n");
+			writer.write(AutoConfigurationImportFilter.class.getName() + "=" + ON_CLASS_CONDITION + "\n");
+		}
+		try (Writer writer = new FileWriter(new File(this.temp, AutoConfigurationMetadataLoader.PATH))) {
+			writer.write(MissingClassAutoConfiguration.class.getName() + ".ConditionalOnClass=com.example.Missing\n");
+		}
+		FilteredClassLoader parent = new FilteredClassLoader(new ClassPathResource("META-INF/spring.factories"),
+				new ClassPathResource(AutoConfigurationMetadataLoader.PATH));
+		this.classLoader = new URLClassLoader(new URL[] { this.temp.toURI().toURL() }, parent);
+	}
+
+	@AfterEach
+	void close() throws IOException {
+		this.classLoader.close();
+	}
+
+	@Test
+	void generateUsesDistinctCandidatesFromSpringFactories() throws IOException {
+		AutoConfigurationImportPlan plan = new AutoConfigurationImportPlanGenerator(this.classLoader).generate();
+		assertThat(plan.getCandidates()).containsExactly(FirstAutoConfiguration.class.getName(),
+				MissingClassAutoConfiguration.class.getName(), SecondAutoConfiguration.class.getName());
+	}
+
+	@Test
+	void generateFiltersAndSortsImports() throws IOException {
+		AutoConfigurationImportPlan plan = new AutoConfigurationImportPlanGenerator(this.classLoader).generate();
+		assertThat(plan.getImports()).containsExactly(SecondAutoConfiguration.class.getName(),
+				FirstAutoConfiguration.class.getName());
+	}
+
+	@Test
+	void generateRecordsFilterOutcomes() throws Exception {
+		AutoConfigurationImportPlan plan = new AutoConfigurationImportPlanGenerator(this.classLoader).generate();
+		AutoConfigurationImportFilter onClassCondition = (AutoConfigurationImportFilter) BeanUtils
+				.instantiateClass(ClassUtils.forName(ON_CLASS_CONDITION, null));
+		assertThat(plan.isPlanned(onClassCondition)).isTrue();
+		ConditionOutcome outcome = plan.getOutcome(MissingClassAutoConfiguration.class.getName(), onClassCondition);
+		assertThat(outcome.isMatch()).isFalse();
+		assertThat(outcome.getMessage()).contains("com.example.Missing");
+	}
+
+	@Test
+	void generateUsesFingerprintOfClassLoader() throws IOException {
+		AutoConfigurationImportPlan plan = new AutoConfigurationImportPlanGenerator(this.classLoader).generate();
+		assertThat(plan.getFingerprint())
+				.isEqualTo(AutoConfigurationImportPlan.getFingerprint(this.classLoader, null));
+	}
+
+	@Test
+	void generateWritesPlanThatCanBeLoaded() throws IOException {
+		File file = new File(this.temp, "plan/" + AutoConfigurationImportPlan.LOCATION);
+		new AutoConfigurationImportPlanGenerator(this.classLoader).generate(file);
+		try (InputStream inputStream = new FileInputStream(file)) {
+			AutoConfigurationImportPlan loaded = AutoConfigurationImportPlan.load(inputStream);
+			assertThat(loaded.getFingerprint())
+					.isEqualTo(AutoConfigurationImportPlan.getFingerprint(this.classLoader, null));
+			assertThat(loaded.getImports()).containsExactly(SecondAutoConfiguration.class.getName(),
+					FirstAutoConfiguration.class.getName());
+		}
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class FirstAutoConfiguration {
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@AutoConfigureBefore(FirstAutoConfiguration.class)
+	static class SecondAutoConfiguration {
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class MissingClassAutoConfiguration {
+
+	}
+
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationImportPlan.FilterOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionEvaluationReport;
+import org.springframework.boot.autoconfigure.condition.ConditionEvaluationReport.ConditionAndOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionEvaluationReport.ConditionAndOutcomes;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.FileCopyUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AutoConfigurationImportPlan}.
+ *
+ * @author Spring Contributor
+ */
+class AutoConfigurationImportPlanTests {
+
+	private static final String ON_CLASS_CONDITION = "org.springframework.boot.autoconfigure.condition.OnClassCondition";
+
+	private static final String FIRST = "com.example.FirstAutoConfiguration";
+
+	private static final String SECOND = "com.example.SecondAutoConfiguration";
+
+	private static final String FILTERED = "com.example.FilteredAutoConfiguration";
+
+	@TempDir
+	File temp;
+
+	@Test
+	void writeToAndLoadRoundTrips() throws Exception {
+		AutoConfigurationImportPlan plan = createPlan("abc123");
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		plan.writeTo(outputStream);
+		AutoConfigurationImportPlan loaded = AutoConfigurationImportPlan
+				.load(new ByteArrayInputStream(outputStream.toByteArray()));
+		assertThat(loaded.getFingerprint()).isEqualTo("abc123");
+		assertThat(loaded.getCandidates()).isEqualTo(plan.getCandidates());
+		assertThat(loaded.getImports()).isEqualTo(plan.getImports());
+		AutoConfigurationImportFilter onClassCondition = (AutoConfigurationImportFilter) BeanUtils
+				.instantiateClass(ClassUtils.forName(ON_CLASS_CONDITION, null));
+		assertThat(loaded.isPlanned(onClassCondition)).isTrue();
+		assertThat(loaded.getOutcome(SECOND, onClassCondition)).isNull();
+		ConditionOutcome outcome = loaded.getOutcome(FILTERED, onClassCondition);
+		assertThat(outcome.isMatch()).isFalse();
+		assertThat(outcome.getMessage()).isEqualTo("did not find required class");
+	}
+
+	@Test
+	void writeToIsRepeatable() throws IOException {
+		ByteArrayOutputStream first = new ByteArrayOutputStream();
+		createPlan("abc123").writeTo(first);
+		ByteArrayOutputStream second = new ByteArrayOutputStream();
+		createPlan("abc123").writeTo(second);
+		assertThat(first.toByteArray()).isEqualTo(second.toByteArray());
+	}
+
+	@Test
+	void getImportsRetainsPlannedOrder() {
+		AutoConfigurationImportPlan plan = createPlan("abc123");
+		assertThat(plan.getImports(Arrays.asList(SECOND, FIRST))).containsExactly(FIRST, SECOND);
+	}
+
+	@Test
+	void loadWhenNoPlanReturnsNull() throws Exception {
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { this.temp.toURI().toURL() }, null)) {
+			assertThat(AutoConfigurationImportPlan.load(classLoader)).isNull();
+		}
+	}
+
+	@Test
+	void loadWhenFingerprintMatchesReturnsPlan() throws Exception {
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { this.temp.toURI().toURL() },
+				getClass().getClassLoader())) {
+			writePlan(AutoConfigurationImportPlan.getFingerprint(classLoader, null));
+			AutoConfigurationImportPlan plan = AutoConfigurationImportPlan.load(classLoader);
+			assertThat(plan).isNotNull();
+			assertThat(plan.getImports()).containsExactly(FIRST, SECOND);
+		}
+	}
+
+	@Test
+	void loadWhenClasspathHasChangedReturnsNull() throws Exception {
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { this.temp.toURI().toURL() },
+				getClass().getClassLoader())) {
+			writePlan(AutoConfigurationImportPlan.getFingerprint(classLoader, null));
+		}
+		URL[] urls = { this.temp.toURI().toURL(), new File(this.temp, "extra-1.0.0.jar").toURI().toURL() };
+		try (URLClassLoader classLoader = new URLClassLoader(urls, getClass().getClassLoader())) {
+			assertThat(AutoConfigurationImportPlan.load(classLoader)).isNull();
+		}
+	}
+
+	@Test
+	void getFingerprintIsIndependentOfJarLocation() throws Exception {
+		URL[] inPlace = { new URL("file:/home/user/.m2/repository/com/example/one-1.0.0.jar"),
+				new URL("file:/home/user/.m2/repository/com/example/two-2.0.0.jar"),
+				new URL("file:/workspace/example/build/classes/java/main/") };
+		URL[] packaged = { new URL("jar:file:/app.jar!/BOOT-INF/classes!/"),
+				new URL("jar:file:/app.jar!/BOOT-INF/lib/two-2.0.0.jar!/"),
+				new URL("jar:file:/app.jar!/BOOT-INF/lib/one-1.0.0.jar!/"),
+				new URL("jar:file:/app.jar!/BOOT-INF/lib/spring-boot-jarmode-layertools-2.5.0.jar!/") };
+		URL location = new URL("jar:file:/app.jar!/BOOT-INF/classes!/" + AutoConfigurationImportPlan.LOCATION);
+		try (URLClassLoader inPlaceClassLoader = new URLClassLoader(inPlace, null);
+				URLClassLoader packagedClassLoader = new URLClassLoader(packaged, null)) {
+			assertThat(AutoConfigurationImportPlan.getFingerprint(packagedClassLoader, location))
+					.isEqualTo(AutoConfigurationImportPlan.getFingerprint(inPlaceClassLoader, null));
+		}
+	}
+
+	@Test
+	void getFingerprintWhenJarIsDifferentIsDifferent() throws Exception {
+		try (URLClassLoader one = new URLClassLoader(new URL[] { new URL("file:/lib/one-1.0.0.jar") }, null);
+				URLClassLoader other = new URLClassLoader(new URL[] { new URL("file:/lib/one-1.0.1.jar") }, null)) {
+			assertThat(AutoConfigurationImportPlan.getFingerprint(one, null))
+					.isNotEqualTo(AutoConfigurationImportPlan.getFingerprint(other, null));
+		}
+	}
+
+	@Test
+	void loadWhenSpringFactoriesOfJarHaveChangedReturnsNull() throws Exception {
+		File jar = new File(this.temp, "one-1.0.0-SNAPSHOT.jar");
+		writeJar(jar, "org.springframework.boot.autoconfigure.EnableAutoConfiguration=" + FIRST);
+		URL[] urls = { this.temp.toURI().toURL(), jar.toURI().toURL() };
+		try (URLClassLoader classLoader = new URLClassLoader(urls, getClass().getClassLoader())) {
+			writePlan(AutoConfigurationImportPlan.getFingerprint(classLoader, null));
+			assertThat(AutoConfigurationImportPlan.load(classLoader)).isNotNull();
+		}
+		writeJar(jar, "org.springframework.boot.autoconfigure.EnableAutoConfiguration=" + FIRST + "," + SECOND);
+		try (URLClassLoader classLoader = new URLClassLoader(urls, getClass().getClassLoader())) {
+			assertThat(AutoConfigurationImportPlan.load(classLoader)).isNull();
+		}
+	}
+
+	@Test
+	void getFingerprintWhenSpringFactoriesOfDirectoryHaveChangedIsDifferent() throws Exception {
+		File directory = new File(this.temp, "classes");
+		File factories = new File(directory, "META-INF/spring.factories");
+		factories.getParentFile().mkdirs();
+		FileCopyUtils.copy("a=b".getBytes(), factories);
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { directory.toURI().toURL() }, null)) {
+			String fingerprint = AutoConfigurationImportPlan.getFingerprint(classLoader, null);
+			FileCopyUtils.copy("a=c".getBytes(), factories);
+			assertThat(AutoConfigurationImportPlan.getFingerprint(classLoader, null)).isNotEqualTo(fingerprint);
+		}
+	}
+
+	@Test
+	void getFingerprintOfResourcesIsIndependentOfLocation() throws Exception {
+		File jar = new File(this.temp, "one-1.0.0.jar");
+		writeJar(jar, "a=b");
+		File directory = new File(this.temp, "classes");
+		File metadata = new File(directory, "META-INF/spring-autoconfigure-metadata.properties");
+		metadata.getParentFile().mkdirs();
+		FileCopyUtils.copy("c=d".getBytes(), metadata);
+		File lib = new File(this.temp, "lib");
+		lib.mkdirs();
+		File movedJar = new File(lib, jar.getName());
+		FileCopyUtils.copy(jar, movedJar);
+		File movedDirectory = new File(this.temp, "BOOT-INF/classes");
+		File movedMetadata = new File(movedDirectory, "META-INF/spring-autoconfigure-metadata.properties");
+		movedMetadata.getParentFile().mkdirs();
+		FileCopyUtils.copy(metadata, movedMetadata);
+		URL[] inPlace = { jar.toURI().toURL(), directory.toURI().toURL() };
+		URL[] moved = { movedDirectory.toURI().toURL(), movedJar.toURI().toURL() };
+		try (URLClassLoader inPlaceClassLoader = new URLClassLoader(inPlace, null);
+				URLClassLoader movedClassLoader = new URLClassLoader(moved, null)) {
+			assertThat(AutoConfigurationImportPlan.getFingerprint(movedClassLoader, null))
+					.isEqualTo(AutoConfigurationImportPlan.getFingerprint(inPlaceClassLoader, null));
+		}
+	}
+
+	@Test
+	void selectImportsUsesPlan() throws Exception {
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { this.temp.toURI().toURL() },
+				getClass().getClassLoader())) {
+			writePlan(AutoConfigurationImportPlan.getFingerprint(classLoader, null));
+			DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+			AutoConfigurationImportSelector selector = createSelector(classLoader, beanFactory, new MockEnvironment());
+			assertThat(selector.selectImports(AnnotationMetadata.introspect(BasicEnableAutoConfiguration.class)))
+					.containsExactly(FIRST, SECOND);
+			ConditionAndOutcomes outcomes = ConditionEvaluationReport.get(beanFactory)
+					.getConditionAndOutcomesBySource().get(FILTERED);
+			assertThat(outcomes).hasSize(1);
+			ConditionAndOutcome outcome = outcomes.iterator().next();
+			assertThat(outcome.getCondition().getClass().getName()).isEqualTo(ON_CLASS_CONDITION);
+			assertThat(outcome.getOutcome().isMatch()).isFalse();
+			assertThat(outcome.getOutcome().getMessage()).isEqualTo("did not find required class");
+		}
+	}
+
+	@Test
+	void selectImportsWhenPlanIsUsedAppliesExclusions() throws Exception {
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { this.temp.toURI().toURL() },
+				getClass().getClassLoader())) {
+			writePlan(AutoConfigurationImportPlan.getFingerprint(classLoader, null));
+			DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+			MockEnvironment environment = new MockEnvironment();
+			environment.setProperty("spring.autoconfigure.exclude", FIRST + "," + FILTERED);
+			AutoConfigurationImportSelector selector = createSelector(classLoader, beanFactory, environment);
+			assertThat(selector.selectImports(AnnotationMetadata.introspect(BasicEnableAutoConfiguration.class)))
+					.containsExactly(SECOND);
+			assertThat(ConditionEvaluationReport.get(beanFactory).getConditionAndOutcomesBySource()).isEmpty();
+		}
+	}
+
+	private AutoConfigurationImportSelector createSelector(ClassLoader classLoader,
+			DefaultListableBeanFactory beanFactory, MockEnvironment environment) {
+		AutoConfigurationImportSelector selector = new AutoConfigurationImportSelector();
+		selector.setBeanClassLoader(classLoader);
+		selector.setBeanFactory(beanFactory);
+		selector.setEnvironment(environment);
+		selector.setResourceLoader(new DefaultResourceLoader(classLoader));
+		return selector;
+	}
+
+	private void writeJar(File file, String factories) throws IOException {
+		try (JarOutputStream jar = new JarOutputStream(new FileOutputStream(file))) {
+			jar.putNextEntry(new JarEntry("META-INF/spring.factories"));
+			jar.write(factories.getBytes(StandardCharsets.ISO_8859_1));
+			jar.closeEntry();
+		}
+	}
+
+	private void writePlan(String fingerprint) throws IOException {
+		createPlan(fingerprint).writeTo(new File(this.temp, AutoConfigurationImportPlan.LOCATION));
+	}
+
+	private AutoConfigurationImportPlan createPlan(String fingerprint) {
+		Map<String, FilterOutcome> filtered = new LinkedHashMap<>();
+		filtered.put(FILTERED, new FilterOutcome(ON_CLASS_CONDITION, "did not find required class"));
+		return new AutoConfigurationImportPlan(fingerprint, Arrays.asList(FIRST, SECOND, FILTERED),
+				Arrays.asList(FIRST, SECOND), new LinkedHashSet<>(Collections.singleton(ON_CLASS_CONDITION)),
+				filtered);
+	}
+
+	@EnableAutoConfiguration
+	static class BasicEnableAutoConfiguration {
+
+	}
+
+}
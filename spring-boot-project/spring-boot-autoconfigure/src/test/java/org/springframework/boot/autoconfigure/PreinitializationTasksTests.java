@@ -0,0 +1,168 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link PreinitializationTasks}.
+ *
+ * @author Spring Contributor
+ */
+class PreinitializationTasksTests {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	private final List<String> completed = Collections.synchronizedList(new ArrayList<>());
+
+	@AfterEach
+	void shutdown() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	void tasksAreOrderedAfterTheirDependencies() {
+		PreinitializationTasks tasks = new PreinitializationTasks(
+				Arrays.asList(task("a", "c"), task("b"), task("c", "b"), task("d", "a", "missing")));
+		assertThat(tasks.getNames()).containsExactly("b", "c", "a", "d");
+	}
+
+	@Test
+	void duplicateNameThrowsException() {
+		assertThatIllegalStateException()
+				.isThrownBy(() -> new PreinitializationTasks(Arrays.asList(task("a"), task("a"))))
+				.withMessage("Duplicate preinitializer name 'a'");
+	}
+
+	@Test
+	void cycleThrowsException() {
+		assertThatIllegalStateException()
+				.isThrownBy(() -> new PreinitializationTasks(Arrays.asList(task("a", "b"), task("b", "a"))))
+				.withMessageContaining("Preinitializer cycle detected");
+	}
+
+	@Test
+	void startRunsEachTaskAfterItsDependencies() throws Exception {
+		PreinitializationTasks tasks = new PreinitializationTasks(
+				Arrays.asList(task("a", "b", "c"), task("b", "d"), task("c", "d"), task("d")));
+		tasks.start(this.executor).get(10, TimeUnit.SECONDS);
+		assertThat(this.completed).hasSize(4).startsWith("d").endsWith("a");
+	}
+
+	@Test
+	void failedTaskDoesNotPreventDependentTasks() throws Exception {
+		Preinitializer failing = new TestPreinitializer("a", Collections.emptySet(), () -> {
+			throw new IllegalStateException("Failed");
+		});
+		PreinitializationTasks tasks = new PreinitializationTasks(Arrays.asList(failing, task("b", "a")));
+		tasks.start(this.executor).get(10, TimeUnit.SECONDS);
+		assertThat(this.completed).containsExactly("b");
+		assertThat(tasks.getTimings()).containsOnlyKeys("a", "b");
+	}
+
+	@Test
+	void awaitWaitsForNamedTasksOnly() {
+		CountDownLatch latch = new CountDownLatch(1);
+		Preinitializer blocked = new TestPreinitializer("blocked", Collections.emptySet(), latch::await);
+		PreinitializationTasks tasks = new PreinitializationTasks(Arrays.asList(blocked, task("a")));
+		tasks.start(this.executor);
+		tasks.await("a", "missing");
+		assertThat(this.completed).containsExactly("a");
+		assertThat(tasks.getTimings()).containsOnlyKeys("a");
+		latch.countDown();
+		tasks.awaitAll();
+		assertThat(tasks.getTimings()).containsOnlyKeys("blocked", "a");
+	}
+
+	@Test
+	void awaitWhenNotStartedReturnsImmediately() {
+		PreinitializationTasks tasks = new PreinitializationTasks(Collections.singletonList(task("a")));
+		tasks.await("a");
+		tasks.awaitAll();
+		assertThat(this.completed).isEmpty();
+	}
+
+	@Test
+	void startWhenExecutorRejectsTasksCompletes() throws Exception {
+		PreinitializationTasks tasks = new PreinitializationTasks(Arrays.asList(task("a"), task("b", "a")));
+		tasks.start((runnable) -> {
+			throw new RejectedExecutionException();
+		}).handle((result, ex) -> null).get(10, TimeUnit.SECONDS);
+		tasks.awaitAll();
+		assertThat(this.completed).isEmpty();
+	}
+
+	private Preinitializer task(String name, String... dependsOn) {
+		return new TestPreinitializer(name, new LinkedHashSet<>(Arrays.asList(dependsOn)),
+				() -> this.completed.add(name));
+	}
+
+	@FunctionalInterface
+	interface Action {
+
+		void run() throws Exception;
+
+	}
+
+	static class TestPreinitializer implements Preinitializer {
+
+		private final String name;
+
+		private final Set<String> dependsOn;
+
+		private final Action action;
+
+		TestPreinitializer(String name, Set<String> dependsOn, Action action) {
+			this.name = name;
+			this.dependsOn = dependsOn;
+			this.action = action;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		@Override
+		public Set<String> getDependsOn() {
+			return this.dependsOn;
+		}
+
+		@Override
+		public void preinitialize() throws Exception {
+			this.action.run();
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package org.springframework.boot.autoconfigure.condition;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -25,6 +26,7 @@ import org.springframework.boot.autoconfigure.AutoConfigurationMetadata;
 import org.springframework.core.io.support.SpringFactoriesLoader;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
@@ -45,6 +47,11 @@ class OnClassConditionAutoConfigurationImportFilterTests {
 		this.filter.setBeanFactory(this.beanFactory);
 	}
 
+	@AfterEach
+	void clearProperty() {
+		System.clearProperty(FilteringSpringBootCondition.IGNORE_PARALLEL_PROPERTY_NAME);
+	}
+
 	@Test
 	void shouldBeRegistered() {
 		assertThat(SpringFactoriesLoader.loadFactories(AutoConfigurationImportFilter.class, null))
@@ -66,6 +73,53 @@ class OnClassConditionAutoConfigurationImportFilterTests {
 		assertThat(report.getConditionAndOutcomesBySource()).hasSize(1).containsKey("test.nomatch");
 	}
 
+	@Test
+	void matchWhenManyClassesShouldMatchClassesInOrder() {
+		String[] autoConfigurationClasses = getManyAutoConfigurationClasses();
+		boolean[] result = this.filter.match(autoConfigurationClasses, getManyAutoConfigurationMetadata());
+		assertManyMatch(autoConfigurationClasses, result);
+	}
+
+	@Test
+	void matchWhenManyClassesAndParallelIsIgnoredShouldMatchClassesInOrder() {
+		System.setProperty(FilteringSpringBootCondition.IGNORE_PARALLEL_PROPERTY_NAME, "true");
+		OnClassCondition filter = new OnClassCondition();
+		filter.setBeanClassLoader(getClass().getClassLoader());
+		filter.setBeanFactory(this.beanFactory);
+		String[] autoConfigurationClasses = getManyAutoConfigurationClasses();
+		boolean[] result = filter.match(autoConfigurationClasses, getManyAutoConfigurationMetadata());
+		assertManyMatch(autoConfigurationClasses, result);
+	}
+
+	private String[] getManyAutoConfigurationClasses() {
+		String[] autoConfigurationClasses = new String[1000];
+		for (int i = 0; i < autoConfigurationClasses.length; i++) {
+			autoConfigurationClasses[i] = (i % 7 != 0) ? ((i % 3 != 0) ? "test.match" : "test.nomatch") + i : null;
+		}
+		return autoConfigurationClasses;
+	}
+
+	private void assertManyMatch(String[] autoConfigurationClasses, boolean[] result) {
+		assertThat(result).hasSize(autoConfigurationClasses.length);
+		for (int i = 0; i < result.length; i++) {
+			String autoConfigurationClass = autoConfigurationClasses[i];
+			boolean expected = autoConfigurationClass == null || autoConfigurationClass.startsWith("test.match");
+			assertThat(result[i]).isEqualTo(expected);
+		}
+		ConditionEvaluationReport report = ConditionEvaluationReport.get(this.beanFactory);
+		assertThat(report.getConditionAndOutcomesBySource()).allSatisfy(
+				(autoConfigurationClass, outcomes) -> assertThat(autoConfigurationClass).startsWith("test.nomatch"));
+	}
+
+	private AutoConfigurationMetadata getManyAutoConfigurationMetadata() {
+		AutoConfigurationMetadata metadata = mock(AutoConfigurationMetadata.class);
+		given(metadata.get(anyString(), anyString())).willAnswer((invocation) -> {
+			String autoConfigurationClass = invocation.getArgument(0);
+			return autoConfigurationClass.startsWith("test.match") ? "java.io.InputStream" : "java.io.DoesNotExist";
+		});
+		return metadata;
+	}
+
 	private AutoConfigurationMetadata getAutoConfigurationMetadata() {
 		AutoConfigurationMetadata metadata = mock(AutoConfigurationMetadata.class);
 		given(metadata.wasProcessed("test.match")).willReturn(true);
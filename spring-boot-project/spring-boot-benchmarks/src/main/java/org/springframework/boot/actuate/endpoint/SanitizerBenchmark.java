@@ -0,0 +1,97 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.endpoint;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for sanitizing the keys of a large environment with the {@link Sanitizer}.
+ * The {@code patterns} benchmark matches each key against one case-insensitive
+ * {@link Pattern} per default key, as the {@link Sanitizer} used to, as a baseline.
+ *
+ * @author Spring Contributor
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SanitizerBenchmark {
+
+	private static final String[] DEFAULT_KEYS = { "password", "secret", "key", "token", ".*credentials.*",
+			"vcap_services", "sun.java.command", "uri", "uris", "url", "urls", "address", "addresses" };
+
+	private static final int PROPERTY_COUNT = 5000;
+
+	private final Sanitizer sanitizer = new Sanitizer();
+
+	private Pattern[] patterns;
+
+	private String[] keys;
+
+	@Setup
+	public void setup() {
+		this.patterns = new Pattern[DEFAULT_KEYS.length];
+		for (int i = 0; i < DEFAULT_KEYS.length; i++) {
+			String key = DEFAULT_KEYS[i];
+			this.patterns[i] = Pattern.compile(key.contains("*") ? key : ".*" + key + "$", Pattern.CASE_INSENSITIVE);
+		}
+		String[] suffixes = { "enabled", "name", "port", "timeout", "password", "url", "max-size", "path" };
+		this.keys = new String[PROPERTY_COUNT];
+		for (int i = 0; i < PROPERTY_COUNT; i++) {
+			this.keys[i] = "spring.benchmark.group" + (i % 50) + ".item" + i + "." + suffixes[i % suffixes.length];
+		}
+	}
+
+	@Benchmark
+	public void sanitizer(Blackhole blackhole) {
+		for (String key : this.keys) {
+			blackhole.consume(this.sanitizer.sanitize(key, "value"));
+		}
+	}
+
+	@Benchmark
+	public void patterns(Blackhole blackhole) {
+		for (String key : this.keys) {
+			blackhole.consume(sanitizeWithPatterns(key));
+		}
+	}
+
+	private Object sanitizeWithPatterns(String key) {
+		for (Pattern pattern : this.patterns) {
+			if (pattern.matcher(key).matches()) {
+				return "******";
+			}
+		}
+		return "value";
+	}
+
+}
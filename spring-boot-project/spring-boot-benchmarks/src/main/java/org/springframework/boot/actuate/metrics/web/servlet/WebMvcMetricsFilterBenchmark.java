@@ -0,0 +1,101 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.metrics.web.servlet;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.boot.actuate.metrics.AutoTimer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Benchmarks for recording a request with the {@link WebMvcMetricsFilter}. The
+ * {@code uncached} variant uses a subclass of the {@link DefaultWebMvcTagsProvider} so
+ * that the tags and timer are looked up for every request.
+ *
+ * @author Spring Contributor
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WebMvcMetricsFilterBenchmark {
+
+	private static final String TIMING_CONTEXT_ATTRIBUTE = WebMvcMetricsFilter.class.getName() + "$TimingContext";
+
+	private static final FilterChain CHAIN = (request, response) -> {
+	};
+
+	@Param({ "cached", "uncached" })
+	private String lookup;
+
+	private WebMvcMetricsFilter filter;
+
+	private MockHttpServletRequest request;
+
+	private MockHttpServletResponse response;
+
+	@Setup
+	public void setup() throws Exception {
+		WebMvcTagsProvider tagsProvider = "cached".equals(this.lookup) ? new DefaultWebMvcTagsProvider()
+				: new DefaultWebMvcTagsProvider() {
+				};
+		this.filter = new WebMvcMetricsFilter(new SimpleMeterRegistry(), tagsProvider, "http.server.requests",
+				AutoTimer.ENABLED);
+		this.request = new MockHttpServletRequest("GET", "/projects/spring-boot");
+		this.request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/projects/{project}");
+		this.request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+				new HandlerMethod(new ProjectController(), "project", String.class));
+		this.response = new MockHttpServletResponse();
+	}
+
+	@Benchmark
+	public void record() throws IOException, ServletException {
+		this.filter.doFilter(this.request, this.response, CHAIN);
+		this.request.removeAttribute(TIMING_CONTEXT_ATTRIBUTE);
+	}
+
+	public static class ProjectController {
+
+		public String project(String project) {
+			return project;
+		}
+
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.actuate.trace.http;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.boot.actuate.trace.http.HttpTrace.Request;
+import org.springframework.boot.actuate.trace.http.HttpTrace.Response;
+
+/**
+ * Benchmarks for contended use of the {@link HttpTraceRepository} implementations.
+ *
+ * @author Spring Contributor
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpTraceRepositoryBenchmark {
+
+	@Param({ "in-memory", "ring-buffer" })
+	private String repositoryType;
+
+	private HttpTraceRepository repository;
+
+	private HttpTrace trace;
+
+	@Setup
+	public void setup() {
+		this.repository = createRepository();
+		Request request = new Request("GET", URI.create("https://api.example.com/resource"),
+				Collections.singletonMap("Accept", Collections.singletonList("application/json")), "127.0.0.1");
+		Response response = new Response(200, Collections.emptyMap());
+		this.trace = new HttpTrace(request, response, Instant.now(), null, null, 10L);
+		for (int i = 0; i < 100; i++) {
+			this.repository.add(this.trace);
+		}
+	}
+
+	private HttpTraceRepository createRepository() {
+		if ("ring-buffer".equals(this.repositoryType)) {
+			return new RingBufferHttpTraceRepository();
+		}
+		return new InMemoryHttpTraceRepository();
+	}
+
+	@Benchmark
+	@Group("addOnly")
+	@GroupThreads(4)
+	public void add() {
+		this.repository.add(this.trace);
+	}
+
+	@Benchmark
+	@Group("addAndFindAll")
+	@GroupThreads(4)
+	public void addWhileFinding() {
+		this.repository.add(this.trace);
+	}
+
+	@Benchmark
+	@Group("addAndFindAll")
+	@GroupThreads(1)
+	public List<HttpTrace> findAllWhileAdding() {
+		return this.repository.findAll();
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.autoconfigure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.core.type.AnnotationMetadata;
+
+/**
+ * Benchmarks for the candidate filtering performed by
+ * {@link AutoConfigurationImportSelector}. The candidates are the auto-configurations
+ * of {@code spring-boot-autoconfigure}, padded with synthetic names to
+ * {@value #CANDIDATES} entries. Filtering is measured both with and without the
+ * parallel resolution of condition outcomes.
+ *
+ * @author Spring Contributor
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AutoConfigurationImportSelectorBenchmark {
+
+	private static final int CANDIDATES = 150;
+
+	private static final String IGNORE_PARALLEL_PROPERTY_NAME = "spring.autoconfigure.filter.parallel.ignore";
+
+	@Param({ "false", "true" })
+	private boolean ignoreParallel;
+
+	private List<String> candidates;
+
+	private AnnotationMetadata metadata;
+
+	@Setup
+	public void setup() {
+		System.setProperty(IGNORE_PARALLEL_PROPERTY_NAME, String.valueOf(this.ignoreParallel));
+		ClassLoader classLoader = getClass().getClassLoader();
+		this.candidates = new ArrayList<>(
+				SpringFactoriesLoader.loadFactoryNames(EnableAutoConfiguration.class, classLoader));
+		for (int i = this.candidates.size(); i < CANDIDATES; i++) {
+			this.candidates.add("com.example.autoconfigure.Synthetic" + i + "AutoConfiguration");
+		}
+		this.metadata = AnnotationMetadata.introspect(BenchmarkConfiguration.class);
+	}
+
+	@TearDown
+	public void tearDown() {
+		System.clearProperty(IGNORE_PARALLEL_PROPERTY_NAME);
+	}
+
+	@Benchmark
+	public String[] selectImports() {
+		return createSelector().selectImports(this.metadata);
+	}
+
+	private AutoConfigurationImportSelector createSelector() {
+		AutoConfigurationImportSelector selector = new FixedCandidatesImportSelector(this.candidates);
+		selector.setBeanFactory(new DefaultListableBeanFactory());
+		selector.setBeanClassLoader(getClass().getClassLoader());
+		selector.setEnvironment(new StandardEnvironment());
+		selector.setResourceLoader(new DefaultResourceLoader());
+		return selector;
+	}
+
+	@EnableAutoConfiguration
+	static class BenchmarkConfiguration {
+
+	}
+
+	static class FixedCandidatesImportSelector extends AutoConfigurationImportSelector {
+
+		private final List<String> candidates;
+
+		FixedCandidatesImportSelector(List<String> candidates) {
+			this.candidates = candidates;
+		}
+
+		@Override
+		protected List<String> getCandidateConfigurations(AnnotationMetadata metadata,
+				AnnotationAttributes attributes) {
+			return new ArrayList<>(this.candidates);
+		}
+
+	}
+
+}
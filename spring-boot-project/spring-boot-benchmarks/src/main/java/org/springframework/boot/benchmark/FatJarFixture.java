@@ -0,0 +1,177 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.benchmark;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Opcodes;
+import org.springframework.boot.loader.tools.Library;
+import org.springframework.boot.loader.tools.LibraryScope;
+import org.springframework.boot.loader.tools.Repackager;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * A fat jar, repackaged in the same way as the build plugins, that nests
+ * {@value #LIBRARIES} libraries of {@value #ENTRIES_PER_LIBRARY} entries each. Each
+ * entry is a minimal class that can be loaded.
+ *
+ * @author Spring Contributor
+ */
+public final class FatJarFixture {
+
+	/**
+	 * The number of nested libraries.
+	 */
+	public static final int LIBRARIES = 200;
+
+	/**
+	 * The number of entries in each nested library.
+	 */
+	public static final int ENTRIES_PER_LIBRARY = 100;
+
+	private final File directory;
+
+	private final File file;
+
+	private final List<String> libraryEntryNames;
+
+	private final List<String> classNames;
+
+	private FatJarFixture(File directory, File file, List<String> libraryEntryNames, List<String> classNames) {
+		this.directory = directory;
+		this.file = file;
+		this.libraryEntryNames = libraryEntryNames;
+		this.classNames = classNames;
+	}
+
+	/**
+	 * Return the fat jar file.
+	 * @return the fat jar
+	 */
+	public File getFile() {
+		return this.file;
+	}
+
+	/**
+	 * Return the names of the nested library entries, for example
+	 * {@code BOOT-INF/lib/library-0.jar}.
+	 * @return the library entry names
+	 */
+	public List<String> getLibraryEntryNames() {
+		return this.libraryEntryNames;
+	}
+
+	/**
+	 * Return the names of the classes in the library with the given index, for example
+	 * {@code com.example.library0.Class0}.
+	 * @param library the library index
+	 * @return the class names
+	 */
+	public List<String> getClassNames(int library) {
+		List<String> names = new ArrayList<>(ENTRIES_PER_LIBRARY);
+		for (String entryName : getClassEntryNames(library)) {
+			names.add(entryName.substring(0, entryName.length() - 6).replace('/', '.'));
+		}
+		return names;
+	}
+
+	/**
+	 * Return the entry names of the classes in the library with the given index.
+	 * @param library the library index
+	 * @return the class entry names
+	 */
+	public List<String> getClassEntryNames(int library) {
+		List<String> names = new ArrayList<>(ENTRIES_PER_LIBRARY);
+		for (String className : this.classNames) {
+			names.add(getPackage(library) + className);
+		}
+		return names;
+	}
+
+	/**
+	 * Delete the fixture.
+	 */
+	public void delete() {
+		FileSystemUtils.deleteRecursively(this.directory);
+	}
+
+	/**
+	 * Create a new fat jar in a temporary directory.
+	 * @return the fixture
+	 * @throws IOException on IO error
+	 */
+	public static FatJarFixture create() throws IOException {
+		File directory = Files.createTempDirectory("fat-jar-fixture").toFile();
+		List<String> classNames = new ArrayList<>(ENTRIES_PER_LIBRARY);
+		for (int i = 0; i < ENTRIES_PER_LIBRARY; i++) {
+			classNames.add("Class" + i + ".class");
+		}
+		List<File> libraries = new ArrayList<>(LIBRARIES);
+		List<String> libraryEntryNames = new ArrayList<>(LIBRARIES);
+		for (int i = 0; i < LIBRARIES; i++) {
+			File library = new File(directory, "library-" + i + ".jar");
+			writeJar(library, getPackage(i), classNames);
+			libraries.add(library);
+			libraryEntryNames.add("BOOT-INF/lib/" + library.getName());
+		}
+		File file = new File(directory, "application.jar");
+		writeJar(file, "com/example/", Collections.singletonList("Application.class"));
+		Repackager repackager = new Repackager(file);
+		repackager.setMainClass("com.example.Application");
+		repackager.repackage((callback) -> {
+			for (File library : libraries) {
+				callback.library(new Library(library, LibraryScope.COMPILE));
+			}
+		});
+		return new FatJarFixture(directory, file, Collections.unmodifiableList(libraryEntryNames),
+				Collections.unmodifiableList(classNames));
+	}
+
+	private static String getPackage(int library) {
+		return "com/example/library" + library + "/";
+	}
+
+	private static void writeJar(File file, String packageName, List<String> classNames) throws IOException {
+		try (JarOutputStream jar = new JarOutputStream(new FileOutputStream(file))) {
+			jar.putNextEntry(new ZipEntry(packageName));
+			jar.closeEntry();
+			for (String className : classNames) {
+				jar.putNextEntry(new ZipEntry(packageName + className));
+				jar.write(generateClass(packageName + className.substring(0, className.length() - 6)));
+				jar.closeEntry();
+			}
+		}
+	}
+
+	private static byte[] generateClass(String internalName) {
+		ClassWriter writer = new ClassWriter(0);
+		writer.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, internalName, null, "java/lang/Object",
+				null);
+		writer.visitEnd();
+		return writer.toByteArray();
+	}
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A deterministic environment of {@value #SIZE} properties. Half of the properties are
+ * bound by {@link BenchmarkProperties} under the {@code bench} prefix, with the rest
+ * spread across groups under the {@code app} prefix.
+ *
+ * @author Spring Contributor
+ */
+public final class PropertiesFixture {
+
+	/**
+	 * The number of properties.
+	 */
+	public static final int SIZE = 2000;
+
+	private static final int SERVERS = 250;
+
+	private static final int LABELS = 500;
+
+	private static final int GROUPS = 50;
+
+	private static final int SETTINGS = 20;
+
+	private PropertiesFixture() {
+	}
+
+	/**
+	 * Return the properties in the order that they are declared.
+	 * @return the properties
+	 */
+	public static Map<String, Object> properties() {
+		Map<String, Object> properties = new LinkedHashMap<>();
+		for (int i = 0; i < SERVERS; i++) {
+			properties.put("bench.servers[" + i + "].host", "host-" + i);
+			properties.put("bench.servers[" + i + "].port", String.valueOf(8000 + i));
+		}
+		for (int i = 0; i < LABELS; i++) {
+			properties.put("bench.labels.label-" + i, "value-" + i);
+		}
+		for (int group = 0; group < GROUPS; group++) {
+			for (int setting = 0; setting < SETTINGS; setting++) {
+				properties.put("app.group-" + group + ".setting-" + setting, "value-" + setting);
+			}
+		}
+		return Collections.unmodifiableMap(properties);
+	}
+
+	/**
+	 * Return the names of the properties.
+	 * @return the property names
+	 */
+	public static List<String> names() {
+		return new ArrayList<>(properties().keySet());
+	}
+
+	/**
+	 * Return the properties as a YAML document.
+	 * @return the YAML content
+	 */
+	public static String yaml() {
+		StringBuilder yaml = new StringBuilder();
+		yaml.append("bench:\n  servers:\n");
+		for (int i = 0; i < SERVERS; i++) {
+			yaml.append("  - host: host-").append(i).append("\n");
+			yaml.append("    port: ").append(8000 + i).append("\n");
+		}
+		yaml.append("  labels:\n");
+		for (int i = 0; i < LABELS; i++) {
+			yaml.append("    label-").append(i).append(": value-").append(i).append("\n");
+		}
+		yaml.append("app:\n");
+		for (int group = 0; group < GROUPS; group++) {
+			yaml.append("  group-").append(group).append(":\n");
+			for (int setting = 0; setting < SETTINGS; setting++) {
+				yaml.append("    setting-").append(setting).append(": value-").append(setting).append("\n");
+			}
+		}
+		return yaml.toString();
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.context.properties.bind;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.boot.benchmark.BenchmarkProperties;
+import org.springframework.boot.benchmark.PropertiesFixture;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+
+/**
+ * Benchmarks for {@link Binder} against the 2,000 properties of the
+ * {@link PropertiesFixture}.
+ *
+ * @author Spring Contributor
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinderBenchmark {
+
+	private MutablePropertySources propertySources;
+
+	private Binder binder;
+
+	@Setup
+	public void setup() {
+		this.propertySources = new MutablePropertySources();
+		this.propertySources.addFirst(new MapPropertySource("fixture", PropertiesFixture.properties()));
+		this.binder = new Binder(ConfigurationPropertySources.from(this.propertySources));
+	}
+
+	@Benchmark
+	public BenchmarkProperties bind() {
+		return this.binder.bind("bench", BenchmarkProperties.class).get();
+	}
+
+	@Benchmark
+	public BenchmarkProperties createBinderAndBind() {
+		Binder binder = new Binder(ConfigurationPropertySources.from(this.propertySources));
+		return binder.bind("bench", BenchmarkProperties.class).get();
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.context.properties.source;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.boot.benchmark.PropertiesFixture;
+
+/**
+ * Benchmarks for {@link ConfigurationPropertyName}. Run with {@code -PbenchmarkProfiler=gc}
+ * to measure the allocations of creating names from sources that have been seen before.
+ *
+ * @author Spring Contributor
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigurationPropertyNameBenchmark {
+
+	private List<String> names;
+
+	private ConfigurationPropertyName[] propertyNames;
+
+	@Setup
+	public void setup() {
+		this.names = PropertiesFixture.names();
+		this.propertyNames = this.names.stream().map(ConfigurationPropertyName::of)
+				.toArray(ConfigurationPropertyName[]::new);
+	}
+
+	@Benchmark
+	public void of(Blackhole blackhole) {
+		for (String name : this.names) {
+			blackhole.consume(ConfigurationPropertyName.of(name));
+		}
+	}
+
+	@Benchmark
+	public void adapt(Blackhole blackhole) {
+		for (String name : this.names) {
+			blackhole.consume(ConfigurationPropertyName.adapt(name, '.'));
+		}
+	}
+
+	@Benchmark
+	public void ofNewStringSources(Blackhole blackhole) {
+		for (String name : this.names) {
+			blackhole.consume(ConfigurationPropertyName.of(new String(name)));
+		}
+	}
+
+	@Benchmark
+	public void ofAndEquals(Blackhole blackhole) {
+		for (String name : this.names) {
+			blackhole.consume(ConfigurationPropertyName.of(name).equals(ConfigurationPropertyName.of(name)));
+		}
+	}
+
+	@Benchmark
+	public void equalsAndHashCode(Blackhole blackhole) {
+		ConfigurationPropertyName[] propertyNames = this.propertyNames;
+		for (int i = 1; i < propertyNames.length; i++) {
+			blackhole.consume(propertyNames[i].hashCode());
+			blackhole.consume(propertyNames[i].equals(propertyNames[i - 1]));
+		}
+	}
+
+	@Benchmark
+	public void isAncestorOf(Blackhole blackhole) {
+		ConfigurationPropertyName[] propertyNames = this.propertyNames;
+		ConfigurationPropertyName prefix = propertyNames[0].getParent();
+		for (ConfigurationPropertyName propertyName : propertyNames) {
+			blackhole.consume(prefix.isAncestorOf(propertyName));
+		}
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.context.properties.source;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.boot.benchmark.PropertiesFixture;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * Benchmarks for {@link SpringIterableConfigurationPropertySource} against the 2,000
+ * properties of the {@link PropertiesFixture}.
+ *
+ * @author Spring Contributor
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpringIterableConfigurationPropertySourceBenchmark {
+
+	private MapPropertySource propertySource;
+
+	private SpringIterableConfigurationPropertySource source;
+
+	private ConfigurationPropertyName[] names;
+
+	private ConfigurationPropertyName[] prefixes;
+
+	@Setup
+	public void setup() {
+		this.propertySource = new MapPropertySource("fixture", PropertiesFixture.properties());
+		this.source = create(this.propertySource);
+		this.names = PropertiesFixture.names().stream().map(ConfigurationPropertyName::of)
+				.toArray(ConfigurationPropertyName[]::new);
+		this.prefixes = new ConfigurationPropertyName[] { ConfigurationPropertyName.of("bench.servers"),
+				ConfigurationPropertyName.of("app.group-25"), ConfigurationPropertyName.of("missing") };
+	}
+
+	@Benchmark
+	public void getConfigurationProperty(Blackhole blackhole) {
+		for (ConfigurationPropertyName name : this.names) {
+			blackhole.consume(this.source.getConfigurationProperty(name));
+		}
+	}
+
+	@Benchmark
+	public void containsDescendantOf(Blackhole blackhole) {
+		for (ConfigurationPropertyName prefix : this.prefixes) {
+			blackhole.consume(this.source.containsDescendantOf(prefix));
+		}
+	}
+
+	@Benchmark
+	public long stream() {
+		return this.source.stream().count();
+	}
+
+	@Benchmark
+	public SpringIterableConfigurationPropertySource createAndGetFirstProperty() {
+		SpringIterableConfigurationPropertySource source = create(this.propertySource);
+		source.getConfigurationProperty(this.names[0]);
+		return source;
+	}
+
+	private static SpringIterableConfigurationPropertySource create(MapPropertySource propertySource) {
+		return (SpringIterableConfigurationPropertySource) SpringConfigurationPropertySource.from(propertySource);
+	}
+
+}
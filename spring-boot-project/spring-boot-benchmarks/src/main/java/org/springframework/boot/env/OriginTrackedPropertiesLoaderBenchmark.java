@@ -0,0 +1,102 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.env;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.boot.env.OriginTrackedPropertiesLoader.Document;
+import org.springframework.core.io.FileSystemResource;
+
+/**
+ * Benchmarks for {@link OriginTrackedPropertiesLoader} loading a {@code .properties} file
+ * of around 50 MB, similar to generated message bundles and routing tables.
+ *
+ * @author Spring Contributor
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class OriginTrackedPropertiesLoaderBenchmark {
+
+	private static final long SIZE = 50 * 1024 * 1024;
+
+	private File file;
+
+	private FileSystemResource resource;
+
+	@Setup
+	public void setup() throws IOException {
+		this.file = File.createTempFile("benchmark", ".properties");
+		try (BufferedWriter writer = Files.newBufferedWriter(this.file.toPath(), StandardCharsets.ISO_8859_1)) {
+			long written = 0;
+			for (int i = 0; written < SIZE; i++) {
+				String line = line(i);
+				writer.write(line);
+				written += line.length();
+			}
+		}
+		this.resource = new FileSystemResource(this.file);
+	}
+
+	private String line(int index) {
+		int group = index % 1000;
+		switch (index % 4) {
+		case 0:
+			return "# Messages for route " + index + "\n";
+		case 1:
+			return "messages.group-" + group + ".title-" + index + "=Welcome to the \\u00e9l\\u00e8ve page " + index
+					+ "\n";
+		case 2:
+			return "routes.group-" + group + ".path-" + index + " = /api/v1/resources/" + index
+					+ "/items?sort=name\\\n    &page=" + index + "\n";
+		default:
+			return "routes.group-" + group + ".hosts-" + index + "[]=host-a-" + index + ",host-b-" + index + "\n";
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.file.delete();
+	}
+
+	@Benchmark
+	public List<Document> load() throws IOException {
+		return new OriginTrackedPropertiesLoader(this.resource).load();
+	}
+
+}
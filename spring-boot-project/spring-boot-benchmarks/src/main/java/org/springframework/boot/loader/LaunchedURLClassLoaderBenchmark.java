@@ -0,0 +1,106 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.boot.benchmark.FatJarFixture;
+import org.springframework.boot.loader.archive.Archive;
+import org.springframework.boot.loader.archive.JarFileArchive;
+import org.springframework.boot.loader.data.RandomAccessDataFile;
+import org.springframework.boot.loader.data.RandomAccessDataFile.Access;
+import org.springframework.boot.loader.jar.JarFile;
+
+/**
+ * Benchmarks for opening a fat jar with 200 nested libraries and loading a class from
+ * each of its libraries through a {@link LaunchedURLClassLoader}, as the
+ * {@link JarLauncher} does, with each {@link Access}.
+ *
+ * @author Spring Contributor
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LaunchedURLClassLoaderBenchmark {
+
+	@Param({ "FILE", "CHANNEL", "MAPPED" })
+	private Access access;
+
+	private FatJarFixture fixture;
+
+	private List<String> classNames;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		System.setProperty(RandomAccessDataFile.ACCESS_PROPERTY, this.access.name());
+		JarFile.registerUrlProtocolHandler();
+		this.fixture = FatJarFixture.create();
+		this.classNames = new ArrayList<>();
+		for (int i = 0; i < FatJarFixture.LIBRARIES; i++) {
+			this.classNames.add(this.fixture.getClassNames(i).get(0));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.fixture.delete();
+		System.clearProperty(RandomAccessDataFile.ACCESS_PROPERTY);
+	}
+
+	@Benchmark
+	public void openArchiveAndLoadClasses(Blackhole blackhole) throws Exception {
+		try (JarFileArchive archive = new JarFileArchive(this.fixture.getFile())) {
+			List<URL> urls = new ArrayList<>(FatJarFixture.LIBRARIES);
+			Iterator<Archive> libraries = archive.getNestedArchives(
+					(entry) -> entry.getName().startsWith("BOOT-INF/"),
+					(entry) -> !entry.isDirectory() && entry.getName().startsWith("BOOT-INF/lib/"));
+			while (libraries.hasNext()) {
+				urls.add(libraries.next().getUrl());
+			}
+			try (LaunchedURLClassLoader classLoader = new LaunchedURLClassLoader(false, archive,
+					urls.toArray(new URL[0]), getClass().getClassLoader())) {
+				for (String className : this.classNames) {
+					blackhole.consume(classLoader.loadClass(className));
+				}
+			}
+		}
+	}
+
+}
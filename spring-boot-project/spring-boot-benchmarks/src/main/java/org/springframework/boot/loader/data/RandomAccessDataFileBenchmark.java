@@ -0,0 +1,112 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.data;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.boot.loader.data.RandomAccessDataFile.Access;
+
+/**
+ * Benchmarks for reads from a {@link RandomAccessDataFile} with each {@link Access}.
+ *
+ * @author Spring Contributor
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomAccessDataFileBenchmark {
+
+	private static final int FILE_SIZE = 16 * 1024 * 1024;
+
+	private static final int READ_SIZE = 4096;
+
+	@Param({ "FILE", "CHANNEL", "MAPPED" })
+	private Access access;
+
+	private File file;
+
+	private RandomAccessDataFile data;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		this.file = File.createTempFile("random-access-data", ".bin");
+		byte[] bytes = new byte[FILE_SIZE];
+		new Random(0).nextBytes(bytes);
+		try (OutputStream outputStream = new FileOutputStream(this.file)) {
+			outputStream.write(bytes);
+		}
+		this.data = new RandomAccessDataFile(this.file, this.access);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		this.data.close();
+		this.file.delete();
+	}
+
+	@Benchmark
+	public byte[] read() throws IOException {
+		return this.data.read(nextOffset(), READ_SIZE);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public byte[] readConcurrently() throws IOException {
+		return this.data.read(nextOffset(), READ_SIZE);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public byte[] openAndReadTail() throws IOException {
+		RandomAccessDataFile data = new RandomAccessDataFile(this.file, this.access);
+		try {
+			return data.read(FILE_SIZE - READ_SIZE, READ_SIZE);
+		}
+		finally {
+			data.close();
+		}
+	}
+
+	private long nextOffset() {
+		return ThreadLocalRandom.current().nextInt(FILE_SIZE - READ_SIZE);
+	}
+
+}
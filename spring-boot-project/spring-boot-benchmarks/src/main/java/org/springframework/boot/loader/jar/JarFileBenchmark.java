@@ -0,0 +1,103 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.jar;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.boot.benchmark.FatJarFixture;
+
+/**
+ * Benchmarks for the loader's {@link JarFile} against a fat jar with 200 nested
+ * libraries.
+ *
+ * @author Spring Contributor
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JarFileBenchmark {
+
+	private FatJarFixture fixture;
+
+	private JarFile jarFile;
+
+	private JarFile nestedJarFile;
+
+	private List<String> classEntryNames;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		this.fixture = FatJarFixture.create();
+		this.jarFile = new JarFile(this.fixture.getFile());
+		this.nestedJarFile = this.jarFile
+				.getNestedJarFile(this.jarFile.getJarEntry(this.fixture.getLibraryEntryNames().get(0)));
+		this.classEntryNames = this.fixture.getClassEntryNames(0);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		this.jarFile.close();
+		this.fixture.delete();
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public void openNestedJars(Blackhole blackhole) throws IOException {
+		try (JarFile jarFile = new JarFile(this.fixture.getFile())) {
+			for (String name : this.fixture.getLibraryEntryNames()) {
+				JarFile nested = jarFile.getNestedJarFile(jarFile.getJarEntry(name));
+				blackhole.consume(nested.size());
+			}
+		}
+	}
+
+	@Benchmark
+	public void getEntry(Blackhole blackhole) {
+		for (String name : this.classEntryNames) {
+			blackhole.consume(this.nestedJarFile.getEntry(name));
+		}
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void getEntryConcurrently(Blackhole blackhole) {
+		for (String name : this.classEntryNames) {
+			blackhole.consume(this.nestedJarFile.getEntry(name));
+		}
+	}
+
+}
@@ -89,6 +89,12 @@ public class DevToolsProperties {
 		 */
 		private Duration quietPeriod = Duration.ofMillis(400);
 
+		/**
+		 * Whether to detect classpath changes using the file system's watch service
+		 * rather than by polling. Directories that cannot be watched are still polled.
+		 */
+		private boolean useWatchService;
+
 		/**
 		 * Name of a specific file that, when changed, triggers the restart check. Must be
 		 * a simple name (without any path) of a file that appears on your classpath. If
@@ -157,6 +163,14 @@ public class DevToolsProperties {
 			this.quietPeriod = quietPeriod;
 		}
 
+		public boolean isUseWatchService() {
+			return this.useWatchService;
+		}
+
+		public void setUseWatchService(boolean useWatchService) {
+			this.useWatchService = useWatchService;
+		}
+
 		public String getTriggerFile() {
 			return this.triggerFile;
 		}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -51,6 +51,15 @@ public final class ChangedFile {
 		this.type = type;
 	}
 
+	/**
+	 * Return the source directory that contains the file.
+	 * @return the source directory
+	 * @since 2.5.0
+	 */
+	public File getSourceDirectory() {
+		return this.sourceDirectory;
+	}
+
 	/**
 	 * Return the file that was changed.
 	 * @return the file
@@ -19,6 +19,7 @@ package org.springframework.boot.devtools.filewatch;
 import java.io.File;
 import java.io.FileFilter;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
@@ -59,6 +60,37 @@ class DirectorySnapshot {
 		this.files = Collections.unmodifiableSet(files);
 	}
 
+	/**
+	 * Create a new {@link DirectorySnapshot} from a previous snapshot of the same
+	 * directory by only checking the given changed files again. A changed file that is a
+	 * directory is collected along with all of the files that it contains.
+	 * @param previous the previous snapshot
+	 * @param changedFiles the files that have changed since the previous snapshot
+	 */
+	DirectorySnapshot(DirectorySnapshot previous, Collection<File> changedFiles) {
+		Assert.notNull(previous, "Previous must not be null");
+		Assert.notNull(changedFiles, "ChangedFiles must not be null");
+		this.directory = previous.directory;
+		this.time = new Date();
+		Map<File, FileSnapshot> files = previous.getFilesMap();
+		for (File changedFile : changedFiles) {
+			if (changedFile.isFile()) {
+				files.put(changedFile, new FileSnapshot(changedFile));
+			}
+			else {
+				files.remove(changedFile);
+				String prefix = changedFile.getPath() + File.separator;
+				files.keySet().removeIf((file) -> file.getPath().startsWith(prefix));
+				if (changedFile.isDirectory()) {
+					Set<FileSnapshot> collected = new LinkedHashSet<>();
+					collectFiles(changedFile, collected);
+					collected.forEach((file) -> files.put(file.getFile(), file));
+				}
+			}
+		}
+		this.files = Collections.unmodifiableSet(new LinkedHashSet<>(files.values()));
+	}
+
 	private void collectFiles(File source, Set<FileSnapshot> result) {
 		File[] children = source.listFiles();
 		if (children != null) {
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.devtools.filewatch;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Watches source directories using the {@link WatchService} of the default file system.
+ * The files that have changed in each source directory are collected until they are
+ * applied to its {@link DirectorySnapshot}, so that only those files need to be checked
+ * again. Source directories that cannot be watched, for example because they do not
+ * exist or are on a file system that does not support watching, should be polled.
+ *
+ * @author Spring Contributor
+ */
+final class DirectoryWatchService implements Closeable {
+
+	private static final String POLLING_WATCH_SERVICE = "sun.nio.fs.PollingWatchService";
+
+	private final WatchService watchService;
+
+	private final Map<WatchKey, File> sourceDirectories = new HashMap<>();
+
+	private final Map<Path, WatchKey> keys = new HashMap<>();
+
+	private final Set<File> watched = new HashSet<>();
+
+	private final Map<File, Set<File>> changedFiles = new HashMap<>();
+
+	private final Set<File> overflowed = new HashSet<>();
+
+	private DirectoryWatchService(WatchService watchService) {
+		this.watchService = watchService;
+	}
+
+	/**
+	 * Return if the given source directory is being watched.
+	 * @param sourceDirectory the source directory
+	 * @return if the directory is watched rather than polled
+	 */
+	boolean isWatched(File sourceDirectory) {
+		return this.watched.contains(sourceDirectory);
+	}
+
+	private void watch(File sourceDirectory) {
+		if (!sourceDirectory.isDirectory()) {
+			return;
+		}
+		try {
+			register(sourceDirectory, sourceDirectory.toPath());
+			this.watched.add(sourceDirectory);
+		}
+		catch (IOException | UnsupportedOperationException ex) {
+			cancel(sourceDirectory);
+		}
+	}
+
+	private void register(File sourceDirectory, Path directory) throws IOException {
+		try (Stream<Path> paths = Files.walk(directory, FileVisitOption.FOLLOW_LINKS)) {
+			Iterator<Path> iterator = paths.filter(Files::isDirectory).iterator();
+			while (iterator.hasNext()) {
+				Path path = iterator.next();
+				if (!isRegistered(path)) {
+					WatchKey key = path.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE,
+							StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+					this.keys.put(path, key);
+					this.sourceDirectories.put(key, sourceDirectory);
+				}
+			}
+		}
+		catch (UncheckedIOException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	private boolean isRegistered(Path directory) {
+		WatchKey key = this.keys.get(directory);
+		return key != null && key.isValid();
+	}
+
+	private void cancel(File sourceDirectory) {
+		this.sourceDirectories.entrySet().removeIf((entry) -> {
+			if (entry.getValue().equals(sourceDirectory)) {
+				entry.getKey().cancel();
+				this.keys.remove((Path) entry.getKey().watchable(), entry.getKey());
+				return true;
+			}
+			return false;
+		});
+		this.watched.remove(sourceDirectory);
+		this.changedFiles.remove(sourceDirectory);
+		this.overflowed.remove(sourceDirectory);
+	}
+
+	/**
+	 * Wait for changes to any of the watched directories and collect them.
+	 * @param timeout the maximum time to wait in milliseconds
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	void await(long timeout) throws InterruptedException {
+		try {
+			WatchKey key = this.watchService.poll(timeout, TimeUnit.MILLISECONDS);
+			while (key != null) {
+				collect(key);
+				key = this.watchService.poll();
+			}
+		}
+		catch (ClosedWatchServiceException ex) {
+			throw new InterruptedException("Watch service closed");
+		}
+	}
+
+	private void collect(WatchKey key) {
+		File sourceDirectory = this.sourceDirectories.get(key);
+		Path directory = (Path) key.watchable();
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (sourceDirectory == null) {
+				continue;
+			}
+			if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+				this.overflowed.add(sourceDirectory);
+			}
+			else {
+				collect(sourceDirectory, directory.resolve((Path) event.context()));
+			}
+		}
+		if (!key.reset()) {
+			this.sourceDirectories.remove(key);
+			this.keys.remove(directory, key);
+			if (sourceDirectory != null && directory.equals(sourceDirectory.toPath())) {
+				cancel(sourceDirectory);
+			}
+		}
+	}
+
+	private void collect(File sourceDirectory, Path path) {
+		if (Files.isDirectory(path)) {
+			if (isRegistered(path)) {
+				return;
+			}
+			try {
+				register(sourceDirectory, path);
+			}
+			catch (IOException ex) {
+				this.overflowed.add(sourceDirectory);
+			}
+		}
+		this.changedFiles.computeIfAbsent(sourceDirectory, (key) -> new LinkedHashSet<>()).add(path.toFile());
+	}
+
+	/**
+	 * Apply the changes that have been collected for the source directory of the given
+	 * snapshot.
+	 * @param snapshot the current snapshot of a watched source directory
+	 * @return an updated snapshot or the given snapshot if nothing has changed
+	 */
+	DirectorySnapshot update(DirectorySnapshot snapshot) {
+		File sourceDirectory = snapshot.getDirectory();
+		Set<File> changedFiles = this.changedFiles.remove(sourceDirectory);
+		if (this.overflowed.remove(sourceDirectory)) {
+			watch(sourceDirectory);
+			return new DirectorySnapshot(sourceDirectory);
+		}
+		return (changedFiles != null) ? new DirectorySnapshot(snapshot, changedFiles) : snapshot;
+	}
+
+	@Override
+	public void close() {
+		try {
+			this.watchService.close();
+		}
+		catch (IOException ex) {
+			// Ignore
+		}
+	}
+
+	/**
+	 * Create a new {@link DirectoryWatchService} that watches the given source
+	 * directories.
+	 * @param sourceDirectories the source directories
+	 * @return the watch service or {@code null} if the default file system cannot be
+	 * watched without polling
+	 */
+	static DirectoryWatchService create(Iterable<File> sourceDirectories) {
+		WatchService watchService;
+		try {
+			watchService = FileSystems.getDefault().newWatchService();
+		}
+		catch (IOException | UnsupportedOperationException ex) {
+			return null;
+		}
+		DirectoryWatchService directoryWatchService = new DirectoryWatchService(watchService);
+		if (POLLING_WATCH_SERVICE.equals(watchService.getClass().getName())) {
+			directoryWatchService.close();
+			return null;
+		}
+		sourceDirectories.forEach(directoryWatchService::watch);
+		return directoryWatchService;
+	}
+
+}
@@ -33,7 +33,11 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.springframework.util.Assert;
 
 /**
- * Watches specific directories for file changes.
+ * Watches specific directories for file changes. By default each directory is polled,
+ * checking all of its files for changes. When {@link #setUseWatchService(boolean)
+ * enabled}, directories are watched using the {@link java.nio.file.WatchService} of the
+ * file system instead so that only files that have changed need to be checked again.
+ * Directories that cannot be watched continue to be polled.
  *
  * @author Andy Clement
  * @author Phillip Webb
@@ -64,6 +68,8 @@ public class FileSystemWatcher {
 
 	private FileFilter triggerFilter;
 
+	private boolean useWatchService;
+
 	private final Object monitor = new Object();
 
 	/**
@@ -157,6 +163,20 @@ public class FileSystemWatcher {
 		}
 	}
 
+	/**
+	 * Set whether directories should be watched using the
+	 * {@link java.nio.file.WatchService} of the file system rather than polled. Cannot be
+	 * called after the watcher has been {@link #start() started}.
+	 * @param useWatchService if the watch service should be used
+	 * @since 2.5.0
+	 */
+	public void setUseWatchService(boolean useWatchService) {
+		synchronized (this.monitor) {
+			checkNotStarted();
+			this.useWatchService = useWatchService;
+		}
+	}
+
 	private void checkNotStarted() {
 		synchronized (this.monitor) {
 			Assert.state(this.watchThread == null, "FileSystemWatcher already started");
@@ -168,11 +188,14 @@ public class FileSystemWatcher {
 	 */
 	public void start() {
 		synchronized (this.monitor) {
+			DirectoryWatchService watchService = (this.watchThread == null && this.useWatchService)
+					? DirectoryWatchService.create(this.directories.keySet()) : null;
 			createOrRestoreInitialSnapshots();
 			if (this.watchThread == null) {
 				Map<File, DirectorySnapshot> localDirectories = new HashMap<>(this.directories);
 				Watcher watcher = new Watcher(this.remainingScans, new ArrayList<>(this.listeners), this.triggerFilter,
-						this.pollInterval, this.quietPeriod, localDirectories, this.snapshotStateRepository);
+						this.pollInterval, this.quietPeriod, localDirectories, this.snapshotStateRepository,
+						watchService);
 				this.watchThread = new Thread(watcher);
 				this.watchThread.setName("File Watcher");
 				this.watchThread.setDaemon(this.daemon);
@@ -239,9 +262,13 @@ public class FileSystemWatcher {
 
 		private SnapshotStateRepository snapshotStateRepository;
 
+		private final DirectoryWatchService watchService;
+
+		private Map<File, DirectorySnapshot> watchedDirectories;
+
 		private Watcher(AtomicInteger remainingScans, List<FileChangeListener> listeners, FileFilter triggerFilter,
 				long pollInterval, long quietPeriod, Map<File, DirectorySnapshot> directories,
-				SnapshotStateRepository snapshotStateRepository) {
+				SnapshotStateRepository snapshotStateRepository, DirectoryWatchService watchService) {
 			this.remainingScans = remainingScans;
 			this.listeners = listeners;
 			this.triggerFilter = triggerFilter;
@@ -249,23 +276,38 @@ public class FileSystemWatcher {
 			this.quietPeriod = quietPeriod;
 			this.directories = directories;
 			this.snapshotStateRepository = snapshotStateRepository;
-
+			this.watchService = watchService;
 		}
 
 		@Override
 		public void run() {
-			int remainingScans = this.remainingScans.get();
-			while (remainingScans > 0 || remainingScans == -1) {
-				try {
-					if (remainingScans > 0) {
-						this.remainingScans.decrementAndGet();
+			try {
+				if (this.watchService != null) {
+					this.watchedDirectories = getCurrentSnapshots();
+				}
+				int remainingScans = this.remainingScans.get();
+				while (remainingScans > 0 || remainingScans == -1) {
+					try {
+						if (remainingScans > 0) {
+							this.remainingScans.decrementAndGet();
+						}
+						if (this.watchService != null) {
+							watch();
+						}
+						else {
+							scan();
+						}
+					}
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
 					}
-					scan();
+					remainingScans = this.remainingScans.get();
 				}
-				catch (InterruptedException ex) {
-					Thread.currentThread().interrupt();
+			}
+			finally {
+				if (this.watchService != null) {
+					this.watchService.close();
 				}
-				remainingScans = this.remainingScans.get();
 			}
 		}
 
@@ -284,6 +326,22 @@ public class FileSystemWatcher {
 			}
 		}
 
+		private void watch() throws InterruptedException {
+			this.watchService.await(this.pollInterval - this.quietPeriod);
+			Map<File, DirectorySnapshot> previous;
+			Map<File, DirectorySnapshot> current = getUpdatedSnapshots(this.watchedDirectories);
+			do {
+				previous = current;
+				this.watchService.await(this.quietPeriod);
+				current = getUpdatedSnapshots(previous);
+			}
+			while (isDifferent(previous, current));
+			this.watchedDirectories = current;
+			if (isDifferent(this.directories, current)) {
+				updateSnapshots(current.values());
+			}
+		}
+
 		private boolean isDifferent(Map<File, DirectorySnapshot> previous, Map<File, DirectorySnapshot> current) {
 			if (!previous.keySet().equals(current.keySet())) {
 				return true;
@@ -291,7 +349,8 @@ public class FileSystemWatcher {
 			for (Map.Entry<File, DirectorySnapshot> entry : previous.entrySet()) {
 				DirectorySnapshot previousDirectory = entry.getValue();
 				DirectorySnapshot currentDirectory = current.get(entry.getKey());
-				if (!previousDirectory.equals(currentDirectory, this.triggerFilter)) {
+				if (previousDirectory != currentDirectory
+						&& !previousDirectory.equals(currentDirectory, this.triggerFilter)) {
 					return true;
 				}
 			}
@@ -306,6 +365,14 @@ public class FileSystemWatcher {
 			return snapshots;
 		}
 
+		private Map<File, DirectorySnapshot> getUpdatedSnapshots(Map<File, DirectorySnapshot> snapshots) {
+			Map<File, DirectorySnapshot> updated = new LinkedHashMap<>();
+			snapshots.forEach((directory, snapshot) -> updated.put(directory,
+					this.watchService.isWatched(directory) ? this.watchService.update(snapshot)
+							: new DirectorySnapshot(directory)));
+			return updated;
+		}
+
 		private void updateSnapshots(Collection<DirectorySnapshot> snapshots) {
 			Map<File, DirectorySnapshot> updated = new LinkedHashMap<>();
 			Set<ChangedFiles> changeSet = new LinkedHashSet<>();
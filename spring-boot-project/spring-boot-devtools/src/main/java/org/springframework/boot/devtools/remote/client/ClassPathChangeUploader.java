@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,7 +17,9 @@
 package org.springframework.boot.devtools.remote.client;
 
 import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectOutputStream;
 import java.net.MalformedURLException;
 import java.net.SocketException;
@@ -26,7 +28,9 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -37,9 +41,10 @@ import org.springframework.boot.devtools.filewatch.ChangedFiles;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile.Kind;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles;
+import org.springframework.boot.devtools.restart.server.ClassLoaderFilesCodec;
+import org.springframework.boot.devtools.restart.server.ClassLoaderFilesCodec.FilesWriter;
 import org.springframework.context.ApplicationListener;
 import org.springframework.core.log.LogMessage;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -48,9 +53,14 @@ import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.util.Assert;
 import org.springframework.util.FileCopyUtils;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 
 /**
- * Listens and pushes any classpath updates to a remote endpoint.
+ * Listens and pushes any classpath updates to a remote endpoint. The digests of the
+ * changed files are sent first so that only files whose contents differ from those used
+ * by the remote application are uploaded. Remote endpoints that do not support digests
+ * are sent all of the changed files.
  *
  * @author Phillip Webb
  * @author Andy Wilkinson
@@ -74,6 +84,8 @@ public class ClassPathChangeUploader implements ApplicationListener<ClassPathCha
 
 	private final ClientHttpRequestFactory requestFactory;
 
+	private volatile boolean digestsSupported = true;
+
 	public ClassPathChangeUploader(String url, ClientHttpRequestFactory requestFactory) {
 		Assert.hasLength(url, "URL must not be empty");
 		Assert.notNull(requestFactory, "RequestFactory must not be null");
@@ -89,30 +101,101 @@ public class ClassPathChangeUploader implements ApplicationListener<ClassPathCha
 	@Override
 	public void onApplicationEvent(ClassPathChangedEvent event) {
 		try {
-			ClassLoaderFiles classLoaderFiles = getClassLoaderFiles(event);
-			byte[] bytes = serialize(classLoaderFiles);
-			performUpload(classLoaderFiles, bytes);
+			Map<String, ChangedFile> changedFiles = getChangedFiles(event);
+			Set<String> changedResources = (this.digestsSupported) ? getChangedResources(changedFiles) : null;
+			if (changedResources != null) {
+				uploadFiles(changedFiles, changedResources);
+			}
+			else {
+				this.digestsSupported = false;
+				ClassLoaderFiles classLoaderFiles = getClassLoaderFiles(changedFiles);
+				byte[] bytes = serialize(classLoaderFiles);
+				performUpload(classLoaderFiles, bytes);
+			}
 		}
 		catch (IOException ex) {
 			throw new IllegalStateException(ex);
 		}
 	}
 
+	private Map<String, ChangedFile> getChangedFiles(ClassPathChangedEvent event) {
+		Map<String, ChangedFile> changedFiles = new LinkedHashMap<>();
+		for (ChangedFiles files : event.getChangeSet()) {
+			for (ChangedFile changedFile : files) {
+				changedFiles.remove(changedFile.getRelativeName());
+				changedFiles.put(changedFile.getRelativeName(), changedFile);
+			}
+		}
+		return changedFiles;
+	}
+
+	private Set<String> getChangedResources(Map<String, ChangedFile> changedFiles) throws IOException {
+		Map<String, byte[]> digests = new LinkedHashMap<>();
+		for (ChangedFile changedFile : changedFiles.values()) {
+			if (changedFile.getType() != ChangedFile.Type.DELETE) {
+				try (InputStream inputStream = new FileInputStream(changedFile.getFile())) {
+					digests.put(changedFile.getRelativeName(), ClassLoaderFilesCodec.digest(inputStream));
+				}
+			}
+		}
+		return execute(ClassLoaderFilesCodec.DIGESTS_MEDIA_TYPE,
+				(request) -> ClassLoaderFilesCodec.writeDigests(digests, request.getBody()), (response) -> {
+					if (response.getStatusCode() != HttpStatus.OK || !ClassLoaderFilesCodec.DIGESTS_MEDIA_TYPE
+							.equalsTypeAndSubtype(response.getHeaders().getContentType())) {
+						logger.debug(LogMessage.format("Digests are not supported by %s", this.uri));
+						return null;
+					}
+					return ClassLoaderFilesCodec.readNames(response.getBody());
+				});
+	}
+
+	private void uploadFiles(Map<String, ChangedFile> changedFiles, Set<String> changedResources)
+			throws IOException {
+		int[] size = new int[1];
+		execute(ClassLoaderFilesCodec.FILES_MEDIA_TYPE, (request) -> {
+			size[0] = 0;
+			try (FilesWriter writer = ClassLoaderFilesCodec.writeFiles(request.getBody())) {
+				for (ChangedFile changedFile : changedFiles.values()) {
+					if (changedFile.getType() == ChangedFile.Type.DELETE
+							|| changedResources.contains(changedFile.getRelativeName())) {
+						writer.write(changedFile.getSourceDirectory().getAbsolutePath(), changedFile.getRelativeName(),
+								asClassLoaderFile(changedFile));
+						size[0]++;
+					}
+				}
+			}
+		}, this::checkUploaded);
+		logUpload(size[0]);
+		if (logger.isDebugEnabled() && size[0] < changedFiles.size()) {
+			logger.debug(LogMessage.format("Skipped %s unchanged class resources", changedFiles.size() - size[0]));
+		}
+	}
+
 	private void performUpload(ClassLoaderFiles classLoaderFiles, byte[] bytes) throws IOException {
+		execute(MediaType.APPLICATION_OCTET_STREAM, (request) -> {
+			request.getHeaders().setContentLength(bytes.length);
+			FileCopyUtils.copy(bytes, request.getBody());
+		}, this::checkUploaded);
+		logUpload(classLoaderFiles.size());
+	}
+
+	private Void checkUploaded(ClientHttpResponse response) throws IOException {
+		HttpStatus statusCode = response.getStatusCode();
+		Assert.state(statusCode == HttpStatus.OK, () -> "Unexpected " + statusCode + " response uploading class files");
+		return null;
+	}
+
+	private <T> T execute(MediaType contentType, RequestCallback requestCallback,
+			ResponseExtractor<T> responseExtractor) throws IOException {
 		try {
 			while (true) {
 				try {
 					ClientHttpRequest request = this.requestFactory.createRequest(this.uri, HttpMethod.POST);
-					HttpHeaders headers = request.getHeaders();
-					headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-					headers.setContentLength(bytes.length);
-					FileCopyUtils.copy(bytes, request.getBody());
-					ClientHttpResponse response = request.execute();
-					HttpStatus statusCode = response.getStatusCode();
-					Assert.state(statusCode == HttpStatus.OK,
-							() -> "Unexpected " + statusCode + " response uploading class files");
-					logUpload(classLoaderFiles);
-					return;
+					request.getHeaders().setContentType(contentType);
+					requestCallback.doWithRequest(request);
+					try (ClientHttpResponse response = request.execute()) {
+						return responseExtractor.extractData(response);
+					}
 				}
 				catch (SocketException ex) {
 					logger.warn(LogMessage.format(
@@ -128,8 +211,7 @@ public class ClassPathChangeUploader implements ApplicationListener<ClassPathCha
 		}
 	}
 
-	private void logUpload(ClassLoaderFiles classLoaderFiles) {
-		int size = classLoaderFiles.size();
+	private void logUpload(int size) {
 		logger.info(LogMessage.format("Uploaded %s class %s", size, (size != 1) ? "resources" : "resource"));
 	}
 
@@ -141,13 +223,11 @@ public class ClassPathChangeUploader implements ApplicationListener<ClassPathCha
 		return outputStream.toByteArray();
 	}
 
-	private ClassLoaderFiles getClassLoaderFiles(ClassPathChangedEvent event) throws IOException {
+	private ClassLoaderFiles getClassLoaderFiles(Map<String, ChangedFile> changedFiles) throws IOException {
 		ClassLoaderFiles files = new ClassLoaderFiles();
-		for (ChangedFiles changedFiles : event.getChangeSet()) {
-			String sourceDirectory = changedFiles.getSourceDirectory().getAbsolutePath();
-			for (ChangedFile changedFile : changedFiles) {
-				files.addFile(sourceDirectory, changedFile.getRelativeName(), asClassLoaderFile(changedFile));
-			}
+		for (ChangedFile changedFile : changedFiles.values()) {
+			files.addFile(changedFile.getSourceDirectory().getAbsolutePath(), changedFile.getRelativeName(),
+					asClassLoaderFile(changedFile));
 		}
 		return files;
 	}
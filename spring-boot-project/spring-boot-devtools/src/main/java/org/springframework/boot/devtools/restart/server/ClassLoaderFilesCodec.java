@@ -0,0 +1,273 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.devtools.restart.server;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile;
+import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile.Kind;
+import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles;
+import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+
+/**
+ * Binary encoding used to upload {@link ClassLoaderFiles} to a {@link HttpRestartServer}.
+ * An upload is made in two requests. The first sends the {@link #digest digests} of the
+ * contents of the added and modified files and the server replies with the names of the
+ * files whose contents differ from those that the application is currently using. The
+ * second sends a compressed stream of those files, along with any deleted files.
+ *
+ * @author Spring Contributor
+ * @since 2.5.0
+ */
+public final class ClassLoaderFilesCodec {
+
+	/**
+	 * The media type of a request containing digests and of its response containing the
+	 * names of the files that have changed.
+	 */
+	public static final MediaType DIGESTS_MEDIA_TYPE = new MediaType("application",
+			"vnd.spring-boot.devtools.digests");
+
+	/**
+	 * The media type of a request containing a compressed stream of files.
+	 */
+	public static final MediaType FILES_MEDIA_TYPE = new MediaType("application", "vnd.spring-boot.devtools.files");
+
+	private static final String DIGEST_ALGORITHM = "SHA-256";
+
+	private static final int VERSION = 1;
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private static final Kind[] KINDS = Kind.values();
+
+	private ClassLoaderFilesCodec() {
+	}
+
+	/**
+	 * Return the digest of the given contents.
+	 * @param inputStream the contents, which will be read but not closed
+	 * @return the digest
+	 * @throws IOException on IO error
+	 */
+	public static byte[] digest(InputStream inputStream) throws IOException {
+		MessageDigest messageDigest = getMessageDigest();
+		byte[] buffer = new byte[BUFFER_SIZE];
+		int read;
+		while ((read = inputStream.read(buffer)) != -1) {
+			messageDigest.update(buffer, 0, read);
+		}
+		return messageDigest.digest();
+	}
+
+	private static MessageDigest getMessageDigest() {
+		try {
+			return MessageDigest.getInstance(DIGEST_ALGORITHM);
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * Write the given digests.
+	 * @param digests the digests keyed by file name
+	 * @param outputStream the destination, which will be flushed but not closed
+	 * @throws IOException on IO error
+	 */
+	public static void writeDigests(Map<String, byte[]> digests, OutputStream outputStream) throws IOException {
+		DataOutputStream output = new DataOutputStream(outputStream);
+		output.writeByte(VERSION);
+		output.writeInt(digests.size());
+		for (Map.Entry<String, byte[]> entry : digests.entrySet()) {
+			output.writeUTF(entry.getKey());
+			output.writeShort(entry.getValue().length);
+			output.write(entry.getValue());
+		}
+		output.flush();
+	}
+
+	/**
+	 * Read digests written by {@link #writeDigests(Map, OutputStream)}.
+	 * @param inputStream the source
+	 * @return the digests keyed by file name
+	 * @throws IOException on IO error
+	 */
+	public static Map<String, byte[]> readDigests(InputStream inputStream) throws IOException {
+		DataInputStream input = new DataInputStream(inputStream);
+		readVersion(input);
+		int size = input.readInt();
+		Map<String, byte[]> digests = new LinkedHashMap<>();
+		for (int i = 0; i < size; i++) {
+			String name = input.readUTF();
+			byte[] digest = new byte[input.readUnsignedShort()];
+			input.readFully(digest);
+			digests.put(name, digest);
+		}
+		return digests;
+	}
+
+	/**
+	 * Write the given file names.
+	 * @param names the file names
+	 * @param outputStream the destination, which will be flushed but not closed
+	 * @throws IOException on IO error
+	 */
+	public static void writeNames(Collection<String> names, OutputStream outputStream) throws IOException {
+		DataOutputStream output = new DataOutputStream(outputStream);
+		output.writeByte(VERSION);
+		output.writeInt(names.size());
+		for (String name : names) {
+			output.writeUTF(name);
+		}
+		output.flush();
+	}
+
+	/**
+	 * Read file names written by {@link #writeNames(Collection, OutputStream)}.
+	 * @param inputStream the source
+	 * @return the file names
+	 * @throws IOException on IO error
+	 */
+	public static Set<String> readNames(InputStream inputStream) throws IOException {
+		DataInputStream input = new DataInputStream(inputStream);
+		readVersion(input);
+		int size = input.readInt();
+		Set<String> names = new LinkedHashSet<>();
+		for (int i = 0; i < size; i++) {
+			names.add(input.readUTF());
+		}
+		return names;
+	}
+
+	/**
+	 * Return a {@link FilesWriter} that writes a compressed stream of files to the given
+	 * output stream.
+	 * @param outputStream the destination, which will be flushed but not closed
+	 * @return the writer
+	 * @throws IOException on IO error
+	 */
+	public static FilesWriter writeFiles(OutputStream outputStream) throws IOException {
+		return new FilesWriter(outputStream);
+	}
+
+	/**
+	 * Read files written by a {@link FilesWriter}.
+	 * @param inputStream the source
+	 * @return the files
+	 * @throws IOException on IO error
+	 */
+	public static ClassLoaderFiles readFiles(InputStream inputStream) throws IOException {
+		DataInputStream input = new DataInputStream(new InflaterInputStream(inputStream));
+		readVersion(input);
+		ClassLoaderFiles files = new ClassLoaderFiles();
+		while (input.readBoolean()) {
+			String sourceDirectory = input.readUTF();
+			String name = input.readUTF();
+			int kind = input.readUnsignedByte();
+			Assert.state(kind < KINDS.length, () -> "Unknown file kind " + kind);
+			long lastModified = input.readLong();
+			byte[] contents = null;
+			if (KINDS[kind] != Kind.DELETED) {
+				int length = input.readInt();
+				Assert.state(length >= 0, () -> "Invalid length " + length);
+				contents = new byte[length];
+				input.readFully(contents);
+			}
+			files.addFile(sourceDirectory, name, new ClassLoaderFile(KINDS[kind], lastModified, contents));
+		}
+		return files;
+	}
+
+	private static void readVersion(DataInputStream input) throws IOException {
+		int version = input.readUnsignedByte();
+		Assert.state(version == VERSION, () -> "Unsupported version " + version);
+	}
+
+	/**
+	 * Writes a compressed stream of files.
+	 */
+	public static final class FilesWriter implements Closeable {
+
+		private final Deflater deflater = new Deflater();
+
+		private final DeflaterOutputStream deflaterOutputStream;
+
+		private final DataOutputStream output;
+
+		private FilesWriter(OutputStream outputStream) throws IOException {
+			this.deflaterOutputStream = new DeflaterOutputStream(outputStream, this.deflater, BUFFER_SIZE);
+			this.output = new DataOutputStream(this.deflaterOutputStream);
+			this.output.writeByte(VERSION);
+		}
+
+		/**
+		 * Write a file.
+		 * @param sourceDirectory the source directory of the file
+		 * @param name the name of the file
+		 * @param file the file
+		 * @throws IOException on IO error
+		 */
+		public void write(String sourceDirectory, String name, ClassLoaderFile file) throws IOException {
+			this.output.writeBoolean(true);
+			this.output.writeUTF(sourceDirectory);
+			this.output.writeUTF(name);
+			this.output.writeByte(file.getKind().ordinal());
+			this.output.writeLong(file.getLastModified());
+			if (file.getKind() != Kind.DELETED) {
+				this.output.writeInt(file.getContents().length);
+				this.output.write(file.getContents());
+			}
+		}
+
+		/**
+		 * Write the end of the stream. The underlying output stream is flushed but not
+		 * closed.
+		 * @throws IOException on IO error
+		 */
+		@Override
+		public void close() throws IOException {
+			try {
+				this.output.writeBoolean(false);
+				this.output.flush();
+				this.deflaterOutputStream.finish();
+				this.deflaterOutputStream.flush();
+			}
+			finally {
+				this.deflater.end();
+			}
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,19 +18,23 @@ package org.springframework.boot.devtools.restart.server;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.util.Assert;
 
 /**
  * A HTTP server that can be used to upload updated {@link ClassLoaderFiles} and trigger
- * restarts.
+ * restarts. Files can be uploaded either as a serialized {@link ClassLoaderFiles} instance
+ * or using the digests and compressed files of a {@link ClassLoaderFilesCodec}.
  *
  * @author Phillip Webb
  * @since 1.3.0
@@ -69,10 +73,13 @@ public class HttpRestartServer {
 	 */
 	public void handle(ServerHttpRequest request, ServerHttpResponse response) throws IOException {
 		try {
-			Assert.state(request.getHeaders().getContentLength() > 0, "No content");
-			ObjectInputStream objectInputStream = new ObjectInputStream(request.getBody());
-			ClassLoaderFiles files = (ClassLoaderFiles) objectInputStream.readObject();
-			objectInputStream.close();
+			MediaType contentType = request.getHeaders().getContentType();
+			if (ClassLoaderFilesCodec.DIGESTS_MEDIA_TYPE.equalsTypeAndSubtype(contentType)) {
+				handleDigests(request, response);
+				return;
+			}
+			ClassLoaderFiles files = ClassLoaderFilesCodec.FILES_MEDIA_TYPE.equalsTypeAndSubtype(contentType)
+					? ClassLoaderFilesCodec.readFiles(request.getBody()) : deserialize(request);
 			this.server.updateAndRestart(files);
 			response.setStatusCode(HttpStatus.OK);
 		}
@@ -82,4 +89,19 @@ public class HttpRestartServer {
 		}
 	}
 
+	private void handleDigests(ServerHttpRequest request, ServerHttpResponse response) throws IOException {
+		Map<String, byte[]> digests = ClassLoaderFilesCodec.readDigests(request.getBody());
+		Set<String> changed = this.server.getChangedResources(digests);
+		response.setStatusCode(HttpStatus.OK);
+		response.getHeaders().setContentType(ClassLoaderFilesCodec.DIGESTS_MEDIA_TYPE);
+		ClassLoaderFilesCodec.writeNames(changed, response.getBody());
+	}
+
+	private ClassLoaderFiles deserialize(ServerHttpRequest request) throws IOException, ClassNotFoundException {
+		Assert.state(request.getHeaders().getContentLength() > 0, "No content");
+		try (ObjectInputStream objectInputStream = new ObjectInputStream(request.getBody())) {
+			return (ClassLoaderFiles) objectInputStream.readObject();
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,10 +18,13 @@ package org.springframework.boot.devtools.restart.server;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.security.MessageDigest;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
@@ -96,6 +99,37 @@ public class RestartServer {
 		restart(urls, files);
 	}
 
+	/**
+	 * Return the names of the resources whose contents differ from those that are
+	 * currently used by the running application.
+	 * @param digests the {@link ClassLoaderFilesCodec#digest digests} of the contents of
+	 * the resources keyed by resource name
+	 * @return the names of the resources that have changed
+	 * @since 2.5.0
+	 */
+	public Set<String> getChangedResources(Map<String, byte[]> digests) {
+		Set<String> changed = new LinkedHashSet<>();
+		digests.forEach((name, digest) -> {
+			if (!hasDigest(name, digest)) {
+				changed.add(name);
+			}
+		});
+		return changed;
+	}
+
+	private boolean hasDigest(String name, byte[] digest) {
+		URL resource = this.classLoader.getResource(name);
+		if (resource == null) {
+			return false;
+		}
+		try (InputStream inputStream = resource.openStream()) {
+			return MessageDigest.isEqual(digest, ClassLoaderFilesCodec.digest(inputStream));
+		}
+		catch (IOException ex) {
+			return false;
+		}
+	}
+
 	private boolean updateFileSystem(URL url, String name, ClassLoaderFile classLoaderFile) {
 		if (!isDirectoryUrl(url.toString())) {
 			return false;
@@ -18,6 +18,7 @@ package org.springframework.boot.devtools.filewatch;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +27,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.boot.devtools.filewatch.ChangedFile.Type;
 import org.springframework.util.FileCopyUtils;
+import org.springframework.util.FileSystemUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -136,6 +138,41 @@ class DirectorySnapshotTests {
 		assertThat(getChangedFile(changedFiles, newFile).getType()).isEqualTo(Type.ADD);
 	}
 
+	@Test
+	void updateWithChangedFilesWhenAFileIsAddedAndDeletedAndChanged() throws Exception {
+		File directory1 = new File(this.directory, "directory1");
+		File file1 = new File(directory1, "file1");
+		File file2 = new File(directory1, "file2");
+		File newFile = new File(directory1, "newfile");
+		FileCopyUtils.copy("updatedcontent".getBytes(), file1);
+		file2.delete();
+		newFile.createNewFile();
+		DirectorySnapshot updatedSnapshot = new DirectorySnapshot(this.initialSnapshot,
+				Arrays.asList(file1, file2, newFile));
+		assertThat(updatedSnapshot).isEqualTo(new DirectorySnapshot(this.directory));
+		ChangedFiles changedFiles = this.initialSnapshot.getChangedFiles(updatedSnapshot, null);
+		assertThat(getChangedFile(changedFiles, file1).getType()).isEqualTo(Type.MODIFY);
+		assertThat(getChangedFile(changedFiles, file2).getType()).isEqualTo(Type.DELETE);
+		assertThat(getChangedFile(changedFiles, newFile).getType()).isEqualTo(Type.ADD);
+	}
+
+	@Test
+	void updateWithChangedFilesWhenADirectoryIsAddedAndDeleted() throws Exception {
+		File directory1 = new File(this.directory, "directory1");
+		File directory2 = new File(this.directory, "directory2");
+		File file = new File(new File(directory2, "nested"), "file");
+		file.getParentFile().mkdirs();
+		file.createNewFile();
+		FileSystemUtils.deleteRecursively(directory1);
+		DirectorySnapshot updatedSnapshot = new DirectorySnapshot(this.initialSnapshot,
+				Arrays.asList(directory1, directory2));
+		assertThat(updatedSnapshot).isEqualTo(new DirectorySnapshot(this.directory));
+		ChangedFiles changedFiles = this.initialSnapshot.getChangedFiles(updatedSnapshot, null);
+		assertThat(changedFiles.getFiles()).hasSize(3);
+		assertThat(getChangedFile(changedFiles, file).getType()).isEqualTo(Type.ADD);
+		assertThat(getChangedFile(changedFiles, new File(directory1, "file1")).getType()).isEqualTo(Type.DELETE);
+	}
+
 	private ChangedFile getChangedFile(ChangedFiles changedFiles, File file) {
 		for (ChangedFile changedFile : changedFiles) {
 			if (changedFile.getFile().equals(file)) {
@@ -34,6 +34,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.boot.devtools.filewatch.ChangedFile.Type;
 import org.springframework.util.FileCopyUtils;
+import org.springframework.util.FileSystemUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -297,6 +298,91 @@ class FileSystemWatcherTests {
 		assertThat(actual).isEqualTo(expected);
 	}
 
+	@Test
+	void withWatchServiceAddFile() throws Exception {
+		this.watcher.setUseWatchService(true);
+		File directory = startWithNewDirectory();
+		File file = touch(new File(directory, "test.txt"));
+		this.watcher.stopAfter(1);
+		ChangedFiles changedFiles = getSingleChangedFiles();
+		assertThat(changedFiles.getFiles()).containsExactly(new ChangedFile(directory, file, Type.ADD));
+	}
+
+	@Test
+	void withWatchServiceAddNestedFileInNewDirectories() throws Exception {
+		this.watcher.setUseWatchService(true);
+		File directory = startWithNewDirectory();
+		File file = touch(new File(new File(new File(directory, "sub"), "nested"), "text.txt"));
+		this.watcher.stopAfter(1);
+		ChangedFiles changedFiles = getSingleChangedFiles();
+		assertThat(changedFiles.getFiles()).containsExactly(new ChangedFile(directory, file, Type.ADD));
+	}
+
+	@Test
+	void withWatchServiceModifyDeleteAndAdd() throws Exception {
+		File directory = new File(this.tempDir, UUID.randomUUID().toString());
+		File modify = touch(new File(directory, "modify.txt"));
+		File delete = touch(new File(new File(directory, "sub"), "delete.txt"));
+		this.watcher.setUseWatchService(true);
+		this.watcher.addSourceDirectory(directory);
+		this.watcher.start();
+		FileCopyUtils.copy("abc".getBytes(), modify);
+		FileSystemUtils.deleteRecursively(delete.getParentFile());
+		File add = touch(new File(directory, "add.txt"));
+		this.watcher.stopAfter(1);
+		ChangedFiles changedFiles = getSingleChangedFiles();
+		Set<ChangedFile> expected = new HashSet<>();
+		expected.add(new ChangedFile(directory, modify, Type.MODIFY));
+		expected.add(new ChangedFile(directory, delete, Type.DELETE));
+		expected.add(new ChangedFile(directory, add, Type.ADD));
+		assertThat(changedFiles.getFiles()).isEqualTo(expected);
+	}
+
+	@Test
+	void withWatchServiceWaitsForQuietPeriod() throws Exception {
+		setupWatcher(300, 200);
+		this.watcher.setUseWatchService(true);
+		File directory = startWithNewDirectory();
+		for (int i = 0; i < 100; i++) {
+			touch(new File(directory, i + "test.txt"));
+			Thread.sleep(10);
+		}
+		this.watcher.stopAfter(1);
+		ChangedFiles changedFiles = getSingleChangedFiles();
+		assertThat(changedFiles.getFiles()).hasSize(100);
+	}
+
+	@Test
+	void withWatchServiceCreateSourceDirectoryAndAddFile() throws IOException {
+		File directory = new File(this.tempDir, "does/not/exist");
+		this.watcher.setUseWatchService(true);
+		this.watcher.addSourceDirectory(directory);
+		this.watcher.start();
+		directory.mkdirs();
+		File file = touch(new File(directory, "text.txt"));
+		this.watcher.stopAfter(1);
+		ChangedFiles changedFiles = getSingleChangedFiles();
+		assertThat(changedFiles.getFiles()).containsExactly(new ChangedFile(directory, file, Type.ADD));
+	}
+
+	@Test
+	void withWatchServiceAndTriggerFilter() throws Exception {
+		File directory = new File(this.tempDir, UUID.randomUUID().toString());
+		File file = touch(new File(directory, "file.txt"));
+		File trigger = touch(new File(directory, "trigger.txt"));
+		this.watcher.setUseWatchService(true);
+		this.watcher.addSourceDirectory(directory);
+		this.watcher.setTriggerFilter((candidate) -> candidate.getName().equals("trigger.txt"));
+		this.watcher.start();
+		FileCopyUtils.copy("abc".getBytes(), file);
+		Thread.sleep(100);
+		assertThat(this.changes).isEmpty();
+		FileCopyUtils.copy("abc".getBytes(), trigger);
+		this.watcher.stopAfter(1);
+		ChangedFiles changedFiles = getSingleChangedFiles();
+		assertThat(changedFiles.getFiles()).containsExactly(new ChangedFile(directory, file, Type.MODIFY));
+	}
+
 	private void setupWatcher(long pollingInterval, long quietPeriod) {
 		setupWatcher(pollingInterval, quietPeriod, null);
 	}
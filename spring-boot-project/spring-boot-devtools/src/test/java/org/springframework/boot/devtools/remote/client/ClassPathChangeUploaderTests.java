@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,15 +17,24 @@
 package org.springframework.boot.devtools.remote.client;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.net.SocketException;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -38,8 +47,17 @@ import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile.Kind;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles.SourceDirectory;
+import org.springframework.boot.devtools.restart.server.ClassLoaderFilesCodec;
+import org.springframework.boot.devtools.restart.server.DefaultSourceDirectoryUrlFilter;
+import org.springframework.boot.devtools.restart.server.HttpRestartServer;
+import org.springframework.boot.devtools.restart.server.RestartServer;
 import org.springframework.boot.devtools.test.MockClientHttpRequestFactory;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
 import org.springframework.mock.http.client.MockClientHttpRequest;
 import org.springframework.util.FileCopyUtils;
 
@@ -91,23 +109,92 @@ class ClassPathChangeUploaderTests {
 	}
 
 	@Test
-	void sendsClassLoaderFiles(@TempDir File sourceDirectory) throws Exception {
+	void sendsClassLoaderFilesWhenDigestsAreNotSupported(@TempDir File sourceDirectory) throws Exception {
 		ClassPathChangedEvent event = createClassPathChangedEvent(sourceDirectory);
-		this.requestFactory.willRespond(HttpStatus.OK);
+		this.requestFactory.willRespond(HttpStatus.INTERNAL_SERVER_ERROR, HttpStatus.OK);
 		this.uploader.onApplicationEvent(event);
-		assertThat(this.requestFactory.getExecutedRequests()).hasSize(1);
-		MockClientHttpRequest request = this.requestFactory.getExecutedRequests().get(0);
+		assertThat(this.requestFactory.getExecutedRequests()).hasSize(2);
+		MockClientHttpRequest request = this.requestFactory.getExecutedRequests().get(1);
 		verifyUploadRequest(sourceDirectory, request);
 	}
 
+	@Test
+	void sendsClassLoaderFilesWithoutDigestsOnceDigestsAreNotSupported(@TempDir File sourceDirectory)
+			throws Exception {
+		ClassPathChangedEvent event = createClassPathChangedEvent(sourceDirectory);
+		this.requestFactory.willRespond(HttpStatus.INTERNAL_SERVER_ERROR, HttpStatus.OK, HttpStatus.OK);
+		this.uploader.onApplicationEvent(event);
+		this.uploader.onApplicationEvent(event);
+		assertThat(this.requestFactory.getExecutedRequests()).hasSize(3);
+		verifyUploadRequest(sourceDirectory, this.requestFactory.getExecutedRequests().get(2));
+	}
+
 	@Test
 	void retriesOnSocketException(@TempDir File sourceDirectory) throws Exception {
 		ClassPathChangedEvent event = createClassPathChangedEvent(sourceDirectory);
 		this.requestFactory.willRespond(new SocketException());
+		this.requestFactory.willRespond(HttpStatus.INTERNAL_SERVER_ERROR, HttpStatus.OK);
+		this.uploader.onApplicationEvent(event);
+		assertThat(this.requestFactory.getExecutedRequests()).hasSize(3);
+		verifyUploadRequest(sourceDirectory, this.requestFactory.getExecutedRequests().get(2));
+	}
+
+	@Test
+	void sendsDigestsAndThenOnlyChangedFiles(@TempDir File sourceDirectory) throws Exception {
+		ClassPathChangedEvent event = createClassPathChangedEvent(sourceDirectory);
+		ByteArrayOutputStream changedResources = new ByteArrayOutputStream();
+		ClassLoaderFilesCodec.writeNames(Collections.singleton("File1"), changedResources);
+		this.requestFactory.willRespond(ClassLoaderFilesCodec.DIGESTS_MEDIA_TYPE, changedResources.toByteArray());
 		this.requestFactory.willRespond(HttpStatus.OK);
 		this.uploader.onApplicationEvent(event);
 		assertThat(this.requestFactory.getExecutedRequests()).hasSize(2);
-		verifyUploadRequest(sourceDirectory, this.requestFactory.getExecutedRequests().get(1));
+		MockClientHttpRequest digestsRequest = this.requestFactory.getExecutedRequests().get(0);
+		assertThat(digestsRequest.getHeaders().getContentType()).isEqualTo(ClassLoaderFilesCodec.DIGESTS_MEDIA_TYPE);
+		Map<String, byte[]> digests = ClassLoaderFilesCodec
+				.readDigests(new ByteArrayInputStream(digestsRequest.getBodyAsBytes()));
+		assertThat(digests).containsOnlyKeys("File1", "File2");
+		assertThat(digests.get("File2"))
+				.isEqualTo(ClassLoaderFilesCodec.digest(new ByteArrayInputStream("File2".getBytes())));
+		MockClientHttpRequest filesRequest = this.requestFactory.getExecutedRequests().get(1);
+		assertThat(filesRequest.getHeaders().getContentType()).isEqualTo(ClassLoaderFilesCodec.FILES_MEDIA_TYPE);
+		ClassLoaderFiles classLoaderFiles = ClassLoaderFilesCodec
+				.readFiles(new ByteArrayInputStream(filesRequest.getBodyAsBytes()));
+		SourceDirectory classSourceDirectory = classLoaderFiles.getSourceDirectories().iterator().next();
+		assertThat(classSourceDirectory.getName()).isEqualTo(sourceDirectory.getAbsolutePath());
+		Iterator<ClassLoaderFile> classFiles = classSourceDirectory.getFiles().iterator();
+		assertClassFile(classFiles.next(), "File1", ClassLoaderFile.Kind.ADDED);
+		assertClassFile(classFiles.next(), null, ClassLoaderFile.Kind.DELETED);
+		assertThat(classFiles.hasNext()).isFalse();
+	}
+
+	@Test
+	void uploadsChangedFilesToServer(@TempDir File directory) throws Exception {
+		File sourceDirectory = new File(directory, "source");
+		File serverDirectory = new File(directory, "server");
+		sourceDirectory.mkdirs();
+		serverDirectory.mkdirs();
+		ClassPathChangedEvent event = createClassPathChangedEvent(sourceDirectory);
+		createFile(serverDirectory, "File2");
+		FileCopyUtils.copy("Original".getBytes(), new File(serverDirectory, "File3"));
+		URLClassLoader classLoader = new URLClassLoader(new URL[] { serverDirectory.toURI().toURL() }, null);
+		MockRestartServer restartServer = new MockRestartServer(classLoader);
+		WebServer webServer = new TomcatServletWebServerFactory(0).getWebServer((servletContext) -> servletContext
+				.addServlet("restart", new RestartServlet(new HttpRestartServer(restartServer))).addMapping("/"));
+		try {
+			webServer.start();
+			ClassPathChangeUploader uploader = new ClassPathChangeUploader(
+					"http://localhost:" + webServer.getPort() + "/restart", new SimpleClientHttpRequestFactory());
+			uploader.onApplicationEvent(event);
+		}
+		finally {
+			webServer.stop();
+			classLoader.close();
+		}
+		ClassLoaderFiles classLoaderFiles = restartServer.restartFiles;
+		assertThat(classLoaderFiles.size()).isEqualTo(2);
+		assertClassFile(classLoaderFiles.getFile("File1"), "File1", ClassLoaderFile.Kind.ADDED);
+		assertClassFile(classLoaderFiles.getFile("File3"), null, ClassLoaderFile.Kind.DELETED);
+		assertThat(new File(serverDirectory, "File3")).doesNotExist();
 	}
 
 	private void verifyUploadRequest(File sourceDirectory, MockClientHttpRequest request)
@@ -153,4 +240,36 @@ class ClassPathChangeUploaderTests {
 		return (ClassLoaderFiles) objectInputStream.readObject();
 	}
 
+	static class MockRestartServer extends RestartServer {
+
+		private ClassLoaderFiles restartFiles;
+
+		MockRestartServer(ClassLoader classLoader) {
+			super(new DefaultSourceDirectoryUrlFilter(), classLoader);
+		}
+
+		@Override
+		protected void restart(Set<URL> urls, ClassLoaderFiles files) {
+			this.restartFiles = files;
+		}
+
+	}
+
+	static class RestartServlet extends HttpServlet {
+
+		private final HttpRestartServer server;
+
+		RestartServlet(HttpRestartServer server) {
+			this.server = server;
+		}
+
+		@Override
+		protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+			ServletServerHttpResponse serverResponse = new ServletServerHttpResponse(response);
+			this.server.handle(new ServletServerHttpRequest(request), serverResponse);
+			serverResponse.close();
+		}
+
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,12 @@
 
 package org.springframework.boot.devtools.restart.server;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,6 +34,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFile.Kind;
 import org.springframework.boot.devtools.restart.classloader.ClassLoaderFiles;
+import org.springframework.boot.devtools.restart.server.ClassLoaderFilesCodec.FilesWriter;
 import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.http.server.ServletServerHttpResponse;
 import org.springframework.mock.web.MockHttpServletRequest;
@@ -38,6 +42,9 @@ import org.springframework.mock.web.MockHttpServletResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -57,6 +64,9 @@ class HttpRestartServerTests {
 	@Captor
 	private ArgumentCaptor<ClassLoaderFiles> filesCaptor;
 
+	@Captor
+	private ArgumentCaptor<Map<String, byte[]>> digestsCaptor;
+
 	@BeforeEach
 	void setup() {
 		this.server = new HttpRestartServer(this.delegate);
@@ -88,6 +98,51 @@ class HttpRestartServerTests {
 		assertThat(response.getStatus()).isEqualTo(200);
 	}
 
+	@Test
+	void sendDigests() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		Map<String, byte[]> digests = Collections.singletonMap("name", new byte[] { 1, 2, 3 });
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		ClassLoaderFilesCodec.writeDigests(digests, content);
+		request.setContentType(ClassLoaderFilesCodec.DIGESTS_MEDIA_TYPE.toString());
+		request.setContent(content.toByteArray());
+		given(this.delegate.getChangedResources(this.digestsCaptor.capture()))
+				.willReturn(Collections.singleton("name"));
+		this.server.handle(new ServletServerHttpRequest(request), new ServletServerHttpResponse(response));
+		assertThat(this.digestsCaptor.getValue()).containsOnlyKeys("name");
+		assertThat(this.digestsCaptor.getValue().get("name")).containsExactly(1, 2, 3);
+		verify(this.delegate, never()).updateAndRestart(any());
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getContentType()).isEqualTo(ClassLoaderFilesCodec.DIGESTS_MEDIA_TYPE.toString());
+		assertThat(ClassLoaderFilesCodec.readNames(new ByteArrayInputStream(response.getContentAsByteArray())))
+				.containsExactly("name");
+	}
+
+	@Test
+	void sendCompressedFiles() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		try (FilesWriter writer = ClassLoaderFilesCodec.writeFiles(content)) {
+			writer.write("directory", "added", new ClassLoaderFile(Kind.ADDED, 1, "abc".getBytes()));
+			writer.write("directory", "deleted", new ClassLoaderFile(Kind.DELETED, 2, null));
+		}
+		request.setContentType(ClassLoaderFilesCodec.FILES_MEDIA_TYPE.toString());
+		request.setContent(content.toByteArray());
+		this.server.handle(new ServletServerHttpRequest(request), new ServletServerHttpResponse(response));
+		verify(this.delegate).updateAndRestart(this.filesCaptor.capture());
+		ClassLoaderFile added = this.filesCaptor.getValue().getFile("added");
+		assertThat(added.getKind()).isEqualTo(Kind.ADDED);
+		assertThat(added.getLastModified()).isEqualTo(1);
+		assertThat(added.getContents()).isEqualTo("abc".getBytes());
+		ClassLoaderFile deleted = this.filesCaptor.getValue().getFile("deleted");
+		assertThat(deleted.getKind()).isEqualTo(Kind.DELETED);
+		assertThat(deleted.getContents()).isNull();
+		assertThat(this.filesCaptor.getValue().getSourceDirectories()).hasSize(1);
+		assertThat(response.getStatus()).isEqualTo(200);
+	}
+
 	@Test
 	void sendNoContent() throws Exception {
 		MockHttpServletRequest request = new MockHttpServletRequest();
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,15 @@
 
 package org.springframework.boot.devtools.restart.server;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -104,6 +107,22 @@ class RestartServerTests {
 		assertThat(FileCopyUtils.copyToByteArray(classFile)).isEqualTo("def".getBytes());
 	}
 
+	@Test
+	void getChangedResources(@TempDir File directory) throws Exception {
+		FileCopyUtils.copy("abc".getBytes(), new File(directory, "same"));
+		FileCopyUtils.copy("abc".getBytes(), new File(directory, "different"));
+		URLClassLoader classLoader = new URLClassLoader(new URL[] { directory.toURI().toURL() }, null);
+		MockRestartServer server = new MockRestartServer(new DefaultSourceDirectoryUrlFilter(), classLoader);
+		byte[] digest = ClassLoaderFilesCodec.digest(new ByteArrayInputStream("abc".getBytes()));
+		byte[] otherDigest = ClassLoaderFilesCodec.digest(new ByteArrayInputStream("def".getBytes()));
+		Map<String, byte[]> digests = new LinkedHashMap<>();
+		digests.put("same", digest);
+		digests.put("different", otherDigest);
+		digests.put("missing", digest);
+		assertThat(server.getChangedResources(digests)).containsExactly("different", "missing");
+		classLoader.close();
+	}
+
 	static class MockRestartServer extends RestartServer {
 
 		MockRestartServer(SourceDirectoryUrlFilter sourceDirectoryUrlFilter, ClassLoader classLoader) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -60,6 +60,10 @@ public class MockClientHttpRequestFactory implements ClientHttpRequestFactory {
 		}
 	}
 
+	public void willRespond(MediaType contentType, byte[] payload) {
+		this.responses.add(new Response(0, payload, contentType, HttpStatus.OK));
+	}
+
 	public void willRespond(IOException... response) {
 		for (IOException exception : response) {
 			this.responses.addLast(exception);
@@ -107,11 +111,18 @@ public class MockClientHttpRequestFactory implements ClientHttpRequestFactory {
 
 		private final byte[] payload;
 
+		private final MediaType contentType;
+
 		private final HttpStatus status;
 
 		Response(int delay, byte[] payload, HttpStatus status) {
+			this(delay, payload, MediaType.APPLICATION_OCTET_STREAM, status);
+		}
+
+		Response(int delay, byte[] payload, MediaType contentType, HttpStatus status) {
 			this.delay = delay;
 			this.payload = payload;
+			this.contentType = contentType;
 			this.status = status;
 		}
 
@@ -121,7 +132,7 @@ public class MockClientHttpRequestFactory implements ClientHttpRequestFactory {
 			waitForDelay();
 			if (this.payload != null) {
 				httpResponse.getHeaders().setContentLength(this.payload.length);
-				httpResponse.getHeaders().setContentType(MediaType.APPLICATION_OCTET_STREAM);
+				httpResponse.getHeaders().setContentType(this.contentType);
 				httpResponse.getHeaders().add("x-seq", Long.toString(seq.incrementAndGet()));
 			}
 			return httpResponse;
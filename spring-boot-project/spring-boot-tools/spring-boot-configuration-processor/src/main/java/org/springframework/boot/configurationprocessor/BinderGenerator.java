@@ -0,0 +1,486 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.configurationprocessor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.JavaFileObject;
+
+/**
+ * Used by {@link ConfigurationMetadataAnnotationProcessor} to generate a binder for each
+ * {@code @ConfigurationProperties} JavaBean so that its properties can be bound without
+ * reflection. Properties are discovered using the same rules as the {@code Binder}. Types
+ * for which those rules cannot be applied unambiguously at build time are skipped and
+ * will continue to be bound using reflection.
+ *
+ * @author Spring Contributor
+ */
+class BinderGenerator {
+
+	static final String SUFFIX = "__ConfigurationPropertiesBinder";
+
+	private static final String RESOLVABLE_TYPE = "org.springframework.core.ResolvableType";
+
+	private final ProcessingEnvironment environment;
+
+	private final Types types;
+
+	private final Elements elements;
+
+	private final String generatedBeanBinderType;
+
+	private final Set<String> sourceTypes = new HashSet<>();
+
+	private final Set<String> generatedTypes = new HashSet<>();
+
+	BinderGenerator(ProcessingEnvironment environment, String generatedBeanBinderType) {
+		this.environment = environment;
+		this.types = environment.getTypeUtils();
+		this.elements = environment.getElementUtils();
+		this.generatedBeanBinderType = generatedBeanBinderType;
+	}
+
+	void processing(RoundEnvironment roundEnv) {
+		for (Element element : roundEnv.getRootElements()) {
+			addSourceType(element);
+		}
+	}
+
+	private void addSourceType(Element element) {
+		if (element instanceof TypeElement) {
+			this.sourceTypes.add(((TypeElement) element).getQualifiedName().toString());
+			for (Element enclosed : element.getEnclosedElements()) {
+				addSourceType(enclosed);
+			}
+		}
+	}
+
+	/**
+	 * Generate the binder for the given type, unless it has already been generated or
+	 * the type cannot be bound without reflection.
+	 * @param type the type to generate a binder for
+	 * @throws IOException on write error
+	 */
+	void generate(TypeElement type) throws IOException {
+		if (!this.sourceTypes.contains(type.getQualifiedName().toString()) || !isCandidateType(type)) {
+			return;
+		}
+		String binderName = this.elements.getBinaryName(type) + SUFFIX;
+		if (this.generatedTypes.add(binderName)) {
+			List<Property> properties = getProperties(type);
+			if (properties != null) {
+				write(type, binderName, properties);
+			}
+		}
+	}
+
+	private boolean isCandidateType(TypeElement type) {
+		if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)
+				|| !type.getTypeParameters().isEmpty() || !isAccessible(type, type)) {
+			return false;
+		}
+		Element enclosing = type;
+		while (enclosing instanceof TypeElement) {
+			TypeElement enclosingType = (TypeElement) enclosing;
+			if (enclosingType.getNestingKind() == NestingKind.LOCAL
+					|| enclosingType.getNestingKind() == NestingKind.ANONYMOUS
+					|| (enclosingType.getNestingKind() == NestingKind.MEMBER
+							&& !enclosingType.getModifiers().contains(Modifier.STATIC))) {
+				return false;
+			}
+			enclosing = enclosing.getEnclosingElement();
+		}
+		return findNoArgConstructor(type) != NoArgConstructor.INACCESSIBLE;
+	}
+
+	private List<Property> getProperties(TypeElement type) {
+		Map<String, Property> properties = new LinkedHashMap<>();
+		TypeElement current = type;
+		while (current != null && !Object.class.getName().equals(current.getQualifiedName().toString())) {
+			if (hasLombokAnnotation(current)) {
+				return null;
+			}
+			List<ExecutableElement> methods = getCandidateMethods(current);
+			if (methods == null) {
+				return null;
+			}
+			methods.forEach((method) -> addMethodIfPossible(properties, method, "is", 0, Property::addGetter));
+			methods.forEach((method) -> addMethodIfPossible(properties, method, "get", 0, Property::addGetter));
+			methods.forEach((method) -> addMethodIfPossible(properties, method, "set", 1, Property::addSetter));
+			List<VariableElement> fields = new ArrayList<>(ElementFilter.fieldsIn(current.getEnclosedElements()));
+			fields.sort(Comparator.comparing((field) -> field.getSimpleName().toString()));
+			for (VariableElement field : fields) {
+				Property property = properties.get(field.getSimpleName().toString());
+				if (property != null) {
+					property.addField(field);
+				}
+			}
+			current = getSuperclass(current);
+		}
+		for (Property property : properties.values()) {
+			if (!property.resolve(type)) {
+				return null;
+			}
+		}
+		return new ArrayList<>(properties.values());
+	}
+
+	private List<ExecutableElement> getCandidateMethods(TypeElement type) {
+		List<ExecutableElement> methods = new ArrayList<>();
+		Set<String> accessorNames = new HashSet<>();
+		for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+			Set<Modifier> modifiers = method.getModifiers();
+			String name = method.getSimpleName().toString();
+			if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.PROTECTED)
+					|| modifiers.contains(Modifier.ABSTRACT) || modifiers.contains(Modifier.STATIC)
+					|| name.indexOf('$') != -1) {
+				continue;
+			}
+			if (isAccessor(method)) {
+				if (!accessorNames.add(name) || hasBridge(type, method)) {
+					// Overloaded accessors and bridge methods are discovered in an
+					// unspecified order by reflection
+					return null;
+				}
+			}
+			methods.add(method);
+		}
+		methods.sort(Comparator.comparing((method) -> method.getSimpleName().toString()));
+		return methods;
+	}
+
+	private boolean isAccessor(ExecutableElement method) {
+		String name = method.getSimpleName().toString();
+		int parameterCount = method.getParameters().size();
+		return (parameterCount == 0 && (isPrefixed(name, "is") || isPrefixed(name, "get")))
+				|| (parameterCount == 1 && isPrefixed(name, "set"));
+	}
+
+	private boolean isPrefixed(String name, String prefix) {
+		return name.startsWith(prefix) && name.length() > prefix.length();
+	}
+
+	private boolean hasBridge(TypeElement type, ExecutableElement method) {
+		TypeMirror erasure = this.types.erasure(method.asType());
+		for (TypeElement supertype : getAllSupertypes(type)) {
+			for (ExecutableElement candidate : ElementFilter.methodsIn(supertype.getEnclosedElements())) {
+				if (candidate.getSimpleName().equals(method.getSimpleName())
+						&& this.elements.overrides(method, candidate, type)
+						&& !this.types.isSameType(erasure, this.types.erasure(candidate.asType()))) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private Set<TypeElement> getAllSupertypes(TypeElement type) {
+		Set<TypeElement> supertypes = new HashSet<>();
+		collectSupertypes(type.asType(), supertypes);
+		return supertypes;
+	}
+
+	private void collectSupertypes(TypeMirror type, Set<TypeElement> supertypes) {
+		for (TypeMirror supertype : this.types.directSupertypes(type)) {
+			Element element = this.types.asElement(supertype);
+			if (element instanceof TypeElement && supertypes.add((TypeElement) element)) {
+				collectSupertypes(supertype, supertypes);
+			}
+		}
+	}
+
+	private void addMethodIfPossible(Map<String, Property> properties, ExecutableElement method, String prefix,
+			int parameterCount, BiConsumer<Property, ExecutableElement> consumer) {
+		String name = method.getSimpleName().toString();
+		if (method.getParameters().size() == parameterCount && isPrefixed(name, prefix)) {
+			String propertyName = decapitalize(name.substring(prefix.length()));
+			consumer.accept(properties.computeIfAbsent(propertyName, Property::new), method);
+		}
+	}
+
+	private String decapitalize(String name) {
+		if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+			return name;
+		}
+		char[] chars = name.toCharArray();
+		chars[0] = Character.toLowerCase(chars[0]);
+		return new String(chars);
+	}
+
+	private boolean hasLombokAnnotation(TypeElement type) {
+		if (hasLombokAnnotation((Element) type)) {
+			return true;
+		}
+		for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+			if (hasLombokAnnotation(field)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean hasLombokAnnotation(Element element) {
+		for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+			Element annotationType = annotation.getAnnotationType().asElement();
+			if (this.elements.getPackageOf(annotationType).getQualifiedName().toString().startsWith("lombok")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private TypeElement getSuperclass(TypeElement type) {
+		TypeMirror superclass = type.getSuperclass();
+		return (superclass.getKind() == TypeKind.DECLARED) ? (TypeElement) this.types.asElement(superclass) : null;
+	}
+
+	private NoArgConstructor findNoArgConstructor(TypeElement type) {
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+			if (constructor.getParameters().isEmpty()) {
+				return (constructor.getModifiers().contains(Modifier.PRIVATE)) ? NoArgConstructor.INACCESSIBLE
+						: NoArgConstructor.ACCESSIBLE;
+			}
+		}
+		return NoArgConstructor.NONE;
+	}
+
+	private boolean isAccessible(TypeElement type, TypeElement from) {
+		Element current = type;
+		while (current instanceof TypeElement) {
+			Set<Modifier> modifiers = current.getModifiers();
+			if (modifiers.contains(Modifier.PRIVATE)
+					|| (!modifiers.contains(Modifier.PUBLIC) && !isSamePackage(current, from))) {
+				return false;
+			}
+			current = current.getEnclosingElement();
+		}
+		return true;
+	}
+
+	private boolean isAccessible(ExecutableElement method, TypeElement from) {
+		return method.getModifiers().contains(Modifier.PUBLIC) || isSamePackage(method, from);
+	}
+
+	private boolean isSamePackage(Element element, TypeElement from) {
+		return this.elements.getPackageOf(element).equals(this.elements.getPackageOf(from));
+	}
+
+	private String getResolvableType(TypeMirror type, TypeElement from) {
+		if (type.getKind().isPrimitive()) {
+			return RESOLVABLE_TYPE + ".forClass(" + type + ".class)";
+		}
+		if (type.getKind() == TypeKind.ARRAY) {
+			String componentType = getResolvableType(((ArrayType) type).getComponentType(), from);
+			return (componentType != null) ? RESOLVABLE_TYPE + ".forArrayComponent(" + componentType + ")" : null;
+		}
+		if (type.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+		DeclaredType declaredType = (DeclaredType) type;
+		TypeElement element = (TypeElement) declaredType.asElement();
+		TypeMirror enclosingType = declaredType.getEnclosingType();
+		if (!isAccessible(element, from) || (enclosingType.getKind() == TypeKind.DECLARED
+				&& !((DeclaredType) enclosingType).getTypeArguments().isEmpty())) {
+			return null;
+		}
+		String typeClass = element.getQualifiedName() + ".class";
+		if (declaredType.getTypeArguments().isEmpty()) {
+			return RESOLVABLE_TYPE + ".forClass(" + typeClass + ")";
+		}
+		StringBuilder result = new StringBuilder(RESOLVABLE_TYPE + ".forClassWithGenerics(" + typeClass);
+		for (TypeMirror typeArgument : declaredType.getTypeArguments()) {
+			String resolvableTypeArgument = getResolvableType(typeArgument, from);
+			if (resolvableTypeArgument == null) {
+				return null;
+			}
+			result.append(", ").append(resolvableTypeArgument);
+		}
+		return result.append(")").toString();
+	}
+
+	private void write(TypeElement type, String binderName, List<Property> properties) throws IOException {
+		PackageElement packageElement = this.elements.getPackageOf(type);
+		String packageName = packageElement.getQualifiedName().toString();
+		String simpleName = packageElement.isUnnamed() ? binderName : binderName.substring(packageName.length() + 1);
+		String typeName = type.getQualifiedName().toString();
+		String factory = (findNoArgConstructor(type) == NoArgConstructor.ACCESSIBLE) ? typeName + "::new" : "null";
+		JavaFileObject file = this.environment.getFiler().createSourceFile(binderName, type);
+		try (PrintWriter writer = new PrintWriter(file.openWriter())) {
+			writer.println("// Generated by spring-boot-configuration-processor. Do not edit.");
+			if (!packageElement.isUnnamed()) {
+				writer.println("package " + packageName + ";");
+			}
+			writer.println();
+			writer.println("/**");
+			writer.println(" * Binder for {@link " + typeName + "}.");
+			writer.println(" */");
+			writer.println("public final class " + simpleName + " extends " + this.generatedBeanBinderType + "<"
+					+ typeName + "> {");
+			writer.println();
+			writer.println("\t@SuppressWarnings({ \"unchecked\", \"rawtypes\" })");
+			writer.println("\tpublic " + simpleName + "() {");
+			writer.println("\t\tsuper(" + typeName + ".class, " + factory + ");");
+			for (Property property : properties) {
+				writer.println("\t\taddProperty(\"" + property.name + "\", " + property.resolvableType + ", "
+						+ property.getAnnotations() + ",");
+				writer.println("\t\t\t\t" + property.getGetter() + ",");
+				writer.println("\t\t\t\t" + property.getSetter() + ");");
+			}
+			writer.println("\t}");
+			writer.println();
+			writer.println("}");
+		}
+	}
+
+	/**
+	 * The different kinds of no-arg constructor that a type may have.
+	 */
+	private enum NoArgConstructor {
+
+		NONE, ACCESSIBLE, INACCESSIBLE
+
+	}
+
+	/**
+	 * A property of the type, discovered in the same way as the {@code JavaBeanBinder}.
+	 */
+	private final class Property {
+
+		private final String name;
+
+		private ExecutableElement getter;
+
+		private ExecutableElement setter;
+
+		private VariableElement field;
+
+		private String resolvableType;
+
+		private String setterType;
+
+		Property(String name) {
+			this.name = name;
+		}
+
+		void addGetter(ExecutableElement getter) {
+			if (this.getter == null || this.getter.getSimpleName().toString().startsWith("is")) {
+				this.getter = getter;
+			}
+		}
+
+		void addSetter(ExecutableElement setter) {
+			if (this.setter == null || isBetterSetter(setter)) {
+				this.setter = setter;
+			}
+		}
+
+		private boolean isBetterSetter(ExecutableElement setter) {
+			return this.getter != null && BinderGenerator.this.types.isSameType(
+					BinderGenerator.this.types.erasure(this.getter.getReturnType()),
+					BinderGenerator.this.types.erasure(setter.getParameters().get(0).asType()));
+		}
+
+		void addField(VariableElement field) {
+			if (this.field == null) {
+				this.field = field;
+			}
+		}
+
+		boolean resolve(TypeElement type) {
+			Types types = BinderGenerator.this.types;
+			DeclaredType declaredType = (DeclaredType) type.asType();
+			if ((this.getter != null && (!isAccessible(this.getter, type)
+					|| this.getter.getReturnType().getKind() == TypeKind.VOID))
+					|| (this.setter != null && !isAccessible(this.setter, type))) {
+				return false;
+			}
+			TypeMirror propertyType;
+			if (this.setter != null) {
+				propertyType = ((ExecutableType) types.asMemberOf(declaredType, this.setter))
+						.getParameterTypes().get(0);
+				this.setterType = getCastType(propertyType);
+			}
+			else {
+				propertyType = ((ExecutableType) types.asMemberOf(declaredType, this.getter))
+						.getReturnType();
+			}
+			this.resolvableType = getResolvableType(propertyType, type);
+			if (this.field != null && !this.field.getAnnotationMirrors().isEmpty()
+					&& !isAccessible((TypeElement) this.field.getEnclosingElement(), type)) {
+				return false;
+			}
+			return this.resolvableType != null;
+		}
+
+		private String getCastType(TypeMirror type) {
+			Types types = BinderGenerator.this.types;
+			if (type.getKind().isPrimitive()) {
+				return types.boxedClass((PrimitiveType) type).getQualifiedName().toString();
+			}
+			return types.erasure(type).toString();
+		}
+
+		String getAnnotations() {
+			if (this.field == null || this.field.getAnnotationMirrors().isEmpty()) {
+				return "null";
+			}
+			TypeElement declaringType = (TypeElement) this.field.getEnclosingElement();
+			return "getFieldAnnotations(" + declaringType.getQualifiedName() + ".class, \""
+					+ this.field.getSimpleName() + "\")";
+		}
+
+		String getGetter() {
+			return (this.getter != null) ? "(instance) -> instance." + this.getter.getSimpleName() + "()" : "null";
+		}
+
+		String getSetter() {
+			return (this.setter != null) ? "(instance, value) -> instance." + this.setter.getSimpleName() + "(("
+					+ this.setterType + ") value)" : "null";
+		}
+
+	}
+
+}
@@ -17,6 +17,7 @@
 package org.springframework.boot.configurationprocessor;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.time.Duration;
@@ -71,6 +72,8 @@ public class ConfigurationMetadataAnnotationProcessor extends AbstractProcessor
 
 	static final String ADDITIONAL_METADATA_LOCATIONS_OPTION = "org.springframework.boot.configurationprocessor.additionalMetadataLocations";
 
+	static final String GENERATE_BINDERS_OPTION = "org.springframework.boot.configurationprocessor.generateBinders";
+
 	static final String CONFIGURATION_PROPERTIES_ANNOTATION = "org.springframework.boot.context.properties.ConfigurationProperties";
 
 	static final String NESTED_CONFIGURATION_PROPERTY_ANNOTATION = "org.springframework.boot.context.properties.NestedConfigurationProperty";
@@ -97,8 +100,10 @@ public class ConfigurationMetadataAnnotationProcessor extends AbstractProcessor
 
 	static final String NAME_ANNOTATION = "org.springframework.boot.context.properties.bind.Name";
 
-	private static final Set<String> SUPPORTED_OPTIONS = Collections
-			.unmodifiableSet(Collections.singleton(ADDITIONAL_METADATA_LOCATIONS_OPTION));
+	static final String GENERATED_BEAN_BINDER_TYPE = "org.springframework.boot.context.properties.bind.GeneratedBeanBinder";
+
+	private static final Set<String> SUPPORTED_OPTIONS = Collections.unmodifiableSet(
+			new HashSet<>(Arrays.asList(ADDITIONAL_METADATA_LOCATIONS_OPTION, GENERATE_BINDERS_OPTION)));
 
 	private MetadataStore metadataStore;
 
@@ -106,6 +111,8 @@ public class ConfigurationMetadataAnnotationProcessor extends AbstractProcessor
 
 	private MetadataGenerationEnvironment metadataEnv;
 
+	private BinderGenerator binderGenerator;
+
 	protected String configurationPropertiesAnnotation() {
 		return CONFIGURATION_PROPERTIES_ANNOTATION;
 	}
@@ -139,6 +146,10 @@ public class ConfigurationMetadataAnnotationProcessor extends AbstractProcessor
 		return NAME_ANNOTATION;
 	}
 
+	protected String generatedBeanBinderType() {
+		return GENERATED_BEAN_BINDER_TYPE;
+	}
+
 	@Override
 	public SourceVersion getSupportedSourceVersion() {
 		return SourceVersion.latestSupported();
@@ -158,11 +169,17 @@ public class ConfigurationMetadataAnnotationProcessor extends AbstractProcessor
 				nestedConfigurationPropertyAnnotation(), deprecatedConfigurationPropertyAnnotation(),
 				constructorBindingAnnotation(), defaultValueAnnotation(), endpointAnnotations(),
 				readOperationAnnotation(), nameAnnotation());
+		if (Boolean.parseBoolean(env.getOptions().get(GENERATE_BINDERS_OPTION))) {
+			this.binderGenerator = new BinderGenerator(env, generatedBeanBinderType());
+		}
 	}
 
 	@Override
 	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
 		this.metadataCollector.processing(roundEnv);
+		if (this.binderGenerator != null) {
+			this.binderGenerator.processing(roundEnv);
+		}
 		TypeElement annotationType = this.metadataEnv.getConfigurationPropertiesAnnotationElement();
 		if (annotationType != null) { // Is @ConfigurationProperties available
 			for (Element element : roundEnv.getElementsAnnotatedWith(annotationType)) {
@@ -247,6 +264,7 @@ public class ConfigurationMetadataAnnotationProcessor extends AbstractProcessor
 			Stack<TypeElement> seen) {
 		if (!seen.contains(element)) {
 			seen.push(element);
+			generateBinder(element);
 			new PropertyDescriptorResolver(this.metadataEnv).resolve(element, source).forEach((descriptor) -> {
 				this.metadataCollector.add(descriptor.resolveItemMetadata(prefix, this.metadataEnv));
 				if (descriptor.isNested(this.metadataEnv)) {
@@ -260,6 +278,17 @@ public class ConfigurationMetadataAnnotationProcessor extends AbstractProcessor
 		}
 	}
 
+	private void generateBinder(TypeElement element) {
+		if (this.binderGenerator != null) {
+			try {
+				this.binderGenerator.generate(element);
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException("Failed to generate binder for " + element, ex);
+			}
+		}
+	}
+
 	private void processEndpoint(Element element, List<Element> annotations) {
 		try {
 			String annotationName = this.metadataEnv.getTypeUtils().getQualifiedName(annotations.get(0));
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2012-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.configurationprocessor;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.configurationprocessor.test.TestConfigurationMetadataAnnotationProcessor;
+import org.springframework.boot.configurationsample.GeneratedBeanBinder;
+import org.springframework.boot.configurationsample.GeneratedBeanBinder.Property;
+import org.springframework.boot.configurationsample.binder.BinderProperties;
+import org.springframework.boot.configurationsample.binder.GenericBinderProperties;
+import org.springframework.boot.configurationsample.binder.OverloadedSetterBinderProperties;
+import org.springframework.boot.configurationsample.simple.SimpleProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for binders generated by the {@link ConfigurationMetadataAnnotationProcessor}.
+ *
+ * @author Spring Contributor
+ */
+class BinderGenerationTests extends AbstractMetadataGenerationTests {
+
+	@Test
+	void bindersAreNotGeneratedByDefault() {
+		compile(SimpleProperties.class);
+		assertThat(getBinderSource(SimpleProperties.class)).doesNotExist();
+	}
+
+	@Test
+	void binderHasPropertiesInReflectionOrder() throws Exception {
+		GeneratedBeanBinder<BinderProperties> binder = compileAndLoadBinder(BinderProperties.class);
+		assertThat(binder.getType()).isEqualTo(BinderProperties.class);
+		assertThat(binder.getProperties().keySet()).containsExactly("enabled", "hosts", "name", "nested", "port",
+				"weights");
+	}
+
+	@Test
+	void binderResolvesPropertyTypes() throws Exception {
+		Map<String, Property<BinderProperties>> properties = compileAndLoadBinder(BinderProperties.class)
+				.getProperties();
+		assertThat(properties.get("port").getType().resolve()).isEqualTo(int.class);
+		assertThat(properties.get("hosts").getType().asCollection().resolveGeneric()).isEqualTo(String.class);
+		assertThat(properties.get("weights").getType().getGeneric(1).getComponentType().resolve())
+				.isEqualTo(Integer.class);
+		assertThat(properties.get("nested").getType().resolve()).isEqualTo(BinderProperties.Nested.class);
+	}
+
+	@Test
+	void binderCallsConstructorGettersAndSetters() throws Exception {
+		GeneratedBeanBinder<BinderProperties> binder = compileAndLoadBinder(BinderProperties.class);
+		BinderProperties instance = binder.getFactory().get();
+		Map<String, Property<BinderProperties>> properties = binder.getProperties();
+		properties.get("name").getSetter().accept(instance, "test");
+		properties.get("port").getSetter().accept(instance, 8080);
+		properties.get("enabled").getSetter().accept(instance, true);
+		assertThat(properties.get("name").getGetter().apply(instance)).isEqualTo("test");
+		assertThat(properties.get("port").getGetter().apply(instance)).isEqualTo(8080);
+		assertThat(properties.get("enabled").getGetter().apply(instance)).isEqualTo(true);
+		assertThat(properties.get("nested").getSetter()).isNull();
+		assertThat(properties.get("nested").getGetter().apply(instance)).isSameAs(instance.getNested());
+	}
+
+	@Test
+	void binderProvidesFieldAnnotations() throws Exception {
+		Map<String, Property<BinderProperties>> properties = compileAndLoadBinder(BinderProperties.class)
+				.getProperties();
+		assertThat(properties.get("hosts").getAnnotations()).hasSize(1);
+		assertThat(properties.get("name").getAnnotations()).isNull();
+	}
+
+	@Test
+	void binderIsGeneratedForNestedType() {
+		compileWithBinders(BinderProperties.class);
+		assertThat(getBinderSource(BinderProperties.Nested.class)).isFile();
+	}
+
+	@Test
+	void binderIsNotGeneratedForTypeWithOverloadedSetter() {
+		compileWithBinders(OverloadedSetterBinderProperties.class);
+		assertThat(getBinderSource(OverloadedSetterBinderProperties.class)).doesNotExist();
+	}
+
+	@Test
+	void binderIsNotGeneratedForGenericType() {
+		compileWithBinders(GenericBinderProperties.class);
+		assertThat(getBinderSource(GenericBinderProperties.class)).doesNotExist();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> GeneratedBeanBinder<T> compileAndLoadBinder(Class<T> type) throws Exception {
+		compileWithBinders(type);
+		try (URLClassLoader classLoader = new URLClassLoader(
+				new URL[] { getCompiler().getOutputLocation().toURI().toURL() }, getClass().getClassLoader())) {
+			Class<?> binderClass = classLoader.loadClass(type.getName() + BinderGenerator.SUFFIX);
+			return (GeneratedBeanBinder<T>) binderClass.getDeclaredConstructor().newInstance();
+		}
+	}
+
+	private void compileWithBinders(Class<?>... types) {
+		TestConfigurationMetadataAnnotationProcessor processor = new TestConfigurationMetadataAnnotationProcessor(
+				getCompiler().getOutputLocation());
+		getCompiler().getTask(Collections.singletonList(
+				"-A" + ConfigurationMetadataAnnotationProcessor.GENERATE_BINDERS_OPTION + "=true"), types)
+				.call(processor);
+	}
+
+	private File getBinderSource(Class<?> type) {
+		return new File(getCompiler().getOutputLocation(),
+				type.getName().replace('.', '/') + BinderGenerator.SUFFIX + ".java");
+	}
+
+}
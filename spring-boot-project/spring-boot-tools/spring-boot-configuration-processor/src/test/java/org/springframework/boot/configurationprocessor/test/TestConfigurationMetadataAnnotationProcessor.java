@@ -77,6 +77,8 @@ public class TestConfigurationMetadataAnnotationProcessor extends ConfigurationM
 
 	public static final String NAME_ANNOTATION = "org.springframework.boot.configurationsample.Name";
 
+	public static final String GENERATED_BEAN_BINDER_TYPE = "org.springframework.boot.configurationsample.GeneratedBeanBinder";
+
 	private ConfigurationMetadata metadata;
 
 	private final File outputLocation;
@@ -126,6 +128,11 @@ public class TestConfigurationMetadataAnnotationProcessor extends ConfigurationM
 		return NAME_ANNOTATION;
 	}
 
+	@Override
+	protected String generatedBeanBinderType() {
+		return GENERATED_BEAN_BINDER_TYPE;
+	}
+
 	@Override
 	protected ConfigurationMetadata writeMetaData() throws Exception {
 		super.writeMetaData();
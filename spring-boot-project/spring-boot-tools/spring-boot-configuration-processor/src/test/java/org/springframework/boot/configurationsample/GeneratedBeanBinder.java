@@ -0,0 +1,110 @@
+/*
+ * Copyright 2012-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.configurationsample;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.core.ResolvableType;
+
+/**
+ * Alternative to Spring Boot's {@code GeneratedBeanBinder} for testing (removes the need
+ * for a dependency on the real class).
+ *
+ * @param <T> the type of the bean
+ * @author Spring Contributor
+ */
+public abstract class GeneratedBeanBinder<T> {
+
+	private final Class<T> type;
+
+	private final Supplier<T> factory;
+
+	private final Map<String, Property<T>> properties = new LinkedHashMap<>();
+
+	protected GeneratedBeanBinder(Class<T> type, Supplier<T> factory) {
+		this.type = type;
+		this.factory = factory;
+	}
+
+	protected final void addProperty(String name, ResolvableType type, Annotation[] annotations,
+			Function<T, Object> getter, BiConsumer<T, Object> setter) {
+		this.properties.put(name, new Property<>(type, annotations, getter, setter));
+	}
+
+	protected static Annotation[] getFieldAnnotations(Class<?> declaringClass, String name) {
+		try {
+			return declaringClass.getDeclaredField(name).getDeclaredAnnotations();
+		}
+		catch (Exception ex) {
+			return null;
+		}
+	}
+
+	public Class<T> getType() {
+		return this.type;
+	}
+
+	public Supplier<T> getFactory() {
+		return this.factory;
+	}
+
+	public Map<String, Property<T>> getProperties() {
+		return Collections.unmodifiableMap(this.properties);
+	}
+
+	public static final class Property<T> {
+
+		private final ResolvableType type;
+
+		private final Annotation[] annotations;
+
+		private final Function<T, Object> getter;
+
+		private final BiConsumer<T, Object> setter;
+
+		Property(ResolvableType type, Annotation[] annotations, Function<T, Object> getter,
+				BiConsumer<T, Object> setter) {
+			this.type = type;
+			this.annotations = annotations;
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		public ResolvableType getType() {
+			return this.type;
+		}
+
+		public Annotation[] getAnnotations() {
+			return this.annotations;
+		}
+
+		public Function<T, Object> getGetter() {
+			return this.getter;
+		}
+
+		public BiConsumer<T, Object> getSetter() {
+			return this.setter;
+		}
+
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2012-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.configurationsample.binder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.configurationsample.ConfigurationProperties;
+
+/**
+ * Properties for which a binder can be generated.
+ *
+ * @author Spring Contributor
+ */
+@ConfigurationProperties("binder")
+public class BinderProperties {
+
+	private String name;
+
+	private int port;
+
+	private boolean enabled;
+
+	@Deprecated
+	private List<String> hosts = new ArrayList<>();
+
+	private Map<String, Integer[]> weights;
+
+	private final Nested nested = new Nested();
+
+	public String getName() {
+		return this.name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public int getPort() {
+		return this.port;
+	}
+
+	public void setPort(int port) {
+		this.port = port;
+	}
+
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	@Deprecated
+	public List<String> getHosts() {
+		return this.hosts;
+	}
+
+	@Deprecated
+	public void setHosts(List<String> hosts) {
+		this.hosts = hosts;
+	}
+
+	public Map<String, Integer[]> getWeights() {
+		return this.weights;
+	}
+
+	public void setWeights(Map<String, Integer[]> weights) {
+		this.weights = weights;
+	}
+
+	public Nested getNested() {
+		return this.nested;
+	}
+
+	public static class Nested {
+
+		private String value;
+
+		String getValue() {
+			return this.value;
+		}
+
+		void setValue(String value) {
+			this.value = value;
+		}
+
+	}
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2012-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.configurationsample.binder;
+
+import org.springframework.boot.configurationsample.ConfigurationProperties;
+
+/**
+ * Generic properties for which no binder can be generated.
+ *
+ * @param <T> the type of the value
+ * @author Spring Contributor
+ */
+@ConfigurationProperties("binder")
+public class GenericBinderProperties<T> {
+
+	private T value;
+
+	public T getValue() {
+		return this.value;
+	}
+
+	public void setValue(T value) {
+		this.value = value;
+	}
+
+}
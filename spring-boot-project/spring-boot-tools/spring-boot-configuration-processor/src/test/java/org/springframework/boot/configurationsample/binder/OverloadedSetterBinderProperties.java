@@ -0,0 +1,42 @@
+/*
+ * Copyright 2012-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.boot.configurationsample.binder;
+
+import org.springframework.boot.configurationsample.ConfigurationProperties;
+
+/**
+ * Properties with an overloaded setter for which no binder can be generated.
+ *
+ * @author Spring Contributor
+ */
+@ConfigurationProperties("binder")
+public class OverloadedSetterBinderProperties {
+
+	private String value;
+
+	public String getValue() {
+		return this.value;
+	}
+
+	public void setValue(String value) {
+		this.value = value;
+	}
+
+	public void setValue(Integer value) {
+		this.value = String.valueOf(value);
+	}
+
+}
@@ -20,6 +20,8 @@ import java.io.File;
 
 import org.gradle.api.Action;
 import org.gradle.api.Project;
+import org.gradle.api.artifacts.Configuration;
+import org.gradle.api.file.FileCollection;
 import org.gradle.api.model.ReplacedBy;
 import org.gradle.api.plugins.BasePlugin;
 import org.gradle.api.plugins.JavaPlugin;
@@ -30,8 +32,11 @@ import org.gradle.api.tasks.TaskContainer;
 import org.gradle.api.tasks.TaskProvider;
 import org.gradle.jvm.tasks.Jar;
 
+import org.springframework.boot.gradle.plugin.SpringBootPlugin;
+import org.springframework.boot.gradle.tasks.autoconfigure.AutoConfigurationImportPlan;
 import org.springframework.boot.gradle.tasks.buildinfo.BuildInfo;
 import org.springframework.boot.gradle.tasks.buildinfo.BuildInfoProperties;
+import org.springframework.boot.gradle.tasks.bundling.BootArchive;
 
 /**
  * Entry point to Spring Boot's Gradle DSL.
@@ -134,6 +139,56 @@ public class SpringBootExtension {
 				() -> new File(determineMainSourceSetResourcesOutputDir(), "META-INF"));
 	}
 
+	/**
+	 * Creates a new {@link AutoConfigurationImportPlan} task named
+	 * {@code bootImportPlan} and configures the {@code bootJar} and {@code bootWar} tasks
+	 * to include its output.
+	 * <p>
+	 * By default, the plan is generated for the main source set's runtime classpath,
+	 * excluding any {@code developmentOnly} dependencies.
+	 */
+	public void autoConfigurationImportPlan() {
+		autoConfigurationImportPlan(null);
+	}
+
+	/**
+	 * Creates a new {@link AutoConfigurationImportPlan} task named
+	 * {@code bootImportPlan} and configures the {@code bootJar} and {@code bootWar} tasks
+	 * to include its output. The task is passed to the given {@code configurer} for
+	 * further configuration.
+	 * <p>
+	 * By default, the plan is generated for the main source set's runtime classpath,
+	 * excluding any {@code developmentOnly} dependencies.
+	 * @param configurer the task configurer
+	 */
+	public void autoConfigurationImportPlan(Action<AutoConfigurationImportPlan> configurer) {
+		TaskContainer tasks = this.project.getTasks();
+		TaskProvider<AutoConfigurationImportPlan> bootImportPlan = tasks.register("bootImportPlan",
+				AutoConfigurationImportPlan.class, this::configureAutoConfigurationImportPlanTask);
+		this.project.getPlugins().withType(JavaPlugin.class, (plugin) -> tasks.withType(BootArchive.class)
+				.configureEach((bootArchive) -> bootArchive.classpath(bootImportPlan.flatMap(
+						AutoConfigurationImportPlan::getDestinationDir))));
+		if (configurer != null) {
+			bootImportPlan.configure(configurer);
+		}
+	}
+
+	private void configureAutoConfigurationImportPlanTask(AutoConfigurationImportPlan task) {
+		task.setGroup(BasePlugin.BUILD_GROUP);
+		task.setDescription("Generates a META-INF/spring-autoconfigure-import-plan.properties file.");
+		task.setClasspath(this.project.files(this.project.provider(this::determineProductionRuntimeClasspath)));
+	}
+
+	private FileCollection determineProductionRuntimeClasspath() {
+		SourceSet mainSourceSet = this.project.getConvention().getPlugin(JavaPluginConvention.class)
+				.getSourceSets().getByName(SourceSet.MAIN_SOURCE_SET_NAME);
+		Configuration developmentOnly = this.project.getConfigurations()
+				.getByName(SpringBootPlugin.DEVELOPMENT_ONLY_CONFIGURATION_NAME);
+		Configuration productionRuntimeClasspath = this.project.getConfigurations()
+				.getByName("productionRuntimeClasspath");
+		return mainSourceSet.getRuntimeClasspath().minus(developmentOnly.minus(productionRuntimeClasspath));
+	}
+
 	private File determineMainSourceSetResourcesOutputDir() {
 		return this.project.getConvention().getPlugin(JavaPluginConvention.class).getSourceSets()
 				.getByName(SourceSet.MAIN_SOURCE_SET_NAME).getOutput().getResourcesDir();
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.gradle.tasks.autoconfigure;
+
+import java.io.File;
+import java.util.Collections;
+
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.tasks.JavaExec;
+import org.gradle.api.tasks.OutputDirectory;
+
+/**
+ * {@link JavaExec} task for generating a
+ * {@code META-INF/spring-autoconfigure-import-plan.properties} file for the task's
+ * classpath. The plan is used by {@code @EnableAutoConfiguration} on startup for as long
+ * as the application's classpath contains the same jars and the same
+ * {@code spring.factories} and auto-configuration metadata resources.
+ *
+ * @author Spring Contributor
+ * @since 2.5.0
+ */
+public class AutoConfigurationImportPlan extends JavaExec {
+
+	private static final String GENERATOR_CLASS_NAME = "org.springframework.boot.autoconfigure.AutoConfigurationImportPlanGenerator";
+
+	private static final String LOCATION = "META-INF/spring-autoconfigure-import-plan.properties";
+
+	private final DirectoryProperty destinationDir;
+
+	public AutoConfigurationImportPlan() {
+		this.destinationDir = getProject().getObjects().directoryProperty()
+				.convention(getProject().getLayout().getBuildDirectory().dir("importPlan"));
+		getMainClass().set(GENERATOR_CLASS_NAME);
+	}
+
+	/**
+	 * Returns the directory beneath which the
+	 * {@code META-INF/spring-autoconfigure-import-plan.properties} file will be written.
+	 * Defaults to a directory named {@code importPlan} in the project's build directory.
+	 * @return the destination directory
+	 */
+	@OutputDirectory
+	public DirectoryProperty getDestinationDir() {
+		return this.destinationDir;
+	}
+
+	@Override
+	public void exec() {
+		File planFile = new File(this.destinationDir.getAsFile().get(), LOCATION);
+		setArgs(Collections.singletonList(planFile.getAbsolutePath()));
+		super.exec();
+	}
+
+}
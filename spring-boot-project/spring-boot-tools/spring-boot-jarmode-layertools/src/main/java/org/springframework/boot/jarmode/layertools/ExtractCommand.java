@@ -20,11 +20,31 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.PrintStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 
 import org.springframework.util.Assert;
@@ -39,6 +59,15 @@ class ExtractCommand extends Command {
 
 	static final Option DESTINATION_OPTION = Option.of("destination", "string", "The destination to extract files to");
 
+	static final Option PARALLEL_OPTION = Option.flag("parallel", "Extract files in parallel");
+
+	static final Option INCREMENTAL_OPTION = Option.flag("incremental",
+			"Keep existing files that match the jar and delete those that are not in it");
+
+	static final Option TIMING_OPTION = Option.flag("timing", "Print the time taken to extract each layer");
+
+	private static final int BUFFER_SIZE = 8192;
+
 	private final Context context;
 
 	private final Layers layers;
@@ -48,7 +77,8 @@ class ExtractCommand extends Command {
 	}
 
 	ExtractCommand(Context context, Layers layers) {
-		super("extract", "Extracts layers from the jar for image creation", Options.of(DESTINATION_OPTION),
+		super("extract", "Extracts layers from the jar for image creation",
+				Options.of(DESTINATION_OPTION, PARALLEL_OPTION, INCREMENTAL_OPTION, TIMING_OPTION),
 				Parameters.of("[<layer>...]"));
 		this.context = context;
 		this.layers = layers;
@@ -56,57 +86,236 @@ class ExtractCommand extends Command {
 
 	@Override
 	protected void run(Map<Option, String> options, List<String> parameters) {
+		run(System.out, options, parameters);
+	}
+
+	void run(PrintStream out, Map<Option, String> options, List<String> parameters) {
 		try {
 			File destination = options.containsKey(DESTINATION_OPTION) ? new File(options.get(DESTINATION_OPTION))
 					: this.context.getWorkingDir();
+			Map<String, LayerExtraction> extractions = new LinkedHashMap<>();
 			for (String layer : this.layers) {
 				if (parameters.isEmpty() || parameters.contains(layer)) {
-					mkDirs(new File(destination, layer));
+					File directory = new File(destination, layer);
+					mkDirs(directory);
+					extractions.put(layer, new LayerExtraction(directory));
 				}
 			}
-			try (ZipInputStream zip = new ZipInputStream(new FileInputStream(this.context.getArchiveFile()))) {
-				ZipEntry entry = zip.getNextEntry();
-				Assert.state(entry != null, "File '" + this.context.getArchiveFile().toString()
-						+ "' is not compatible with layertools; ensure jar file is valid and launch script is not enabled");
-				while (entry != null) {
-					if (!entry.isDirectory()) {
-						String layer = this.layers.getLayer(entry);
-						if (parameters.isEmpty() || parameters.contains(layer)) {
-							write(zip, entry, new File(destination, layer));
-						}
-					}
-					entry = zip.getNextEntry();
+			boolean parallel = options.containsKey(PARALLEL_OPTION);
+			boolean incremental = options.containsKey(INCREMENTAL_OPTION);
+			if (parallel || incremental) {
+				int threads = (parallel) ? Runtime.getRuntime().availableProcessors() : 1;
+				extractFromZipFile(extractions, incremental, threads);
+			}
+			else {
+				extract(extractions);
+			}
+			if (incremental) {
+				for (LayerExtraction extraction : extractions.values()) {
+					extraction.deleteUnextractedFiles();
 				}
 			}
+			if (options.containsKey(TIMING_OPTION)) {
+				extractions.forEach((layer, extraction) -> extraction.printTiming(out, layer));
+			}
 		}
 		catch (IOException ex) {
 			throw new IllegalStateException(ex);
 		}
 	}
 
-	private void write(ZipInputStream zip, ZipEntry entry, File destination) throws IOException {
-		String canonicalOutputPath = destination.getCanonicalPath() + File.separator;
-		File file = new File(destination, entry.getName());
-		String canonicalEntryPath = file.getCanonicalPath();
-		Assert.state(canonicalEntryPath.startsWith(canonicalOutputPath),
-				() -> "Entry '" + entry.getName() + "' would be written to '" + canonicalEntryPath
-						+ "'. This is outside the output location of '" + canonicalOutputPath
-						+ "'. Verify the contents of your archive.");
-		mkParentDirs(file);
-		try (OutputStream out = new FileOutputStream(file)) {
-			StreamUtils.copy(zip, out);
+	private void extract(Map<String, LayerExtraction> extractions) throws IOException {
+		try (ZipInputStream zip = new ZipInputStream(new FileInputStream(this.context.getArchiveFile()))) {
+			ZipEntry entry = zip.getNextEntry();
+			Assert.state(entry != null, this::getIncompatibleArchiveMessage);
+			while (entry != null) {
+				if (!entry.isDirectory()) {
+					LayerExtraction extraction = extractions.get(this.layers.getLayer(entry));
+					if (extraction != null) {
+						extraction.write(zip, entry, false);
+					}
+				}
+				entry = zip.getNextEntry();
+			}
+		}
+	}
+
+	/**
+	 * Extract by random access to the entries listed in the central directory of the
+	 * archive, which provides the CRC of each entry before it is read.
+	 * @param extractions the extractions keyed by layer
+	 * @param incremental if files that already have the same content should be kept
+	 * @param threads the number of threads used to write the files
+	 * @throws IOException on IO error
+	 */
+	private void extractFromZipFile(Map<String, LayerExtraction> extractions, boolean incremental, int threads)
+			throws IOException {
+		try (ZipFile zipFile = openZipFile()) {
+			AtomicInteger threadCount = new AtomicInteger();
+			ExecutorService executor = Executors.newFixedThreadPool(threads,
+					(runnable) -> new Thread(runnable, "layertools-extract-" + threadCount.incrementAndGet()));
+			try {
+				List<Future<?>> writes = new ArrayList<>();
+				Enumeration<? extends ZipEntry> entries = zipFile.entries();
+				while (entries.hasMoreElements()) {
+					ZipEntry entry = entries.nextElement();
+					if (!entry.isDirectory()) {
+						LayerExtraction extraction = extractions.get(this.layers.getLayer(entry));
+						if (extraction != null) {
+							writes.add(executor.submit(() -> {
+								try (InputStream inputStream = zipFile.getInputStream(entry)) {
+									extraction.write(inputStream, entry, incremental);
+								}
+								return null;
+							}));
+						}
+					}
+				}
+				for (Future<?> write : writes) {
+					write.get();
+				}
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(ex);
+			}
+			catch (ExecutionException ex) {
+				Throwable cause = ex.getCause();
+				if (cause instanceof IOException) {
+					throw (IOException) cause;
+				}
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				throw new IllegalStateException(cause);
+			}
+			finally {
+				executor.shutdownNow();
+			}
+		}
+	}
+
+	private ZipFile openZipFile() throws IOException {
+		try {
+			ZipFile zipFile = new ZipFile(this.context.getArchiveFile());
+			if (zipFile.size() == 0) {
+				zipFile.close();
+				throw new IllegalStateException(getIncompatibleArchiveMessage());
+			}
+			return zipFile;
+		}
+		catch (ZipException ex) {
+			throw new IllegalStateException(getIncompatibleArchiveMessage(), ex);
 		}
-		Files.setAttribute(file.toPath(), "creationTime", entry.getCreationTime());
 	}
 
-	private void mkParentDirs(File file) throws IOException {
-		mkDirs(file.getParentFile());
+	private String getIncompatibleArchiveMessage() {
+		return "File '" + this.context.getArchiveFile().toString()
+				+ "' is not compatible with layertools; ensure jar file is valid and launch script is not enabled";
 	}
 
-	private void mkDirs(File file) throws IOException {
-		if (!file.exists() && !file.mkdirs()) {
+	private static void mkDirs(File file) throws IOException {
+		if (!file.mkdirs() && !file.isDirectory()) {
 			throw new IOException("Unable to create directory " + file);
 		}
 	}
 
+	/**
+	 * The extraction of the files of a single layer, which may be written concurrently.
+	 */
+	private static final class LayerExtraction {
+
+		private final File destination;
+
+		private final Set<File> files = ConcurrentHashMap.newKeySet();
+
+		private final AtomicInteger written = new AtomicInteger();
+
+		private final AtomicInteger unchanged = new AtomicInteger();
+
+		private long startTime = Long.MAX_VALUE;
+
+		private long endTime = Long.MIN_VALUE;
+
+		LayerExtraction(File destination) {
+			this.destination = destination;
+		}
+
+		void write(InputStream inputStream, ZipEntry entry, boolean incremental) throws IOException {
+			long startTime = System.nanoTime();
+			String canonicalOutputPath = this.destination.getCanonicalPath() + File.separator;
+			File file = new File(this.destination, entry.getName());
+			String canonicalEntryPath = file.getCanonicalPath();
+			Assert.state(canonicalEntryPath.startsWith(canonicalOutputPath),
+					() -> "Entry '" + entry.getName() + "' would be written to '" + canonicalEntryPath
+							+ "'. This is outside the output location of '" + canonicalOutputPath
+							+ "'. Verify the contents of your archive.");
+			this.files.add(file.getAbsoluteFile());
+			if (incremental && hasSameContent(file, entry)) {
+				this.unchanged.incrementAndGet();
+			}
+			else {
+				mkDirs(file.getParentFile());
+				try (OutputStream out = new FileOutputStream(file)) {
+					StreamUtils.copy(inputStream, out);
+				}
+				this.written.incrementAndGet();
+			}
+			Files.setAttribute(file.toPath(), "creationTime", entry.getCreationTime());
+			recordTime(startTime, System.nanoTime());
+		}
+
+		private boolean hasSameContent(File file, ZipEntry entry) throws IOException {
+			if (entry.getCrc() == -1 || entry.getSize() != file.length() || !file.isFile()) {
+				return false;
+			}
+			CRC32 crc = new CRC32();
+			try (InputStream inputStream = new FileInputStream(file)) {
+				byte[] buffer = new byte[BUFFER_SIZE];
+				int read;
+				while ((read = inputStream.read(buffer)) != -1) {
+					crc.update(buffer, 0, read);
+				}
+			}
+			return crc.getValue() == entry.getCrc();
+		}
+
+		private synchronized void recordTime(long startTime, long endTime) {
+			this.startTime = Math.min(this.startTime, startTime);
+			this.endTime = Math.max(this.endTime, endTime);
+		}
+
+		void deleteUnextractedFiles() throws IOException {
+			Path root = this.destination.toPath();
+			List<Path> paths;
+			try (Stream<Path> stream = Files.walk(root)) {
+				paths = stream.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+			}
+			for (Path path : paths) {
+				if (Files.isDirectory(path)) {
+					if (!path.equals(root) && isEmpty(path)) {
+						Files.delete(path);
+					}
+				}
+				else if (!this.files.contains(path.toFile().getAbsoluteFile())) {
+					Files.delete(path);
+				}
+			}
+		}
+
+		private boolean isEmpty(Path directory) throws IOException {
+			try (Stream<Path> entries = Files.list(directory)) {
+				return !entries.findAny().isPresent();
+			}
+		}
+
+		synchronized void printTiming(PrintStream out, String layer) {
+			long time = (this.endTime >= this.startTime)
+					? TimeUnit.NANOSECONDS.toMillis(this.endTime - this.startTime) : 0;
+			out.println(String.format("Extracted layer '%s' in %dms (%d written, %d unchanged)", layer, time,
+					this.written.get(), this.unchanged.get()));
+		}
+
+	}
+
 }
@@ -23,7 +23,9 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.jar.JarEntry;
 import java.util.zip.ZipEntry;
@@ -36,6 +38,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.boot.jarmode.layertools.Command.Option;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.util.FileCopyUtils;
 
@@ -140,6 +143,99 @@ class ExtractCommandTests {
 				.withMessageContaining("Entry 'e/../../e.jar' would be written");
 	}
 
+	@Test
+	void runWhenHasParallelOptionExtractsLayers() {
+		given(this.context.getArchiveFile()).willReturn(this.jarFile);
+		given(this.context.getWorkingDir()).willReturn(this.extract);
+		this.command.run(Collections.singletonMap(ExtractCommand.PARALLEL_OPTION, null), Collections.emptyList());
+		assertThat(this.extract.list()).containsOnly("a", "b", "c", "d");
+		assertThat(new File(this.extract, "a/a/a.jar")).exists();
+		assertThat(new File(this.extract, "b/b/b.jar")).exists();
+		assertThat(new File(this.extract, "c/c/c.jar")).exists();
+		assertThat(new File(this.extract, "c/META-INF/MANIFEST.MF")).exists();
+		assertThat(new File(this.extract, "d")).isDirectory();
+	}
+
+	@Test
+	void runWhenHasParallelOptionAndLayerParamsExtractsLimitedLayers() {
+		given(this.context.getArchiveFile()).willReturn(this.jarFile);
+		given(this.context.getWorkingDir()).willReturn(this.extract);
+		this.command.run(Collections.singletonMap(ExtractCommand.PARALLEL_OPTION, null), Arrays.asList("a", "c"));
+		assertThat(this.extract.list()).containsOnly("a", "c");
+		assertThat(new File(this.extract, "a/a/a.jar")).exists();
+		assertThat(new File(this.extract, "c/c/c.jar")).exists();
+	}
+
+	@Test
+	void runWhenHasParallelOptionWithJarFileContainingNoEntriesFails() throws IOException {
+		File file = new File(this.temp, "empty.jar");
+		try (FileWriter writer = new FileWriter(file)) {
+			writer.write("text");
+		}
+		given(this.context.getArchiveFile()).willReturn(file);
+		given(this.context.getWorkingDir()).willReturn(this.extract);
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.command.run(Collections.singletonMap(ExtractCommand.PARALLEL_OPTION, null),
+						Collections.emptyList()))
+				.withMessageContaining("not compatible with layertools");
+	}
+
+	@Test
+	void runWhenHasParallelOptionWithJarFileThatWouldWriteEntriesOutsideDestinationFails() throws Exception {
+		this.jarFile = createJarFile("test.jar", (out) -> {
+			try {
+				out.putNextEntry(new ZipEntry("e/../../e.jar"));
+				out.closeEntry();
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException(ex);
+			}
+		});
+		given(this.context.getArchiveFile()).willReturn(this.jarFile);
+		given(this.context.getWorkingDir()).willReturn(this.extract);
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.command.run(Collections.singletonMap(ExtractCommand.PARALLEL_OPTION, null),
+						Collections.emptyList()))
+				.withMessageContaining("Entry 'e/../../e.jar' would be written");
+		assertThat(new File(this.temp, "e.jar")).doesNotExist();
+	}
+
+	@Test
+	void runWhenHasIncrementalOptionKeepsUnchangedFilesAndDeletesOthers() throws Exception {
+		given(this.context.getArchiveFile()).willReturn(this.jarFile);
+		given(this.context.getWorkingDir()).willReturn(this.extract);
+		this.command.run(Collections.emptyMap(), Collections.emptyList());
+		File changed = new File(this.extract, "c/c/c.jar");
+		FileCopyUtils.copy("changed".getBytes(), changed);
+		File stale = new File(this.extract, "a/stale/stale.txt");
+		stale.getParentFile().mkdirs();
+		FileCopyUtils.copy("stale".getBytes(), stale);
+		Map<Option, String> options = new HashMap<>();
+		options.put(ExtractCommand.INCREMENTAL_OPTION, null);
+		options.put(ExtractCommand.TIMING_OPTION, null);
+		TestPrintStream out = new TestPrintStream(this);
+		this.command.run(out, options, Collections.emptyList());
+		assertThat(changed).isEmpty();
+		assertThat(stale.getParentFile()).doesNotExist();
+		assertThat(new File(this.extract, "a/a/a.jar")).exists();
+		assertThat(new File(this.extract, "d")).isDirectory();
+		assertThat(out.toString()).containsPattern("Extracted layer 'a' in \\d+ms \\(0 written, 1 unchanged\\)")
+				.containsPattern("Extracted layer 'b' in \\d+ms \\(0 written, 1 unchanged\\)")
+				.containsPattern("Extracted layer 'c' in \\d+ms \\(1 written, 1 unchanged\\)")
+				.contains("Extracted layer 'd' in 0ms (0 written, 0 unchanged)");
+	}
+
+	@Test
+	void runWhenHasTimingOptionPrintsTimeForEachLayer() {
+		given(this.context.getArchiveFile()).willReturn(this.jarFile);
+		given(this.context.getWorkingDir()).willReturn(this.extract);
+		TestPrintStream out = new TestPrintStream(this);
+		this.command.run(out, Collections.singletonMap(ExtractCommand.TIMING_OPTION, null), Arrays.asList("a", "c"));
+		assertThat(out.toString()).containsPattern("Extracted layer 'a' in \\d+ms \\(1 written, 0 unchanged\\)")
+				.containsPattern("Extracted layer 'c' in \\d+ms \\(2 written, 0 unchanged\\)")
+				.doesNotContain("layer 'b'");
+	}
+
 	private File createJarFile(String name) throws Exception {
 		return createJarFile(name, (out) -> {
 		});
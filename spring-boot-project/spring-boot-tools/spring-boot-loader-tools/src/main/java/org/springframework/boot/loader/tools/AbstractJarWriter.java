@@ -156,9 +156,20 @@ public abstract class AbstractJarWriter implements LoaderClassesWriter {
 	 * @throws IOException if the write fails
 	 */
 	public void writeNestedLibrary(String location, Library library) throws IOException {
+		writeNestedLibrary(location, library, new CrcAndSize(library::openStream));
+	}
+
+	/**
+	 * Write a nested library whose CRC and size are already known.
+	 * @param location the destination of the library
+	 * @param library the library
+	 * @param crcAndSize the CRC and size of the library
+	 * @throws IOException if the write fails
+	 */
+	void writeNestedLibrary(String location, Library library, CrcAndSize crcAndSize) throws IOException {
 		JarArchiveEntry entry = new JarArchiveEntry(location + library.getName());
 		entry.setTime(getNestedLibraryTime(library));
-		new CrcAndSize(library::openStream).setupStoredEntry(entry);
+		crcAndSize.setupStoredEntry(entry);
 		try (InputStream inputStream = library.openStream()) {
 			writeEntry(entry, new InputStreamEntryWriter(inputStream), new LibraryUnpackHandler(library), false);
 			updateLayerIndex(entry.getName(), library);
@@ -336,7 +347,7 @@ public abstract class AbstractJarWriter implements LoaderClassesWriter {
 	/**
 	 * Data holder for CRC and Size.
 	 */
-	private static class CrcAndSize {
+	static class CrcAndSize {
 
 		private final CRC32 crc = new CRC32();
 
@@ -361,6 +372,14 @@ public abstract class AbstractJarWriter implements LoaderClassesWriter {
 			}
 		}
 
+		long getCrc() {
+			return this.crc.getValue();
+		}
+
+		long getSize() {
+			return this.size;
+		}
+
 		void setupStoredEntry(JarArchiveEntry entry) {
 			entry.setSize(this.size);
 			entry.setCompressedSize(this.size);
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Index of the entries of nested jars that allows the launcher to open them without
+ * parsing their central directory. For each nested jar, the index records the size and
+ * CRC of the jar together with the hash code of each entry name, the offset of each entry
+ * within the central directory and the original position of each entry, sorted by hash
+ * code. Jars that cannot be indexed, for example because they use Zip64 extensions, are
+ * omitted and will be parsed at runtime.
+ *
+ * @author Spring Contributor
+ * @since 2.5.0
+ */
+public class EntriesIndex {
+
+	private static final int VERSION = 1;
+
+	private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+	/**
+	 * Add a nested jar to the index. Jars whose central directory cannot be indexed are
+	 * ignored.
+	 * @param name the name of the jar entry within the archive
+	 * @param supplier supplies the content of the jar
+	 * @throws IOException on IO error
+	 */
+	public void add(String name, InputStreamSupplier supplier) throws IOException {
+		add(name, ZipCentralDirectory.read(supplier));
+	}
+
+	/**
+	 * Add a nested jar whose central directory has already been read to the index.
+	 * @param name the name of the jar entry within the archive
+	 * @param centralDirectory the central directory of the jar or {@code null} if it
+	 * could not be read
+	 */
+	void add(String name, ZipCentralDirectory centralDirectory) {
+		if (centralDirectory != null) {
+			this.entries.put(name, Entry.load(centralDirectory));
+		}
+	}
+
+	/**
+	 * Write the index to an output stream.
+	 * @param out the destination stream
+	 * @throws IOException on IO error
+	 */
+	public void writeTo(OutputStream out) throws IOException {
+		DataOutputStream output = new DataOutputStream(out);
+		output.writeInt(VERSION);
+		output.writeInt(this.entries.size());
+		for (Map.Entry<String, Entry> entry : this.entries.entrySet()) {
+			output.writeUTF(entry.getKey());
+			entry.getValue().writeTo(output);
+		}
+		output.flush();
+	}
+
+	/**
+	 * The index data of a single nested jar.
+	 */
+	private static final class Entry {
+
+		private final long size;
+
+		private final long crc;
+
+		private final long centralDirectorySize;
+
+		private final int numberOfRecords;
+
+		private final boolean signed;
+
+		private final int[] hashCodes;
+
+		private final int[] centralDirectoryOffsets;
+
+		private final int[] positions;
+
+		private Entry(long size, long crc, long centralDirectorySize, int numberOfRecords, boolean signed,
+				int[] hashCodes, int[] centralDirectoryOffsets, int[] positions) {
+			this.size = size;
+			this.crc = crc;
+			this.centralDirectorySize = centralDirectorySize;
+			this.numberOfRecords = numberOfRecords;
+			this.signed = signed;
+			this.hashCodes = hashCodes;
+			this.centralDirectoryOffsets = centralDirectoryOffsets;
+			this.positions = positions;
+		}
+
+		private void writeTo(DataOutputStream output) throws IOException {
+			output.writeLong(this.size);
+			output.writeLong(this.crc);
+			output.writeLong(this.centralDirectorySize);
+			output.writeInt(this.numberOfRecords);
+			output.writeBoolean(this.signed);
+			output.writeInt(this.hashCodes.length);
+			writeInts(output, this.hashCodes);
+			writeInts(output, this.centralDirectoryOffsets);
+			writeInts(output, this.positions);
+		}
+
+		private void writeInts(DataOutputStream output, int[] values) throws IOException {
+			for (int value : values) {
+				output.writeInt(value);
+			}
+		}
+
+		static Entry load(ZipCentralDirectory centralDirectory) {
+			int numberOfRecords = centralDirectory.getNumberOfRecords();
+			long[] sortKeys = new long[numberOfRecords];
+			boolean signed = false;
+			for (int i = 0; i < numberOfRecords; i++) {
+				signed = signed || isSignatureFile(centralDirectory.getName(i));
+				sortKeys[i] = ((long) centralDirectory.getNameHashCode(i) << 32) | i;
+			}
+			Arrays.sort(sortKeys);
+			int[] hashCodes = new int[numberOfRecords];
+			int[] centralDirectoryOffsets = new int[numberOfRecords];
+			int[] positions = new int[numberOfRecords];
+			for (int i = 0; i < numberOfRecords; i++) {
+				int position = (int) sortKeys[i];
+				hashCodes[i] = (int) (sortKeys[i] >> 32);
+				centralDirectoryOffsets[i] = centralDirectory.getOffset(position);
+				positions[position] = i;
+			}
+			return new Entry(centralDirectory.getSize(), centralDirectory.getCrc(), centralDirectory.getLength(),
+					numberOfRecords, signed, hashCodes, centralDirectoryOffsets, positions);
+		}
+
+		private static boolean isSignatureFile(String name) {
+			return name.startsWith("META-INF/") && name.endsWith(".SF");
+		}
+
+	}
+
+}
@@ -61,6 +61,30 @@ public interface Layout {
 		return null;
 	}
 
+	/**
+	 * Returns the location of the entries index file that should be written or
+	 * {@code null} if no index is required. The result should include the filename and is
+	 * relative to the root of the jar.
+	 * @return the entries index file location
+	 * @since 2.5.0
+	 * @see EntriesIndex
+	 */
+	default String getEntriesIndexFileLocation() {
+		return null;
+	}
+
+	/**
+	 * Returns the location of the packages index file that should be written or
+	 * {@code null} if no index is required. The result should include the filename and is
+	 * relative to the root of the jar.
+	 * @return the packages index file location
+	 * @since 2.5.0
+	 * @see PackagesIndex
+	 */
+	default String getPackagesIndexFileLocation() {
+		return null;
+	}
+
 	/**
 	 * Returns the location of the layer index file that should be written or {@code null}
 	 * if not index is required. The result should include the filename and is relative to
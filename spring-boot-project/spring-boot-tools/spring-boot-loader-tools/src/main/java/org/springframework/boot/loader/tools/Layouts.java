@@ -88,6 +88,16 @@ public final class Layouts {
 			return "BOOT-INF/classpath.idx";
 		}
 
+		@Override
+		public String getEntriesIndexFileLocation() {
+			return "BOOT-INF/entries.idx";
+		}
+
+		@Override
+		public String getPackagesIndexFileLocation() {
+			return "BOOT-INF/packages.idx";
+		}
+
 		@Override
 		public String getLayersIndexFileLocation() {
 			return "BOOT-INF/layers.idx";
@@ -165,6 +175,16 @@ public final class Layouts {
 			return "WEB-INF/classpath.idx";
 		}
 
+		@Override
+		public String getEntriesIndexFileLocation() {
+			return "WEB-INF/entries.idx";
+		}
+
+		@Override
+		public String getPackagesIndexFileLocation() {
+			return "WEB-INF/packages.idx";
+		}
+
 		@Override
 		public String getLayersIndexFileLocation() {
 			return "WEB-INF/layers.idx";
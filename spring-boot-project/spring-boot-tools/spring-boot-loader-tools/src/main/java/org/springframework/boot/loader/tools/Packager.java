@@ -20,18 +20,21 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
 import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 import java.util.stream.Collectors;
 
 import org.apache.commons.compress.archivers.jar.JarArchiveEntry;
 
+import org.springframework.boot.loader.tools.AbstractJarWriter.CrcAndSize;
 import org.springframework.boot.loader.tools.AbstractJarWriter.EntryTransformer;
 import org.springframework.boot.loader.tools.AbstractJarWriter.UnpackHandler;
 import org.springframework.core.io.support.SpringFactoriesLoader;
@@ -62,6 +65,10 @@ public abstract class Packager {
 
 	private static final String BOOT_CLASSPATH_INDEX_ATTRIBUTE = "Spring-Boot-Classpath-Index";
 
+	private static final String BOOT_ENTRIES_INDEX_ATTRIBUTE = "Spring-Boot-Entries-Index";
+
+	private static final String BOOT_PACKAGES_INDEX_ATTRIBUTE = "Spring-Boot-Packages-Index";
+
 	private static final String BOOT_LAYERS_INDEX_ATTRIBUTE = "Spring-Boot-Layers-Index";
 
 	private static final byte[] ZIP_FILE_HEADER = new byte[] { 'P', 'K', 3, 4 };
@@ -198,12 +205,35 @@ public abstract class Packager {
 		writer.writeManifest(buildManifest(sourceJar));
 		writeLoaderClasses(writer);
 		writer.writeEntries(sourceJar, getEntityTransformer(), writeableLibraries, writeableLibraries::containsEntry);
-		writeableLibraries.write(writer);
+		PackagesIndex packagesIndex = createPackagesIndex(sourceJar);
+		writeableLibraries.write(writer, packagesIndex);
+		if (packagesIndex != null) {
+			writer.writeEntry(getLayout().getPackagesIndexFileLocation(), packagesIndex::writeTo);
+		}
 		if (isLayered()) {
 			writeLayerIndex(writer);
 		}
 	}
 
+	private PackagesIndex createPackagesIndex(JarFile sourceJar) throws IOException {
+		String location = getLayout().getPackagesIndexFileLocation();
+		if (!(getLayout() instanceof RepackagingLayout) || !StringUtils.hasLength(location)) {
+			return null;
+		}
+		String classesLocation = ((RepackagingLayout) getLayout()).getRepackagedClassesLocation();
+		String classesArchive = classesLocation.substring(0, classesLocation.length() - 1);
+		EntryTransformer transformer = getEntityTransformer();
+		PackagesIndex index = new PackagesIndex();
+		Enumeration<JarEntry> entries = sourceJar.entries();
+		while (entries.hasMoreElements()) {
+			JarArchiveEntry entry = transformer.transform(new JarArchiveEntry(entries.nextElement()));
+			if (entry != null && entry.getName().startsWith(classesLocation)) {
+				index.add(classesArchive, entry.getName().substring(classesLocation.length()));
+			}
+		}
+		return index;
+	}
+
 	private void writeLoaderClasses(AbstractJarWriter writer) throws IOException {
 		Layout layout = getLayout();
 		if (layout instanceof CustomLoaderLayout) {
@@ -358,6 +388,8 @@ public abstract class Packager {
 		}
 		putIfHasLength(attributes, BOOT_LIB_ATTRIBUTE, getLayout().getLibraryLocation("", LibraryScope.COMPILE));
 		putIfHasLength(attributes, BOOT_CLASSPATH_INDEX_ATTRIBUTE, layout.getClasspathIndexFileLocation());
+		putIfHasLength(attributes, BOOT_ENTRIES_INDEX_ATTRIBUTE, layout.getEntriesIndexFileLocation());
+		putIfHasLength(attributes, BOOT_PACKAGES_INDEX_ATTRIBUTE, layout.getPackagesIndexFileLocation());
 		if (isLayered()) {
 			putIfHasLength(attributes, BOOT_LAYERS_INDEX_ATTRIBUTE, layout.getLayersIndexFileLocation());
 		}
@@ -492,16 +524,37 @@ public abstract class Packager {
 			return this.libraries.containsKey(name);
 		}
 
-		private void write(AbstractJarWriter writer) throws IOException {
+		private void write(AbstractJarWriter writer, PackagesIndex packagesIndex) throws IOException {
+			EntriesIndex entriesIndex = createEntriesIndex();
 			for (Entry<String, Library> entry : this.libraries.entrySet()) {
 				String path = entry.getKey();
 				Library library = entry.getValue();
 				String location = path.substring(0, path.lastIndexOf('/') + 1);
-				writer.writeNestedLibrary(location, library);
+				CrcAndSize crcAndSize = new CrcAndSize(library::openStream);
+				if (entriesIndex != null || packagesIndex != null) {
+					ZipCentralDirectory centralDirectory = ZipCentralDirectory.read(library::openStream,
+							crcAndSize.getSize(), crcAndSize.getCrc());
+					if (entriesIndex != null) {
+						entriesIndex.add(path, centralDirectory);
+					}
+					if (packagesIndex != null) {
+						packagesIndex.add(path, centralDirectory);
+					}
+				}
+				writer.writeNestedLibrary(location, library, crcAndSize);
 			}
 			if (Packager.this.layout instanceof RepackagingLayout) {
 				writeClasspathIndex(getLayout(), writer);
 			}
+			if (entriesIndex != null) {
+				writer.writeEntry(getLayout().getEntriesIndexFileLocation(), entriesIndex::writeTo);
+			}
+		}
+
+		private EntriesIndex createEntriesIndex() {
+			boolean indexed = Packager.this.layout instanceof RepackagingLayout
+					&& StringUtils.hasLength(getLayout().getEntriesIndexFileLocation());
+			return indexed ? new EntriesIndex() : null;
 		}
 
 		private void writeClasspathIndex(Layout layout, AbstractJarWriter writer) throws IOException {
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.util.Assert;
+
+/**
+ * Index of the directories contained in each class path archive of a packaged jar that
+ * allows the launcher to find the archives that can contain a class or resource without
+ * searching all of them. Directories are recorded without a trailing slash, with an empty
+ * name being used for the root of the archive. Each ancestor of a directory is recorded
+ * as well and entries of multi-release jars are also recorded against their unversioned
+ * directory. An archive that is listed without any directories could not be indexed and
+ * is searched for every class and resource.
+ * <p>
+ * The index file is written in the same style as the layers index. For example:
+ *
+ * <pre class="code">
+ * - "BOOT-INF/classes":
+ *   - "com"
+ *   - "com/example"
+ * - "BOOT-INF/lib/dependency.jar":
+ *   - "org"
+ *   - "org/dependency"
+ * </pre>
+ *
+ * @author Spring Contributor
+ * @since 2.5.0
+ */
+public class PackagesIndex {
+
+	private static final String VERSIONS_PREFIX = "META-INF/versions/";
+
+	private final Map<String, Set<String>> archives = new LinkedHashMap<>();
+
+	/**
+	 * Add an entry of the given archive to the index.
+	 * @param archive the name of the archive, relative to the root of the jar and without
+	 * a trailing slash
+	 * @param entryName the name of the entry within the archive
+	 */
+	public void add(String archive, String entryName) {
+		Assert.notNull(archive, "Archive must not be null");
+		Assert.notNull(entryName, "EntryName must not be null");
+		Set<String> directories = this.archives.computeIfAbsent(archive, (key) -> new TreeSet<>());
+		addDirectories(directories, entryName);
+		if (entryName.startsWith(VERSIONS_PREFIX)) {
+			int versionEnd = entryName.indexOf('/', VERSIONS_PREFIX.length());
+			if (versionEnd != -1) {
+				addDirectories(directories, entryName.substring(versionEnd + 1));
+			}
+		}
+	}
+
+	/**
+	 * Add all entries of the given nested jar to the index. Jars whose central directory
+	 * cannot be read are listed without any directories and will always be searched.
+	 * @param archive the name of the jar entry within the archive
+	 * @param supplier supplies the content of the jar
+	 * @throws IOException on IO error
+	 */
+	public void add(String archive, InputStreamSupplier supplier) throws IOException {
+		add(archive, ZipCentralDirectory.read(supplier));
+	}
+
+	/**
+	 * Add all entries of a nested jar whose central directory has already been read to
+	 * the index.
+	 * @param archive the name of the jar entry within the archive
+	 * @param centralDirectory the central directory of the jar or {@code null} if it
+	 * could not be read
+	 */
+	void add(String archive, ZipCentralDirectory centralDirectory) {
+		Assert.notNull(archive, "Archive must not be null");
+		Set<String> directories = this.archives.computeIfAbsent(archive, (key) -> new TreeSet<>());
+		if (centralDirectory != null) {
+			directories.add("");
+			for (int i = 0; i < centralDirectory.getNumberOfRecords(); i++) {
+				add(archive, centralDirectory.getName(i));
+			}
+		}
+	}
+
+	private void addDirectories(Set<String> directories, String entryName) {
+		String name = entryName.endsWith("/") ? entryName.substring(0, entryName.length() - 1) : entryName;
+		int lastSlash = name.lastIndexOf('/');
+		while (lastSlash != -1) {
+			name = name.substring(0, lastSlash);
+			if (!directories.add(name)) {
+				return;
+			}
+			lastSlash = name.lastIndexOf('/');
+		}
+		directories.add("");
+	}
+
+	/**
+	 * Write the index to an output stream.
+	 * @param out the destination stream
+	 * @throws IOException on IO error
+	 */
+	public void writeTo(OutputStream out) throws IOException {
+		BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		for (Map.Entry<String, Set<String>> entry : this.archives.entrySet()) {
+			writer.write("- \"" + entry.getKey() + "\":\n");
+			for (String directory : entry.getValue()) {
+				writer.write("  - \"" + directory + "\"\n");
+			}
+		}
+		writer.flush();
+	}
+
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * The central directory of a zip file, read without inflating any of its entries. Only
+ * zip files that do not use Zip64 extensions are supported.
+ *
+ * @author Spring Contributor
+ */
+final class ZipCentralDirectory {
+
+	private static final int BUFFER_SIZE = 32 * 1024;
+
+	private static final int END_RECORD_SIGNATURE = 0x06054b50;
+
+	private static final int END_RECORD_MINIMUM_SIZE = 22;
+
+	private static final int END_RECORD_MAXIMUM_SIZE = END_RECORD_MINIMUM_SIZE + 0xFFFF;
+
+	private static final int FILE_HEADER_SIGNATURE = 0x02014b50;
+
+	private static final int FILE_HEADER_BASE_SIZE = 46;
+
+	private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+
+	private static final long ZIP64_MAGIC_VALUE = 0xFFFFFFFFL;
+
+	private static final int[] INITIAL_BYTE_BITMASK = { 0x7F, 0x1F, 0x0F, 0x07 };
+
+	private static final int SUBSEQUENT_BYTE_BITMASK = 0x3F;
+
+	private final long size;
+
+	private final long crc;
+
+	private final byte[] bytes;
+
+	private final int[] offsets;
+
+	private final int[] nameLengths;
+
+	private ZipCentralDirectory(long size, long crc, byte[] bytes, int[] offsets, int[] nameLengths) {
+		this.size = size;
+		this.crc = crc;
+		this.bytes = bytes;
+		this.offsets = offsets;
+		this.nameLengths = nameLengths;
+	}
+
+	/**
+	 * Return the size of the zip file.
+	 * @return the size
+	 */
+	long getSize() {
+		return this.size;
+	}
+
+	/**
+	 * Return the CRC-32 of the zip file.
+	 * @return the CRC
+	 */
+	long getCrc() {
+		return this.crc;
+	}
+
+	/**
+	 * Return the size of the central directory.
+	 * @return the central directory size
+	 */
+	int getLength() {
+		return this.bytes.length;
+	}
+
+	/**
+	 * Return the number of central directory records.
+	 * @return the number of records
+	 */
+	int getNumberOfRecords() {
+		return this.offsets.length;
+	}
+
+	/**
+	 * Return the offset of the given record within the central directory.
+	 * @param record the record index
+	 * @return the offset
+	 */
+	int getOffset(int record) {
+		return this.offsets[record];
+	}
+
+	/**
+	 * Return the entry name of the given record.
+	 * @param record the record index
+	 * @return the name
+	 */
+	String getName(int record) {
+		return new String(this.bytes, this.offsets[record] + FILE_HEADER_BASE_SIZE, this.nameLengths[record],
+				StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Return the hash code of the entry name of the given record, calculated from the raw
+	 * UTF-8 bytes in the same way as the launcher's {@code AsciiBytes}. The result is
+	 * compatible with {@link String#hashCode()}.
+	 * @param record the record index
+	 * @return the hash code
+	 */
+	int getNameHashCode(int record) {
+		int hash = 0;
+		int offset = this.offsets[record] + FILE_HEADER_BASE_SIZE;
+		int end = offset + this.nameLengths[record];
+		for (int i = offset; i < end; i++) {
+			int b = this.bytes[i];
+			int remainingUtfBytes = getNumberOfUtfBytes(b) - 1;
+			b &= INITIAL_BYTE_BITMASK[remainingUtfBytes];
+			for (int j = 0; j < remainingUtfBytes; j++) {
+				b = (b << 6) + (this.bytes[++i] & SUBSEQUENT_BYTE_BITMASK);
+			}
+			if (b <= 0xFFFF) {
+				hash = 31 * hash + b;
+			}
+			else {
+				hash = 31 * hash + ((b >> 0xA) + 0xD7C0);
+				hash = 31 * hash + ((b & 0x3FF) + 0xDC00);
+			}
+		}
+		return hash;
+	}
+
+	private int getNumberOfUtfBytes(int b) {
+		if ((b & 0x80) == 0) {
+			return 1;
+		}
+		int numberOfUtfBytes = 0;
+		while ((b & 0x80) != 0) {
+			b <<= 1;
+			numberOfUtfBytes++;
+		}
+		return numberOfUtfBytes;
+	}
+
+	/**
+	 * Read the central directory of the zip file provided by the given supplier.
+	 * @param supplier supplies the content of the zip file
+	 * @return the central directory or {@code null} if it cannot be read
+	 * @throws IOException on IO error
+	 */
+	static ZipCentralDirectory read(InputStreamSupplier supplier) throws IOException {
+		CRC32 crc = new CRC32();
+		long size = 0;
+		try (InputStream inputStream = supplier.openStream()) {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int bytesRead;
+			while ((bytesRead = inputStream.read(buffer)) != -1) {
+				crc.update(buffer, 0, bytesRead);
+				size += bytesRead;
+			}
+		}
+		return read(supplier, size, crc.getValue());
+	}
+
+	/**
+	 * Read the central directory of the zip file provided by the given supplier when its
+	 * size and CRC-32 are already known. Only the end of the zip file is read.
+	 * @param supplier supplies the content of the zip file
+	 * @param size the size of the zip file
+	 * @param crc the CRC-32 of the zip file
+	 * @return the central directory or {@code null} if it cannot be read
+	 * @throws IOException on IO error
+	 */
+	static ZipCentralDirectory read(InputStreamSupplier supplier, long size, long crc) throws IOException {
+		long tailOffset = size - Math.min(size, END_RECORD_MAXIMUM_SIZE);
+		byte[] tail = read(supplier, tailOffset, (int) (size - tailOffset));
+		int endRecord = findEndRecord(tail);
+		if (endRecord == -1) {
+			return null;
+		}
+		int numberOfRecords = (int) littleEndianValue(tail, endRecord + 10, 2);
+		long length = littleEndianValue(tail, endRecord + 12, 4);
+		long offset = littleEndianValue(tail, endRecord + 16, 4);
+		if (numberOfRecords == ZIP64_MAGIC_COUNT || length == ZIP64_MAGIC_VALUE || offset == ZIP64_MAGIC_VALUE) {
+			return null;
+		}
+		long start = tailOffset + endRecord - length;
+		if (start < 0) {
+			return null;
+		}
+		byte[] bytes = (start >= tailOffset) ? Arrays.copyOfRange(tail, (int) (start - tailOffset), endRecord)
+				: read(supplier, start, (int) length);
+		return parse(size, crc, bytes, numberOfRecords);
+	}
+
+	private static ZipCentralDirectory parse(long size, long crc, byte[] bytes, int numberOfRecords) {
+		int[] offsets = new int[numberOfRecords];
+		int[] nameLengths = new int[numberOfRecords];
+		int offset = 0;
+		for (int i = 0; i < numberOfRecords; i++) {
+			if (offset + FILE_HEADER_BASE_SIZE > bytes.length
+					|| littleEndianValue(bytes, offset, 4) != FILE_HEADER_SIGNATURE) {
+				return null;
+			}
+			int nameLength = (int) littleEndianValue(bytes, offset + 28, 2);
+			int extraLength = (int) littleEndianValue(bytes, offset + 30, 2);
+			int commentLength = (int) littleEndianValue(bytes, offset + 32, 2);
+			if (offset + FILE_HEADER_BASE_SIZE + nameLength > bytes.length) {
+				return null;
+			}
+			offsets[i] = offset;
+			nameLengths[i] = nameLength;
+			offset += FILE_HEADER_BASE_SIZE + nameLength + extraLength + commentLength;
+		}
+		return new ZipCentralDirectory(size, crc, bytes, offsets, nameLengths);
+	}
+
+	private static byte[] read(InputStreamSupplier supplier, long offset, int length) throws IOException {
+		byte[] bytes = new byte[length];
+		try (InputStream inputStream = supplier.openStream()) {
+			long remaining = offset;
+			while (remaining > 0) {
+				long skipped = inputStream.skip(remaining);
+				if (skipped <= 0) {
+					if (inputStream.read() == -1) {
+						throw new IOException("Unexpected end of stream");
+					}
+					skipped = 1;
+				}
+				remaining -= skipped;
+			}
+			int read = 0;
+			while (read < length) {
+				int count = inputStream.read(bytes, read, length - read);
+				if (count == -1) {
+					throw new IOException("Unexpected end of stream");
+				}
+				read += count;
+			}
+		}
+		return bytes;
+	}
+
+	private static int findEndRecord(byte[] tail) {
+		for (int offset = tail.length - END_RECORD_MINIMUM_SIZE; offset >= 0; offset--) {
+			if (littleEndianValue(tail, offset, 4) == END_RECORD_SIGNATURE) {
+				long commentLength = littleEndianValue(tail, offset + 20, 2);
+				if (offset + END_RECORD_MINIMUM_SIZE + commentLength == tail.length) {
+					return offset;
+				}
+			}
+		}
+		return -1;
+	}
+
+	private static long littleEndianValue(byte[] bytes, int offset, int length) {
+		long value = 0;
+		for (int i = length - 1; i >= 0; i--) {
+			value = ((value << 8) | (bytes[offset + i] & 0xFF));
+		}
+		return value;
+	}
+
+}
@@ -17,9 +17,12 @@
 package org.springframework.boot.loader.tools;
 
 import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -31,6 +34,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.jar.Attributes;
 import java.util.jar.Manifest;
 import java.util.stream.Collectors;
@@ -238,6 +242,74 @@ abstract class AbstractPackagerTests<P extends Packager> {
 		assertThat(Arrays.asList(libraries)).containsExactlyElementsOf(expected);
 	}
 
+	@Test
+	void entriesIndex() throws Exception {
+		TestJarFile libJar = new TestJarFile(this.tempDir);
+		libJar.addClass("a/b/C.class", ClassWithoutMainMethod.class, JAN_1_1985);
+		libJar.addClass("a/b/D.class", ClassWithoutMainMethod.class, JAN_1_1985);
+		File libJarFile = libJar.getFile();
+		this.testJarFile.addClass("a/b/C.class", ClassWithMainMethod.class);
+		P packager = createPackager();
+		execute(packager, (callback) -> callback.library(new Library(libJarFile, LibraryScope.COMPILE)));
+		assertThat(getPackagedManifest().getMainAttributes().getValue("Spring-Boot-Entries-Index"))
+				.isEqualTo("BOOT-INF/entries.idx");
+		byte[] index = getPackagedEntryBytes("BOOT-INF/entries.idx");
+		DataInputStream input = new DataInputStream(new ByteArrayInputStream(index));
+		assertThat(input.readInt()).isEqualTo(1);
+		assertThat(input.readInt()).isEqualTo(1);
+		assertThat(input.readUTF()).isEqualTo("BOOT-INF/lib/" + libJarFile.getName());
+		ZipEntry libEntry = getPackagedEntry("BOOT-INF/lib/" + libJarFile.getName());
+		assertThat(input.readLong()).isEqualTo(libEntry.getSize());
+		assertThat(input.readLong()).isEqualTo(libEntry.getCrc());
+	}
+
+	@Test
+	void packagesIndex() throws Exception {
+		TestJarFile libJar = new TestJarFile(this.tempDir);
+		libJar.addClass("a/b/C.class", ClassWithoutMainMethod.class, JAN_1_1985);
+		libJar.addClass("META-INF/versions/9/d/e/F.class", ClassWithoutMainMethod.class, JAN_1_1985);
+		File libJarFile = libJar.getFile();
+		this.testJarFile.addClass("g/h/I.class", ClassWithMainMethod.class);
+		P packager = createPackager();
+		execute(packager, (callback) -> callback.library(new Library(libJarFile, LibraryScope.COMPILE)));
+		assertThat(getPackagedManifest().getMainAttributes().getValue("Spring-Boot-Packages-Index"))
+				.isEqualTo("BOOT-INF/packages.idx");
+		String index = getPackagedEntryContent("BOOT-INF/packages.idx");
+		assertThat(index.split("\\n")).containsSubsequence("- \"BOOT-INF/classes\":", "  - \"g\"", "  - \"g/h\"",
+				"- \"BOOT-INF/lib/" + libJarFile.getName() + "\":", "  - \"\"", "  - \"META-INF\"",
+				"  - \"META-INF/versions/9/d/e\"", "  - \"a\"", "  - \"a/b\"", "  - \"d\"", "  - \"d/e\"");
+		assertThat(index).doesNotContain("BOOT-INF/classes/");
+	}
+
+	@Test
+	void nestedLibraryIsReadInFullOnlyToComputeItsCrcAndToWriteIt() throws Exception {
+		TestJarFile libJar = new TestJarFile(this.tempDir);
+		libJar.addClass("a/b/C.class", ClassWithoutMainMethod.class, JAN_1_1985);
+		CountingLibrary library = new CountingLibrary(libJar.getFile());
+		this.testJarFile.addClass("g/h/I.class", ClassWithMainMethod.class);
+		P packager = createPackager();
+		execute(packager, (callback) -> callback.library(library));
+		assertThat(hasPackagedEntry("BOOT-INF/entries.idx")).isTrue();
+		assertThat(hasPackagedEntry("BOOT-INF/packages.idx")).isTrue();
+		assertThat(library.fullReads).hasValue(2);
+	}
+
+	@Test
+	void packagesIndexWhenLibraryCentralDirectoryCannotBeRead() throws Exception {
+		TestJarFile libJar = new TestJarFile(this.tempDir);
+		libJar.addClass("a/b/C.class", ClassWithoutMainMethod.class, JAN_1_1985);
+		File libJarFile = libJar.getFile();
+		try (FileOutputStream outputStream = new FileOutputStream(libJarFile, true)) {
+			outputStream.write(new byte[] { 0, 1, 2, 3 });
+		}
+		this.testJarFile.addClass("g/h/I.class", ClassWithMainMethod.class);
+		P packager = createPackager();
+		execute(packager, (callback) -> callback.library(new Library(libJarFile, LibraryScope.COMPILE)));
+		assertThat(hasPackagedEntry("BOOT-INF/lib/" + libJarFile.getName())).isTrue();
+		String index = getPackagedEntryContent("BOOT-INF/packages.idx");
+		assertThat(index).endsWith("- \"BOOT-INF/lib/" + libJarFile.getName() + "\":\n");
+	}
+
 	@Test
 	void layersIndex() throws Exception {
 		TestJarFile libJar1 = new TestJarFile(this.tempDir);
@@ -273,7 +345,9 @@ abstract class AbstractPackagerTests<P extends Packager> {
 		expectedLayers.add("- 'default':");
 		expectedLayers.add("  - 'BOOT-INF/classes/'");
 		expectedLayers.add("  - 'BOOT-INF/classpath.idx'");
+		expectedLayers.add("  - 'BOOT-INF/entries.idx'");
 		expectedLayers.add("  - 'BOOT-INF/layers.idx'");
+		expectedLayers.add("  - 'BOOT-INF/packages.idx'");
 		expectedLayers.add("  - 'META-INF/'");
 		expectedLayers.add("  - 'org/'");
 		expectedLayers.add("- '0001':");
@@ -622,6 +696,45 @@ abstract class AbstractPackagerTests<P extends Packager> {
 
 	protected abstract String getPackagedEntryContent(String name) throws IOException;
 
+	protected abstract byte[] getPackagedEntryBytes(String name) throws IOException;
+
+	static class CountingLibrary extends Library {
+
+		private final AtomicInteger fullReads = new AtomicInteger();
+
+		CountingLibrary(File file) {
+			super(file, LibraryScope.COMPILE);
+		}
+
+		@Override
+		InputStream openStream() throws IOException {
+			return new FilterInputStream(super.openStream()) {
+
+				private boolean endOfStream;
+
+				@Override
+				public int read() throws IOException {
+					return checkEndOfStream(super.read());
+				}
+
+				@Override
+				public int read(byte[] b, int off, int len) throws IOException {
+					return checkEndOfStream(super.read(b, off, len));
+				}
+
+				private int checkEndOfStream(int result) {
+					if (result == -1 && !this.endOfStream) {
+						this.endOfStream = true;
+						CountingLibrary.this.fullReads.incrementAndGet();
+					}
+					return result;
+				}
+
+			};
+		}
+
+	}
+
 	static class TestLayoutFactory implements LayoutFactory {
 
 		@Override
@@ -74,17 +74,18 @@ class ImagePackagerTests extends AbstractPackagerTests<ImagePackager> {
 
 	@Override
 	protected Manifest getPackagedManifest() throws IOException {
-		byte[] bytes = getEntryBytes("META-INF/MANIFEST.MF");
+		byte[] bytes = getPackagedEntryBytes("META-INF/MANIFEST.MF");
 		return (bytes != null) ? new Manifest(new ByteArrayInputStream(bytes)) : null;
 	}
 
 	@Override
 	protected String getPackagedEntryContent(String name) throws IOException {
-		byte[] bytes = getEntryBytes(name);
+		byte[] bytes = getPackagedEntryBytes(name);
 		return (bytes != null) ? new String(bytes, StandardCharsets.UTF_8) : null;
 	}
 
-	private byte[] getEntryBytes(String name) throws IOException {
+	@Override
+	protected byte[] getPackagedEntryBytes(String name) throws IOException {
 		ZipEntry entry = getPackagedEntry(name);
 		return (entry != null) ? this.entries.get(entry) : null;
 	}
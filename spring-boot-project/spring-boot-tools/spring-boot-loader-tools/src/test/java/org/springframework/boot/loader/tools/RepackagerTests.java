@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -250,13 +250,18 @@ class RepackagerTests extends AbstractPackagerTests<Repackager> {
 
 	@Override
 	protected String getPackagedEntryContent(String name) throws IOException {
+		byte[] bytes = getPackagedEntryBytes(name);
+		return (bytes != null) ? new String(bytes, StandardCharsets.UTF_8) : null;
+	}
+
+	@Override
+	protected byte[] getPackagedEntryBytes(String name) throws IOException {
 		try (ZipFile zip = new ZipFile(this.destination)) {
 			ZipArchiveEntry entry = zip.getEntry(name);
 			if (entry == null) {
 				return null;
 			}
-			byte[] bytes = FileCopyUtils.copyToByteArray(zip.getInputStream(entry));
-			return new String(bytes, StandardCharsets.UTF_8);
+			return FileCopyUtils.copyToByteArray(zip.getInputStream(entry));
 		}
 	}
 
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.tools;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ZipCentralDirectory}.
+ *
+ * @author Spring Contributor
+ */
+class ZipCentralDirectoryTests {
+
+	private static final String[] NAMES = { "a/b/C.class", "caf\u00e9/men\u00fc.txt", "\u20ac/\u4e2d\u6587.txt",
+			"\ud83d\ude00/\ud800\udf48.txt" };
+
+	@Test
+	void readReturnsNamesAndSizeAndCrc() throws IOException {
+		byte[] zip = createZip(NAMES);
+		ZipCentralDirectory centralDirectory = ZipCentralDirectory.read(() -> new ByteArrayInputStream(zip));
+		assertThat(centralDirectory.getNumberOfRecords()).isEqualTo(NAMES.length);
+		for (int i = 0; i < NAMES.length; i++) {
+			assertThat(centralDirectory.getName(i)).isEqualTo(NAMES[i]);
+		}
+		CRC32 crc = new CRC32();
+		crc.update(zip);
+		assertThat(centralDirectory.getSize()).isEqualTo(zip.length);
+		assertThat(centralDirectory.getCrc()).isEqualTo(crc.getValue());
+	}
+
+	@Test
+	void getNameHashCodeMatchesStringHashCodeForMultiByteCharacters() throws IOException {
+		byte[] zip = createZip(NAMES);
+		ZipCentralDirectory centralDirectory = ZipCentralDirectory.read(() -> new ByteArrayInputStream(zip));
+		for (int i = 0; i < NAMES.length; i++) {
+			assertThat(centralDirectory.getNameHashCode(i)).as(NAMES[i]).isEqualTo(NAMES[i].hashCode());
+		}
+	}
+
+	@Test
+	void readWhenNotZipReturnsNull() throws IOException {
+		byte[] content = { 0, 1, 2, 3, 4, 5, 6, 7, 8 };
+		assertThat(ZipCentralDirectory.read(() -> new ByteArrayInputStream(content))).isNull();
+	}
+
+	private byte[] createZip(String... names) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+			for (String name : names) {
+				zip.putNextEntry(new ZipEntry(name));
+				zip.closeEntry();
+			}
+		}
+		return bytes.toByteArray();
+	}
+
+}
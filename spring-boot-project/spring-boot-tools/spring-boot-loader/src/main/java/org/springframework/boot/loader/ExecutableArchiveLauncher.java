@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.jar.Attributes;
 import java.util.jar.Manifest;
 
 import org.springframework.boot.loader.archive.Archive;
@@ -39,6 +40,8 @@ public abstract class ExecutableArchiveLauncher extends Launcher {
 
 	protected static final String BOOT_CLASSPATH_INDEX_ATTRIBUTE = "Spring-Boot-Classpath-Index";
 
+	private static final String BOOT_PACKAGES_INDEX_ATTRIBUTE = "Spring-Boot-Packages-Index";
+
 	private final Archive archive;
 
 	private final ClassPathIndexFile classPathIndex;
@@ -92,6 +95,22 @@ public abstract class ExecutableArchiveLauncher extends Launcher {
 		return createClassLoader(urls.toArray(new URL[0]));
 	}
 
+	@Override
+	protected ClassLoader createClassLoader(URL[] urls) throws Exception {
+		return new LaunchedURLClassLoader(isExploded(), getArchive(), urls, getClass().getClassLoader(),
+				getPackagesIndex());
+	}
+
+	private PackagesIndexFile getPackagesIndex() throws IOException {
+		if (isExploded()) {
+			return null;
+		}
+		Manifest manifest = this.archive.getManifest();
+		Attributes attributes = (manifest != null) ? manifest.getMainAttributes() : null;
+		String location = (attributes != null) ? attributes.getValue(BOOT_PACKAGES_INDEX_ATTRIBUTE) : null;
+		return (location != null) ? PackagesIndexFile.loadIfPossible(this.archive.getUrl(), location) : null;
+	}
+
 	private int guessClassPathSize() {
 		if (this.classPathIndex != null) {
 			return this.classPathIndex.size() + 10;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,11 +20,13 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.JarURLConnection;
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.net.URLConnection;
 import java.security.AccessController;
 import java.security.PrivilegedExceptionAction;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.function.Supplier;
 import java.util.jar.JarFile;
@@ -57,6 +59,8 @@ public class LaunchedURLClassLoader extends URLClassLoader {
 
 	private volatile DefinePackageCallType definePackageCallType;
 
+	private volatile PackagesIndexFile.Lookup packagesLookup;
+
 	/**
 	 * Create a new {@link LaunchedURLClassLoader} instance.
 	 * @param urls the URLs from which to load classes and resources
@@ -85,13 +89,60 @@ public class LaunchedURLClassLoader extends URLClassLoader {
 	 * @since 2.3.1
 	 */
 	public LaunchedURLClassLoader(boolean exploded, Archive rootArchive, URL[] urls, ClassLoader parent) {
+		this(exploded, rootArchive, urls, parent, null);
+	}
+
+	/**
+	 * Create a new {@link LaunchedURLClassLoader} instance.
+	 * @param exploded if the underlying archive is exploded
+	 * @param rootArchive the root archive or {@code null}
+	 * @param urls the URLs from which to load classes and resources
+	 * @param parent the parent class loader for delegation
+	 * @param packagesIndex the packages index of the root archive or {@code null}
+	 */
+	LaunchedURLClassLoader(boolean exploded, Archive rootArchive, URL[] urls, ClassLoader parent,
+			PackagesIndexFile packagesIndex) {
 		super(urls, parent);
 		this.exploded = exploded;
 		this.rootArchive = rootArchive;
+		this.packagesLookup = createPackagesLookup(rootArchive, urls, packagesIndex);
+	}
+
+	private static PackagesIndexFile.Lookup createPackagesLookup(Archive rootArchive, URL[] urls,
+			PackagesIndexFile packagesIndex) {
+		if (rootArchive == null || packagesIndex == null) {
+			return null;
+		}
+		try {
+			return packagesIndex.createLookup(rootArchive.getUrl(), urls);
+		}
+		catch (MalformedURLException ex) {
+			return null;
+		}
+	}
+
+	@Override
+	protected void addURL(URL url) {
+		// URLs that are added later are not covered by the packages index
+		this.packagesLookup = null;
+		super.addURL(url);
+	}
+
+	@Override
+	protected Class<?> findClass(String name) throws ClassNotFoundException {
+		PackagesIndexFile.Lookup packagesLookup = this.packagesLookup;
+		if (packagesLookup != null && packagesLookup.isMissing(name.replace('.', '/') + ".class")) {
+			throw new ClassNotFoundException(name);
+		}
+		return super.findClass(name);
 	}
 
 	@Override
 	public URL findResource(String name) {
+		PackagesIndexFile.Lookup packagesLookup = this.packagesLookup;
+		if (packagesLookup != null && packagesLookup.isMissing(name)) {
+			return null;
+		}
 		if (this.exploded) {
 			return super.findResource(name);
 		}
@@ -106,6 +157,10 @@ public class LaunchedURLClassLoader extends URLClassLoader {
 
 	@Override
 	public Enumeration<URL> findResources(String name) throws IOException {
+		PackagesIndexFile.Lookup packagesLookup = this.packagesLookup;
+		if (packagesLookup != null && packagesLookup.isMissing(name)) {
+			return Collections.emptyEnumeration();
+		}
 		if (this.exploded) {
 			return super.findResources(name);
 		}
@@ -217,7 +272,7 @@ public class LaunchedURLClassLoader extends URLClassLoader {
 			AccessController.doPrivileged((PrivilegedExceptionAction<Object>) () -> {
 				String packageEntryName = packageName.replace('.', '/') + "/";
 				String classEntryName = className.replace('.', '/') + ".class";
-				for (URL url : getURLs()) {
+				for (URL url : getDefinePackageUrls(classEntryName)) {
 					try {
 						URLConnection connection = url.openConnection();
 						if (connection instanceof JarURLConnection) {
@@ -241,6 +296,11 @@ public class LaunchedURLClassLoader extends URLClassLoader {
 		}
 	}
 
+	private URL[] getDefinePackageUrls(String classEntryName) {
+		PackagesIndexFile.Lookup packagesLookup = this.packagesLookup;
+		return (packagesLookup != null) ? packagesLookup.getUrls(classEntryName) : getURLs();
+	}
+
 	@Override
 	protected Package definePackage(String name, Manifest man, URL url) throws IllegalArgumentException {
 		if (!this.exploded) {
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A packages index file that records the directories contained in each class path
+ * archive so that lookups can go straight to the archives that may contain a class or
+ * resource. Archives that are listed without any directories could not be indexed when
+ * the jar was packaged and are treated in the same way as archives that are not listed.
+ *
+ * @author Spring Contributor
+ */
+final class PackagesIndexFile {
+
+	private static final String[] NO_ARCHIVES = {};
+
+	private final Set<String> archives;
+
+	private final Map<String, String[]> directories;
+
+	private PackagesIndexFile(Set<String> archives, Map<String, String[]> directories) {
+		this.archives = archives;
+		this.directories = directories;
+	}
+
+	/**
+	 * Create a {@link Lookup} for the given class path URLs.
+	 * @param rootUrl the URL of the root archive
+	 * @param urls the class path URLs
+	 * @return the lookup
+	 */
+	Lookup createLookup(URL rootUrl, URL[] urls) {
+		String prefix = getJarUrlPrefix(rootUrl);
+		String[] names = new String[urls.length];
+		boolean complete = true;
+		for (int i = 0; i < urls.length; i++) {
+			String name = getArchiveName(prefix, urls[i].toString());
+			names[i] = (name != null && this.archives.contains(name)) ? name : null;
+			complete = complete && names[i] != null;
+		}
+		return new Lookup(urls, names, complete);
+	}
+
+	private String getArchiveName(String prefix, String url) {
+		if (!url.startsWith(prefix) || !url.endsWith("!/") || url.length() <= prefix.length() + 2) {
+			return null;
+		}
+		String name = url.substring(prefix.length(), url.length() - 2);
+		return name.endsWith("/") ? name.substring(0, name.length() - 1) : name;
+	}
+
+	private String[] getArchives(String resourceName) {
+		String name = resourceName.endsWith("/") ? resourceName.substring(0, resourceName.length() - 1)
+				: resourceName;
+		int lastSlash = name.lastIndexOf('/');
+		String[] archives = this.directories.get((lastSlash != -1) ? name.substring(0, lastSlash) : "");
+		return (archives != null) ? archives : NO_ARCHIVES;
+	}
+
+	static PackagesIndexFile loadIfPossible(URL root, String location) throws IOException {
+		URLConnection connection = new URL(getJarUrlPrefix(root) + location).openConnection();
+		connection.setUseCaches(false);
+		try (InputStream inputStream = connection.getInputStream()) {
+			return load(inputStream);
+		}
+		catch (FileNotFoundException ex) {
+			return null;
+		}
+	}
+
+	private static String getJarUrlPrefix(URL root) {
+		String url = root.toString();
+		return url.startsWith("jar:") ? url : "jar:" + url + "!/";
+	}
+
+	static PackagesIndexFile load(InputStream inputStream) throws IOException {
+		Set<String> archives = new HashSet<>();
+		Map<String, List<String>> directories = new HashMap<>();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+		String archive = null;
+		String line = reader.readLine();
+		while (line != null) {
+			if (line.startsWith("- \"") && line.endsWith("\":")) {
+				archive = line.substring(3, line.length() - 2);
+			}
+			else if (archive != null && line.startsWith("  - \"") && line.endsWith("\"")) {
+				String directory = line.substring(5, line.length() - 1);
+				archives.add(archive);
+				directories.computeIfAbsent(directory, (key) -> new ArrayList<>(1)).add(archive);
+			}
+			else if (!line.trim().isEmpty()) {
+				throw new IllegalStateException("Malformed packages index line [" + line + "]");
+			}
+			line = reader.readLine();
+		}
+		Map<String, String[]> directoryArchives = new HashMap<>((int) (directories.size() / 0.75f) + 1);
+		directories.forEach((directory, names) -> directoryArchives.put(directory, names.toArray(NO_ARCHIVES)));
+		return new PackagesIndexFile(Collections.unmodifiableSet(archives),
+				Collections.unmodifiableMap(directoryArchives));
+	}
+
+	/**
+	 * Lookup of the class path URLs that may contain a given class or resource. URLs
+	 * that are not covered by the index, or whose archive could not be indexed, are
+	 * always considered to be candidates.
+	 */
+	final class Lookup {
+
+		private final URL[] urls;
+
+		private final String[] names;
+
+		private final boolean complete;
+
+		private Lookup(URL[] urls, String[] names, boolean complete) {
+			this.urls = urls;
+			this.names = names;
+			this.complete = complete;
+		}
+
+		/**
+		 * Return if the given resource is known to be absent from all class path URLs.
+		 * @param resourceName the resource name
+		 * @return {@code true} if the resource is known to be missing
+		 */
+		boolean isMissing(String resourceName) {
+			return this.complete && isIndexable(resourceName) && getArchives(resourceName).length == 0;
+		}
+
+		/**
+		 * Return the class path URLs that may contain the given resource.
+		 * @param resourceName the resource name
+		 * @return the candidate URLs
+		 */
+		URL[] getUrls(String resourceName) {
+			if (!isIndexable(resourceName)) {
+				return this.urls;
+			}
+			String[] archives = getArchives(resourceName);
+			List<URL> candidates = new ArrayList<>(archives.length);
+			for (int i = 0; i < this.urls.length; i++) {
+				if (this.names[i] == null || contains(archives, this.names[i])) {
+					candidates.add(this.urls[i]);
+				}
+			}
+			return candidates.toArray(new URL[0]);
+		}
+
+		private boolean isIndexable(String resourceName) {
+			return !resourceName.isEmpty() && !resourceName.startsWith("/");
+		}
+
+		private boolean contains(String[] archives, String name) {
+			for (String archive : archives) {
+				if (archive.equals(name)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,9 +22,23 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+import org.springframework.boot.loader.util.SystemPropertyUtils;
 
 /**
- * {@link RandomAccessData} implementation backed by a {@link RandomAccessFile}.
+ * {@link RandomAccessData} implementation backed by a file. By default the file is read
+ * through a {@link RandomAccessFile} guarded by a single lock. The
+ * {@value #ACCESS_PROPERTY} system property or environment variable can be used to
+ * select a different {@link Access} that allows concurrent reads.
  *
  * @author Phillip Webb
  * @author Andy Wilkinson
@@ -32,6 +46,12 @@ import java.io.RandomAccessFile;
  */
 public class RandomAccessDataFile implements RandomAccessData {
 
+	/**
+	 * Name of the property used to select the {@link Access} of new instances.
+	 * @since 2.5.0
+	 */
+	public static final String ACCESS_PROPERTY = "loader.data.access";
+
 	private final FileAccess fileAccess;
 
 	private final long offset;
@@ -44,10 +64,24 @@ public class RandomAccessDataFile implements RandomAccessData {
 	 * @throws IllegalArgumentException if the file is null or does not exist
 	 */
 	public RandomAccessDataFile(File file) {
+		this(file, Access.get());
+	}
+
+	/**
+	 * Create a new {@link RandomAccessDataFile} backed by the specified file.
+	 * @param file the underlying file
+	 * @param access how the file should be accessed
+	 * @throws IllegalArgumentException if the file is null or does not exist
+	 * @since 2.5.0
+	 */
+	public RandomAccessDataFile(File file, Access access) {
 		if (file == null) {
 			throw new IllegalArgumentException("File must not be null");
 		}
-		this.fileAccess = new FileAccess(file);
+		if (access == null) {
+			throw new IllegalArgumentException("Access must not be null");
+		}
+		this.fileAccess = access.open(file);
 		this.offset = 0L;
 		this.length = file.length();
 	}
@@ -69,7 +103,7 @@ public class RandomAccessDataFile implements RandomAccessData {
 	 * @return the underlying file
 	 */
 	public File getFile() {
-		return this.fileAccess.file;
+		return this.fileAccess.getFile();
 	}
 
 	@Override
@@ -202,20 +236,104 @@ public class RandomAccessDataFile implements RandomAccessData {
 
 	}
 
-	private static final class FileAccess {
+	/**
+	 * The ways in which a {@link RandomAccessDataFile} can access the underlying file.
+	 *
+	 * @since 2.5.0
+	 */
+	public enum Access {
+
+		/**
+		 * Read through a {@link RandomAccessFile}, serializing all reads with a lock.
+		 */
+		FILE {
 
-		private final Object monitor = new Object();
+			@Override
+			FileAccess open(File file) {
+				return new RandomAccessFileAccess(file);
+			}
+
+		},
+
+		/**
+		 * Read through positional {@link FileChannel#read(ByteBuffer, long) channel
+		 * reads} that do not require a lock. As with any {@link FileChannel}, the
+		 * channel is closed and reopened if a reading thread is interrupted.
+		 */
+		CHANNEL {
+
+			@Override
+			FileAccess open(File file) {
+				return new ChannelFileAccess(file);
+			}
+
+		},
+
+		/**
+		 * Read through a {@link MappedByteBuffer memory mapping} of the file that does
+		 * not require a lock. The mapping is only released once it is garbage collected.
+		 */
+		MAPPED {
+
+			@Override
+			FileAccess open(File file) {
+				return new MappedFileAccess(file);
+			}
+
+		};
+
+		abstract FileAccess open(File file);
+
+		static Access get() {
+			String value = SystemPropertyUtils.getProperty(ACCESS_PROPERTY);
+			return (value != null) ? valueOf(value.trim().toUpperCase(Locale.ENGLISH)) : FILE;
+		}
+
+	}
+
+	/**
+	 * Provides access to the underlying file.
+	 */
+	private abstract static class FileAccess {
 
 		private final File file;
 
+		FileAccess(File file) {
+			this.file = file;
+		}
+
+		final File getFile() {
+			return this.file;
+		}
+
+		final IllegalArgumentException fileNotFound() {
+			return new IllegalArgumentException(String.format("File %s must exist", this.file.getAbsolutePath()));
+		}
+
+		abstract int read(byte[] bytes, long position, int offset, int length) throws IOException;
+
+		abstract int readByte(long position) throws IOException;
+
+		abstract void close() throws IOException;
+
+	}
+
+	/**
+	 * {@link FileAccess} backed by a {@link RandomAccessFile}.
+	 */
+	private static final class RandomAccessFileAccess extends FileAccess {
+
+		private final Object monitor = new Object();
+
 		private RandomAccessFile randomAccessFile;
 
-		private FileAccess(File file) {
-			this.file = file;
+		private RandomAccessFileAccess(File file) {
+			super(file);
 			openIfNecessary();
 		}
 
-		private int read(byte[] bytes, long position, int offset, int length) throws IOException {
+		@Override
+		int read(byte[] bytes, long position, int offset, int length) throws IOException {
 			synchronized (this.monitor) {
 				openIfNecessary();
 				this.randomAccessFile.seek(position);
@@ -226,16 +344,16 @@ public class RandomAccessDataFile implements RandomAccessData {
 		private void openIfNecessary() {
 			if (this.randomAccessFile == null) {
 				try {
-					this.randomAccessFile = new RandomAccessFile(this.file, "r");
+					this.randomAccessFile = new RandomAccessFile(getFile(), "r");
 				}
 				catch (FileNotFoundException ex) {
-					throw new IllegalArgumentException(
-							String.format("File %s must exist", this.file.getAbsolutePath()));
+					throw fileNotFound();
 				}
 			}
 		}
 
-		private void close() throws IOException {
+		@Override
+		void close() throws IOException {
 			synchronized (this.monitor) {
 				if (this.randomAccessFile != null) {
 					this.randomAccessFile.close();
@@ -244,7 +362,8 @@ public class RandomAccessDataFile implements RandomAccessData {
 			}
 		}
 
-		private int readByte(long position) throws IOException {
+		@Override
+		int readByte(long position) throws IOException {
 			synchronized (this.monitor) {
 				openIfNecessary();
 				this.randomAccessFile.seek(position);
@@ -254,4 +373,192 @@ public class RandomAccessDataFile implements RandomAccessData {
 
 	}
 
+	/**
+	 * {@link FileAccess} backed by a {@link FileChannel}. Positional reads do not change
+	 * the position of the channel so they can be performed concurrently.
+	 */
+	private static final class ChannelFileAccess extends FileAccess {
+
+		private final Object monitor = new Object();
+
+		private volatile FileChannel channel;
+
+		private ChannelFileAccess(File file) {
+			super(file);
+			getChannel();
+		}
+
+		@Override
+		int read(byte[] bytes, long position, int offset, int length) throws IOException {
+			ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+			int total = 0;
+			while (buffer.hasRemaining()) {
+				int read = read(buffer, position + total);
+				if (read == -1) {
+					return (total > 0) ? total : -1;
+				}
+				total += read;
+			}
+			return total;
+		}
+
+		@Override
+		int readByte(long position) throws IOException {
+			ByteBuffer buffer = ByteBuffer.allocate(1);
+			int read = read(buffer, position);
+			return (read > 0) ? buffer.get(0) & 0xFF : -1;
+		}
+
+		private int read(ByteBuffer buffer, long position) throws IOException {
+			FileChannel channel = getChannel();
+			try {
+				return channel.read(buffer, position);
+			}
+			catch (ClosedByInterruptException ex) {
+				clearChannel(channel);
+				throw ex;
+			}
+			catch (ClosedChannelException ex) {
+				// Closed by another thread, retry once with a new channel
+				clearChannel(channel);
+				return getChannel().read(buffer, position);
+			}
+		}
+
+		private FileChannel getChannel() {
+			FileChannel channel = this.channel;
+			if (channel == null) {
+				synchronized (this.monitor) {
+					channel = this.channel;
+					if (channel == null) {
+						try {
+							channel = FileChannel.open(getFile().toPath(), StandardOpenOption.READ);
+						}
+						catch (NoSuchFileException ex) {
+							throw fileNotFound();
+						}
+						catch (IOException ex) {
+							throw new IllegalStateException(ex);
+						}
+						this.channel = channel;
+					}
+				}
+			}
+			return channel;
+		}
+
+		private void clearChannel(FileChannel channel) {
+			synchronized (this.monitor) {
+				if (this.channel == channel) {
+					this.channel = null;
+				}
+			}
+		}
+
+		@Override
+		void close() throws IOException {
+			synchronized (this.monitor) {
+				if (this.channel != null) {
+					this.channel.close();
+					this.channel = null;
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * {@link FileAccess} backed by one or more read-only {@link MappedByteBuffer memory
+	 * mappings} of the file. Each read uses its own view of the mapping so that reads
+	 * can be performed concurrently.
+	 */
+	private static final class MappedFileAccess extends FileAccess {
+
+		private static final long SEGMENT_SIZE = Integer.MAX_VALUE;
+
+		private final Object monitor = new Object();
+
+		private volatile MappedByteBuffer[] segments;
+
+		private MappedFileAccess(File file) {
+			super(file);
+			getSegments();
+		}
+
+		@Override
+		int read(byte[] bytes, long position, int offset, int length) throws IOException {
+			MappedByteBuffer[] segments = getSegments();
+			int total = 0;
+			while (total < length) {
+				long current = position + total;
+				int index = (int) (current / SEGMENT_SIZE);
+				if (index >= segments.length) {
+					break;
+				}
+				ByteBuffer segment = segments[index].duplicate();
+				int segmentPosition = (int) (current % SEGMENT_SIZE);
+				if (segmentPosition >= segment.limit()) {
+					break;
+				}
+				segment.position(segmentPosition);
+				int read = Math.min(length - total, segment.remaining());
+				segment.get(bytes, offset + total, read);
+				total += read;
+			}
+			return (total > 0 || length == 0) ? total : -1;
+		}
+
+		@Override
+		int readByte(long position) throws IOException {
+			MappedByteBuffer[] segments = getSegments();
+			int index = (int) (position / SEGMENT_SIZE);
+			int segmentPosition = (int) (position % SEGMENT_SIZE);
+			if (index >= segments.length || segmentPosition >= segments[index].limit()) {
+				return -1;
+			}
+			return segments[index].get(segmentPosition) & 0xFF;
+		}
+
+		private MappedByteBuffer[] getSegments() {
+			MappedByteBuffer[] segments = this.segments;
+			if (segments == null) {
+				synchronized (this.monitor) {
+					segments = this.segments;
+					if (segments == null) {
+						segments = map();
+						this.segments = segments;
+					}
+				}
+			}
+			return segments;
+		}
+
+		private MappedByteBuffer[] map() {
+			try (FileChannel channel = FileChannel.open(getFile().toPath(), StandardOpenOption.READ)) {
+				long size = channel.size();
+				int count = (int) Math.max(1, (size + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+				MappedByteBuffer[] segments = new MappedByteBuffer[count];
+				for (int i = 0; i < count; i++) {
+					long position = i * SEGMENT_SIZE;
+					segments[i] = channel.map(MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, size - position));
+				}
+				return segments;
+			}
+			catch (NoSuchFileException ex) {
+				throw fileNotFound();
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+
+		@Override
+		void close() {
+			synchronized (this.monitor) {
+				this.segments = null;
+			}
+		}
+
+	}
+
 }
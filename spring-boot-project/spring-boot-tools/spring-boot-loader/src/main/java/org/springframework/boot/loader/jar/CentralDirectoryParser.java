@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -48,11 +48,28 @@ class CentralDirectoryParser {
 	 * @throws IOException on error
 	 */
 	RandomAccessData parse(RandomAccessData data, boolean skipPrefixBytes) throws IOException {
+		return parse(data, skipPrefixBytes, null);
+	}
+
+	/**
+	 * Parse the source data, triggering {@link CentralDirectoryVisitor visitors} unless
+	 * the given {@link Restorer} is able to restore their results without parsing the
+	 * entries.
+	 * @param data the source data
+	 * @param skipPrefixBytes if prefix bytes should be skipped
+	 * @param restorer the restorer to try before parsing the entries or {@code null}
+	 * @return the actual archive data without any prefix bytes
+	 * @throws IOException on error
+	 */
+	RandomAccessData parse(RandomAccessData data, boolean skipPrefixBytes, Restorer restorer) throws IOException {
 		CentralDirectoryEndRecord endRecord = new CentralDirectoryEndRecord(data);
 		if (skipPrefixBytes) {
 			data = getArchiveData(endRecord, data);
 		}
 		RandomAccessData centralDirectoryData = endRecord.getCentralDirectory(data);
+		if (restorer != null && restorer.restore(endRecord, centralDirectoryData)) {
+			return data;
+		}
 		visitStart(endRecord, centralDirectoryData);
 		parseEntries(endRecord, centralDirectoryData);
 		visitEnd();
@@ -98,4 +115,21 @@ class CentralDirectoryParser {
 		}
 	}
 
+	/**
+	 * Strategy used to restore the results of a previous parse, usually from an index.
+	 */
+	@FunctionalInterface
+	interface Restorer {
+
+		/**
+		 * Restore the results of parsing the given central directory.
+		 * @param endRecord the central directory end record
+		 * @param centralDirectoryData the central directory data
+		 * @return {@code true} if the results were restored or {@code false} if the
+		 * entries should be parsed
+		 */
+		boolean restore(CentralDirectoryEndRecord endRecord, RandomAccessData centralDirectoryData);
+
+	}
+
 }
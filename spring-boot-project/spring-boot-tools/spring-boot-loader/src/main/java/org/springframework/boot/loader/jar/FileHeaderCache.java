@@ -0,0 +1,142 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.jar;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free cache of the {@link FileHeader file headers} of {@link JarFileEntries},
+ * keyed by entry index. The cache is direct mapped with a capacity that scales with the
+ * number of entries so that reads never block and concurrent writers simply replace
+ * each other's slot.
+ *
+ * @author Spring Contributor
+ */
+final class FileHeaderCache {
+
+	/**
+	 * The minimum number of cached headers.
+	 */
+	static final int MINIMUM_CAPACITY = 32;
+
+	/**
+	 * The maximum number of cached headers.
+	 */
+	static final int MAXIMUM_CAPACITY = 2048;
+
+	private final AtomicReferenceArray<Slot> slots;
+
+	private final int mask;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Create a new {@link FileHeaderCache} sized for the given number of entries.
+	 * @param numberOfEntries the number of entries
+	 */
+	FileHeaderCache(int numberOfEntries) {
+		int capacity = getCapacity(numberOfEntries);
+		this.slots = new AtomicReferenceArray<>(capacity);
+		this.mask = capacity - 1;
+	}
+
+	private static int getCapacity(int numberOfEntries) {
+		int capacity = MINIMUM_CAPACITY;
+		while (capacity < MAXIMUM_CAPACITY && capacity < numberOfEntries / 4) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	/**
+	 * Return the cached header for the given entry index.
+	 * @param index the entry index
+	 * @return the cached header or {@code null}
+	 */
+	FileHeader get(int index) {
+		Slot slot = this.slots.get(index & this.mask);
+		if (slot != null && slot.index == index) {
+			this.hits.increment();
+			return slot.fileHeader;
+		}
+		this.misses.increment();
+		return null;
+	}
+
+	/**
+	 * Cache the header of the given entry index, replacing any header that shares its
+	 * slot.
+	 * @param index the entry index
+	 * @param fileHeader the header to cache
+	 */
+	void put(int index, FileHeader fileHeader) {
+		this.slots.set(index & this.mask, new Slot(index, fileHeader));
+	}
+
+	/**
+	 * Remove all cached headers.
+	 */
+	void clear() {
+		for (int i = 0; i < this.slots.length(); i++) {
+			this.slots.set(i, null);
+		}
+	}
+
+	/**
+	 * Return the maximum number of cached headers.
+	 * @return the capacity
+	 */
+	int getCapacity() {
+		return this.slots.length();
+	}
+
+	/**
+	 * Return the number of lookups that found a cached header.
+	 * @return the hit count
+	 */
+	long getHitCount() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Return the number of lookups that did not find a cached header.
+	 * @return the miss count
+	 */
+	long getMissCount() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * An immutable cache slot.
+	 */
+	private static final class Slot {
+
+		private final int index;
+
+		private final FileHeader fileHeader;
+
+		Slot(int index, FileHeader fileHeader) {
+			this.index = index;
+			this.fileHeader = fileHeader;
+		}
+
+	}
+
+}
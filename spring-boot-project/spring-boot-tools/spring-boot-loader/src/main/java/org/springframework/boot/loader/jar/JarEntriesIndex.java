@@ -0,0 +1,179 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.jar;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.loader.data.RandomAccessData;
+
+/**
+ * Index written at build time that holds the {@link JarFileEntries} data of each nested
+ * jar of an archive so that their central directories do not need to be parsed at
+ * runtime. Each indexed jar is identified by its entry name, size and CRC. The index is
+ * only used when all of these and the central directory of the jar itself still match.
+ * <p>
+ * The index is a binary file that starts with a version number and the number of indexed
+ * jars. Each jar is then described by its entry name, size, CRC, central directory size,
+ * number of central directory records, a flag indicating if it is signed and the entry
+ * hash codes, central directory offsets and positions, as computed by
+ * {@link JarFileEntries}.
+ *
+ * @author Spring Contributor
+ */
+final class JarEntriesIndex {
+
+	/**
+	 * The version of the index format that can be read.
+	 */
+	static final int VERSION = 1;
+
+	/**
+	 * An empty {@link JarEntriesIndex}.
+	 */
+	static final JarEntriesIndex NONE = new JarEntriesIndex(Collections.emptyMap());
+
+	private final Map<String, Entry> entries;
+
+	private JarEntriesIndex(Map<String, Entry> entries) {
+		this.entries = entries;
+	}
+
+	/**
+	 * Return the index entry for the given nested jar entry.
+	 * @param jarEntry the nested jar entry
+	 * @return the index entry or {@code null} if the jar is not indexed or the index is
+	 * out of date
+	 */
+	Entry get(JarEntry jarEntry) {
+		Entry entry = this.entries.get(jarEntry.getName());
+		if (entry == null || entry.size != jarEntry.getSize() || entry.crc != jarEntry.getCrc()) {
+			return null;
+		}
+		return entry;
+	}
+
+	/**
+	 * Load a {@link JarEntriesIndex} from the given stream.
+	 * @param inputStream the source stream
+	 * @return the loaded index or {@link #NONE} if the index format is not supported
+	 * @throws IOException on error
+	 */
+	static JarEntriesIndex load(InputStream inputStream) throws IOException {
+		DataInputStream input = new DataInputStream(new BufferedInputStream(inputStream));
+		if (input.readInt() != VERSION) {
+			return NONE;
+		}
+		int count = input.readInt();
+		Map<String, Entry> entries = new HashMap<>((int) (count / 0.75f) + 1);
+		for (int i = 0; i < count; i++) {
+			String name = input.readUTF();
+			entries.put(name, Entry.load(input));
+		}
+		return new JarEntriesIndex(entries);
+	}
+
+	/**
+	 * The indexed data of a single nested jar.
+	 */
+	static final class Entry {
+
+		private final long size;
+
+		private final long crc;
+
+		private final long centralDirectorySize;
+
+		private final int numberOfRecords;
+
+		private final boolean signed;
+
+		private final int[] hashCodes;
+
+		private final int[] centralDirectoryOffsets;
+
+		private final int[] positions;
+
+		private Entry(long size, long crc, long centralDirectorySize, int numberOfRecords, boolean signed,
+				int[] hashCodes, int[] centralDirectoryOffsets, int[] positions) {
+			this.size = size;
+			this.crc = crc;
+			this.centralDirectorySize = centralDirectorySize;
+			this.numberOfRecords = numberOfRecords;
+			this.signed = signed;
+			this.hashCodes = hashCodes;
+			this.centralDirectoryOffsets = centralDirectoryOffsets;
+			this.positions = positions;
+		}
+
+		/**
+		 * Return if this entry describes the given central directory.
+		 * @param endRecord the central directory end record
+		 * @param centralDirectoryData the central directory data
+		 * @return if the entry matches
+		 */
+		boolean matches(CentralDirectoryEndRecord endRecord, RandomAccessData centralDirectoryData) {
+			return this.numberOfRecords == endRecord.getNumberOfRecords()
+					&& this.centralDirectorySize == centralDirectoryData.getSize();
+		}
+
+		boolean isSigned() {
+			return this.signed;
+		}
+
+		int[] getHashCodes() {
+			return this.hashCodes;
+		}
+
+		int[] getCentralDirectoryOffsets() {
+			return this.centralDirectoryOffsets;
+		}
+
+		int[] getPositions() {
+			return this.positions;
+		}
+
+		private static Entry load(DataInputStream input) throws IOException {
+			long size = input.readLong();
+			long crc = input.readLong();
+			long centralDirectorySize = input.readLong();
+			int numberOfRecords = input.readInt();
+			boolean signed = input.readBoolean();
+			int length = input.readInt();
+			int[] hashCodes = readInts(input, length);
+			int[] centralDirectoryOffsets = readInts(input, length);
+			int[] positions = readInts(input, length);
+			return new Entry(size, crc, centralDirectorySize, numberOfRecords, signed, hashCodes,
+					centralDirectoryOffsets, positions);
+		}
+
+		private static int[] readInts(DataInputStream input, int length) throws IOException {
+			int[] values = new int[length];
+			for (int i = 0; i < length; i++) {
+				values[i] = input.readInt();
+			}
+			return values;
+		}
+
+	}
+
+}
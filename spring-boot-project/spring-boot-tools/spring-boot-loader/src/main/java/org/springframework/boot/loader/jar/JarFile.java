@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -67,6 +67,8 @@ public class JarFile extends AbstractJarFile implements Iterable<java.util.jar.J
 
 	private static final String READ_ACTION = "read";
 
+	private static final String ENTRIES_INDEX_ATTRIBUTE = "Spring-Boot-Entries-Index";
+
 	private final RandomAccessDataFile rootFile;
 
 	private final String pathFromRoot;
@@ -89,6 +91,8 @@ public class JarFile extends AbstractJarFile implements Iterable<java.util.jar.J
 
 	private String comment;
 
+	private JarEntriesIndex entriesIndex;
+
 	private volatile boolean closed;
 
 	/**
@@ -120,11 +124,12 @@ public class JarFile extends AbstractJarFile implements Iterable<java.util.jar.J
 	 */
 	private JarFile(RandomAccessDataFile rootFile, String pathFromRoot, RandomAccessData data, JarFileType type)
 			throws IOException {
-		this(rootFile, pathFromRoot, data, null, type, null);
+		this(rootFile, pathFromRoot, data, null, type, null, null);
 	}
 
 	private JarFile(RandomAccessDataFile rootFile, String pathFromRoot, RandomAccessData data, JarEntryFilter filter,
-			JarFileType type, Supplier<Manifest> manifestSupplier) throws IOException {
+			JarFileType type, Supplier<Manifest> manifestSupplier, JarEntriesIndex.Entry indexEntry)
+			throws IOException {
 		super(rootFile.getFile());
 		super.close();
 		this.rootFile = rootFile;
@@ -133,8 +138,10 @@ public class JarFile extends AbstractJarFile implements Iterable<java.util.jar.J
 		this.entries = parser.addVisitor(new JarFileEntries(this, filter));
 		this.type = type;
 		parser.addVisitor(centralDirectoryVisitor());
+		CentralDirectoryParser.Restorer restorer = (indexEntry != null)
+				? (endRecord, centralDirectoryData) -> restore(indexEntry, endRecord, centralDirectoryData) : null;
 		try {
-			this.data = parser.parse(data, filter == null);
+			this.data = parser.parse(data, filter == null, restorer);
 		}
 		catch (RuntimeException ex) {
 			close();
@@ -153,6 +160,17 @@ public class JarFile extends AbstractJarFile implements Iterable<java.util.jar.J
 		};
 	}
 
+	private boolean restore(JarEntriesIndex.Entry indexEntry, CentralDirectoryEndRecord endRecord,
+			RandomAccessData centralDirectoryData) {
+		if (!indexEntry.matches(endRecord, centralDirectoryData)) {
+			return false;
+		}
+		this.comment = endRecord.getComment();
+		this.signed = indexEntry.isSigned();
+		this.entries.restore(centralDirectoryData, indexEntry);
+		return true;
+	}
+
 	private CentralDirectoryVisitor centralDirectoryVisitor() {
 		return new CentralDirectoryVisitor() {
 
@@ -305,7 +323,7 @@ public class JarFile extends AbstractJarFile implements Iterable<java.util.jar.J
 			return null;
 		};
 		return new JarFile(this.rootFile, this.pathFromRoot + "!/" + entry.getName().substring(0, name.length() - 1),
-				this.data, filter, JarFileType.NESTED_DIRECTORY, this.manifestSupplier);
+				this.data, filter, JarFileType.NESTED_DIRECTORY, this.manifestSupplier, null);
 	}
 
 	private JarFile createJarFileFromFileEntry(JarEntry entry) throws IOException {
@@ -316,8 +334,37 @@ public class JarFile extends AbstractJarFile implements Iterable<java.util.jar.J
 							+ "mechanism used to create your executable jar file");
 		}
 		RandomAccessData entryData = this.entries.getEntryData(entry.getName());
-		return new JarFile(this.rootFile, this.pathFromRoot + "!/" + entry.getName(), entryData,
-				JarFileType.NESTED_JAR);
+		return new JarFile(this.rootFile, this.pathFromRoot + "!/" + entry.getName(), entryData, null,
+				JarFileType.NESTED_JAR, null, getEntriesIndex().get(entry));
+	}
+
+	private JarEntriesIndex getEntriesIndex() {
+		if (this.entriesIndex == null) {
+			this.entriesIndex = loadEntriesIndex();
+		}
+		return this.entriesIndex;
+	}
+
+	private JarEntriesIndex loadEntriesIndex() {
+		if (this.type != JarFileType.DIRECT) {
+			return JarEntriesIndex.NONE;
+		}
+		try {
+			Manifest manifest = getManifest();
+			String location = (manifest != null) ? manifest.getMainAttributes().getValue(ENTRIES_INDEX_ATTRIBUTE)
+					: null;
+			if (location != null) {
+				try (InputStream inputStream = getInputStream(location)) {
+					if (inputStream != null) {
+						return JarEntriesIndex.load(inputStream);
+					}
+				}
+			}
+		}
+		catch (IOException ex) {
+			// Ignore and parse each nested jar
+		}
+		return JarEntriesIndex.NONE;
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2020 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,10 +19,7 @@ package org.springframework.boot.loader.jar;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.jar.Attributes;
 import java.util.jar.Attributes.Name;
@@ -77,8 +74,6 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<JarEntry> {
 
 	private static final char NO_SUFFIX = 0;
 
-	protected static final int ENTRY_CACHE_SIZE = 25;
-
 	private final JarFile jarFile;
 
 	private final JarEntryFilter filter;
@@ -97,15 +92,7 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<JarEntry> {
 
 	private JarEntryCertification[] certifications;
 
-	private final Map<Integer, FileHeader> entriesCache = Collections
-			.synchronizedMap(new LinkedHashMap<Integer, FileHeader>(16, 0.75f, true) {
-
-				@Override
-				protected boolean removeEldestEntry(Map.Entry<Integer, FileHeader> eldest) {
-					return size() >= ENTRY_CACHE_SIZE;
-				}
-
-			});
+	private FileHeaderCache entriesCache;
 
 	JarFileEntries(JarFile jarFile, JarEntryFilter filter) {
 		this.jarFile = jarFile;
@@ -122,6 +109,7 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<JarEntry> {
 		this.hashCodes = new int[maxSize];
 		this.centralDirectoryOffsets = new int[maxSize];
 		this.positions = new int[maxSize];
+		this.entriesCache = new FileHeaderCache(maxSize);
 	}
 
 	@Override
@@ -149,6 +137,21 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<JarEntry> {
 		}
 	}
 
+	/**
+	 * Restore the entries from a pre-computed index instead of visiting the central
+	 * directory.
+	 * @param centralDirectoryData the central directory data
+	 * @param indexEntry the index entry that matches the central directory
+	 */
+	void restore(RandomAccessData centralDirectoryData, JarEntriesIndex.Entry indexEntry) {
+		this.centralDirectoryData = centralDirectoryData;
+		this.hashCodes = indexEntry.getHashCodes();
+		this.centralDirectoryOffsets = indexEntry.getCentralDirectoryOffsets();
+		this.positions = indexEntry.getPositions();
+		this.size = this.hashCodes.length;
+		this.entriesCache = new FileHeaderCache(this.size);
+	}
+
 	int getSize() {
 		return this.size;
 	}
@@ -347,6 +350,10 @@ class JarFileEntries implements CentralDirectoryVisitor, Iterable<JarEntry> {
 		this.entriesCache.clear();
 	}
 
+	FileHeaderCache getEntriesCache() {
+		return this.entriesCache;
+	}
+
 	private AsciiBytes applyFilter(AsciiBytes name) {
 		return (this.filter != null) ? this.filter.apply(name) : name;
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,18 +16,23 @@
 
 package org.springframework.boot.loader;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.JarURLConnection;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import org.springframework.boot.loader.archive.JarFileArchive;
 import org.springframework.boot.loader.jar.JarFile;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * Tests for {@link LaunchedURLClassLoader}.
@@ -108,4 +113,28 @@ class LaunchedURLClassLoaderTests {
 		}
 	}
 
+	@Test
+	void resolveWithPackagesIndex() throws Exception {
+		File file = new File(this.tempDir, "test.jar");
+		TestJarCreator.createTestJar(file);
+		String index = "- \"nested.jar\":\n  - \"\"\n- \"another-nested.jar\":\n  - \"META-INF\"\n";
+		PackagesIndexFile packagesIndex = PackagesIndexFile
+				.load(new ByteArrayInputStream(index.getBytes(StandardCharsets.UTF_8)));
+		try (JarFileArchive archive = new JarFileArchive(file); JarFile jarFile = new JarFile(file)) {
+			URL[] urls = { getNestedUrl(jarFile, "nested.jar"), getNestedUrl(jarFile, "another-nested.jar") };
+			try (LaunchedURLClassLoader loader = new LaunchedURLClassLoader(false, archive, urls, null,
+					packagesIndex)) {
+				assertThat(loader.getResource("3.dat").toString()).isEqualTo(urls[0] + "3.dat");
+				assertThat(loader.getResource("missing/3.dat")).isNull();
+				assertThat(loader.getResources("missing/3.dat").hasMoreElements()).isFalse();
+				assertThatExceptionOfType(ClassNotFoundException.class)
+						.isThrownBy(() -> loader.loadClass("missing.Missing"));
+			}
+		}
+	}
+
+	private URL getNestedUrl(JarFile jarFile, String name) throws IOException {
+		return jarFile.getNestedJarFile(jarFile.getEntry(name)).getUrl();
+	}
+
 }
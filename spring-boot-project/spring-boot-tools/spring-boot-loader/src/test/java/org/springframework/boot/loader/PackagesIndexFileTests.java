@@ -0,0 +1,107 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.loader.PackagesIndexFile.Lookup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link PackagesIndexFile}.
+ *
+ * @author Spring Contributor
+ */
+class PackagesIndexFileTests {
+
+	private static final String INDEX = "- \"BOOT-INF/classes\":\n  - \"\"\n  - \"com\"\n  - \"com/example\"\n"
+			+ "- \"BOOT-INF/lib/a.jar\":\n  - \"\"\n  - \"org\"\n  - \"org/a\"\n"
+			+ "- \"BOOT-INF/lib/b.jar\":\n  - \"\"\n  - \"org\"\n  - \"org/b\"\n";
+
+	private static final String ROOT = "jar:file:/app.jar!/";
+
+	private final URL classes = url("BOOT-INF/classes!/");
+
+	private final URL a = url("BOOT-INF/lib/a.jar!/");
+
+	private final URL b = url("BOOT-INF/lib/b.jar!/");
+
+	@Test
+	void getUrlsReturnsOwningArchives() throws Exception {
+		Lookup lookup = load(INDEX).createLookup(new URL(ROOT), new URL[] { this.classes, this.a, this.b });
+		assertThat(lookup.getUrls("com/example/Application.class")).containsExactly(this.classes);
+		assertThat(lookup.getUrls("org/a/A.class")).containsExactly(this.a);
+		assertThat(lookup.getUrls("org/package-info.class")).containsExactly(this.a, this.b);
+		assertThat(lookup.getUrls("org/")).containsExactly(this.classes, this.a, this.b);
+		assertThat(lookup.getUrls("net/Missing.class")).isEmpty();
+	}
+
+	@Test
+	void isMissingWhenDirectoryIsNotIndexed() throws Exception {
+		Lookup lookup = load(INDEX).createLookup(new URL(ROOT), new URL[] { this.classes, this.a, this.b });
+		assertThat(lookup.isMissing("net/Missing.class")).isTrue();
+		assertThat(lookup.isMissing("org/a/Missing.class")).isFalse();
+		assertThat(lookup.isMissing("")).isFalse();
+		assertThat(lookup.isMissing("/net/Missing.class")).isFalse();
+	}
+
+	@Test
+	void unindexedUrlsAreAlwaysCandidates() throws Exception {
+		URL other = new URL("file:/other/");
+		Lookup lookup = load(INDEX).createLookup(new URL(ROOT), new URL[] { this.classes, other });
+		assertThat(lookup.getUrls("net/Missing.class")).containsExactly(other);
+		assertThat(lookup.getUrls("org/a/A.class")).containsExactly(other);
+		assertThat(lookup.isMissing("net/Missing.class")).isFalse();
+	}
+
+	@Test
+	void archivesWithoutDirectoriesAreAlwaysCandidates() throws Exception {
+		String index = INDEX + "- \"BOOT-INF/lib/c.jar\":\n";
+		URL c = url("BOOT-INF/lib/c.jar!/");
+		Lookup lookup = load(index).createLookup(new URL(ROOT), new URL[] { this.classes, this.a, c });
+		assertThat(lookup.getUrls("net/Missing.class")).containsExactly(c);
+		assertThat(lookup.getUrls("org/a/A.class")).containsExactly(this.a, c);
+		assertThat(lookup.isMissing("net/Missing.class")).isFalse();
+	}
+
+	@Test
+	void loadWhenMalformedThrowsException() {
+		assertThatIllegalStateException().isThrownBy(() -> load("BOOT-INF/classes\n"))
+				.withMessage("Malformed packages index line [BOOT-INF/classes]");
+	}
+
+	private PackagesIndexFile load(String content) throws IOException {
+		return PackagesIndexFile.load(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static URL url(String path) {
+		try {
+			return new URL(ROOT + path);
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+}
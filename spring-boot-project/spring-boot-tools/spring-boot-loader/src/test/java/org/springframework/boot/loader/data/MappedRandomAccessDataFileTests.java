@@ -0,0 +1,39 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.data;
+
+import java.io.File;
+
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import org.springframework.boot.loader.data.RandomAccessDataFile.Access;
+
+/**
+ * Tests for {@link RandomAccessDataFile} using {@link Access#MAPPED}.
+ *
+ * @author Spring Contributor
+ */
+@DisabledOnOs(value = OS.WINDOWS, disabledReason = "Mappings keep the temporary file locked until garbage collected")
+class MappedRandomAccessDataFileTests extends RandomAccessDataFileTests {
+
+	@Override
+	RandomAccessDataFile createFile(File file) {
+		return new RandomAccessDataFile(file, Access.MAPPED);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2019 the original author or authors.
+ * Copyright 2012-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -66,10 +66,14 @@ class RandomAccessDataFileTests {
 		FileOutputStream outputStream = new FileOutputStream(this.tempFile);
 		outputStream.write(BYTES);
 		outputStream.close();
-		this.file = new RandomAccessDataFile(this.tempFile);
+		this.file = createFile(this.tempFile);
 		this.inputStream = this.file.getInputStream();
 	}
 
+	RandomAccessDataFile createFile(File file) {
+		return new RandomAccessDataFile(file);
+	}
+
 	@AfterEach
 	void cleanup() throws Exception {
 		this.inputStream.close();
@@ -85,7 +89,7 @@ class RandomAccessDataFileTests {
 	@Test
 	void fileExists() {
 		File file = new File("/does/not/exist");
-		assertThatIllegalArgumentException().isThrownBy(() -> new RandomAccessDataFile(file))
+		assertThatIllegalArgumentException().isThrownBy(() -> createFile(file))
 				.withMessageContaining(String.format("File %s must exist", file.getAbsolutePath()));
 	}
 
@@ -270,6 +274,13 @@ class RandomAccessDataFileTests {
 		assertThat(this.file.getFile()).isEqualTo(this.tempFile);
 	}
 
+	@Test
+	void readAfterClose() throws Exception {
+		this.file.close();
+		assertThat(this.file.read(2, 3)).isEqualTo(new byte[] { 2, 3, 4 });
+		assertThat(this.file.getInputStream().read()).isEqualTo(0);
+	}
+
 	@Test
 	void concurrentReads() throws Exception {
 		ExecutorService executorService = Executors.newFixedThreadPool(20);
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.jar;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.boot.loader.TestJarCreator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link FileHeaderCache}.
+ *
+ * @author Spring Contributor
+ */
+class FileHeaderCacheTests {
+
+	@TempDir
+	File tempDir;
+
+	@Test
+	void capacityScalesWithNumberOfEntries() {
+		assertThat(new FileHeaderCache(0).getCapacity()).isEqualTo(FileHeaderCache.MINIMUM_CAPACITY);
+		assertThat(new FileHeaderCache(1000).getCapacity()).isEqualTo(256);
+		assertThat(new FileHeaderCache(10500).getCapacity()).isEqualTo(2048);
+		assertThat(new FileHeaderCache(100000).getCapacity()).isEqualTo(FileHeaderCache.MAXIMUM_CAPACITY);
+	}
+
+	@Test
+	void getCountsHitsAndMisses() {
+		FileHeaderCache cache = new FileHeaderCache(0);
+		FileHeader fileHeader = mock(FileHeader.class);
+		assertThat(cache.get(1)).isNull();
+		cache.put(1, fileHeader);
+		assertThat(cache.get(1)).isSameAs(fileHeader);
+		assertThat(cache.get(1)).isSameAs(fileHeader);
+		assertThat(cache.getHitCount()).isEqualTo(2);
+		assertThat(cache.getMissCount()).isEqualTo(1);
+	}
+
+	@Test
+	void putReplacesEntryInSameSlot() {
+		FileHeaderCache cache = new FileHeaderCache(0);
+		FileHeader first = mock(FileHeader.class);
+		FileHeader second = mock(FileHeader.class);
+		int collidingIndex = 1 + cache.getCapacity();
+		cache.put(1, first);
+		cache.put(collidingIndex, second);
+		assertThat(cache.get(1)).isNull();
+		assertThat(cache.get(collidingIndex)).isSameAs(second);
+	}
+
+	@Test
+	void clearRemovesEntries() {
+		FileHeaderCache cache = new FileHeaderCache(0);
+		cache.put(1, mock(FileHeader.class));
+		cache.clear();
+		assertThat(cache.get(1)).isNull();
+	}
+
+	@Test
+	void concurrentGetEntryFromJarFile() throws Exception {
+		File file = new File(this.tempDir, "test.jar");
+		TestJarCreator.createTestJar(file);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try (JarFile jarFile = new JarFile(file)) {
+			List<String> names = new ArrayList<>();
+			jarFile.stream().forEach((entry) -> names.add(entry.getName()));
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(() -> {
+					for (int j = 0; j < 1000; j++) {
+						for (String name : names) {
+							if (!name.equals(jarFile.getEntry(name).getName())) {
+								return false;
+							}
+						}
+					}
+					return true;
+				}));
+			}
+			for (Future<Boolean> result : results) {
+				assertThat(result.get()).isTrue();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
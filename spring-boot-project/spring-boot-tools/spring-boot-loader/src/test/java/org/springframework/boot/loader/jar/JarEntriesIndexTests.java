@@ -0,0 +1,245 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.loader.jar;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.boot.loader.data.RandomAccessData;
+import org.springframework.boot.loader.data.RandomAccessDataFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link JarEntriesIndex}.
+ *
+ * @author Spring Contributor
+ */
+class JarEntriesIndexTests {
+
+	private static final List<String> NESTED_ENTRIES = Arrays.asList("a.dat", "b.dat", "c/", "c/d.dat",
+			"ä.dat");
+
+	@TempDir
+	File tempDir;
+
+	@Test
+	void nestedJarIsRestoredFromIndex() throws Exception {
+		byte[] nestedJar = createNestedJar();
+		IndexData indexData = IndexData.of(nestedJar, this.tempDir);
+		Collections.reverse(indexData.order);
+		File rootJar = createRootJar(nestedJar, indexData.toBytes(nestedJar));
+		try (JarFile jarFile = new JarFile(rootJar)) {
+			try (JarFile nested = jarFile.getNestedJarFile(jarFile.getEntry("lib/nested.jar"))) {
+				List<String> reversed = new ArrayList<>(NESTED_ENTRIES);
+				Collections.reverse(reversed);
+				assertThat(getEntryNames(nested)).isEqualTo(reversed);
+				assertThat(nested.getComment()).isEqualTo("nested");
+				assertEntryContent(nested, "b.dat", 'b');
+				assertEntryContent(nested, "ä.dat", 'ä');
+				assertThat(nested.getEntry("c")).isNotNull();
+				assertThat(nested.getEntry("missing.dat")).isNull();
+			}
+		}
+	}
+
+	@Test
+	void nestedJarIsParsedWhenIndexDoesNotMatch() throws Exception {
+		byte[] nestedJar = createNestedJar();
+		IndexData indexData = IndexData.of(nestedJar, this.tempDir);
+		Collections.reverse(indexData.order);
+		byte[] modifiedJar = Arrays.copyOf(nestedJar, nestedJar.length);
+		modifiedJar[0] = 'X';
+		File rootJar = createRootJar(nestedJar, indexData.toBytes(modifiedJar));
+		try (JarFile jarFile = new JarFile(rootJar)) {
+			try (JarFile nested = jarFile.getNestedJarFile(jarFile.getEntry("lib/nested.jar"))) {
+				assertThat(getEntryNames(nested)).isEqualTo(NESTED_ENTRIES);
+				assertEntryContent(nested, "b.dat", 'b');
+			}
+		}
+	}
+
+	@Test
+	void nestedJarIsParsedWhenIndexHasUnsupportedVersion() throws Exception {
+		byte[] nestedJar = createNestedJar();
+		File rootJar = createRootJar(nestedJar, new byte[] { 0, 0, 0, 99 });
+		try (JarFile jarFile = new JarFile(rootJar)) {
+			try (JarFile nested = jarFile.getNestedJarFile(jarFile.getEntry("lib/nested.jar"))) {
+				assertThat(getEntryNames(nested)).isEqualTo(NESTED_ENTRIES);
+			}
+		}
+	}
+
+	private List<String> getEntryNames(JarFile jarFile) {
+		List<String> names = new ArrayList<>();
+		jarFile.stream().forEach((entry) -> names.add(entry.getName()));
+		return names;
+	}
+
+	private void assertEntryContent(JarFile jarFile, String name, int expected) throws IOException {
+		try (InputStream inputStream = jarFile.getInputStream(jarFile.getEntry(name))) {
+			assertThat(inputStream.read()).isEqualTo(expected);
+			assertThat(inputStream.read()).isEqualTo(-1);
+		}
+	}
+
+	private byte[] createNestedJar() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (JarOutputStream jarOutputStream = new JarOutputStream(bytes)) {
+			jarOutputStream.setComment("nested");
+			for (String name : NESTED_ENTRIES) {
+				jarOutputStream.putNextEntry(new ZipEntry(name));
+				if (!name.endsWith("/")) {
+					jarOutputStream.write(name.charAt(0));
+				}
+				jarOutputStream.closeEntry();
+			}
+		}
+		return bytes.toByteArray();
+	}
+
+	private File createRootJar(byte[] nestedJar, byte[] index) throws IOException {
+		File file = new File(this.tempDir, "root.jar");
+		Manifest manifest = new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		manifest.getMainAttributes().putValue("Spring-Boot-Entries-Index", "entries.idx");
+		try (JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(file), manifest)) {
+			jarOutputStream.putNextEntry(new ZipEntry("entries.idx"));
+			jarOutputStream.write(index);
+			jarOutputStream.closeEntry();
+			ZipEntry nestedEntry = new ZipEntry("lib/nested.jar");
+			nestedEntry.setMethod(ZipEntry.STORED);
+			nestedEntry.setSize(nestedJar.length);
+			nestedEntry.setCompressedSize(nestedJar.length);
+			nestedEntry.setCrc(crc(nestedJar));
+			jarOutputStream.putNextEntry(nestedEntry);
+			jarOutputStream.write(nestedJar);
+			jarOutputStream.closeEntry();
+		}
+		return file;
+	}
+
+	private static long crc(byte[] bytes) {
+		CRC32 crc = new CRC32();
+		crc.update(bytes);
+		return crc.getValue();
+	}
+
+	/**
+	 * Index data for a nested jar, computed in the same way as the build plugins.
+	 */
+	private static final class IndexData implements CentralDirectoryVisitor {
+
+		private final List<int[]> records = new ArrayList<>();
+
+		private List<Integer> order = new ArrayList<>();
+
+		private int numberOfRecords;
+
+		private long centralDirectorySize;
+
+		static IndexData of(byte[] jar, File tempDir) throws IOException {
+			File file = File.createTempFile("nested", ".jar", tempDir);
+			Files.write(file.toPath(), jar);
+			RandomAccessDataFile data = new RandomAccessDataFile(file);
+			try {
+				IndexData indexData = new IndexData();
+				CentralDirectoryParser parser = new CentralDirectoryParser();
+				parser.addVisitor(indexData);
+				parser.parse(data, true);
+				return indexData;
+			}
+			finally {
+				data.close();
+			}
+		}
+
+		@Override
+		public void visitStart(CentralDirectoryEndRecord endRecord, RandomAccessData centralDirectoryData) {
+			this.numberOfRecords = endRecord.getNumberOfRecords();
+			this.centralDirectorySize = centralDirectoryData.getSize();
+		}
+
+		@Override
+		public void visitFileHeader(CentralDirectoryFileHeader fileHeader, int dataOffset) {
+			this.order.add(this.records.size());
+			this.records.add(new int[] { fileHeader.getName().hashCode(), dataOffset });
+		}
+
+		@Override
+		public void visitEnd() {
+		}
+
+		/**
+		 * Return the index bytes, iterating entries in the current {@code order}.
+		 * @param jar the jar used to calculate the size and CRC
+		 * @return the index bytes
+		 * @throws IOException on error
+		 */
+		byte[] toBytes(byte[] jar) throws IOException {
+			List<Integer> sorted = new ArrayList<>(this.order);
+			sorted.sort((left, right) -> Integer.compare(this.records.get(left)[0], this.records.get(right)[0]));
+			int size = this.records.size();
+			int[] hashCodes = new int[size];
+			int[] offsets = new int[size];
+			int[] positions = new int[size];
+			for (int i = 0; i < size; i++) {
+				int[] record = this.records.get(sorted.get(i));
+				hashCodes[i] = record[0];
+				offsets[i] = record[1];
+				positions[this.order.indexOf(sorted.get(i))] = i;
+			}
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream output = new DataOutputStream(bytes);
+			output.writeInt(JarEntriesIndex.VERSION);
+			output.writeInt(1);
+			output.writeUTF("lib/nested.jar");
+			output.writeLong(jar.length);
+			output.writeLong(crc(jar));
+			output.writeLong(this.centralDirectorySize);
+			output.writeInt(this.numberOfRecords);
+			output.writeBoolean(false);
+			output.writeInt(size);
+			for (int[] values : new int[][] { hashCodes, offsets, positions }) {
+				for (int value : values) {
+					output.writeInt(value);
+				}
+			}
+			output.flush();
+			return bytes.toByteArray();
+		}
+
+	}
+
+}
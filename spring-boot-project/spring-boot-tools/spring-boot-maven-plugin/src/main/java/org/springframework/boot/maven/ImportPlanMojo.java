@@ -0,0 +1,137 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.maven;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Component;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+import org.sonatype.plexus.build.incremental.BuildContext;
+
+import org.springframework.boot.loader.tools.JavaExecutable;
+import org.springframework.boot.loader.tools.RunProcess;
+
+/**
+ * Generate a {@code spring-autoconfigure-import-plan.properties} file that records the
+ * auto-configuration classes to import for the project's runtime classpath. The plan is
+ * used on startup for as long as the classpath of the application has the same jars.
+ *
+ * @author Spring Contributor
+ * @since 2.5.0
+ */
+@Mojo(name = "import-plan", defaultPhase = LifecyclePhase.PREPARE_PACKAGE, requiresProject = true,
+		threadSafe = true, requiresDependencyResolution = ResolutionScope.RUNTIME)
+public class ImportPlanMojo extends AbstractDependencyFilterMojo {
+
+	private static final String GENERATOR_CLASS_NAME = "org.springframework.boot.autoconfigure.AutoConfigurationImportPlanGenerator";
+
+	@Component
+	private BuildContext buildContext;
+
+	/**
+	 * The Maven project.
+	 */
+	@Parameter(defaultValue = "${project}", readonly = true, required = true)
+	private MavenProject project;
+
+	/**
+	 * Directory containing the classes and resource files that should be packaged into
+	 * the archive.
+	 */
+	@Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+	private File classesDirectory;
+
+	/**
+	 * The location of the generated {@code spring-autoconfigure-import-plan.properties}
+	 * file.
+	 */
+	@Parameter(
+			defaultValue = "${project.build.outputDirectory}/META-INF/spring-autoconfigure-import-plan.properties")
+	private File outputFile;
+
+	/**
+	 * Exclude Spring Boot devtools from the classpath that the plan is generated for.
+	 * Should match the setting of the {@code repackage} goal.
+	 */
+	@Parameter(property = "spring-boot.repackage.excludeDevtools", defaultValue = "true")
+	private boolean excludeDevtools = true;
+
+	/**
+	 * Skip the execution.
+	 */
+	@Parameter(property = "spring-boot.import-plan.skip", defaultValue = "false")
+	private boolean skip;
+
+	@Override
+	public void execute() throws MojoExecutionException, MojoFailureException {
+		if (this.skip) {
+			getLog().debug("skipping import plan as per configuration.");
+			return;
+		}
+		List<String> args = new ArrayList<>();
+		args.add("-cp");
+		args.add(getClasspath());
+		args.add(GENERATOR_CLASS_NAME);
+		args.add(this.outputFile.getAbsolutePath());
+		try {
+			RunProcess runProcess = new RunProcess(this.project.getBasedir(), new JavaExecutable().toString());
+			int exitCode = runProcess.run(true, args.toArray(new String[0]));
+			if (exitCode != 0) {
+				throw new MojoExecutionException("Import plan generation finished with exit code: " + exitCode);
+			}
+			this.buildContext.refresh(this.outputFile);
+		}
+		catch (MojoExecutionException ex) {
+			throw ex;
+		}
+		catch (Exception ex) {
+			throw new MojoExecutionException("Could not generate import plan", ex);
+		}
+	}
+
+	private String getClasspath() throws MojoExecutionException {
+		StringBuilder classpath = new StringBuilder(this.classesDirectory.getAbsolutePath());
+		Set<Artifact> artifacts = filterDependencies(this.project.getArtifacts(), getFilters(getAdditionalFilters()));
+		for (Artifact artifact : artifacts) {
+			if (artifact.getFile() != null) {
+				classpath.append(File.pathSeparator).append(artifact.getFile().getAbsolutePath());
+			}
+		}
+		return classpath.toString();
+	}
+
+	private ExcludeFilter[] getAdditionalFilters() {
+		if (!this.excludeDevtools) {
+			return new ExcludeFilter[0];
+		}
+		Exclude exclude = new Exclude();
+		exclude.setGroupId("org.springframework.boot");
+		exclude.setArtifactId("spring-boot-devtools");
+		return new ExcludeFilter[] { new ExcludeFilter(exclude) };
+	}
+
+}
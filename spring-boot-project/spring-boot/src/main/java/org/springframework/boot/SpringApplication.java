@@ -42,6 +42,7 @@ import org.springframework.beans.factory.support.BeanNameGenerator;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
 import org.springframework.boot.Banner.Mode;
+import org.springframework.boot.BootstrapRegistry.InstanceSupplier;
 import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
@@ -249,6 +250,8 @@ public class SpringApplication {
 
 	private boolean lazyInitialization = false;
 
+	private boolean freezeConfigurationPropertySources = false;
+
 	private String environmentPrefix;
 
 	private ApplicationContextFactory applicationContextFactory = ApplicationContextFactory.DEFAULT;
@@ -339,6 +342,9 @@ public class SpringApplication {
 			context.setApplicationStartup(this.applicationStartup);
 			prepareContext(bootstrapContext, context, environment, listeners, applicationArguments, printedBanner);
 			refreshContext(context);
+			if (this.freezeConfigurationPropertySources) {
+				ConfigurationPropertySources.freeze(environment);
+			}
 			afterRefresh(context, applicationArguments);
 			stopWatch.stop();
 			if (this.logStartupInfo) {
@@ -365,6 +371,7 @@ public class SpringApplication {
 	private DefaultBootstrapContext createBootstrapContext() {
 		DefaultBootstrapContext bootstrapContext = new DefaultBootstrapContext();
 		this.bootstrapRegistryInitializers.forEach((initializer) -> initializer.initialize(bootstrapContext));
+		bootstrapContext.registerIfAbsent(ApplicationStartup.class, InstanceSupplier.of(this.applicationStartup));
 		return bootstrapContext;
 	}
 
@@ -1004,6 +1011,22 @@ public class SpringApplication {
 		this.lazyInitialization = lazyInitialization;
 	}
 
+	/**
+	 * Sets if the configuration property sources of the environment should be frozen
+	 * once the application context has been refreshed. When frozen, properties are read
+	 * from an immutable snapshot rather than from each property source in turn and
+	 * changes to the property sources are only visible once
+	 * {@link ConfigurationPropertySources#refreshIfFrozen(Environment) refreshed}.
+	 * Defaults to {@code false}.
+	 * @param freezeConfigurationPropertySources if the configuration property sources
+	 * should be frozen after refresh
+	 * @since 2.5.0
+	 * @see ConfigurationPropertySources#freeze(Environment)
+	 */
+	public void setFreezeConfigurationPropertySources(boolean freezeConfigurationPropertySources) {
+		this.freezeConfigurationPropertySources = freezeConfigurationPropertySources;
+	}
+
 	/**
 	 * Sets if the application is headless and should not instantiate AWT. Defaults to
 	 * {@code true} to prevent java icons appearing.
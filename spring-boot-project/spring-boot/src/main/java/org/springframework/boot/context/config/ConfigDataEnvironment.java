@@ -42,6 +42,7 @@ import org.springframework.core.env.MutablePropertySources;
 import org.springframework.core.env.PropertySource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.log.LogMessage;
+import org.springframework.core.metrics.ApplicationStartup;
 import org.springframework.util.StringUtils;
 
 /**
@@ -225,7 +226,8 @@ class ConfigDataEnvironment {
 	 */
 	void processAndApply() {
 		ConfigDataImporter importer = new ConfigDataImporter(this.logFactory, this.notFoundAction, this.resolvers,
-				this.loaders);
+				this.loaders, this.bootstrapContext.getOrElse(ApplicationStartup.class, ApplicationStartup.DEFAULT),
+				!Boolean.getBoolean(ConfigDataImporter.IGNORE_PARALLEL_PROPERTY_NAME));
 		registerBootstrapBinder(this.contributors, null, DENY_INACTIVE_BINDING);
 		ConfigDataEnvironmentContributors contributors = processInitial(this.contributors, importer);
 		ConfigDataActivationContext activationContext = createActivationContext(
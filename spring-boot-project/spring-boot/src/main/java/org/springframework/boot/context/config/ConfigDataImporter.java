@@ -24,21 +24,41 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.apache.commons.logging.Log;
 
 import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 
 /**
  * Imports {@link ConfigData} by {@link ConfigDataLocationResolver resolving} and
  * {@link ConfigDataLoader loading} locations. {@link ConfigDataResource resources} are
  * tracked to ensure that they are not imported multiple times.
+ * <p>
+ * The resources resolved from a single set of imports do not depend on each other so,
+ * when more than one of them has a {@link ConfigDataLoader} that
+ * {@link ConfigDataLoader#isParallelLoadable opts-in}, those resources are loaded
+ * concurrently using the {@link java.util.concurrent.ForkJoinPool#commonPool() common
+ * pool}. All other resources are loaded on the calling thread. The results are always
+ * collected in the order in which the resources were resolved so property precedence is
+ * the same as when they are loaded one after another. Set the
+ * {@link #IGNORE_PARALLEL_PROPERTY_NAME} system property to {@code true} to load every
+ * resource on the calling thread.
  *
  * @author Phillip Webb
  * @author Madhura Bhave
  */
 class ConfigDataImporter {
 
+	/**
+	 * System property that instructs Spring Boot not to load imported resources in
+	 * parallel.
+	 */
+	static final String IGNORE_PARALLEL_PROPERTY_NAME = "spring.config.data.parallel.ignore";
+
 	private final Log logger;
 
 	private final ConfigDataLocationResolvers resolvers;
@@ -47,6 +67,10 @@ class ConfigDataImporter {
 
 	private final ConfigDataNotFoundAction notFoundAction;
 
+	private final ApplicationStartup applicationStartup;
+
+	private final boolean parallel;
+
 	private final Set<ConfigDataResource> loaded = new HashSet<>();
 
 	/**
@@ -58,10 +82,29 @@ class ConfigDataImporter {
 	 */
 	ConfigDataImporter(DeferredLogFactory logFactory, ConfigDataNotFoundAction notFoundAction,
 			ConfigDataLocationResolvers resolvers, ConfigDataLoaders loaders) {
+		this(logFactory, notFoundAction, resolvers, loaders, ApplicationStartup.DEFAULT,
+				!Boolean.getBoolean(IGNORE_PARALLEL_PROPERTY_NAME));
+	}
+
+	/**
+	 * Create a new {@link ConfigDataImporter} instance.
+	 * @param logFactory the log factory
+	 * @param notFoundAction the action to take when a location cannot be found
+	 * @param resolvers the config data location resolvers
+	 * @param loaders the config data loaders
+	 * @param applicationStartup the application startup used to record the loading of
+	 * each resource
+	 * @param parallel if resources whose loaders opt-in can be loaded in parallel
+	 */
+	ConfigDataImporter(DeferredLogFactory logFactory, ConfigDataNotFoundAction notFoundAction,
+			ConfigDataLocationResolvers resolvers, ConfigDataLoaders loaders, ApplicationStartup applicationStartup,
+			boolean parallel) {
 		this.logger = logFactory.getLog(getClass());
 		this.resolvers = resolvers;
 		this.loaders = loaders;
 		this.notFoundAction = notFoundAction;
+		this.applicationStartup = applicationStartup;
+		this.parallel = parallel;
 	}
 
 	/**
@@ -108,26 +151,82 @@ class ConfigDataImporter {
 
 	private Map<ConfigDataResolutionResult, ConfigData> load(ConfigDataLoaderContext loaderContext,
 			List<ConfigDataResolutionResult> candidates) throws IOException {
-		Map<ConfigDataResolutionResult, ConfigData> result = new LinkedHashMap<>();
+		List<ConfigDataResolutionResult> toLoad = new ArrayList<>(candidates.size());
 		for (int i = candidates.size() - 1; i >= 0; i--) {
 			ConfigDataResolutionResult candidate = candidates.get(i);
-			ConfigDataLocation location = candidate.getLocation();
-			ConfigDataResource resource = candidate.getResource();
-			if (this.loaded.add(resource)) {
-				try {
-					ConfigData loaded = this.loaders.load(loaderContext, resource);
-					if (loaded != null) {
-						result.put(candidate, loaded);
-					}
-				}
-				catch (ConfigDataNotFoundException ex) {
-					handle(ex, location);
+			if (this.loaded.add(candidate.getResource())) {
+				toLoad.add(candidate);
+			}
+		}
+		List<Boolean> parallel = new ArrayList<>(toLoad.size());
+		for (ConfigDataResolutionResult candidate : toLoad) {
+			parallel.add(this.parallel && this.loaders.isParallelLoadable(loaderContext, candidate.getResource()));
+		}
+		boolean concurrent = Collections.frequency(parallel, Boolean.TRUE) > 1;
+		List<CompletableFuture<Load>> loads = new ArrayList<>(toLoad.size());
+		for (int i = 0; i < toLoad.size(); i++) {
+			loads.add(load(loaderContext, toLoad.get(i).getResource(), concurrent && parallel.get(i)));
+		}
+		Map<ConfigDataResolutionResult, ConfigData> result = new LinkedHashMap<>();
+		for (int i = 0; i < toLoad.size(); i++) {
+			ConfigDataResolutionResult candidate = toLoad.get(i);
+			Load load = join(loads.get(i));
+			record(candidate, load);
+			try {
+				ConfigData loaded = load.get();
+				if (loaded != null) {
+					result.put(candidate, loaded);
 				}
 			}
+			catch (ConfigDataNotFoundException ex) {
+				handle(ex, candidate.getLocation());
+			}
 		}
 		return Collections.unmodifiableMap(result);
 	}
 
+	private CompletableFuture<Load> load(ConfigDataLoaderContext loaderContext, ConfigDataResource resource,
+			boolean parallel) {
+		if (!parallel) {
+			return CompletableFuture.completedFuture(Load.run(this.loaders, loaderContext, resource));
+		}
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		return CompletableFuture.supplyAsync(() -> {
+			Thread thread = Thread.currentThread();
+			ClassLoader previous = thread.getContextClassLoader();
+			thread.setContextClassLoader(classLoader);
+			try {
+				return Load.run(this.loaders, loaderContext, resource);
+			}
+			finally {
+				thread.setContextClassLoader(previous);
+			}
+		});
+	}
+
+	private Load join(CompletableFuture<Load> load) {
+		try {
+			return load.join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+			if (ex.getCause() instanceof Error) {
+				throw (Error) ex.getCause();
+			}
+			throw ex;
+		}
+	}
+
+	private void record(ConfigDataResolutionResult candidate, Load load) {
+		StartupStep step = this.applicationStartup.start("spring.boot.config.data.load");
+		step.tag("location", candidate.getLocation().toString());
+		step.tag("resource", candidate.getResource().toString());
+		step.tag("duration", load.getDuration() + "ms");
+		step.end();
+	}
+
 	private void handle(ConfigDataNotFoundException ex, ConfigDataLocation location) {
 		if (ex instanceof ConfigDataResourceNotFoundException) {
 			ex = ((ConfigDataResourceNotFoundException) ex).withLocation(location);
@@ -139,4 +238,52 @@ class ConfigDataImporter {
 		return (!location.isOptional()) ? this.notFoundAction : ConfigDataNotFoundAction.IGNORE;
 	}
 
+	/**
+	 * The outcome of loading a single resource, which may have been loaded on another
+	 * thread.
+	 */
+	private static final class Load {
+
+		private final ConfigData configData;
+
+		private final Exception exception;
+
+		private final long duration;
+
+		private Load(ConfigData configData, Exception exception, long duration) {
+			this.configData = configData;
+			this.exception = exception;
+			this.duration = duration;
+		}
+
+		ConfigData get() throws IOException {
+			if (this.exception instanceof IOException) {
+				throw (IOException) this.exception;
+			}
+			if (this.exception instanceof RuntimeException) {
+				throw (RuntimeException) this.exception;
+			}
+			return this.configData;
+		}
+
+		long getDuration() {
+			return this.duration;
+		}
+
+		static <R extends ConfigDataResource> Load run(ConfigDataLoaders loaders, ConfigDataLoaderContext context,
+				R resource) {
+			long startTime = System.nanoTime();
+			ConfigData configData = null;
+			Exception exception = null;
+			try {
+				configData = loaders.load(context, resource);
+			}
+			catch (IOException | RuntimeException ex) {
+				exception = ex;
+			}
+			return new Load(configData, exception, (System.nanoTime() - startTime) / 1000000);
+		}
+
+	}
+
 }
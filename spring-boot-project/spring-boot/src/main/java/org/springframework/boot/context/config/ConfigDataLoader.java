@@ -39,6 +39,12 @@ import org.springframework.boot.logging.DeferredLogFactory;
  * </ul>
  * <p>
  * Multiple loaders cannot claim the same resource.
+ * <p>
+ * Loaders are called from the thread that is preparing the environment unless they
+ * {@link #isParallelLoadable(ConfigDataLoaderContext, ConfigDataResource) opt-in} to
+ * parallel loading. When they do, the resources resolved from a single set of imports
+ * may be loaded concurrently on other threads, so the loader and anything it shares
+ * through the {@link ConfigDataLoaderContext} or bootstrap context must be thread-safe.
  *
  * @param <R> the resource type
  * @author Phillip Webb
@@ -57,6 +63,20 @@ public interface ConfigDataLoader<R extends ConfigDataResource> {
 		return true;
 	}
 
+	/**
+	 * Returns if the specified resource can be loaded by this instance concurrently with
+	 * other resources. Implementations that return {@code true} must be thread-safe. The
+	 * {@code spring.config.data.parallel.ignore} system property can be set to
+	 * {@code true} to load all resources on the calling thread.
+	 * @param context the loader context
+	 * @param resource the resource to check
+	 * @return if the resource can be loaded on another thread
+	 * @since 2.5.0
+	 */
+	default boolean isParallelLoadable(ConfigDataLoaderContext context, R resource) {
+		return false;
+	}
+
 	/**
 	 * Load {@link ConfigData} for the given resource.
 	 * @param context the loader context
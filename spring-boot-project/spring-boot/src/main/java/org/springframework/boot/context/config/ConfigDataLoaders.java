@@ -103,6 +103,32 @@ class ConfigDataLoaders {
 		return loader.load(context, resource);
 	}
 
+	/**
+	 * Return if the given resource can be loaded concurrently with other resources. A
+	 * resource is only loaded in parallel when the {@link ConfigDataLoader} that loads it
+	 * {@link ConfigDataLoader#isParallelLoadable opts-in}.
+	 * @param <R> the resource type
+	 * @param context the loader context
+	 * @param resource the resource to check
+	 * @return if the resource can be loaded on another thread
+	 */
+	@SuppressWarnings("unchecked")
+	<R extends ConfigDataResource> boolean isParallelLoadable(ConfigDataLoaderContext context, R resource) {
+		boolean result = false;
+		for (int i = 0; i < this.loaders.size(); i++) {
+			if (this.resourceTypes.get(i).isInstance(resource)) {
+				ConfigDataLoader<R> loader = (ConfigDataLoader<R>) this.loaders.get(i);
+				if (loader.isLoadable(context, resource)) {
+					if (!loader.isParallelLoadable(context, resource)) {
+						return false;
+					}
+					result = true;
+				}
+			}
+		}
+		return result;
+	}
+
 	@SuppressWarnings("unchecked")
 	private <R extends ConfigDataResource> ConfigDataLoader<R> getLoader(ConfigDataLoaderContext context, R resource) {
 		ConfigDataLoader<R> result = null;
@@ -20,11 +20,17 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Collections;
 
+import org.springframework.boot.BootstrapRegistry.InstanceSupplier;
+import org.springframework.boot.ConfigurableBootstrapContext;
 import org.springframework.boot.env.ConfigTreePropertySource;
 import org.springframework.boot.env.ConfigTreePropertySource.Option;
+import org.springframework.context.ConfigurableApplicationContext;
 
 /**
- * {@link ConfigDataLoader} for config tree locations.
+ * {@link ConfigDataLoader} for config tree locations. When the
+ * {@code spring.config.configtree.watch} property is {@code true}, the loaded directories
+ * are watched once the application context has been prepared and their property sources
+ * are replaced when files change.
  *
  * @author Madhura Bhave
  * @author Phillip Webb
@@ -32,6 +38,11 @@ import org.springframework.boot.env.ConfigTreePropertySource.Option;
  */
 public class ConfigTreeConfigDataLoader implements ConfigDataLoader<ConfigTreeConfigDataResource> {
 
+	@Override
+	public boolean isParallelLoadable(ConfigDataLoaderContext context, ConfigTreeConfigDataResource resource) {
+		return true;
+	}
+
 	@Override
 	public ConfigData load(ConfigDataLoaderContext context, ConfigTreeConfigDataResource resource)
 			throws IOException, ConfigDataResourceNotFoundException {
@@ -39,7 +50,30 @@ public class ConfigTreeConfigDataLoader implements ConfigDataLoader<ConfigTreeCo
 		ConfigDataResourceNotFoundException.throwIfDoesNotExist(resource, path);
 		String name = "Config tree '" + path + "'";
 		ConfigTreePropertySource source = new ConfigTreePropertySource(name, path, Option.AUTO_TRIM_TRAILING_NEW_LINE);
+		if (resource.isWatch()) {
+			getWatcher(context.getBootstrapContext()).add(path);
+		}
 		return new ConfigData(Collections.singletonList(source));
 	}
 
+	private ConfigTreeWatcher getWatcher(ConfigurableBootstrapContext bootstrapContext) {
+		synchronized (bootstrapContext) {
+			if (!bootstrapContext.isRegistered(ConfigTreeWatcher.class)) {
+				ConfigTreeWatcher watcher = new ConfigTreeWatcher();
+				bootstrapContext.register(ConfigTreeWatcher.class, InstanceSupplier.of(watcher));
+				bootstrapContext.addCloseListener((event) -> startWatcher(watcher, event.getApplicationContext()));
+			}
+			return bootstrapContext.get(ConfigTreeWatcher.class);
+		}
+	}
+
+	private void startWatcher(ConfigTreeWatcher watcher, ConfigurableApplicationContext applicationContext) {
+		try {
+			watcher.start(applicationContext);
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Unable to watch config trees", ex);
+		}
+	}
+
 }
@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.List;
 
 import org.springframework.boot.context.config.LocationResourceLoader.ResourceType;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.util.Assert;
@@ -37,6 +38,8 @@ public class ConfigTreeConfigDataLocationResolver implements ConfigDataLocationR
 
 	private static final String PREFIX = "configtree:";
 
+	private static final String WATCH_PROPERTY = "spring.config.configtree.watch";
+
 	private final LocationResourceLoader resourceLoader;
 
 	public ConfigTreeConfigDataLocationResolver(ResourceLoader resourceLoader) {
@@ -63,15 +66,20 @@ public class ConfigTreeConfigDataLocationResolver implements ConfigDataLocationR
 			throws IOException {
 		Assert.isTrue(location.endsWith("/"),
 				() -> String.format("Config tree location '%s' must end with '/'", location));
+		boolean watch = isWatch(context.getBinder());
 		if (!this.resourceLoader.isPattern(location)) {
-			return Collections.singletonList(new ConfigTreeConfigDataResource(location));
+			return Collections.singletonList(new ConfigTreeConfigDataResource(location, watch));
 		}
 		Resource[] resources = this.resourceLoader.getResources(location, ResourceType.DIRECTORY);
 		List<ConfigTreeConfigDataResource> resolved = new ArrayList<>(resources.length);
 		for (Resource resource : resources) {
-			resolved.add(new ConfigTreeConfigDataResource(resource.getFile().toPath()));
+			resolved.add(new ConfigTreeConfigDataResource(resource.getFile().toPath(), watch));
 		}
 		return resolved;
 	}
 
+	private boolean isWatch(Binder binder) {
+		return (binder != null) && binder.bind(WATCH_PROPERTY, Boolean.class).orElse(false);
+	}
+
 }
@@ -35,20 +35,36 @@ public class ConfigTreeConfigDataResource extends ConfigDataResource {
 
 	private final Path path;
 
+	private final boolean watch;
+
 	ConfigTreeConfigDataResource(String path) {
+		this(path, false);
+	}
+
+	ConfigTreeConfigDataResource(String path, boolean watch) {
 		Assert.notNull(path, "Path must not be null");
 		this.path = Paths.get(path).toAbsolutePath();
+		this.watch = watch;
 	}
 
 	ConfigTreeConfigDataResource(Path path) {
+		this(path, false);
+	}
+
+	ConfigTreeConfigDataResource(Path path, boolean watch) {
 		Assert.notNull(path, "Path must not be null");
 		this.path = path.toAbsolutePath();
+		this.watch = watch;
 	}
 
 	Path getPath() {
 		return this.path;
 	}
 
+	boolean isWatch() {
+		return this.watch;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj) {
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.context.config;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.boot.context.properties.ConfigurationPropertiesChangedEvent;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.ConfigTreePropertySource;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+
+/**
+ * Watches the directories of {@link ConfigTreePropertySource config trees} and replaces
+ * their property sources in the {@link ConfigurableEnvironment} when files are added,
+ * removed or changed. Kubernetes updates mounted volumes by atomically swapping a
+ * {@code ..data} symlink so events are collected until the directory is quiet before
+ * the sources are reloaded. Each reloaded source is a new immutable instance so reading
+ * the environment does not need to be synchronized with a reload. A
+ * {@link ConfigurationPropertiesChangedEvent} with the changed names is published for
+ * each source that changed.
+ *
+ * @author Spring Contributor
+ */
+final class ConfigTreeWatcher implements ApplicationListener<ContextClosedEvent>, Closeable {
+
+	private static final Log logger = LogFactory.getLog(ConfigTreeWatcher.class);
+
+	private static final long QUIET_PERIOD = 100;
+
+	private static final int MAX_DEPTH = 100;
+
+	private final Set<Path> directories = new LinkedHashSet<>();
+
+	private final Map<WatchKey, Path> watched = new ConcurrentHashMap<>();
+
+	private final long quietPeriod;
+
+	private ConfigurableApplicationContext applicationContext;
+
+	private WatchService watchService;
+
+	private Thread thread;
+
+	ConfigTreeWatcher() {
+		this(QUIET_PERIOD);
+	}
+
+	ConfigTreeWatcher(long quietPeriod) {
+		this.quietPeriod = quietPeriod;
+	}
+
+	/**
+	 * Add a config tree directory that should be watched once the watcher is started.
+	 * @param directory the config tree directory
+	 */
+	synchronized void add(Path directory) {
+		this.directories.add(directory);
+	}
+
+	/**
+	 * Start watching the directories, reloading the property sources of the environment
+	 * of the given application context and publishing events to it.
+	 * @param applicationContext the application context
+	 * @throws IOException on IO error
+	 */
+	synchronized void start(ConfigurableApplicationContext applicationContext) throws IOException {
+		if (this.thread != null || this.directories.isEmpty()) {
+			return;
+		}
+		this.applicationContext = applicationContext;
+		this.watchService = FileSystems.getDefault().newWatchService();
+		for (Path directory : this.directories) {
+			register(directory);
+		}
+		applicationContext.addApplicationListener(this);
+		this.thread = new Thread(this::watch, "config-tree-watcher");
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+
+	private void register(Path directory) throws IOException {
+		try (Stream<Path> paths = Files.walk(directory, MAX_DEPTH, FileVisitOption.FOLLOW_LINKS)) {
+			List<Path> subdirectories = paths.filter(Files::isDirectory).filter((path) -> !isHidden(directory, path))
+					.collect(Collectors.toList());
+			for (Path subdirectory : subdirectories) {
+				WatchKey key = subdirectory.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE,
+						StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+				this.watched.put(key, directory);
+			}
+		}
+	}
+
+	private boolean isHidden(Path directory, Path path) {
+		for (Path element : directory.relativize(path)) {
+			if (element.toString().startsWith("..")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void watch() {
+		try {
+			while (!Thread.currentThread().isInterrupted()) {
+				Set<Path> changed = new LinkedHashSet<>();
+				WatchKey key = this.watchService.take();
+				while (key != null) {
+					Path directory = this.watched.get(key);
+					if (directory != null) {
+						changed.add(directory);
+					}
+					key.pollEvents();
+					if (!key.reset()) {
+						this.watched.remove(key);
+					}
+					key = this.watchService.poll(this.quietPeriod, TimeUnit.MILLISECONDS);
+				}
+				for (Path directory : changed) {
+					reload(directory);
+				}
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		catch (ClosedWatchServiceException ex) {
+			// Closed
+		}
+	}
+
+	private void reload(Path directory) {
+		try {
+			register(directory);
+			ConfigurableEnvironment environment = this.applicationContext.getEnvironment();
+			MutablePropertySources propertySources = environment.getPropertySources();
+			for (PropertySource<?> propertySource : propertySources) {
+				if (propertySource instanceof ConfigTreePropertySource
+						&& directory.equals(propertySource.getSource())) {
+					reload(environment, (ConfigTreePropertySource) propertySource);
+				}
+			}
+		}
+		catch (Exception ex) {
+			logger.warn("Unable to reload config tree '" + directory + "'", ex);
+		}
+	}
+
+	private void reload(ConfigurableEnvironment environment, ConfigTreePropertySource propertySource) {
+		ConfigTreePropertySource reloaded = propertySource.reload();
+		Set<String> changed = reloaded.getChangedPropertyNames(propertySource);
+		if (changed.isEmpty()) {
+			return;
+		}
+		environment.getPropertySources().replace(propertySource.getName(), reloaded);
+		ConfigurationPropertySources.refreshIfFrozen(environment);
+		if (logger.isDebugEnabled()) {
+			logger.debug("Reloaded " + propertySource.getName() + " with changed properties " + changed);
+		}
+		List<ConfigurationPropertyName> names = new ArrayList<>(changed.size());
+		for (String name : changed) {
+			names.add(ConfigurationPropertyName.adapt(name, '.'));
+		}
+		this.applicationContext.publishEvent(
+				new ConfigurationPropertiesChangedEvent(reloaded, Collections.unmodifiableList(names)));
+	}
+
+	@Override
+	public void onApplicationEvent(ContextClosedEvent event) {
+		if (event.getApplicationContext() == this.applicationContext) {
+			close();
+		}
+	}
+
+	@Override
+	public synchronized void close() {
+		if (this.thread == null) {
+			return;
+		}
+		this.thread.interrupt();
+		try {
+			this.watchService.close();
+		}
+		catch (IOException ex) {
+			// Ignore
+		}
+		this.thread = null;
+	}
+
+}
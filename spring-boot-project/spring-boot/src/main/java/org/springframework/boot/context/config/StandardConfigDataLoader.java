@@ -33,6 +33,11 @@ import org.springframework.core.io.Resource;
  */
 public class StandardConfigDataLoader implements ConfigDataLoader<StandardConfigDataResource> {
 
+	@Override
+	public boolean isParallelLoadable(ConfigDataLoaderContext context, StandardConfigDataResource resource) {
+		return true;
+	}
+
 	@Override
 	public ConfigData load(ConfigDataLoaderContext context, StandardConfigDataResource resource)
 			throws IOException, ConfigDataNotFoundException {
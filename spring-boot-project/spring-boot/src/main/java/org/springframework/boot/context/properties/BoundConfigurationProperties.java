@@ -16,9 +16,14 @@
 
 package org.springframework.boot.context.properties;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
@@ -30,14 +35,20 @@ import org.springframework.util.Assert;
 
 /**
  * Bean to record and provide bound
- * {@link ConfigurationProperties @ConfigurationProperties}.
+ * {@link ConfigurationProperties @ConfigurationProperties}. Properties may be recorded
+ * again when a bean is rebound at runtime so all access is synchronized and copies are
+ * returned to callers.
  *
  * @author Madhura Bhave
  * @since 2.3.0
  */
 public class BoundConfigurationProperties {
 
-	private Map<ConfigurationPropertyName, ConfigurationProperty> properties = new LinkedHashMap<>();
+	private final Object monitor = new Object();
+
+	private final Map<ConfigurationPropertyName, ConfigurationProperty> properties = new LinkedHashMap<>();
+
+	private final Map<String, Set<ConfigurationPropertyName>> beanProperties = new LinkedHashMap<>();
 
 	/**
 	 * The bean name that this class is registered with.
@@ -45,7 +56,49 @@ public class BoundConfigurationProperties {
 	private static final String BEAN_NAME = BoundConfigurationProperties.class.getName();
 
 	void add(ConfigurationProperty configurationProperty) {
-		this.properties.put(configurationProperty.getName(), configurationProperty);
+		synchronized (this.monitor) {
+			this.properties.put(configurationProperty.getName(), configurationProperty);
+		}
+	}
+
+	void add(String beanName, ConfigurationProperty configurationProperty) {
+		synchronized (this.monitor) {
+			add(configurationProperty);
+			this.beanProperties.computeIfAbsent(beanName, (key) -> new LinkedHashSet<>())
+					.add(configurationProperty.getName());
+		}
+	}
+
+	List<ConfigurationProperty> remove(String beanName, Predicate<ConfigurationPropertyName> filter) {
+		synchronized (this.monitor) {
+			Set<ConfigurationPropertyName> names = this.beanProperties.get(beanName);
+			if (names == null) {
+				return Collections.emptyList();
+			}
+			List<ConfigurationProperty> removed = new ArrayList<>();
+			for (ConfigurationPropertyName name : names) {
+				if (filter.test(name) && this.properties.containsKey(name)) {
+					removed.add(this.properties.remove(name));
+				}
+			}
+			names.removeIf(filter);
+			return removed;
+		}
+	}
+
+	/**
+	 * Get the names of the configuration properties that were bound to the bean with the
+	 * given name.
+	 * @param beanName the name of the bean
+	 * @return a snapshot of the names of the bound properties
+	 * @since 2.5.0
+	 */
+	public Set<ConfigurationPropertyName> getNames(String beanName) {
+		synchronized (this.monitor) {
+			Set<ConfigurationPropertyName> names = this.beanProperties.get(beanName);
+			return (names != null) ? Collections.unmodifiableSet(new LinkedHashSet<>(names))
+					: Collections.emptySet();
+		}
 	}
 
 	/**
@@ -54,15 +107,19 @@ public class BoundConfigurationProperties {
 	 * @return the bound property or {@code null}
 	 */
 	public ConfigurationProperty get(ConfigurationPropertyName name) {
-		return this.properties.get(name);
+		synchronized (this.monitor) {
+			return this.properties.get(name);
+		}
 	}
 
 	/**
 	 * Get all bound properties.
-	 * @return a map of all bound properties
+	 * @return a snapshot of all bound properties
 	 */
 	public Map<ConfigurationPropertyName, ConfigurationProperty> getAll() {
-		return Collections.unmodifiableMap(this.properties);
+		synchronized (this.monitor) {
+			return Collections.unmodifiableMap(new LinkedHashMap<>(this.properties));
+		}
 	}
 
 	/**
@@ -17,8 +17,11 @@
 package org.springframework.boot.context.properties;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.BeansException;
@@ -29,6 +32,7 @@ import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBean.BindMethod;
 import org.springframework.boot.context.properties.bind.AbstractBindHandler;
 import org.springframework.boot.context.properties.bind.BindContext;
 import org.springframework.boot.context.properties.bind.BindHandler;
@@ -37,12 +41,15 @@ import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.bind.Bindable.BindRestriction;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.context.properties.bind.BoundPropertiesTrackingBindHandler;
+import org.springframework.boot.context.properties.bind.JavaBeanPropertyCopier;
 import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
 import org.springframework.boot.context.properties.bind.handler.IgnoreErrorsBindHandler;
 import org.springframework.boot.context.properties.bind.handler.IgnoreTopLevelConverterNotFoundBindHandler;
 import org.springframework.boot.context.properties.bind.handler.NoUnboundElementsBindHandler;
 import org.springframework.boot.context.properties.bind.validation.ValidationBindHandler;
+import org.springframework.boot.context.properties.source.ConfigurationProperty;
 import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName.Form;
 import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
 import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
 import org.springframework.boot.context.properties.source.UnboundElementsSourceFilter;
@@ -52,6 +59,9 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.annotation.MergedAnnotations;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.env.PropertySources;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.util.Assert;
 import org.springframework.validation.Validator;
 import org.springframework.validation.annotation.Validated;
 
@@ -78,6 +88,8 @@ class ConfigurationPropertiesBinder {
 
 	private final boolean jsr303Present;
 
+	private final ApplicationStartup applicationStartup;
+
 	private volatile Validator jsr303Validator;
 
 	private volatile Binder binder;
@@ -87,20 +99,103 @@ class ConfigurationPropertiesBinder {
 		this.propertySources = new PropertySourcesDeducer(applicationContext).getPropertySources();
 		this.configurationPropertiesValidator = getConfigurationPropertiesValidator(applicationContext);
 		this.jsr303Present = ConfigurationPropertiesJsr303Validator.isJsr303Present(applicationContext);
+		this.applicationStartup = (applicationContext instanceof ConfigurableApplicationContext)
+				? ((ConfigurableApplicationContext) applicationContext).getApplicationStartup()
+				: ApplicationStartup.DEFAULT;
 	}
 
 	BindResult<?> bind(ConfigurationPropertiesBean propertiesBean) {
 		Bindable<?> target = propertiesBean.asBindTarget();
 		ConfigurationProperties annotation = propertiesBean.getAnnotation();
-		BindHandler bindHandler = getBindHandler(target, annotation);
-		return getBinder().bind(annotation.prefix(), target, bindHandler);
+		BindHandler bindHandler = getBindHandler(propertiesBean.getName(), target, annotation);
+		StartupStep step = startStep("spring.boot.context.properties.bind", propertiesBean);
+		try {
+			return getBinder().bind(annotation.prefix(), target, bindHandler);
+		}
+		finally {
+			step.end();
+		}
 	}
 
 	Object bindOrCreate(ConfigurationPropertiesBean propertiesBean) {
 		Bindable<?> target = propertiesBean.asBindTarget();
 		ConfigurationProperties annotation = propertiesBean.getAnnotation();
-		BindHandler bindHandler = getBindHandler(target, annotation);
-		return getBinder().bindOrCreate(annotation.prefix(), target, bindHandler);
+		BindHandler bindHandler = getBindHandler(propertiesBean.getName(), target, annotation);
+		StartupStep step = startStep("spring.boot.context.properties.bind", propertiesBean);
+		try {
+			return getBinder().bindOrCreate(annotation.prefix(), target, bindHandler);
+		}
+		finally {
+			step.end();
+		}
+	}
+
+	/**
+	 * Bind the given fields of an existing {@link BindMethod#JAVA_BEAN JavaBean} instance
+	 * again. Only properties that are equal to, or descendants of, the given field names
+	 * are considered so that other fields of the bean are left untouched. The fields are
+	 * bound to a newly created instance, so that properties that have been removed are
+	 * not retained, and are only copied to the existing instance once binding and
+	 * validation have succeeded. Types that cannot be instantiated are bound in place.
+	 * @param propertiesBean the bean to bind
+	 * @param fields the names of the fields to bind
+	 * @return the bind result
+	 */
+	BindResult<?> rebind(ConfigurationPropertiesBean propertiesBean, Set<ConfigurationPropertyName> fields) {
+		Assert.state(propertiesBean.getBindMethod() == BindMethod.JAVA_BEAN,
+				() -> "Cannot rebind @ConfigurationProperties for bean '" + propertiesBean.getName() + "'");
+		Predicate<ConfigurationPropertyName> filter = (name) -> isFieldOrDescendant(fields, name);
+		Set<String> fieldNames = fields.stream().map((field) -> field.getLastElement(Form.DASHED))
+				.collect(Collectors.toSet());
+		Object instance = propertiesBean.getInstance();
+		Object candidate = JavaBeanPropertyCopier.newInstance(instance.getClass());
+		Bindable<?> target = propertiesBean.asBindTarget();
+		if (candidate != null) {
+			JavaBeanPropertyCopier.copy(instance, candidate, (name) -> !fieldNames.contains(name));
+			target = Bindable.of(target.getType()).withExistingValue(candidate).withAnnotations(target.getAnnotations());
+		}
+		BoundConfigurationProperties bound = BoundConfigurationProperties.get(this.applicationContext);
+		List<ConfigurationProperty> previouslyBound = (bound != null)
+				? bound.remove(propertiesBean.getName(), filter) : Collections.emptyList();
+		List<ConfigurationPropertySource> sources = new ArrayList<>();
+		getConfigurationPropertySources().forEach((source) -> sources.add(source.filter(filter)));
+		ConfigurationProperties annotation = propertiesBean.getAnnotation();
+		BindHandler bindHandler = getBindHandler(propertiesBean.getName(), target, annotation);
+		StartupStep step = startStep("spring.boot.context.properties.rebind", propertiesBean);
+		step.tag("fields", fields::toString);
+		try {
+			BindResult<?> result = createBinder(sources).bind(annotation.prefix(), target, bindHandler);
+			if (candidate != null) {
+				JavaBeanPropertyCopier.copy(candidate, instance, fieldNames::contains);
+			}
+			return result;
+		}
+		catch (RuntimeException ex) {
+			if (bound != null) {
+				bound.remove(propertiesBean.getName(), filter);
+				previouslyBound.forEach((property) -> bound.add(propertiesBean.getName(), property));
+			}
+			throw ex;
+		}
+		finally {
+			step.end();
+		}
+	}
+
+	private StartupStep startStep(String name, ConfigurationPropertiesBean propertiesBean) {
+		StartupStep step = this.applicationStartup.start(name);
+		step.tag("beanName", propertiesBean.getName());
+		step.tag("prefix", propertiesBean.getAnnotation().prefix());
+		return step;
+	}
+
+	private boolean isFieldOrDescendant(Set<ConfigurationPropertyName> fields, ConfigurationPropertyName name) {
+		for (ConfigurationPropertyName field : fields) {
+			if (field.equals(name) || field.isAncestorOf(name)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	private Validator getConfigurationPropertiesValidator(ApplicationContext applicationContext) {
@@ -110,9 +205,9 @@ class ConfigurationPropertiesBinder {
 		return null;
 	}
 
-	private <T> BindHandler getBindHandler(Bindable<T> target, ConfigurationProperties annotation) {
+	private <T> BindHandler getBindHandler(String beanName, Bindable<T> target, ConfigurationProperties annotation) {
 		List<Validator> validators = getValidators(target);
-		BindHandler handler = getHandler();
+		BindHandler handler = getHandler(beanName);
 		handler = new ConfigurationPropertiesBindHander(handler);
 		if (annotation.ignoreInvalidFields()) {
 			handler = new IgnoreErrorsBindHandler(handler);
@@ -130,10 +225,11 @@ class ConfigurationPropertiesBinder {
 		return handler;
 	}
 
-	private IgnoreTopLevelConverterNotFoundBindHandler getHandler() {
+	private IgnoreTopLevelConverterNotFoundBindHandler getHandler(String beanName) {
 		BoundConfigurationProperties bound = BoundConfigurationProperties.get(this.applicationContext);
 		return (bound != null)
-				? new IgnoreTopLevelConverterNotFoundBindHandler(new BoundPropertiesTrackingBindHandler(bound::add))
+				? new IgnoreTopLevelConverterNotFoundBindHandler(
+						new BoundPropertiesTrackingBindHandler((property) -> bound.add(beanName, property)))
 				: new IgnoreTopLevelConverterNotFoundBindHandler();
 	}
 
@@ -165,13 +261,16 @@ class ConfigurationPropertiesBinder {
 
 	private Binder getBinder() {
 		if (this.binder == null) {
-			this.binder = new Binder(getConfigurationPropertySources(), getPropertySourcesPlaceholdersResolver(),
-					getConversionService(), getPropertyEditorInitializer(), null,
-					ConfigurationPropertiesBindConstructorProvider.INSTANCE);
+			this.binder = createBinder(getConfigurationPropertySources());
 		}
 		return this.binder;
 	}
 
+	private Binder createBinder(Iterable<ConfigurationPropertySource> sources) {
+		return new Binder(sources, getPropertySourcesPlaceholdersResolver(), getConversionService(),
+				getPropertyEditorInitializer(), null, ConfigurationPropertiesBindConstructorProvider.INSTANCE);
+	}
+
 	private Iterable<ConfigurationPropertySource> getConfigurationPropertySources() {
 		return ConfigurationPropertySources.from(this.propertySources);
 	}
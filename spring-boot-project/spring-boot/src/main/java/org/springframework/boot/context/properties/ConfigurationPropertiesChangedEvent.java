@@ -0,0 +1,61 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.context.properties;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.util.Assert;
+
+/**
+ * Event that can be published when configuration properties that are provided by one of
+ * the environment's property sources have been added, changed or removed. Any
+ * {@link ConfigurationProperties @ConfigurationProperties} JavaBean that has bound, or
+ * could bind, one of the changed properties is bound again. Only the fields of the bean
+ * that are affected by the change are updated.
+ *
+ * @author Spring Contributor
+ * @since 2.5.0
+ */
+public class ConfigurationPropertiesChangedEvent extends ApplicationEvent {
+
+	private final Set<ConfigurationPropertyName> names;
+
+	/**
+	 * Create a new {@link ConfigurationPropertiesChangedEvent} instance.
+	 * @param source the source of the change, usually the property source that changed
+	 * @param names the names of the properties that have changed
+	 */
+	public ConfigurationPropertiesChangedEvent(Object source, Collection<ConfigurationPropertyName> names) {
+		super(source);
+		Assert.notNull(names, "Names must not be null");
+		this.names = Collections.unmodifiableSet(new LinkedHashSet<>(names));
+	}
+
+	/**
+	 * Return the names of the properties that have changed.
+	 * @return the changed property names
+	 */
+	public Set<ConfigurationPropertyName> getNames() {
+		return this.names;
+	}
+
+}
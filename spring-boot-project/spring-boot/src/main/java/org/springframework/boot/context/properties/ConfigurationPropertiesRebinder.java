@@ -0,0 +1,126 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.context.properties;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBean.BindMethod;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * {@link ApplicationListener} that binds the affected fields of
+ * {@link ConfigurationProperties @ConfigurationProperties} beans again when a
+ * {@link ConfigurationPropertiesChangedEvent} is published. A field is affected when a
+ * changed property is the field itself or one of its descendants, or when a changed
+ * property is an ancestor of a property that was previously bound to it. Affected fields
+ * are bound starting from their default value so that a property that has been removed
+ * no longer applies, and the bean keeps its previous values if binding fails.
+ *
+ * @author Spring Contributor
+ */
+class ConfigurationPropertiesRebinder
+		implements ApplicationListener<ConfigurationPropertiesChangedEvent>, ApplicationContextAware {
+
+	private static final String BEAN_NAME = ConfigurationPropertiesRebinder.class.getName();
+
+	private static final Log logger = LogFactory.getLog(ConfigurationPropertiesRebinder.class);
+
+	private ApplicationContext applicationContext;
+
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+		this.applicationContext = applicationContext;
+	}
+
+	@Override
+	public void onApplicationEvent(ConfigurationPropertiesChangedEvent event) {
+		if (event.getNames().isEmpty()) {
+			return;
+		}
+		ConfigurationPropertiesBinder binder = ConfigurationPropertiesBinder.get(this.applicationContext);
+		BoundConfigurationProperties bound = BoundConfigurationProperties.get(this.applicationContext);
+		ConfigurationPropertiesBean.getAll(this.applicationContext).values().forEach((bean) -> {
+			Set<ConfigurationPropertyName> fields = getAffectedFields(bean, bound, event.getNames());
+			if (!fields.isEmpty()) {
+				rebind(binder, bean, fields);
+			}
+		});
+	}
+
+	private Set<ConfigurationPropertyName> getAffectedFields(ConfigurationPropertiesBean bean,
+			BoundConfigurationProperties bound, Set<ConfigurationPropertyName> changed) {
+		ConfigurationPropertyName prefix = ConfigurationPropertyName.of(bean.getAnnotation().prefix());
+		int fieldSize = prefix.getNumberOfElements() + 1;
+		Set<ConfigurationPropertyName> boundNames = (bound != null) ? bound.getNames(bean.getName())
+				: Collections.emptySet();
+		Set<ConfigurationPropertyName> fields = new LinkedHashSet<>();
+		for (ConfigurationPropertyName name : changed) {
+			if (prefix.isAncestorOf(name)) {
+				fields.add(name.chop(fieldSize));
+			}
+			else {
+				for (ConfigurationPropertyName boundName : boundNames) {
+					if (name.isAncestorOf(boundName)) {
+						fields.add(boundName.chop(fieldSize));
+					}
+				}
+			}
+		}
+		return fields;
+	}
+
+	private void rebind(ConfigurationPropertiesBinder binder, ConfigurationPropertiesBean bean,
+			Set<ConfigurationPropertyName> fields) {
+		if (bean.getBindMethod() != BindMethod.JAVA_BEAN) {
+			logger.warn("Unable to rebind @ConfigurationProperties value object '" + bean.getName()
+					+ "' following changes to " + fields);
+			return;
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Rebinding " + fields + " of @ConfigurationProperties bean '" + bean.getName() + "'");
+		}
+		try {
+			binder.rebind(bean, fields);
+		}
+		catch (Exception ex) {
+			throw new ConfigurationPropertiesBindException(bean, ex);
+		}
+	}
+
+	static void register(BeanDefinitionRegistry registry) {
+		if (!registry.containsBeanDefinition(BEAN_NAME)) {
+			BeanDefinition definition = BeanDefinitionBuilder
+					.genericBeanDefinition(ConfigurationPropertiesRebinder.class, ConfigurationPropertiesRebinder::new)
+					.getBeanDefinition();
+			definition.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
+			registry.registerBeanDefinition(BEAN_NAME, definition);
+		}
+	}
+
+}
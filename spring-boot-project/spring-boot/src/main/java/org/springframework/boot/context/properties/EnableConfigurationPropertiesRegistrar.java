@@ -58,6 +58,7 @@ class EnableConfigurationPropertiesRegistrar implements ImportBeanDefinitionRegi
 	static void registerInfrastructureBeans(BeanDefinitionRegistry registry) {
 		ConfigurationPropertiesBindingPostProcessor.register(registry);
 		BoundConfigurationProperties.register(registry);
+		ConfigurationPropertiesRebinder.register(registry);
 	}
 
 	static void registerMethodValidationExcludeFilter(BeanDefinitionRegistry registry) {
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.context.properties.bind;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.boot.context.properties.bind.JavaBeanBinder.BeanProperty;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Base class for binders of mutable Java Beans that are generated at build time by the
+ * {@code spring-boot-configuration-processor}. A generated binder describes the
+ * properties of a single type using direct calls to its constructor, getters and setters
+ * so that the {@link Binder} does not need to introspect the type. When present, a
+ * generated binder is used in preference to reflection and binds the type in exactly
+ * the same way.
+ * <p>
+ * This class is not intended to be extended by user code.
+ *
+ * @param <T> the type of the bean
+ * @author Spring Contributor
+ * @since 2.5.0
+ */
+public abstract class GeneratedBeanBinder<T> {
+
+	/**
+	 * The suffix that is added to the binary name of a type to get the name of its
+	 * generated binder.
+	 */
+	public static final String SUFFIX = "__ConfigurationPropertiesBinder";
+
+	private static final Map<Class<?>, Optional<GeneratedBeanBinder<?>>> cache = new ConcurrentReferenceHashMap<>();
+
+	private final Class<T> type;
+
+	private final Supplier<T> factory;
+
+	private final Map<String, BeanProperty> properties = new LinkedHashMap<>();
+
+	/**
+	 * Create a new {@link GeneratedBeanBinder} instance.
+	 * @param type the type of the bean
+	 * @param factory the factory used to create a new instance or {@code null} if the
+	 * type cannot be instantiated
+	 */
+	protected GeneratedBeanBinder(Class<T> type, Supplier<T> factory) {
+		Assert.notNull(type, "Type must not be null");
+		this.type = type;
+		this.factory = factory;
+	}
+
+	/**
+	 * Add a property of the bean. Properties must be added in the order in which they
+	 * would be discovered by reflection.
+	 * @param name the name of the property
+	 * @param type the type of the property
+	 * @param annotations the annotations of the field that backs the property or
+	 * {@code null}
+	 * @param getter the getter of the property or {@code null}
+	 * @param setter the setter of the property or {@code null}
+	 */
+	protected final void addProperty(String name, ResolvableType type, Annotation[] annotations,
+			Function<T, Object> getter, BiConsumer<T, Object> setter) {
+		GeneratedBeanProperty<T> property = new GeneratedBeanProperty<>(name, type, annotations, getter, setter);
+		this.properties.put(name, property);
+	}
+
+	/**
+	 * Return the declared annotations of a field of the given type.
+	 * @param declaringClass the class that declares the field
+	 * @param name the name of the field
+	 * @return the annotations of the field or {@code null}
+	 */
+	protected static Annotation[] getFieldAnnotations(Class<?> declaringClass, String name) {
+		try {
+			Field field = declaringClass.getDeclaredField(name);
+			return field.getDeclaredAnnotations();
+		}
+		catch (Exception ex) {
+			return null;
+		}
+	}
+
+	Class<T> getType() {
+		return this.type;
+	}
+
+	boolean isInstantiable() {
+		return this.factory != null;
+	}
+
+	T newInstance() {
+		Assert.state(this.factory != null, () -> "Unable to create instance of " + this.type.getName());
+		return this.factory.get();
+	}
+
+	Map<String, BeanProperty> getProperties() {
+		return Collections.unmodifiableMap(this.properties);
+	}
+
+	/**
+	 * Return the generated binder for the given type, if any.
+	 * @param type the type of the bean
+	 * @return the generated binder or {@code null}
+	 */
+	static GeneratedBeanBinder<?> get(Class<?> type) {
+		if (type == null || type.isArray() || type.isPrimitive()) {
+			return null;
+		}
+		return cache.computeIfAbsent(type, GeneratedBeanBinder::load).orElse(null);
+	}
+
+	private static Optional<GeneratedBeanBinder<?>> load(Class<?> type) {
+		try {
+			Class<?> binderClass = ClassUtils.forName(type.getName() + SUFFIX, type.getClassLoader());
+			if (!GeneratedBeanBinder.class.isAssignableFrom(binderClass)) {
+				return Optional.empty();
+			}
+			GeneratedBeanBinder<?> binder = (GeneratedBeanBinder<?>) BeanUtils.instantiateClass(binderClass);
+			return (binder.getType() == type) ? Optional.of(binder) : Optional.empty();
+		}
+		catch (ClassNotFoundException | LinkageError ex) {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * A {@link BeanProperty} that is accessed with generated code.
+	 *
+	 * @param <T> the type of the bean
+	 */
+	private static final class GeneratedBeanProperty<T> extends BeanProperty {
+
+		private final ResolvableType type;
+
+		private final Annotation[] annotations;
+
+		private final Function<T, Object> getter;
+
+		private final BiConsumer<T, Object> setter;
+
+		GeneratedBeanProperty(String name, ResolvableType type, Annotation[] annotations, Function<T, Object> getter,
+				BiConsumer<T, Object> setter) {
+			super(name, null);
+			this.type = type;
+			this.annotations = annotations;
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		ResolvableType getType() {
+			return this.type;
+		}
+
+		@Override
+		Annotation[] getAnnotations() {
+			return this.annotations;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		Supplier<Object> getValue(Supplier<?> instance) {
+			if (this.getter == null) {
+				return null;
+			}
+			return () -> {
+				try {
+					return this.getter.apply((T) instance.get());
+				}
+				catch (Exception ex) {
+					throw new IllegalStateException("Unable to get value for property " + getName(), ex);
+				}
+			};
+		}
+
+		@Override
+		boolean isSettable() {
+			return this.setter != null;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		void setValue(Supplier<?> instance, Object value) {
+			try {
+				this.setter.accept((T) instance.get(), value);
+			}
+			catch (Exception ex) {
+				throw new IllegalStateException("Unable to set value for property " + getName(), ex);
+			}
+		}
+
+	}
+
+}
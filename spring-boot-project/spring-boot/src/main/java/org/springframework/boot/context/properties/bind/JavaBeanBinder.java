@@ -38,7 +38,9 @@ import org.springframework.core.MethodParameter;
 import org.springframework.core.ResolvableType;
 
 /**
- * {@link DataObjectBinder} for mutable Java Beans.
+ * {@link DataObjectBinder} for mutable Java Beans. A {@link GeneratedBeanBinder}, when
+ * present, is used instead of reflection to discover and access the properties of a
+ * bean.
  *
  * @author Phillip Webb
  * @author Madhura Bhave
@@ -64,7 +66,12 @@ class JavaBeanBinder implements DataObjectBinder {
 	@SuppressWarnings("unchecked")
 	public <T> T create(Bindable<T> target, Context context) {
 		Class<T> type = (Class<T>) target.getType().resolve();
-		return (type != null) ? BeanUtils.instantiateClass(type) : null;
+		if (type == null) {
+			return null;
+		}
+		GeneratedBeanBinder<?> generated = GeneratedBeanBinder.get(type);
+		return (generated != null && generated.isInstantiable()) ? (T) generated.newInstance()
+				: BeanUtils.instantiateClass(type);
 	}
 
 	private boolean hasKnownBindableProperties(ConfigurationPropertyName name, Context context) {
@@ -121,12 +128,22 @@ class JavaBeanBinder implements DataObjectBinder {
 
 		private final Map<String, BeanProperty> properties = new LinkedHashMap<>();
 
+		private final GeneratedBeanBinder<?> generated;
+
 		Bean(ResolvableType type, Class<?> resolvedType) {
 			this.type = type;
 			this.resolvedType = resolvedType;
+			this.generated = null;
 			addProperties(resolvedType);
 		}
 
+		Bean(ResolvableType type, Class<?> resolvedType, GeneratedBeanBinder<?> generated) {
+			this.type = type;
+			this.resolvedType = resolvedType;
+			this.generated = generated;
+			this.properties.putAll(generated.getProperties());
+		}
+
 		private void addProperties(Class<?> type) {
 			while (type != null && !Object.class.equals(type)) {
 				Method[] declaredMethods = getSorted(type, Class::getDeclaredMethods, Method::getName);
@@ -201,7 +218,8 @@ class JavaBeanBinder implements DataObjectBinder {
 					instance = target.getValue().get();
 				}
 				if (instance == null) {
-					instance = (T) BeanUtils.instantiateClass(this.resolvedType);
+					instance = (T) ((this.generated != null) ? this.generated.newInstance()
+							: BeanUtils.instantiateClass(this.resolvedType));
 				}
 				return instance;
 			});
@@ -217,18 +235,22 @@ class JavaBeanBinder implements DataObjectBinder {
 				instance = value.get();
 				resolvedType = (instance != null) ? instance.getClass() : resolvedType;
 			}
-			if (instance == null && !isInstantiable(resolvedType)) {
+			GeneratedBeanBinder<?> generated = (!type.hasGenerics()) ? GeneratedBeanBinder.get(resolvedType) : null;
+			if (instance == null && !isInstantiable(resolvedType, generated)) {
 				return null;
 			}
 			Bean<?> bean = Bean.cached;
 			if (bean == null || !bean.isOfType(type, resolvedType)) {
-				bean = new Bean<>(type, resolvedType);
+				bean = (generated != null) ? new Bean<>(type, resolvedType, generated) : new Bean<>(type, resolvedType);
 				cached = bean;
 			}
 			return (Bean<T>) bean;
 		}
 
-		private static boolean isInstantiable(Class<?> type) {
+		private static boolean isInstantiable(Class<?> type, GeneratedBeanBinder<?> generated) {
+			if (generated != null) {
+				return generated.isInstantiable();
+			}
 			if (type.isInterface()) {
 				return false;
 			}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.context.properties.bind;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.boot.context.properties.bind.JavaBeanBinder.Bean;
+import org.springframework.boot.context.properties.bind.JavaBeanBinder.BeanProperty;
+import org.springframework.util.Assert;
+
+/**
+ * Copies the properties of mutable Java Beans. Properties are found in exactly the same
+ * way as when the {@link Binder} binds a Java Bean. A property with a setter is copied by
+ * reference. A property without a setter is copied in place: collections and maps are
+ * refilled and nested beans are copied recursively.
+ *
+ * @author Spring Contributor
+ * @since 2.5.0
+ */
+public final class JavaBeanPropertyCopier {
+
+	private JavaBeanPropertyCopier() {
+	}
+
+	/**
+	 * Create a new instance of the given Java Bean type in the same way as the
+	 * {@link Binder} would.
+	 * @param <T> the bean type
+	 * @param type the bean type
+	 * @return a new instance or {@code null} if the type cannot be instantiated
+	 */
+	public static <T> T newInstance(Class<T> type) {
+		Assert.notNull(type, "Type must not be null");
+		Bindable<T> bindable = Bindable.of(type);
+		Bean<T> bean = Bean.get(bindable, false);
+		if (bean == null) {
+			return null;
+		}
+		Supplier<T> supplier = bean.getSupplier(bindable);
+		return supplier.get();
+	}
+
+	/**
+	 * Copy the properties of the source bean, whose dashed names match the given filter,
+	 * to the target bean.
+	 * @param source the source bean
+	 * @param target the target bean, which must be of the same type as the source
+	 * @param filter the filter applied to the dashed names of the properties
+	 */
+	public static void copy(Object source, Object target, Predicate<String> filter) {
+		Assert.notNull(source, "Source must not be null");
+		Assert.notNull(target, "Target must not be null");
+		Assert.isTrue(source.getClass() == target.getClass(), "Source and target must be of the same type");
+		copy(source, target, filter, Collections.newSetFromMap(new IdentityHashMap<>()));
+	}
+
+	private static void copy(Object source, Object target, Predicate<String> filter, Set<Object> visited) {
+		Bean<?> bean = Bean.get(Bindable.ofInstance(source), true);
+		if (bean == null || !visited.add(target)) {
+			return;
+		}
+		for (BeanProperty property : bean.getProperties().values()) {
+			if (filter.test(property.getName())) {
+				copy(property, source, target, visited);
+			}
+		}
+	}
+
+	private static void copy(BeanProperty property, Object source, Object target, Set<Object> visited) {
+		Supplier<Object> sourceValue = property.getValue(() -> source);
+		if (sourceValue == null) {
+			return;
+		}
+		Object value = sourceValue.get();
+		if (property.isSettable()) {
+			property.setValue(() -> target, value);
+			return;
+		}
+		Object existing = property.getValue(() -> target).get();
+		if (value == null || existing == null || value == existing) {
+			return;
+		}
+		if (value instanceof Map && existing instanceof Map) {
+			copyMap((Map<?, ?>) value, existing);
+		}
+		else if (value instanceof Collection && existing instanceof Collection) {
+			copyCollection((Collection<?>) value, existing);
+		}
+		else if (value.getClass() == existing.getClass()) {
+			copy(value, existing, (name) -> true, visited);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void copyMap(Map<?, ?> value, Object existing) {
+		Map<Object, Object> map = (Map<Object, Object>) existing;
+		map.clear();
+		map.putAll(value);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void copyCollection(Collection<?> value, Object existing) {
+		Collection<Object> collection = (Collection<Object>) existing;
+		collection.clear();
+		collection.addAll(value);
+	}
+
+}
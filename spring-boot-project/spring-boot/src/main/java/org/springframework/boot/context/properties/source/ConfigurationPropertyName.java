@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.springframework.util.Assert;
@@ -59,6 +60,10 @@ public final class ConfigurationPropertyName implements Comparable<Configuration
 	 */
 	public static final ConfigurationPropertyName EMPTY = new ConfigurationPropertyName(Elements.EMPTY);
 
+	private static final NameTable names = new NameTable(NameTable.MAX_SIZE);
+
+	private static final NameTable adaptedNames = new NameTable(NameTable.MAX_SIZE);
+
 	private Elements elements;
 
 	private final CharSequence[] uniformElements;
@@ -577,8 +582,12 @@ public final class ConfigurationPropertyName implements Comparable<Configuration
 	 * {@code returnNullIfInvalid} is {@code false}
 	 */
 	static ConfigurationPropertyName of(CharSequence name, boolean returnNullIfInvalid) {
+		ConfigurationPropertyName interned = names.get(name);
+		if (interned != null) {
+			return interned;
+		}
 		Elements elements = elementsOf(name, returnNullIfInvalid);
-		return (elements != null) ? new ConfigurationPropertyName(elements) : null;
+		return (elements != null) ? names.intern(name, new ConfigurationPropertyName(elements)) : null;
 	}
 
 	private static Elements probablySingleElementOf(CharSequence name) {
@@ -656,11 +665,17 @@ public final class ConfigurationPropertyName implements Comparable<Configuration
 		if (name.length() == 0) {
 			return EMPTY;
 		}
+		boolean internable = separator == '.' && elementValueProcessor == null;
+		ConfigurationPropertyName interned = internable ? adaptedNames.get(name) : null;
+		if (interned != null) {
+			return interned;
+		}
 		Elements elements = new ElementsParser(name, separator).parse(elementValueProcessor);
 		if (elements.getSize() == 0) {
 			return EMPTY;
 		}
-		return new ConfigurationPropertyName(elements);
+		ConfigurationPropertyName adapted = new ConfigurationPropertyName(elements);
+		return internable ? adaptedNames.intern(name, adapted) : adapted;
 	}
 
 	/**
@@ -1077,6 +1092,48 @@ public final class ConfigurationPropertyName implements Comparable<Configuration
 
 	}
 
+	/**
+	 * Bounded table of canonical {@link ConfigurationPropertyName} instances keyed by their
+	 * source. Names are immutable so a single instance, along with its cached hash code,
+	 * string and uniform elements, can be shared by all callers. This saves parsing the
+	 * same source over and over and allows equal names to be compared by identity. Only
+	 * {@link String} sources are interned as other {@link CharSequence} implementations
+	 * may be mutable. Once the table is full it is cleared so that it is repopulated with
+	 * the names that are currently in use.
+	 */
+	static final class NameTable {
+
+		static final int MAX_SIZE = 8192;
+
+		private final Map<String, ConfigurationPropertyName> names = new ConcurrentHashMap<>();
+
+		private final int maxSize;
+
+		NameTable(int maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		ConfigurationPropertyName get(CharSequence source) {
+			return (source instanceof String) ? this.names.get(source) : null;
+		}
+
+		ConfigurationPropertyName intern(CharSequence source, ConfigurationPropertyName name) {
+			if (!(source instanceof String)) {
+				return name;
+			}
+			if (this.names.size() >= this.maxSize) {
+				this.names.clear();
+			}
+			ConfigurationPropertyName existing = this.names.putIfAbsent((String) source, name);
+			return (existing != null) ? existing : name;
+		}
+
+		int size() {
+			return this.names.size();
+		}
+
+	}
+
 	/**
 	 * Predicate used to filter element chars.
 	 */
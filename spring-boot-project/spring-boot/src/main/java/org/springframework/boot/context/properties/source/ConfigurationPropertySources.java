@@ -82,6 +82,68 @@ public final class ConfigurationPropertySources {
 		}
 	}
 
+	/**
+	 * Freeze the {@link ConfigurationPropertySource} instances that have been
+	 * {@link #attach(Environment) attached} to the {@link Environment}. The properties of
+	 * the sources are flattened into an immutable snapshot that is used by all subsequent
+	 * property reads through the environment, rather than consulting each source in turn.
+	 * Changes to the underlying property sources are not visible until the snapshot is
+	 * refreshed by calling this method again or is removed by calling
+	 * {@link #unfreeze(Environment)}. Property sources that cannot be enumerated, such as
+	 * the {@code random} property source, are still consulted on each read.
+	 * @param environment the source environment (must be an instance of
+	 * {@link ConfigurableEnvironment})
+	 * @throws IllegalStateException if configuration property sources have not been
+	 * attached
+	 * @since 2.5.0
+	 */
+	public static void freeze(Environment environment) {
+		getAttached(environment).freeze();
+	}
+
+	/**
+	 * Remove any snapshot taken by {@link #freeze(Environment)} so that property reads
+	 * consult the attached {@link ConfigurationPropertySource} instances again.
+	 * @param environment the source environment (must be an instance of
+	 * {@link ConfigurableEnvironment})
+	 * @throws IllegalStateException if configuration property sources have not been
+	 * attached
+	 * @since 2.5.0
+	 */
+	public static void unfreeze(Environment environment) {
+		getAttached(environment).unfreeze();
+	}
+
+	/**
+	 * Refresh the snapshot of the {@link ConfigurationPropertySource} instances that
+	 * have been {@link #attach(Environment) attached} to the {@link Environment} if they
+	 * have been {@link #freeze(Environment) frozen}. Should be called whenever the
+	 * property sources of the environment are known to have changed.
+	 * @param environment the source environment (must be an instance of
+	 * {@link ConfigurableEnvironment})
+	 * @since 2.5.0
+	 */
+	public static void refreshIfFrozen(Environment environment) {
+		ConfigurationPropertySourcesPropertySource attached = findAttached(environment);
+		if (attached != null && attached.isFrozen()) {
+			attached.freeze();
+		}
+	}
+
+	private static ConfigurationPropertySourcesPropertySource getAttached(Environment environment) {
+		ConfigurationPropertySourcesPropertySource attached = findAttached(environment);
+		Assert.state(attached != null, "Configuration property sources have not been attached to the environment");
+		return attached;
+	}
+
+	private static ConfigurationPropertySourcesPropertySource findAttached(Environment environment) {
+		Assert.isInstanceOf(ConfigurableEnvironment.class, environment);
+		PropertySource<?> attached = ((ConfigurableEnvironment) environment).getPropertySources()
+				.get(ATTACHED_PROPERTY_SOURCE_NAME);
+		return (attached instanceof ConfigurationPropertySourcesPropertySource)
+				? (ConfigurationPropertySourcesPropertySource) attached : null;
+	}
+
 	/**
 	 * Return a set of {@link ConfigurationPropertySource} instances that have previously
 	 * been {@link #attach(Environment) attached} to the {@link Environment}.
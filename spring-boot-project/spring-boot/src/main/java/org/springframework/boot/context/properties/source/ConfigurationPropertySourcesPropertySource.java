@@ -25,7 +25,9 @@ import org.springframework.core.env.PropertySource;
 /**
  * {@link PropertySource} that exposes {@link ConfigurationPropertySource} instances so
  * that they can be used with a {@link PropertyResolver} or added to the
- * {@link Environment}.
+ * {@link Environment}. The source can be {@link #freeze() frozen} so that properties are
+ * read from an immutable {@link ConfigurationPropertySourcesSnapshot snapshot} rather than
+ * from each of the sources in turn.
  *
  * @author Phillip Webb
  * @author Madhura Bhave
@@ -33,10 +35,31 @@ import org.springframework.core.env.PropertySource;
 class ConfigurationPropertySourcesPropertySource extends PropertySource<Iterable<ConfigurationPropertySource>>
 		implements OriginLookup<String> {
 
+	private volatile ConfigurationPropertySourcesSnapshot snapshot;
+
 	ConfigurationPropertySourcesPropertySource(String name, Iterable<ConfigurationPropertySource> source) {
 		super(name, source);
 	}
 
+	/**
+	 * Take a snapshot of the current properties of the sources and use it for all
+	 * subsequent reads. Calling this method on a frozen source refreshes the snapshot.
+	 */
+	void freeze() {
+		this.snapshot = ConfigurationPropertySourcesSnapshot.of(getSource());
+	}
+
+	/**
+	 * Discard any snapshot so that properties are read from the sources again.
+	 */
+	void unfreeze() {
+		this.snapshot = null;
+	}
+
+	boolean isFrozen() {
+		return this.snapshot != null;
+	}
+
 	@Override
 	public Object getProperty(String name) {
 		ConfigurationProperty configurationProperty = findConfigurationProperty(name);
@@ -61,6 +84,10 @@ class ConfigurationPropertySourcesPropertySource extends PropertySource<Iterable
 		if (name == null) {
 			return null;
 		}
+		ConfigurationPropertySourcesSnapshot snapshot = this.snapshot;
+		if (snapshot != null) {
+			return snapshot.getConfigurationProperty(name);
+		}
 		for (ConfigurationPropertySource configurationPropertySource : getSource()) {
 			ConfigurationProperty configurationProperty = configurationPropertySource.getConfigurationProperty(name);
 			if (configurationProperty != null) {
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.context.properties.source;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable snapshot of a set of {@link ConfigurationPropertySource} instances. The
+ * properties of each {@link IterableConfigurationPropertySource} are flattened into a
+ * single lookup table, keeping the property, and so its origin, from the source that
+ * takes precedence. Sources that cannot be iterated are still consulted on each lookup,
+ * but only for names that are not provided by an earlier iterable source.
+ *
+ * @author Spring Contributor
+ */
+final class ConfigurationPropertySourcesSnapshot {
+
+	private final Map<ConfigurationPropertyName, Entry> properties;
+
+	private final List<ConfigurationPropertySource> dynamicSources;
+
+	private final int[] dynamicSourceIndexes;
+
+	private ConfigurationPropertySourcesSnapshot(Map<ConfigurationPropertyName, Entry> properties,
+			List<ConfigurationPropertySource> dynamicSources, int[] dynamicSourceIndexes) {
+		this.properties = properties;
+		this.dynamicSources = dynamicSources;
+		this.dynamicSourceIndexes = dynamicSourceIndexes;
+	}
+
+	/**
+	 * Return the property with the given name from the first source that contains it.
+	 * @param name the name of the property
+	 * @return the property or {@code null}
+	 */
+	ConfigurationProperty getConfigurationProperty(ConfigurationPropertyName name) {
+		Entry entry = this.properties.get(name);
+		int sourceIndex = (entry != null) ? entry.sourceIndex : Integer.MAX_VALUE;
+		for (int i = 0; i < this.dynamicSourceIndexes.length && this.dynamicSourceIndexes[i] < sourceIndex; i++) {
+			ConfigurationProperty property = this.dynamicSources.get(i).getConfigurationProperty(name);
+			if (property != null) {
+				return property;
+			}
+		}
+		return (entry != null) ? entry.property : null;
+	}
+
+	/**
+	 * Return the number of properties that are held in the snapshot.
+	 * @return the number of properties
+	 */
+	int size() {
+		return this.properties.size();
+	}
+
+	/**
+	 * Create a new snapshot of the given sources.
+	 * @param sources the sources, in order of precedence
+	 * @return the snapshot
+	 */
+	static ConfigurationPropertySourcesSnapshot of(Iterable<ConfigurationPropertySource> sources) {
+		Map<ConfigurationPropertyName, Entry> properties = new HashMap<>();
+		List<ConfigurationPropertySource> dynamicSources = new ArrayList<>();
+		List<Integer> dynamicSourceIndexes = new ArrayList<>();
+		int sourceIndex = 0;
+		for (ConfigurationPropertySource source : sources) {
+			if (source instanceof IterableConfigurationPropertySource) {
+				for (ConfigurationPropertyName name : (IterableConfigurationPropertySource) source) {
+					if (!properties.containsKey(name)) {
+						ConfigurationProperty property = source.getConfigurationProperty(name);
+						if (property != null) {
+							properties.put(name, new Entry(property, sourceIndex));
+						}
+					}
+				}
+			}
+			else {
+				dynamicSources.add(source);
+				dynamicSourceIndexes.add(sourceIndex);
+			}
+			sourceIndex++;
+		}
+		return new ConfigurationPropertySourcesSnapshot(Collections.unmodifiableMap(properties),
+				Collections.unmodifiableList(dynamicSources),
+				dynamicSourceIndexes.stream().mapToInt(Integer::intValue).toArray());
+	}
+
+	/**
+	 * A property held in the snapshot along with the index of its source.
+	 */
+	private static final class Entry {
+
+		private final ConfigurationProperty property;
+
+		private final int sourceIndex;
+
+		Entry(ConfigurationProperty property, int sourceIndex) {
+			this.property = property;
+			this.sourceIndex = sourceIndex;
+		}
+
+	}
+
+}
@@ -23,6 +23,7 @@ import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -30,6 +31,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
 
 import org.springframework.boot.convert.ApplicationConversionService;
 import org.springframework.boot.origin.Origin;
@@ -57,7 +59,9 @@ import org.springframework.util.StringUtils;
  * monitored for updates, so files should not be added or removed. However, the contents
  * of a file can be updated as long as the property source was created with a
  * {@link Option#ALWAYS_READ} option. Nested directories are included in the source, but
- * with a {@code '.'} rather than {@code '/'} used as the path separator.
+ * with a {@code '.'} rather than {@code '/'} used as the path separator. A source that
+ * reflects files that have since been added, removed or replaced can be created using
+ * {@link #reload()}.
  * <p>
  * Property values are returned as {@link Value} instances which allows them to be treated
  * either as an {@link InputStreamSource} or as a {@link CharSequence}. In addition, if
@@ -104,11 +108,47 @@ public class ConfigTreePropertySource extends EnumerablePropertySource<Path> imp
 		super(name, sourceDirectory);
 		Assert.isTrue(Files.exists(sourceDirectory), () -> "Directory '" + sourceDirectory + "' does not exist");
 		Assert.isTrue(Files.isDirectory(sourceDirectory), () -> "File '" + sourceDirectory + "' is not a directory");
-		this.propertyFiles = PropertyFile.findAll(sourceDirectory, options);
+		this.propertyFiles = PropertyFile.findAll(sourceDirectory, options, Collections.emptyMap());
 		this.options = options;
 		this.names = StringUtils.toStringArray(this.propertyFiles.keySet());
 	}
 
+	private ConfigTreePropertySource(ConfigTreePropertySource previous) {
+		super(previous.getName(), previous.getSource());
+		this.propertyFiles = PropertyFile.findAll(previous.getSource(), previous.options, previous.propertyFiles);
+		this.options = previous.options;
+		this.names = StringUtils.toStringArray(this.propertyFiles.keySet());
+	}
+
+	/**
+	 * Create a new {@link ConfigTreePropertySource} that reflects the current files of
+	 * the source directory. Files that have not changed since this source was created are
+	 * shared with the new source so that any cached content is not read again. This
+	 * source is left unchanged.
+	 * @return a new reloaded property source
+	 * @since 2.5.0
+	 * @see #getChangedPropertyNames(ConfigTreePropertySource)
+	 */
+	public ConfigTreePropertySource reload() {
+		return new ConfigTreePropertySource(this);
+	}
+
+	/**
+	 * Return the names of the properties that were added, removed or changed between the
+	 * given source and this source.
+	 * @param previous the previous source, typically the one that was used to
+	 * {@link #reload() reload} this source
+	 * @return the names of the changed properties
+	 * @since 2.5.0
+	 */
+	public Set<String> getChangedPropertyNames(ConfigTreePropertySource previous) {
+		Assert.notNull(previous, "Previous must not be null");
+		Set<String> names = new TreeSet<>(this.propertyFiles.keySet());
+		names.addAll(previous.propertyFiles.keySet());
+		names.removeIf((name) -> this.propertyFiles.get(name) == previous.propertyFiles.get(name));
+		return names;
+	}
+
 	@Override
 	public String[] getPropertyNames() {
 		return this.names.clone();
@@ -181,8 +221,11 @@ public class ConfigTreePropertySource extends EnumerablePropertySource<Path> imp
 
 		private final boolean autoTrimTrailingNewLine;
 
+		private final Object fingerprint;
+
 		private PropertyFile(Path path, Set<Option> options) {
 			this.path = path;
+			this.fingerprint = getFingerprint(path);
 			this.resource = new PathResource(path);
 			this.origin = new TextResourceOrigin(this.resource, START_OF_FILE);
 			this.autoTrimTrailingNewLine = options.contains(Option.AUTO_TRIM_TRAILING_NEW_LINE);
@@ -201,7 +244,29 @@ public class ConfigTreePropertySource extends EnumerablePropertySource<Path> imp
 			return this.origin;
 		}
 
-		static Map<String, PropertyFile> findAll(Path sourceDirectory, Set<Option> options) {
+		/**
+		 * Return if the file is unchanged since this instance was created. Mounted
+		 * volumes are typically updated by atomically swapping a {@code ..data} symlink,
+		 * so both the real path and the last modified time of the file are compared.
+		 * @return if the file is unchanged
+		 */
+		boolean isUnchanged() {
+			return this.fingerprint != null && this.fingerprint.equals(getFingerprint(this.path));
+		}
+
+		private static Object getFingerprint(Path path) {
+			try {
+				Path realPath = path.toRealPath();
+				FileTime lastModifiedTime = Files.getLastModifiedTime(realPath);
+				return Arrays.asList(realPath, lastModifiedTime, Files.size(realPath));
+			}
+			catch (IOException ex) {
+				return null;
+			}
+		}
+
+		static Map<String, PropertyFile> findAll(Path sourceDirectory, Set<Option> options,
+				Map<String, PropertyFile> previous) {
 			try {
 				Map<String, PropertyFile> propertyFiles = new TreeMap<>();
 				Files.find(sourceDirectory, MAX_DEPTH, PropertyFile::isPropertyFile, FileVisitOption.FOLLOW_LINKS)
@@ -211,7 +276,12 @@ public class ConfigTreePropertySource extends EnumerablePropertySource<Path> imp
 								if (options.contains(Option.USE_LOWERCASE_NAMES)) {
 									name = name.toLowerCase();
 								}
-								propertyFiles.put(name, new PropertyFile(path, options));
+								PropertyFile propertyFile = previous.get(name);
+								if (propertyFile == null || !propertyFile.path.equals(path)
+										|| !propertyFile.isUnchanged()) {
+									propertyFile = new PropertyFile(path, options);
+								}
+								propertyFiles.put(name, propertyFile);
 							}
 						});
 				return Collections.unmodifiableMap(propertyFiles);
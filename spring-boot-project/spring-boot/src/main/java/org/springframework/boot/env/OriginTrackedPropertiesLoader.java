@@ -18,10 +18,10 @@ package org.springframework.boot.env;
 
 import java.io.Closeable;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.LineNumberReader;
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +38,11 @@ import org.springframework.util.Assert;
  * Class to load {@code .properties} files into a map of {@code String} -&gt;
  * {@link OriginTrackedValue}. Also supports expansion of {@code name[]=a,b,c} list style
  * values.
+ * <p>
+ * The data is read in blocks from the {@link Resource#readableChannel() channel} of the
+ * resource rather than through a {@link java.io.Reader} so that large files can be
+ * loaded quickly. Keys that are repeated in the documents of a multi-document file share
+ * the same {@code String} instance.
  *
  * @author Madhura Bhave
  * @author Phillip Webb
@@ -76,12 +81,14 @@ class OriginTrackedPropertiesLoader {
 		List<Document> documents = new ArrayList<>();
 		Document document = new Document();
 		StringBuilder buffer = new StringBuilder();
+		Map<String, String> keys = null;
 		try (CharacterReader reader = new CharacterReader(this.resource)) {
 			while (reader.read()) {
 				if (reader.isPoundCharacter()) {
 					if (isNewDocument(reader)) {
 						if (!document.isEmpty()) {
 							documents.add(document);
+							keys = addKeys(keys, document);
 						}
 						document = new Document();
 					}
@@ -95,7 +102,7 @@ class OriginTrackedPropertiesLoader {
 				}
 				else {
 					reader.setLastLineComment(false);
-					loadKeyAndValue(expandLists, document, reader, buffer);
+					loadKeyAndValue(expandLists, document, reader, buffer, keys);
 				}
 			}
 
@@ -106,15 +113,23 @@ class OriginTrackedPropertiesLoader {
 		return documents;
 	}
 
-	private void loadKeyAndValue(boolean expandLists, Document document, CharacterReader reader, StringBuilder buffer)
-			throws IOException {
-		String key = loadKey(buffer, reader).trim();
+	private Map<String, String> addKeys(Map<String, String> keys, Document document) {
+		keys = (keys != null) ? keys : new HashMap<>();
+		for (String key : document.asMap().keySet()) {
+			keys.putIfAbsent(key, key);
+		}
+		return keys;
+	}
+
+	private void loadKeyAndValue(boolean expandLists, Document document, CharacterReader reader, StringBuilder buffer,
+			Map<String, String> keys) throws IOException {
+		String key = loadKey(buffer, reader, keys);
 		if (expandLists && key.endsWith("[]")) {
 			key = key.substring(0, key.length() - 2);
 			int index = 0;
 			do {
 				OriginTrackedValue value = loadValue(buffer, reader, true);
-				document.put(key + "[" + (index++) + "]", value);
+				document.put(share(keys, key + "[" + (index++) + "]"), value);
 				if (!reader.isEndOfLine()) {
 					reader.read();
 				}
@@ -127,22 +142,43 @@ class OriginTrackedPropertiesLoader {
 		}
 	}
 
-	private String loadKey(StringBuilder buffer, CharacterReader reader) throws IOException {
+	private String loadKey(StringBuilder buffer, CharacterReader reader, Map<String, String> keys)
+			throws IOException {
 		buffer.setLength(0);
 		boolean previousWhitespace = false;
 		while (!reader.isEndOfLine()) {
 			if (reader.isPropertyDelimiter()) {
 				reader.read();
-				return buffer.toString();
+				return share(keys, trim(buffer));
 			}
 			if (!reader.isWhiteSpace() && previousWhitespace) {
-				return buffer.toString();
+				return share(keys, trim(buffer));
 			}
 			previousWhitespace = reader.isWhiteSpace();
 			buffer.append(reader.getCharacter());
 			reader.read();
 		}
-		return buffer.toString();
+		return share(keys, trim(buffer));
+	}
+
+	private String trim(StringBuilder buffer) {
+		int start = 0;
+		int end = buffer.length();
+		while (start < end && buffer.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && buffer.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		return buffer.substring(start, end);
+	}
+
+	private String share(Map<String, String> keys, String key) {
+		if (keys == null) {
+			return key;
+		}
+		String existing = keys.putIfAbsent(key, key);
+		return (existing != null) ? existing : key;
 	}
 
 	private OriginTrackedValue loadValue(StringBuilder buffer, CharacterReader reader, boolean splitLists)
@@ -182,13 +218,29 @@ class OriginTrackedPropertiesLoader {
 
 	/**
 	 * Reads characters from the source resource, taking care of skipping comments,
-	 * handling multi-line values and tracking {@code '\'} escapes.
+	 * handling multi-line values and tracking {@code '\'} escapes. Bytes are decoded as
+	 * ISO-8859-1 and line terminators are handled in the same way as a
+	 * {@link java.io.LineNumberReader}.
 	 */
 	private static class CharacterReader implements Closeable {
 
 		private static final String[] ESCAPES = { "trnf", "\t\r\n\f" };
 
-		private final LineNumberReader reader;
+		private static final int BUFFER_SIZE = 8192;
+
+		private final ReadableByteChannel channel;
+
+		private final byte[] bytes = new byte[BUFFER_SIZE];
+
+		private final ByteBuffer buffer = ByteBuffer.wrap(this.bytes);
+
+		private int position;
+
+		private int limit;
+
+		private int lineNumber;
+
+		private boolean skipLineFeed;
 
 		private int columnNumber = -1;
 
@@ -199,13 +251,49 @@ class OriginTrackedPropertiesLoader {
 		private boolean lastLineComment;
 
 		CharacterReader(Resource resource) throws IOException {
-			this.reader = new LineNumberReader(
-					new InputStreamReader(resource.getInputStream(), StandardCharsets.ISO_8859_1));
+			this.channel = resource.readableChannel();
 		}
 
 		@Override
 		public void close() throws IOException {
-			this.reader.close();
+			this.channel.close();
+		}
+
+		private int readCharacter() throws IOException {
+			int character = readByte();
+			if (this.skipLineFeed) {
+				this.skipLineFeed = false;
+				if (character == '\n') {
+					character = readByte();
+				}
+			}
+			if (character == '\r') {
+				this.skipLineFeed = true;
+				this.lineNumber++;
+				return '\n';
+			}
+			if (character == '\n') {
+				this.lineNumber++;
+			}
+			return character;
+		}
+
+		private int readByte() throws IOException {
+			if (this.position == this.limit && !fill()) {
+				return -1;
+			}
+			return this.bytes[this.position++] & 0xFF;
+		}
+
+		private boolean fill() throws IOException {
+			this.buffer.clear();
+			int read = 0;
+			while (read == 0) {
+				read = this.channel.read(this.buffer);
+			}
+			this.position = 0;
+			this.limit = Math.max(read, 0);
+			return read > 0;
 		}
 
 		boolean read() throws IOException {
@@ -214,7 +302,7 @@ class OriginTrackedPropertiesLoader {
 
 		boolean read(boolean wrappedLine) throws IOException {
 			this.escaped = false;
-			this.character = this.reader.read();
+			this.character = readCharacter();
 			this.columnNumber++;
 			if (this.columnNumber == 0) {
 				skipWhitespace();
@@ -236,7 +324,7 @@ class OriginTrackedPropertiesLoader {
 
 		private void skipWhitespace() throws IOException {
 			while (isWhiteSpace()) {
-				this.character = this.reader.read();
+				this.character = readCharacter();
 				this.columnNumber++;
 			}
 		}
@@ -251,13 +339,13 @@ class OriginTrackedPropertiesLoader {
 
 		private void skipComment() throws IOException {
 			while (this.character != '\n' && this.character != -1) {
-				this.character = this.reader.read();
+				this.character = readCharacter();
 			}
 			this.columnNumber = -1;
 		}
 
 		private void readEscaped() throws IOException {
-			this.character = this.reader.read();
+			this.character = readCharacter();
 			int escapeIndex = ESCAPES[0].indexOf(this.character);
 			if (escapeIndex != -1) {
 				this.character = ESCAPES[1].charAt(escapeIndex);
@@ -274,7 +362,7 @@ class OriginTrackedPropertiesLoader {
 		private void readUnicode() throws IOException {
 			this.character = 0;
 			for (int i = 0; i < 4; i++) {
-				int digit = this.reader.read();
+				int digit = readCharacter();
 				if (digit >= '0' && digit <= '9') {
 					this.character = (this.character << 4) + digit - '0';
 				}
@@ -315,7 +403,7 @@ class OriginTrackedPropertiesLoader {
 		}
 
 		Location getLocation() {
-			return new Location(this.reader.getLineNumber(), this.columnNumber);
+			return new Location(this.lineNumber, this.columnNumber);
 		}
 
 		boolean isPoundCharacter() {
@@ -62,6 +62,7 @@ import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.context.event.ApplicationStartedEvent;
 import org.springframework.boot.context.event.ApplicationStartingEvent;
 import org.springframework.boot.context.event.SpringApplicationEvent;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
 import org.springframework.boot.convert.ApplicationConversionService;
 import org.springframework.boot.testsupport.system.CapturedOutput;
 import org.springframework.boot.testsupport.system.OutputCaptureExtension;
@@ -1158,6 +1159,22 @@ class SpringApplicationTests {
 				.getBean(AtomicInteger.class)).hasValue(0);
 	}
 
+	@Test
+	void configurationPropertySourcesCanBeFrozen() {
+		SpringApplication application = new SpringApplication(ExampleConfig.class);
+		application.setWebApplicationType(WebApplicationType.NONE);
+		this.context = application.run("--spring.main.freeze-configuration-property-sources=true");
+		ConfigurableEnvironment environment = this.context.getEnvironment();
+		Map<String, Object> source = new HashMap<>();
+		source.put("foo.bar", "one");
+		environment.getPropertySources().addLast(new MapPropertySource("late", source));
+		ConfigurationPropertySources.refreshIfFrozen(environment);
+		source.put("foo.bar", "two");
+		assertThat(environment.getProperty("foo.bar")).isEqualTo("one");
+		ConfigurationPropertySources.refreshIfFrozen(environment);
+		assertThat(environment.getProperty("foo.bar")).isEqualTo("two");
+	}
+
 	@Test
 	void lazyInitializationIgnoresBeansThatAreExplicitlyNotLazy() {
 		assertThat(new SpringApplication(NotLazyInitializationConfig.class)
@@ -16,10 +16,15 @@
 
 package org.springframework.boot.context.config;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -27,12 +32,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.mock.env.MockPropertySource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.BDDMockito.given;
 
 /**
@@ -125,6 +136,143 @@ class ConfigDataImporterTests {
 		assertThat(loaded2and3).containsExactly(configData3);
 	}
 
+	@Test
+	void loadImportsLoadsResourcesConcurrentlyInResolvedOrder() throws Exception {
+		ConfigDataLocation location1 = ConfigDataLocation.of("test1");
+		ConfigDataLocation location2 = ConfigDataLocation.of("test2");
+		TestResource resource1 = new TestResource("r1");
+		TestResource resource2 = new TestResource("r2");
+		ConfigData configData1 = new ConfigData(Collections.singleton(new MockPropertySource()));
+		ConfigData configData2 = new ConfigData(Collections.singleton(new MockPropertySource()));
+		given(this.resolvers.resolve(this.locationResolverContext, location1, this.profiles))
+				.willReturn(Collections.singletonList(new ConfigDataResolutionResult(location1, resource1, false)));
+		given(this.resolvers.resolve(this.locationResolverContext, location2, this.profiles))
+				.willReturn(Collections.singletonList(new ConfigDataResolutionResult(location2, resource2, false)));
+		given(this.loaders.isParallelLoadable(this.loaderContext, resource1)).willReturn(true);
+		given(this.loaders.isParallelLoadable(this.loaderContext, resource2)).willReturn(true);
+		CountDownLatch latch = new CountDownLatch(2);
+		given(this.loaders.load(this.loaderContext, resource1)).willAnswer((invocation) -> awaitAll(latch, configData1));
+		given(this.loaders.load(this.loaderContext, resource2)).willAnswer((invocation) -> awaitAll(latch, configData2));
+		ConfigDataImporter importer = new ConfigDataImporter(this.logFactory, ConfigDataNotFoundAction.FAIL,
+				this.resolvers, this.loaders, ApplicationStartup.DEFAULT, true);
+		Collection<ConfigData> loaded = importer.resolveAndLoad(this.activationContext, this.locationResolverContext,
+				this.loaderContext, Arrays.asList(location1, location2)).values();
+		assertThat(loaded).containsExactly(configData2, configData1);
+	}
+
+	@Test
+	void loadImportsWhenNotParallelLoadsOnCallingThread() throws Exception {
+		ConfigDataLocation location1 = ConfigDataLocation.of("test1");
+		ConfigDataLocation location2 = ConfigDataLocation.of("test2");
+		TestResource resource1 = new TestResource("r1");
+		TestResource resource2 = new TestResource("r2");
+		given(this.resolvers.resolve(this.locationResolverContext, location1, this.profiles))
+				.willReturn(Collections.singletonList(new ConfigDataResolutionResult(location1, resource1, false)));
+		given(this.resolvers.resolve(this.locationResolverContext, location2, this.profiles))
+				.willReturn(Collections.singletonList(new ConfigDataResolutionResult(location2, resource2, false)));
+		Set<Thread> threads = new HashSet<>();
+		Answer<ConfigData> answer = (invocation) -> {
+			threads.add(Thread.currentThread());
+			return new ConfigData(Collections.singleton(new MockPropertySource()));
+		};
+		given(this.loaders.load(this.loaderContext, resource1)).willAnswer(answer);
+		given(this.loaders.load(this.loaderContext, resource2)).willAnswer(answer);
+		ConfigDataImporter importer = new ConfigDataImporter(this.logFactory, ConfigDataNotFoundAction.FAIL,
+				this.resolvers, this.loaders, ApplicationStartup.DEFAULT, false);
+		importer.resolveAndLoad(this.activationContext, this.locationResolverContext, this.loaderContext,
+				Arrays.asList(location1, location2));
+		assertThat(threads).containsExactly(Thread.currentThread());
+	}
+
+	@Test
+	void loadImportsWhenLoaderDoesNotOptInLoadsOnCallingThread() throws Exception {
+		ConfigDataLocation location1 = ConfigDataLocation.of("test1");
+		ConfigDataLocation location2 = ConfigDataLocation.of("test2");
+		TestResource resource1 = new TestResource("r1");
+		TestResource resource2 = new TestResource("r2");
+		given(this.resolvers.resolve(this.locationResolverContext, location1, this.profiles))
+				.willReturn(Collections.singletonList(new ConfigDataResolutionResult(location1, resource1, false)));
+		given(this.resolvers.resolve(this.locationResolverContext, location2, this.profiles))
+				.willReturn(Collections.singletonList(new ConfigDataResolutionResult(location2, resource2, false)));
+		given(this.loaders.isParallelLoadable(this.loaderContext, resource1)).willReturn(true);
+		given(this.loaders.isParallelLoadable(this.loaderContext, resource2)).willReturn(false);
+		Set<Thread> threads = new HashSet<>();
+		Answer<ConfigData> answer = (invocation) -> {
+			threads.add(Thread.currentThread());
+			return new ConfigData(Collections.singleton(new MockPropertySource()));
+		};
+		given(this.loaders.load(this.loaderContext, resource1)).willAnswer(answer);
+		given(this.loaders.load(this.loaderContext, resource2)).willAnswer(answer);
+		ConfigDataImporter importer = new ConfigDataImporter(this.logFactory, ConfigDataNotFoundAction.FAIL,
+				this.resolvers, this.loaders, ApplicationStartup.DEFAULT, true);
+		importer.resolveAndLoad(this.activationContext, this.locationResolverContext, this.loaderContext,
+				Arrays.asList(location1, location2));
+		assertThat(threads).containsExactly(Thread.currentThread());
+	}
+
+	@Test
+	void loadImportsWhenLoadFailsThrowsException() throws Exception {
+		ConfigDataLocation location1 = ConfigDataLocation.of("test1");
+		ConfigDataLocation location2 = ConfigDataLocation.of("test2");
+		TestResource resource1 = new TestResource("r1");
+		TestResource resource2 = new TestResource("r2");
+		given(this.resolvers.resolve(this.locationResolverContext, location1, this.profiles))
+				.willReturn(Collections.singletonList(new ConfigDataResolutionResult(location1, resource1, false)));
+		given(this.resolvers.resolve(this.locationResolverContext, location2, this.profiles))
+				.willReturn(Collections.singletonList(new ConfigDataResolutionResult(location2, resource2, false)));
+		IOException failure = new IOException("Failed");
+		given(this.loaders.load(this.loaderContext, resource1)).willThrow(failure);
+		given(this.loaders.load(this.loaderContext, resource2))
+				.willReturn(new ConfigData(Collections.singleton(new MockPropertySource())));
+		ConfigDataImporter importer = new ConfigDataImporter(this.logFactory, ConfigDataNotFoundAction.FAIL,
+				this.resolvers, this.loaders, ApplicationStartup.DEFAULT, true);
+		assertThatIllegalStateException()
+				.isThrownBy(() -> importer.resolveAndLoad(this.activationContext, this.locationResolverContext,
+						this.loaderContext, Arrays.asList(location1, location2)))
+				.withCause(failure);
+	}
+
+	@Test
+	void loadImportsRecordsStartupStepForEachResource() throws Exception {
+		ConfigDataLocation location1 = ConfigDataLocation.of("test1");
+		ConfigDataLocation location2 = ConfigDataLocation.of("test2");
+		TestResource resource1 = new TestResource("r1");
+		TestResource resource2 = new TestResource("r2");
+		given(this.resolvers.resolve(this.locationResolverContext, location1, this.profiles))
+				.willReturn(Collections.singletonList(new ConfigDataResolutionResult(location1, resource1, false)));
+		given(this.resolvers.resolve(this.locationResolverContext, location2, this.profiles))
+				.willReturn(Collections.singletonList(new ConfigDataResolutionResult(location2, resource2, false)));
+		given(this.loaders.load(this.loaderContext, resource1))
+				.willReturn(new ConfigData(Collections.singleton(new MockPropertySource())));
+		given(this.loaders.load(this.loaderContext, resource2))
+				.willReturn(new ConfigData(Collections.singleton(new MockPropertySource())));
+		BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(10);
+		ConfigDataImporter importer = new ConfigDataImporter(this.logFactory, ConfigDataNotFoundAction.FAIL,
+				this.resolvers, this.loaders, applicationStartup, true);
+		importer.resolveAndLoad(this.activationContext, this.locationResolverContext, this.loaderContext,
+				Arrays.asList(location1, location2));
+		List<StartupTimeline.TimelineEvent> events = applicationStartup.getBufferedTimeline().getEvents();
+		assertThat(events).extracting((event) -> event.getStartupStep().getName())
+				.containsExactly("spring.boot.config.data.load", "spring.boot.config.data.load");
+		assertThat(events).extracting((event) -> getTag(event.getStartupStep(), "resource")).containsExactly("r2",
+				"r1");
+	}
+
+	private ConfigData awaitAll(CountDownLatch latch, ConfigData configData) throws InterruptedException {
+		latch.countDown();
+		assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		return configData;
+	}
+
+	private String getTag(StartupStep step, String key) {
+		for (StartupStep.Tag tag : step.getTags()) {
+			if (tag.getKey().equals(key)) {
+				return tag.getValue();
+			}
+		}
+		return null;
+	}
+
 	static class TestResource extends ConfigDataResource {
 
 		private final String name;
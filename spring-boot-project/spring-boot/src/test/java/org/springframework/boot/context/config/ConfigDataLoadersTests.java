@@ -114,6 +114,30 @@ class ConfigDataLoadersTests {
 		assertThat(getLoader(loaded)).isInstanceOf(SpecificConfigDataLoader.class);
 	}
 
+	@Test
+	void isParallelLoadableWhenLoaderOptsInReturnsTrue() {
+		TestConfigDataResource location = new TestConfigDataResource("test");
+		ConfigDataLoaders loaders = new ConfigDataLoaders(this.logFactory, this.bootstrapContext,
+				Arrays.asList(OtherConfigDataLoader.class.getName(), ParallelConfigDataLoader.class.getName()));
+		assertThat(loaders.isParallelLoadable(this.context, location)).isTrue();
+	}
+
+	@Test
+	void isParallelLoadableWhenLoaderDoesNotOptInReturnsFalse() {
+		TestConfigDataResource location = new TestConfigDataResource("test");
+		ConfigDataLoaders loaders = new ConfigDataLoaders(this.logFactory, this.bootstrapContext,
+				Arrays.asList(TestConfigDataLoader.class.getName()));
+		assertThat(loaders.isParallelLoadable(this.context, location)).isFalse();
+	}
+
+	@Test
+	void isParallelLoadableWhenNoLoaderSupportsLocationReturnsFalse() {
+		TestConfigDataResource location = new TestConfigDataResource("test");
+		ConfigDataLoaders loaders = new ConfigDataLoaders(this.logFactory, this.bootstrapContext,
+				Arrays.asList(NonLoadableConfigDataLoader.class.getName()));
+		assertThat(loaders.isParallelLoadable(this.context, location)).isFalse();
+	}
+
 	private ConfigDataLoader<?> getLoader(ConfigData loaded) {
 		return (ConfigDataLoader<?>) loaded.getPropertySources().get(0).getProperty("loader");
 	}
@@ -214,6 +238,15 @@ class ConfigDataLoadersTests {
 
 	}
 
+	static class ParallelConfigDataLoader extends TestConfigDataLoader {
+
+		@Override
+		public boolean isParallelLoadable(ConfigDataLoaderContext context, ConfigDataResource resource) {
+			return true;
+		}
+
+	}
+
 	static class SpecificConfigDataLoader implements ConfigDataLoader<TestConfigDataResource> {
 
 		@Override
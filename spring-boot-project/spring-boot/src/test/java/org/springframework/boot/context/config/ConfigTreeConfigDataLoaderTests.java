@@ -24,11 +24,13 @@ import java.nio.file.Path;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import org.springframework.boot.DefaultBootstrapContext;
 import org.springframework.core.env.PropertySource;
 import org.springframework.util.FileCopyUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -59,6 +61,24 @@ public class ConfigTreeConfigDataLoaderTests {
 		assertThat(source.getProperty("hello").toString()).isEqualTo("world");
 	}
 
+	@Test
+	void loadWhenWatchRegistersWatcher() throws IOException {
+		DefaultBootstrapContext bootstrapContext = new DefaultBootstrapContext();
+		given(this.loaderContext.getBootstrapContext()).willReturn(bootstrapContext);
+		ConfigTreeConfigDataResource location = new ConfigTreeConfigDataResource(this.directory.toString(), true);
+		this.loader.load(this.loaderContext, location);
+		assertThat(bootstrapContext.isRegistered(ConfigTreeWatcher.class)).isTrue();
+	}
+
+	@Test
+	void loadWhenNotWatchDoesNotRegisterWatcher() throws IOException {
+		DefaultBootstrapContext bootstrapContext = new DefaultBootstrapContext();
+		given(this.loaderContext.getBootstrapContext()).willReturn(bootstrapContext);
+		ConfigTreeConfigDataResource location = new ConfigTreeConfigDataResource(this.directory.toString());
+		this.loader.load(this.loaderContext, location);
+		assertThat(bootstrapContext.isRegistered(ConfigTreeWatcher.class)).isFalse();
+	}
+
 	@Test
 	void loadWhenPathDoesNotExistThrowsException() {
 		File missing = this.directory.resolve("missing").toFile();
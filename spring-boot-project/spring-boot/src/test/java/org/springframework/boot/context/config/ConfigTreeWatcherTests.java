@@ -0,0 +1,143 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.context.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.boot.context.properties.ConfigurationPropertiesChangedEvent;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.boot.env.ConfigTreePropertySource;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.core.env.PropertySource;
+import org.springframework.util.FileCopyUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ConfigTreeWatcher}.
+ *
+ * @author Spring Contributor
+ */
+class ConfigTreeWatcherTests {
+
+	@TempDir
+	Path directory;
+
+	private final StaticApplicationContext context = new StaticApplicationContext();
+
+	private final List<ConfigurationPropertiesChangedEvent> events = new CopyOnWriteArrayList<>();
+
+	private final ConfigTreeWatcher watcher = new ConfigTreeWatcher(50);
+
+	@BeforeEach
+	void setup() throws IOException {
+		addFile("..v1/username", "user");
+		addFile("..v1/password", "secret");
+		createSymbolicLink("..data", "..v1");
+		createSymbolicLink("username", "..data/username");
+		createSymbolicLink("password", "..data/password");
+		this.context.getEnvironment().getPropertySources()
+				.addFirst(new ConfigTreePropertySource("Config tree", this.directory));
+		assertThat(this.context.getEnvironment().getProperty("username")).isEqualTo("user");
+		this.context.addApplicationListener(new ChangedEventListener());
+		this.context.refresh();
+	}
+
+	@AfterEach
+	void close() {
+		this.watcher.close();
+		this.context.close();
+	}
+
+	@Test
+	void startWhenNoDirectoriesDoesNothing() throws IOException {
+		this.watcher.start(this.context);
+		replaceData("..v2", "admin", "secret");
+		assertThat(this.context.getEnvironment().getProperty("username")).isEqualTo("user");
+	}
+
+	@Test
+	void symlinkSwapReplacesPropertySourceAndPublishesEvent() throws IOException {
+		PropertySource<?> initial = this.context.getEnvironment().getPropertySources().get("Config tree");
+		this.watcher.add(this.directory);
+		this.watcher.start(this.context);
+		replaceData("..v2", "admin", "changed");
+		Awaitility.await().atMost(Duration.ofSeconds(30)).until(() -> !this.events.isEmpty());
+		PropertySource<?> reloaded = this.context.getEnvironment().getPropertySources().get("Config tree");
+		assertThat(reloaded).isNotSameAs(initial);
+		assertThat(this.context.getEnvironment().getProperty("username")).isEqualTo("admin");
+		assertThat(this.context.getEnvironment().getProperty("password")).isEqualTo("changed");
+		assertThat(initial.getProperty("username").toString()).isEqualTo("user");
+		ConfigurationPropertiesChangedEvent event = this.events.get(this.events.size() - 1);
+		assertThat(event.getSource()).isSameAs(reloaded);
+		assertThat(event.getNames()).containsExactly(ConfigurationPropertyName.of("password"),
+				ConfigurationPropertyName.of("username"));
+	}
+
+	@Test
+	void closeStopsWatching() throws Exception {
+		this.watcher.add(this.directory);
+		this.watcher.start(this.context);
+		this.context.close();
+		replaceData("..v2", "admin", "changed");
+		Thread.sleep(500);
+		assertThat(this.events).isEmpty();
+	}
+
+	private void replaceData(String version, String username, String password) throws IOException {
+		addFile(version + "/username", username);
+		addFile(version + "/password", password);
+		createSymbolicLink("..data_tmp", version);
+		Files.move(this.directory.resolve("..data_tmp"), this.directory.resolve("..data"),
+				StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private void addFile(String path, String value) throws IOException {
+		File file = this.directory.resolve(path).toFile();
+		file.getParentFile().mkdirs();
+		FileCopyUtils.copy(value.getBytes(StandardCharsets.UTF_8), file);
+	}
+
+	private void createSymbolicLink(String link, String target) throws IOException {
+		Files.createSymbolicLink(this.directory.resolve(link), this.directory.resolve(target).toAbsolutePath());
+	}
+
+	class ChangedEventListener implements ApplicationListener<ConfigurationPropertiesChangedEvent> {
+
+		@Override
+		public void onApplicationEvent(ConfigurationPropertiesChangedEvent event) {
+			ConfigTreeWatcherTests.this.events.add(event);
+		}
+
+	}
+
+}
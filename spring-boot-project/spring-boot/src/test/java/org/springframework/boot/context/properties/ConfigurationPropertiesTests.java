@@ -23,6 +23,7 @@ import java.time.Duration;
 import java.time.Period;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -31,6 +32,9 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
 import javax.validation.Valid;
@@ -1054,6 +1058,166 @@ class ConfigurationPropertiesTests {
 		assertThat(keys.stream().map(ConfigurationPropertyName::toString)).contains("name", "nested.name");
 	}
 
+	@Test
+	void boundPropertiesShouldBeRecordedForEachBean() {
+		load(RebindConfiguration.class, "test.name=foo", "test.counter=1");
+		BoundConfigurationProperties bound = BoundConfigurationProperties.get(this.context);
+		String beanName = "test-" + RebindProperties.class.getName();
+		assertThat(bound.getNames(beanName).stream().map(ConfigurationPropertyName::toString))
+				.containsExactlyInAnyOrder("test.name", "test.counter");
+		assertThat(bound.getNames("missing")).isEmpty();
+	}
+
+	@Test
+	void configurationPropertiesChangedEventShouldRebindAffectedFieldsOnly() {
+		Map<String, Object> source = addMapPropertySource();
+		source.put("test.name", "foo");
+		source.put("test.counter", "1");
+		load(RebindConfiguration.class);
+		source.put("test.name", "bar");
+		source.put("test.counter", "2");
+		publishChange("test.name");
+		RebindProperties bean = this.context.getBean(RebindProperties.class);
+		assertThat(bean.getName()).isEqualTo("bar");
+		assertThat(bean.getCounter()).isEqualTo(1);
+		BoundConfigurationProperties bound = BoundConfigurationProperties.get(this.context);
+		assertThat(bound.get(ConfigurationPropertyName.of("test.name")).getValue()).isEqualTo("bar");
+	}
+
+	@Test
+	void configurationPropertiesChangedEventShouldResetRemovedFields() {
+		Map<String, Object> source = addMapPropertySource();
+		source.put("test.name", "foo");
+		source.put("test.counter", "1");
+		source.put("test.items[0]", "a");
+		source.put("test.nested.value", "bar");
+		load(RebindConfiguration.class);
+		source.remove("test.name");
+		source.remove("test.items[0]");
+		source.remove("test.nested.value");
+		publishChange("test.name", "test.items[0]", "test.nested.value");
+		RebindProperties bean = this.context.getBean(RebindProperties.class);
+		assertThat(bean.getName()).isNull();
+		assertThat(bean.getCounter()).isEqualTo(1);
+		assertThat(bean.getItems()).isEmpty();
+		assertThat(bean.getNested().getValue()).isEqualTo("default");
+	}
+
+	@Test
+	void configurationPropertiesChangedEventShouldRebindWholeListWhenElementChanges() {
+		Map<String, Object> source = addMapPropertySource();
+		source.put("test.items[0]", "a");
+		source.put("test.items[1]", "b");
+		load(RebindConfiguration.class);
+		source.put("test.items[1]", "c");
+		publishChange("test.items[1]");
+		assertThat(this.context.getBean(RebindProperties.class).getItems()).containsExactly("a", "c");
+	}
+
+	@Test
+	void configurationPropertiesChangedEventShouldRebindFieldsWhenAncestorChanges() {
+		Map<String, Object> source = addMapPropertySource();
+		source.put("test.name", "foo");
+		source.put("test.counter", "1");
+		load(RebindConfiguration.class);
+		source.put("test.name", "bar");
+		source.put("test.counter", "2");
+		publishChange("test");
+		RebindProperties bean = this.context.getBean(RebindProperties.class);
+		assertThat(bean.getName()).isEqualTo("bar");
+		assertThat(bean.getCounter()).isEqualTo(2);
+	}
+
+	@Test
+	void configurationPropertiesChangedEventWhenValidationFailsShouldKeepPreviousValues() {
+		Map<String, Object> source = addMapPropertySource();
+		source.put("test.name", "foo");
+		source.put("test.items[0]", "a");
+		load(ValidatedRebindConfiguration.class);
+		source.put("test.name", "");
+		source.put("test.items[0]", "b");
+		assertThatExceptionOfType(ConfigurationPropertiesBindException.class)
+				.isThrownBy(() -> publishChange("test.name", "test.items[0]"))
+				.withRootCauseInstanceOf(BindValidationException.class);
+		ValidatedRebindProperties bean = this.context.getBean(ValidatedRebindProperties.class);
+		assertThat(bean.getName()).isEqualTo("foo");
+		assertThat(bean.getItems()).containsExactly("a");
+		BoundConfigurationProperties bound = BoundConfigurationProperties.get(this.context);
+		assertThat(bound.get(ConfigurationPropertyName.of("test.name")).getValue()).isEqualTo("foo");
+	}
+
+	@Test
+	void configurationPropertiesChangedEventWhenConversionFailsShouldKeepPreviousValues() {
+		Map<String, Object> source = addMapPropertySource();
+		source.put("test.counter", "1");
+		source.put("test.nested.value", "bar");
+		load(RebindConfiguration.class);
+		source.put("test.counter", "x");
+		source.remove("test.nested.value");
+		assertThatExceptionOfType(ConfigurationPropertiesBindException.class)
+				.isThrownBy(() -> publishChange("test.counter", "test.nested.value"));
+		RebindProperties bean = this.context.getBean(RebindProperties.class);
+		assertThat(bean.getCounter()).isEqualTo(1);
+		assertThat(bean.getNested().getValue()).isEqualTo("bar");
+	}
+
+	@Test
+	void boundPropertiesCanBeReadWhileBeanIsRebound() throws Exception {
+		Map<String, Object> source = addMapPropertySource();
+		source.put("test.name", "foo");
+		load(RebindConfiguration.class);
+		BoundConfigurationProperties bound = BoundConfigurationProperties.get(this.context);
+		String beanName = "test-" + RebindProperties.class.getName();
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread reader = new Thread(() -> {
+			try {
+				while (running.get()) {
+					bound.getAll().forEach((name, property) -> assertThat(property.getName()).isEqualTo(name));
+					bound.getNames(beanName).forEach(ConfigurationPropertyName::toString);
+				}
+			}
+			catch (Throwable ex) {
+				failure.set(ex);
+			}
+		});
+		reader.start();
+		try {
+			for (int i = 0; i < 500; i++) {
+				source.put("test.items[" + i + "]", "item" + i);
+				publishChange("test.items[" + i + "]");
+			}
+		}
+		finally {
+			running.set(false);
+			reader.join();
+		}
+		assertThat(failure.get()).isNull();
+		assertThat(bound.getNames(beanName)).hasSize(501);
+	}
+
+	@Test
+	void configurationPropertiesChangedEventShouldNotRebindValueObject() {
+		Map<String, Object> source = addMapPropertySource();
+		source.put("test.foo", "foo");
+		load(ConstructorParameterConfiguration.class);
+		source.put("test.foo", "bar");
+		publishChange("test.foo");
+		assertThat(this.context.getBean(ConstructorParameterProperties.class).getFoo()).isEqualTo("foo");
+	}
+
+	private Map<String, Object> addMapPropertySource() {
+		Map<String, Object> source = new HashMap<>();
+		this.context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("changing", source));
+		return source;
+	}
+
+	private void publishChange(String... names) {
+		List<ConfigurationPropertyName> changed = Arrays.stream(names).map(ConfigurationPropertyName::of)
+				.collect(Collectors.toList());
+		this.context.publishEvent(new ConfigurationPropertiesChangedEvent(this, changed));
+	}
+
 	private AnnotationConfigApplicationContext load(Class<?> configuration, String... inlinedProperties) {
 		return load(new Class<?>[] { configuration }, inlinedProperties);
 	}
@@ -1599,6 +1763,100 @@ class ConfigurationPropertiesTests {
 
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	@EnableConfigurationProperties(RebindProperties.class)
+	static class RebindConfiguration {
+
+	}
+
+	@ConfigurationProperties(prefix = "test")
+	static class RebindProperties {
+
+		private String name;
+
+		private int counter;
+
+		private List<String> items = new ArrayList<>();
+
+		private final Nested nested = new Nested();
+
+		String getName() {
+			return this.name;
+		}
+
+		void setName(String name) {
+			this.name = name;
+		}
+
+		int getCounter() {
+			return this.counter;
+		}
+
+		void setCounter(int counter) {
+			this.counter = counter;
+		}
+
+		List<String> getItems() {
+			return this.items;
+		}
+
+		void setItems(List<String> items) {
+			this.items = items;
+		}
+
+		Nested getNested() {
+			return this.nested;
+		}
+
+		static class Nested {
+
+			private String value = "default";
+
+			String getValue() {
+				return this.value;
+			}
+
+			void setValue(String value) {
+				this.value = value;
+			}
+
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@EnableConfigurationProperties(ValidatedRebindProperties.class)
+	static class ValidatedRebindConfiguration {
+
+	}
+
+	@ConfigurationProperties(prefix = "test")
+	@Validated
+	static class ValidatedRebindProperties {
+
+		@NotEmpty
+		private String name;
+
+		private List<String> items = new ArrayList<>();
+
+		String getName() {
+			return this.name;
+		}
+
+		void setName(String name) {
+			this.name = name;
+		}
+
+		List<String> getItems() {
+			return this.items;
+		}
+
+		void setItems(List<String> items) {
+			this.items = items;
+		}
+
+	}
+
 	static class Jsr303Properties extends BasicProperties {
 
 		@NotEmpty
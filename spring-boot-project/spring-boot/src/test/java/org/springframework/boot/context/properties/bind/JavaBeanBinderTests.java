@@ -572,6 +572,45 @@ class JavaBeanBinderTests {
 		assertThat(bean.getNames()).containsExactly("spring", "boot");
 	}
 
+	@Test
+	void bindToClassWhenHasGeneratedBinderShouldUseGeneratedBinder() {
+		MockConfigurationPropertySource source = new MockConfigurationPropertySource();
+		source.put("foo.name", "spring");
+		source.put("foo.counter", "42");
+		source.put("foo.items", "a,b");
+		this.sources.add(source);
+		GeneratedExampleBean__ConfigurationPropertiesBinder.invocations.set(0);
+		GeneratedExampleBean bean = this.binder.bind("foo", Bindable.of(GeneratedExampleBean.class)).get();
+		assertThat(bean.getName()).isEqualTo("spring");
+		assertThat(bean.getCounter()).isEqualTo(42);
+		assertThat(bean.getItems()).containsExactly("a", "b");
+		assertThat(GeneratedExampleBean__ConfigurationPropertiesBinder.invocations.get()).isEqualTo(4);
+	}
+
+	@Test
+	void bindToInstanceWhenHasGeneratedBinderShouldBindToInstance() {
+		MockConfigurationPropertySource source = new MockConfigurationPropertySource();
+		source.put("foo.name", "spring");
+		this.sources.add(source);
+		GeneratedExampleBean existing = new GeneratedExampleBean();
+		existing.setCounter(1);
+		GeneratedExampleBean bean = this.binder
+				.bind("foo", Bindable.of(GeneratedExampleBean.class).withExistingValue(existing)).get();
+		assertThat(bean).isSameAs(existing);
+		assertThat(bean.getName()).isEqualTo("spring");
+		assertThat(bean.getCounter()).isEqualTo(1);
+	}
+
+	@Test
+	void beanWhenHasGeneratedBinderShouldUseGeneratedProperties() {
+		Bean<GeneratedExampleBean> bean = Bean.get(Bindable.of(GeneratedExampleBean.class), true);
+		Bean<ExampleValueBean> reflectiveBean = Bean.get(Bindable.of(ExampleValueBean.class), true);
+		assertThat(bean.getProperties()).containsOnlyKeys("counter", "items", "name");
+		assertThat(bean.getProperties().get("items").getType())
+				.isEqualTo(ResolvableType.forClassWithGenerics(List.class, String.class));
+		assertThat(reflectiveBean.getProperties()).containsKey("intValue");
+	}
+
 	static class ExampleValueBean {
 
 		private int intValue;
@@ -1136,4 +1175,68 @@ class JavaBeanBinderTests {
 
 	}
 
+	static class GeneratedExampleBean {
+
+		private String name;
+
+		private int counter;
+
+		private List<String> items;
+
+		String getName() {
+			return this.name;
+		}
+
+		void setName(String name) {
+			this.name = name;
+		}
+
+		int getCounter() {
+			return this.counter;
+		}
+
+		void setCounter(int counter) {
+			this.counter = counter;
+		}
+
+		List<String> getItems() {
+			return this.items;
+		}
+
+		void setItems(List<String> items) {
+			this.items = items;
+		}
+
+	}
+
+	static final class GeneratedExampleBean__ConfigurationPropertiesBinder
+			extends GeneratedBeanBinder<GeneratedExampleBean> {
+
+		static final AtomicInteger invocations = new AtomicInteger();
+
+		@SuppressWarnings("unchecked")
+		GeneratedExampleBean__ConfigurationPropertiesBinder() {
+			super(GeneratedExampleBean.class, () -> {
+				invocations.incrementAndGet();
+				return new GeneratedExampleBean();
+			});
+			addProperty("counter", ResolvableType.forClass(int.class), null, GeneratedExampleBean::getCounter,
+					(instance, value) -> {
+						invocations.incrementAndGet();
+						instance.setCounter((Integer) value);
+					});
+			addProperty("items", ResolvableType.forClassWithGenerics(List.class, String.class), null,
+					GeneratedExampleBean::getItems, (instance, value) -> {
+						invocations.incrementAndGet();
+						instance.setItems((List<String>) value);
+					});
+			addProperty("name", ResolvableType.forClass(String.class), null, GeneratedExampleBean::getName,
+					(instance, value) -> {
+						invocations.incrementAndGet();
+						instance.setName((String) value);
+					});
+		}
+
+	}
+
 }
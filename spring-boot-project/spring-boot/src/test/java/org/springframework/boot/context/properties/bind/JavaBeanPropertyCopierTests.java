@@ -0,0 +1,175 @@
+/*
+ * Copyright 2012-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.context.properties.bind;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Tests for {@link JavaBeanPropertyCopier}.
+ *
+ * @author Spring Contributor
+ */
+class JavaBeanPropertyCopierTests {
+
+	@Test
+	void newInstanceCreatesInstance() {
+		assertThat(JavaBeanPropertyCopier.newInstance(ExampleBean.class)).isInstanceOf(ExampleBean.class);
+	}
+
+	@Test
+	void newInstanceWhenNoDefaultConstructorReturnsNull() {
+		assertThat(JavaBeanPropertyCopier.newInstance(NoDefaultConstructorBean.class)).isNull();
+	}
+
+	@Test
+	void copyCopiesFilteredProperties() {
+		ExampleBean source = new ExampleBean();
+		source.setName("foo");
+		source.setCounter(1);
+		ExampleBean target = new ExampleBean();
+		JavaBeanPropertyCopier.copy(source, target, "name"::equals);
+		assertThat(target.getName()).isEqualTo("foo");
+		assertThat(target.getCounter()).isEqualTo(0);
+	}
+
+	@Test
+	void copyWhenPropertyHasSetterCopiesReference() {
+		ExampleBean source = new ExampleBean();
+		source.getItems().add("a");
+		ExampleBean target = new ExampleBean();
+		JavaBeanPropertyCopier.copy(source, target, "items"::equals);
+		assertThat(target.getItems()).isSameAs(source.getItems());
+	}
+
+	@Test
+	void copyWhenPropertyHasNoSetterCopiesInPlace() {
+		ExampleBean source = new ExampleBean();
+		source.getMap().put("a", "b");
+		source.getNested().setValue("bar");
+		ExampleBean target = new ExampleBean();
+		target.getMap().put("c", "d");
+		Map<String, String> targetMap = target.getMap();
+		Nested targetNested = target.getNested();
+		JavaBeanPropertyCopier.copy(source, target, (name) -> true);
+		assertThat(target.getMap()).isSameAs(targetMap).containsExactly(entry("a", "b"));
+		assertThat(target.getNested()).isSameAs(targetNested);
+		assertThat(target.getNested().getValue()).isEqualTo("bar");
+	}
+
+	@Test
+	void copyUsesDashedNames() {
+		ExampleBean source = new ExampleBean();
+		source.setLongName("foo");
+		ExampleBean target = new ExampleBean();
+		JavaBeanPropertyCopier.copy(source, target, "long-name"::equals);
+		assertThat(target.getLongName()).isEqualTo("foo");
+	}
+
+	@Test
+	void copyWhenTypesDifferThrowsException() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> JavaBeanPropertyCopier.copy(new ExampleBean(), new Nested(), (name) -> true))
+				.withMessage("Source and target must be of the same type");
+	}
+
+	static class ExampleBean {
+
+		private String name;
+
+		private int counter;
+
+		private String longName;
+
+		private List<String> items = new ArrayList<>();
+
+		private final Map<String, String> map = new LinkedHashMap<>();
+
+		private final Nested nested = new Nested();
+
+		String getName() {
+			return this.name;
+		}
+
+		void setName(String name) {
+			this.name = name;
+		}
+
+		int getCounter() {
+			return this.counter;
+		}
+
+		void setCounter(int counter) {
+			this.counter = counter;
+		}
+
+		String getLongName() {
+			return this.longName;
+		}
+
+		void setLongName(String longName) {
+			this.longName = longName;
+		}
+
+		List<String> getItems() {
+			return this.items;
+		}
+
+		void setItems(List<String> items) {
+			this.items = items;
+		}
+
+		Map<String, String> getMap() {
+			return this.map;
+		}
+
+		Nested getNested() {
+			return this.nested;
+		}
+
+	}
+
+	static class Nested {
+
+		private String value;
+
+		String getValue() {
+			return this.value;
+		}
+
+		void setValue(String value) {
+			this.value = value;
+		}
+
+	}
+
+	static class NoDefaultConstructorBean {
+
+		NoDefaultConstructorBean(String name) {
+		}
+
+	}
+
+}
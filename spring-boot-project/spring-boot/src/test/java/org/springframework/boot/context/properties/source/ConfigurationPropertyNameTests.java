@@ -713,6 +713,41 @@ class ConfigurationPropertyNameTests {
 		assertThat(ReflectionTestUtils.getField(name, "hashCode")).isEqualTo(hashCode);
 	}
 
+	@Test
+	void ofWhenNameIsStringReturnsInternedName() {
+		ConfigurationPropertyName name = ConfigurationPropertyName.of("interned.name");
+		assertThat(ConfigurationPropertyName.of(new String("interned.name"))).isSameAs(name);
+		assertThat(ConfigurationPropertyName.ofIfValid("interned.name")).isSameAs(name);
+	}
+
+	@Test
+	void ofWhenNameIsNotStringDoesNotReturnInternedName() {
+		ConfigurationPropertyName name = ConfigurationPropertyName.of("interned.builder");
+		ConfigurationPropertyName fromBuilder = ConfigurationPropertyName.of(new StringBuilder("interned.builder"));
+		assertThat(fromBuilder).isNotSameAs(name).isEqualTo(name);
+	}
+
+	@Test
+	void adaptWhenSeparatorIsDotReturnsInternedName() {
+		ConfigurationPropertyName name = ConfigurationPropertyName.adapt("interned.fooBar", '.');
+		assertThat(ConfigurationPropertyName.adapt(new String("interned.fooBar"), '.')).isSameAs(name);
+		assertThat(ConfigurationPropertyName.adapt("interned_fooBar", '_')).isNotSameAs(name).isEqualTo(name);
+	}
+
+	@Test
+	void nameTableWhenFullIsCleared() {
+		ConfigurationPropertyName.NameTable table = new ConfigurationPropertyName.NameTable(2);
+		ConfigurationPropertyName first = ConfigurationPropertyName.of(new StringBuilder("first"));
+		assertThat(table.intern("first", first)).isSameAs(first);
+		assertThat(table.intern("first", ConfigurationPropertyName.of(new StringBuilder("first")))).isSameAs(first);
+		table.intern("second", ConfigurationPropertyName.of(new StringBuilder("second")));
+		ConfigurationPropertyName third = ConfigurationPropertyName.of(new StringBuilder("third"));
+		assertThat(table.intern("third", third)).isSameAs(third);
+		assertThat(table.get("first")).isNull();
+		assertThat(table.get("third")).isSameAs(third);
+		assertThat(table.size()).isEqualTo(1);
+	}
+
 	@Test
 	void hasIndexedElementWhenHasIndexedElementReturnsTrue() throws Exception {
 		assertThat(ConfigurationPropertyName.of("foo[bar]").hasIndexedElement()).isTrue();
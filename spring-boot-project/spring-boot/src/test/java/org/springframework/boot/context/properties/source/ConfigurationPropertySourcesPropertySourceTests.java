@@ -75,6 +75,50 @@ class ConfigurationPropertySourcesPropertySourceTests {
 		assertThat(this.propertySource.getOrigin("foo.foo")).isNull();
 	}
 
+	@Test
+	void getPropertyWhenFrozenShouldReturnValueFromSnapshot() {
+		MockConfigurationPropertySource source = new MockConfigurationPropertySource("foo.bar", "baz");
+		this.configurationSources.add(source);
+		this.propertySource.freeze();
+		source.put("foo.bar", "bill");
+		this.configurationSources.add(new MockConfigurationPropertySource("foo.baz", "bar"));
+		assertThat(this.propertySource.getProperty("foo.bar")).isEqualTo("baz");
+		assertThat(this.propertySource.getProperty("foo.baz")).isNull();
+		this.propertySource.unfreeze();
+		assertThat(this.propertySource.getProperty("foo.bar")).isEqualTo("bill");
+		assertThat(this.propertySource.getProperty("foo.baz")).isEqualTo("bar");
+	}
+
+	@Test
+	void getPropertyWhenFrozenAndMultipleShouldReturnFirst() {
+		this.configurationSources.add(new MockConfigurationPropertySource("foo.bar", "baz"));
+		this.configurationSources.add(new MockConfigurationPropertySource("foo.bar", "bill"));
+		this.propertySource.freeze();
+		assertThat(this.propertySource.getProperty("foo.bar")).isEqualTo("baz");
+	}
+
+	@Test
+	void getPropertyWhenFrozenShouldConsultNonIterableSourcesThatTakePrecedence() {
+		MockConfigurationPropertySource first = new MockConfigurationPropertySource("foo.bar", "first");
+		this.configurationSources.add(new MockConfigurationPropertySource("foo.baz", "baz"));
+		this.configurationSources.add(first.nonIterable());
+		this.configurationSources.add(new MockConfigurationPropertySource("foo.bar", "last"));
+		this.propertySource.freeze();
+		first.put("foo.baz", "changed");
+		first.put("foo.bill", "bill");
+		assertThat(this.propertySource.getProperty("foo.bar")).isEqualTo("first");
+		assertThat(this.propertySource.getProperty("foo.baz")).isEqualTo("baz");
+		assertThat(this.propertySource.getProperty("foo.bill")).isEqualTo("bill");
+	}
+
+	@Test
+	void getPropertyOriginWhenFrozenShouldReturnOrigin() {
+		this.configurationSources.add(new MockConfigurationPropertySource("foo.bar", "baz", "line1"));
+		this.propertySource.freeze();
+		assertThat(this.propertySource.getOrigin("foo.bar").toString()).isEqualTo("line1");
+		assertThat(this.propertySource.getOrigin("foo.foo")).isNull();
+	}
+
 	@Test
 	void getNameShouldReturnName() {
 		assertThat(this.propertySource.getName()).isEqualTo("test");
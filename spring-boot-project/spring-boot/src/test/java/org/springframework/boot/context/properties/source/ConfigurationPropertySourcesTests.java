@@ -38,6 +38,7 @@ import org.springframework.core.env.StandardEnvironment;
 import org.springframework.core.env.SystemEnvironmentPropertySource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 /**
  * Tests for {@link ConfigurationPropertySources}.
@@ -168,6 +169,53 @@ class ConfigurationPropertySourcesTests {
 		assertThat(cached).isLessThan(baseline / 2);
 	}
 
+	@Test
+	void environmentPropertyAccessWhenMutableAndFrozenShouldBePerformant() {
+		StandardEnvironment environment = createPerformanceTestEnvironment(false);
+		long unfrozen = testPropertySourcePerformance(environment);
+		ConfigurationPropertySources.freeze(environment);
+		long frozen = testPropertySourcePerformance(environment);
+		assertThat(frozen).isLessThan(unfrozen / 2);
+	}
+
+	@Test
+	void freezeShouldUseSnapshotUntilRefreshed() {
+		ConfigurableEnvironment environment = new StandardEnvironment();
+		Map<String, Object> source = new LinkedHashMap<>();
+		source.put("foo.bar", "one");
+		environment.getPropertySources().addFirst(new MapPropertySource("test", source));
+		ConfigurationPropertySources.attach(environment);
+		ConfigurationPropertySources.freeze(environment);
+		source.put("foo.bar", "two");
+		source.put("foo.baz", "three");
+		assertThat(environment.getProperty("foo.bar")).isEqualTo("one");
+		assertThat(environment.getProperty("foo.baz")).isEqualTo("three");
+		ConfigurationPropertySources.refreshIfFrozen(environment);
+		assertThat(environment.getProperty("foo.bar")).isEqualTo("two");
+		source.put("foo.bar", "four");
+		ConfigurationPropertySources.unfreeze(environment);
+		assertThat(environment.getProperty("foo.bar")).isEqualTo("four");
+	}
+
+	@Test
+	void refreshIfFrozenWhenNotFrozenShouldNotFreeze() {
+		ConfigurableEnvironment environment = new StandardEnvironment();
+		Map<String, Object> source = new LinkedHashMap<>();
+		source.put("foo.bar", "one");
+		environment.getPropertySources().addFirst(new MapPropertySource("test", source));
+		ConfigurationPropertySources.attach(environment);
+		ConfigurationPropertySources.refreshIfFrozen(environment);
+		source.put("foo.bar", "two");
+		assertThat(environment.getProperty("foo.bar")).isEqualTo("two");
+	}
+
+	@Test
+	void freezeWhenNotAttachedShouldThrowException() {
+		ConfigurableEnvironment environment = new StandardEnvironment();
+		assertThatIllegalStateException().isThrownBy(() -> ConfigurationPropertySources.freeze(environment))
+				.withMessage("Configuration property sources have not been attached to the environment");
+	}
+
 	private long testPropertySourcePerformance(boolean immutable) {
 		StandardEnvironment environment = createPerformanceTestEnvironment(immutable);
 		return testPropertySourcePerformance(environment);
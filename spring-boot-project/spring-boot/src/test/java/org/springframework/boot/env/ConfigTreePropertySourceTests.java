@@ -233,6 +233,50 @@ class ConfigTreePropertySourceTests {
 		assertThat(propertySource.getProperty("a").toString()).isEqualTo("a");
 	}
 
+	@Test
+	void reloadWhenUnchangedReturnsSourceWithSameValues() throws Exception {
+		ConfigTreePropertySource propertySource = getFlatPropertySource();
+		Value value = propertySource.getProperty("a");
+		ConfigTreePropertySource reloaded = propertySource.reload();
+		assertThat(reloaded).isNotSameAs(propertySource);
+		assertThat(reloaded.getName()).isEqualTo(propertySource.getName());
+		assertThat(reloaded.getPropertyNames()).containsExactly("a", "b", "c", "one");
+		assertThat(reloaded.getProperty("a")).isSameAs(value);
+		assertThat(reloaded.getChangedPropertyNames(propertySource)).isEmpty();
+	}
+
+	@Test
+	void reloadWhenFilesAddedAndRemovedReturnsChangedNames() throws Exception {
+		ConfigTreePropertySource propertySource = getFlatPropertySource();
+		Files.delete(this.directory.resolve("b"));
+		addProperty("d", "D");
+		ConfigTreePropertySource reloaded = propertySource.reload();
+		assertThat(reloaded.getPropertyNames()).containsExactly("a", "c", "d", "one");
+		assertThat(reloaded.getChangedPropertyNames(propertySource)).containsExactly("b", "d");
+		assertThat(propertySource.getPropertyNames()).containsExactly("a", "b", "c", "one");
+	}
+
+	@Test
+	void reloadWhenSymlinkSwappedReturnsChangedNames() throws Exception {
+		addProperty("..v1/a", "A1");
+		addProperty("..v1/b", "B");
+		createSymbolicLink("..data", "..v1");
+		createSymbolicLink("a", "..data/a");
+		createSymbolicLink("b", "..data/b");
+		ConfigTreePropertySource propertySource = new ConfigTreePropertySource("test", this.directory);
+		assertThat(propertySource.getProperty("a").toString()).isEqualTo("A1");
+		addProperty("..v2/a", "A2");
+		Files.copy(this.directory.resolve("..v1/b"), this.directory.resolve("..v2/b"));
+		Files.setLastModifiedTime(this.directory.resolve("..v2/b"),
+				Files.getLastModifiedTime(this.directory.resolve("..v1/b")));
+		Files.delete(this.directory.resolve("..data"));
+		createSymbolicLink("..data", "..v2");
+		ConfigTreePropertySource reloaded = propertySource.reload();
+		assertThat(reloaded.getChangedPropertyNames(propertySource)).containsExactly("a", "b");
+		assertThat(reloaded.getProperty("a").toString()).isEqualTo("A2");
+		assertThat(propertySource.getProperty("a").toString()).isEqualTo("A1");
+	}
+
 	private ConfigTreePropertySource getFlatPropertySource() throws IOException {
 		addProperty("a", "A");
 		addProperty("b", "B");
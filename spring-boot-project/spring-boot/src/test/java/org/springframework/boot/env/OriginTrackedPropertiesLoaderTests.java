@@ -17,7 +17,9 @@
 package org.springframework.boot.env;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -299,6 +301,43 @@ class OriginTrackedPropertiesLoaderTests {
 		assertThat(getValue(value)).isEqualTo("abc");
 	}
 
+	@Test
+	void loadWhenCarriageReturnLineEndingsTracksLines() throws IOException {
+		String content = "a=1\r\nb=2\rc=3\r\n\r\nd=4";
+		List<Document> loaded = new OriginTrackedPropertiesLoader(new ByteArrayResource(content.getBytes())).load();
+		Map<String, OriginTrackedValue> map = loaded.get(0).asMap();
+		assertThat(map).containsOnlyKeys("a", "b", "c", "d");
+		assertThat(getValue(map.get("b"))).isEqualTo("2");
+		assertThat(getLocation(map.get("c"))).isEqualTo("3:3");
+		assertThat(getLocation(map.get("d"))).isEqualTo("5:3");
+	}
+
+	@Test
+	void loadWhenLargerThanBufferLoadsAllProperties() throws IOException {
+		StringBuilder content = new StringBuilder();
+		Properties expected = new Properties();
+		for (int i = 0; i < 5000; i++) {
+			content.append("key-").append(i).append(" = value\\\n  ").append(i).append("\n");
+			expected.put("key-" + i, "value" + i);
+		}
+		List<Document> loaded = new OriginTrackedPropertiesLoader(
+				new ByteArrayResource(content.toString().getBytes(StandardCharsets.ISO_8859_1))).load();
+		Map<String, OriginTrackedValue> map = loaded.get(0).asMap();
+		assertThat(map).hasSize(expected.size());
+		expected.forEach((key, value) -> assertThat(getValue(map.get(key))).isEqualTo(value));
+		assertThat(getLocation(map.get("key-4999"))).isEqualTo("9999:12");
+	}
+
+	@Test
+	void loadWhenKeyIsRepeatedInDocumentsSharesKey() throws IOException {
+		String content = "a=1\n#---\na=2";
+		List<Document> loaded = new OriginTrackedPropertiesLoader(new ByteArrayResource(content.getBytes())).load();
+		assertThat(loaded).hasSize(2);
+		String first = loaded.get(0).asMap().keySet().iterator().next();
+		String second = loaded.get(1).asMap().keySet().iterator().next();
+		assertThat(first).isSameAs(second);
+	}
+
 	private OriginTrackedValue getFromFirst(String key) {
 		return this.documents.get(0).asMap().get(key);
 	}